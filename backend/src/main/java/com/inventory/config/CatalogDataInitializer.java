@@ -2,20 +2,24 @@ package com.inventory.config;
 
 import com.inventory.entity.*;
 import com.inventory.repository.*;
+import com.inventory.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class CatalogDataInitializer implements CommandLineRunner {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
     private final ProductRepository productRepository;
     private final VehicleCompatibilityRepository vehicleCompatibilityRepository;
+    private final ProductFitmentRepository productFitmentRepository;
     private final InventoryRepository inventoryRepository;
 
     @Override
@@ -41,42 +45,36 @@ public class CatalogDataInitializer implements CommandLineRunner {
 
     private void createCategoryHierarchy() {
         // 대분류 (Level 0)
-        Category engineCategory = createCategory("엔진", "엔진 관련 부품", null, 0, 1);
-        Category brakeCategory = createCategory("브레이크", "브레이크 시스템 부품", null, 0, 2);
-        Category suspensionCategory = createCategory("서스펜션", "서스펜션 시스템 부품", null, 0, 3);
-        Category electricalCategory = createCategory("전기", "전기 시스템 부품", null, 0, 4);
-        Category filterCategory = createCategory("필터", "각종 필터 부품", null, 0, 5);
+        Category engineCategory = createCategory("엔진", "엔진 관련 부품", null, 1);
+        Category brakeCategory = createCategory("브레이크", "브레이크 시스템 부품", null, 2);
+        Category suspensionCategory = createCategory("서스펜션", "서스펜션 시스템 부품", null, 3);
+        Category electricalCategory = createCategory("전기", "전기 시스템 부품", null, 4);
+        Category filterCategory = createCategory("필터", "각종 필터 부품", null, 5);
 
         // 중분류 (Level 1) - 엔진
-        Category engineOilCategory = createCategory("엔진오일", "엔진오일 및 윤활유", engineCategory, 1, 1);
-        Category engineFilterCategory = createCategory("엔진필터", "엔진 필터류", engineCategory, 1, 2);
-        Category sparkPlugCategory = createCategory("점화플러그", "점화 시스템 부품", engineCategory, 1, 3);
+        Category engineOilCategory = createCategory("엔진오일", "엔진오일 및 윤활유", engineCategory, 1);
+        Category engineFilterCategory = createCategory("엔진필터", "엔진 필터류", engineCategory, 2);
+        Category sparkPlugCategory = createCategory("점화플러그", "점화 시스템 부품", engineCategory, 3);
 
         // 중분류 (Level 1) - 브레이크
-        Category brakePadCategory = createCategory("브레이크패드", "브레이크 패드", brakeCategory, 1, 1);
-        Category brakeDiscCategory = createCategory("브레이크디스크", "브레이크 디스크", brakeCategory, 1, 2);
-        Category brakeFluidCategory = createCategory("브레이크액", "브레이크 유체", brakeCategory, 1, 3);
+        Category brakePadCategory = createCategory("브레이크패드", "브레이크 패드", brakeCategory, 1);
+        Category brakeDiscCategory = createCategory("브레이크디스크", "브레이크 디스크", brakeCategory, 2);
+        Category brakeFluidCategory = createCategory("브레이크액", "브레이크 유체", brakeCategory, 3);
 
         // 소분류 (Level 2) - 엔진오일
-        createCategory("5W-30", "5W-30 등급 엔진오일", engineOilCategory, 2, 1);
-        createCategory("5W-40", "5W-40 등급 엔진오일", engineOilCategory, 2, 2);
-        createCategory("10W-40", "10W-40 등급 엔진오일", engineOilCategory, 2, 3);
+        createCategory("5W-30", "5W-30 등급 엔진오일", engineOilCategory, 1);
+        createCategory("5W-40", "5W-40 등급 엔진오일", engineOilCategory, 2);
+        createCategory("10W-40", "10W-40 등급 엔진오일", engineOilCategory, 3);
 
         // 소분류 (Level 2) - 브레이크패드
-        createCategory("세라믹 패드", "세라믹 브레이크 패드", brakePadCategory, 2, 1);
-        createCategory("메탈릭 패드", "메탈릭 브레이크 패드", brakePadCategory, 2, 2);
-        createCategory("오가닉 패드", "오가닉 브레이크 패드", brakePadCategory, 2, 3);
+        createCategory("세라믹 패드", "세라믹 브레이크 패드", brakePadCategory, 1);
+        createCategory("메탈릭 패드", "메탈릭 브레이크 패드", brakePadCategory, 2);
+        createCategory("오가닉 패드", "오가닉 브레이크 패드", brakePadCategory, 3);
     }
 
-    private Category createCategory(String name, String description, Category parent, Integer level, Integer sortOrder) {
-        Category category = new Category();
-        category.setName(name);
-        category.setDescription(description);
-        category.setParent(parent);
-        category.setLevel(level);
-        category.setSortOrder(sortOrder);
-        category.setIsActive(true);
-        return categoryRepository.save(category);
+    // 단계는 상위 카테고리 기준으로 계산, 클로저 테이블도 함께 갱신
+    private Category createCategory(String name, String description, Category parent, Integer sortOrder) {
+        return categoryService.createCategory(name, description, parent != null ? parent.getId() : null, sortOrder);
     }
 
     private void createCatalogProducts() {
@@ -177,24 +175,34 @@ public class CatalogDataInitializer implements CommandLineRunner {
 
     private void createVehicleCompatibilityData() {
         // 현대 아반떼 호환성
-        createVehicleCompatibility("현대", "아반떼", 2010, 2023, "1.6L 가솔린", "자동", "기본형", "현대 아반떼 1.6L 가솔린 엔진 호환");
-        createVehicleCompatibility("현대", "아반떼", 2010, 2023, "1.6L 가솔린", "수동", "기본형", "현대 아반떼 1.6L 가솔린 엔진 호환");
+        createVehicleCompatibility("현대", "아반떼", 2010, 2023, "1.6L 가솔린", "자동", "기본형", "현대 아반떼 1.6L 가솔린 엔진 호환",
+                "ENG-OIL-001", "BRK-PAD-001", "AFT-FIL-001", "AFT-OIL-001");
+        createVehicleCompatibility("현대", "아반떼", 2010, 2023, "1.6L 가솔린", "수동", "기본형", "현대 아반떼 1.6L 가솔린 엔진 호환",
+                "ENG-OIL-001", "BRK-PAD-001", "AFT-FIL-001", "AFT-OIL-001");
         
         // 기아 K5 호환성
-        createVehicleCompatibility("기아", "K5", 2015, 2023, "2.0L 가솔린", "자동", "프리미엄", "기아 K5 2.0L 가솔린 엔진 호환");
-        createVehicleCompatibility("기아", "K5", 2015, 2023, "1.6L 터보", "자동", "스포츠", "기아 K5 1.6L 터보 엔진 호환");
+        createVehicleCompatibility("기아", "K5", 2015, 2023, "2.0L 가솔린", "자동", "프리미엄", "기아 K5 2.0L 가솔린 엔진 호환",
+                "ENG-OIL-002", "BRK-PAD-002", "AFT-FIL-001", "AFT-OIL-001");
+        createVehicleCompatibility("기아", "K5", 2015, 2023, "1.6L 터보", "자동", "스포츠", "기아 K5 1.6L 터보 엔진 호환",
+                "ENG-OIL-002", "BRK-PAD-002", "AFT-FIL-001");
         
         // 현대 소나타 호환성
-        createVehicleCompatibility("현대", "소나타", 2014, 2023, "2.0L 가솔린", "자동", "기본형", "현대 소나타 2.0L 가솔린 엔진 호환");
-        createVehicleCompatibility("현대", "소나타", 2014, 2023, "1.6L 터보", "자동", "스포츠", "현대 소나타 1.6L 터보 엔진 호환");
+        createVehicleCompatibility("현대", "소나타", 2014, 2023, "2.0L 가솔린", "자동", "기본형", "현대 소나타 2.0L 가솔린 엔진 호환",
+                "ENG-OIL-001", "SPK-PLG-001", "AFT-FIL-001", "AFT-OIL-001");
+        createVehicleCompatibility("현대", "소나타", 2014, 2023, "1.6L 터보", "자동", "스포츠", "현대 소나타 1.6L 터보 엔진 호환",
+                "ENG-OIL-001", "SPK-PLG-001", "AFT-FIL-001");
         
         // 기아 스포티지 호환성
-        createVehicleCompatibility("기아", "스포티지", 2016, 2023, "2.0L 가솔린", "자동", "기본형", "기아 스포티지 2.0L 가솔린 엔진 호환");
-        createVehicleCompatibility("기아", "스포티지", 2016, 2023, "1.6L 터보", "자동", "스포츠", "기아 스포티지 1.6L 터보 엔진 호환");
+        createVehicleCompatibility("기아", "스포티지", 2016, 2023, "2.0L 가솔린", "자동", "기본형", "기아 스포티지 2.0L 가솔린 엔진 호환",
+                "ENG-OIL-002", "SPK-PLG-002", "AFT-FIL-001", "AFT-OIL-001");
+        createVehicleCompatibility("기아", "스포티지", 2016, 2023, "1.6L 터보", "자동", "스포츠", "기아 스포티지 1.6L 터보 엔진 호환",
+                "ENG-OIL-002", "SPK-PLG-002", "AFT-FIL-001");
     }
 
+    // skus: 이 차량에 장착되는 상품 SKU
     private void createVehicleCompatibility(String manufacturer, String model, Integer yearStart, Integer yearEnd,
-                                           String engineType, String transmission, String trim, String notes) {
+                                           String engineType, String transmission, String trim, String notes,
+                                           String... skus) {
         VehicleCompatibility compatibility = new VehicleCompatibility();
         compatibility.setManufacturer(manufacturer);
         compatibility.setModel(model);
@@ -205,7 +213,11 @@ public class CatalogDataInitializer implements CommandLineRunner {
         compatibility.setTrim(trim);
         compatibility.setNotes(notes);
         
-        vehicleCompatibilityRepository.save(compatibility);
+        VehicleCompatibility saved = vehicleCompatibilityRepository.save(compatibility);
+        for (String sku : List.of(skus)) {
+            productRepository.findBySku(sku)
+                    .ifPresent(product -> productFitmentRepository.save(new ProductFitment(product, saved)));
+        }
     }
     
     private void createInventoryData() {
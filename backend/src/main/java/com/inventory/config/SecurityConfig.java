@@ -50,7 +50,7 @@ public class SecurityConfig {
         // cfg.setAllowedOriginPatterns(List.of("https://*.example.com","http://localhost:*")); // 필요시
         cfg.setAllowedMethods(List.of("GET","POST","PUT","PATCH","DELETE","OPTIONS"));
         cfg.setAllowedHeaders(List.of("*"));
-        cfg.setExposedHeaders(List.of("Content-Disposition"));
+        cfg.setExposedHeaders(List.of("Content-Disposition", "ETag"));
         cfg.setAllowCredentials(true); // credentials 쓰면 * 금지!
 
         UrlBasedCorsConfigurationSource src = new UrlBasedCorsConfigurationSource();
@@ -1,23 +1,50 @@
 package com.inventory.controller;
 
+import com.inventory.dto.CategoryTreeNode;
+import com.inventory.dto.FitmentBatchRequest;
+import com.inventory.dto.FitmentBatchResponse;
+import com.inventory.dto.ProductSearchCriteria;
 import com.inventory.entity.*;
 import com.inventory.repository.*;
+import com.inventory.repository.projection.FitmentPartView;
+import com.inventory.repository.projection.InterchangePartView;
+import com.inventory.service.CatalogSearchService;
+import com.inventory.service.CatalogStatsService;
+import com.inventory.service.CategoryTreeService;
+import com.inventory.service.FitmentService;
+import com.inventory.service.PartCrossReferenceService;
+import com.inventory.service.ProductSearchIndexService;
+import com.inventory.service.VehicleFitmentIndexService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.TreeSet;
 
 @RestController
 @RequestMapping("/api/catalog")
 @RequiredArgsConstructor
+@Slf4j
 public class CatalogController {
 
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final VehicleCompatibilityRepository vehicleCompatibilityRepository;
+    private final CatalogSearchService catalogSearchService;
+    private final CatalogStatsService catalogStatsService;
+    private final CategoryTreeService categoryTreeService;
+    private final ProductSearchIndexService productSearchIndexService;
+    private final PartCrossReferenceService partCrossReferenceService;
+    private final VehicleFitmentIndexService vehicleFitmentIndexService;
+    private final FitmentService fitmentService;
 
     // 카테고리 계층 구조 조회
     @GetMapping("/categories")
@@ -38,6 +65,12 @@ public class CatalogController {
         return ResponseEntity.ok(children);
     }
 
+    // 활성 카테고리 전체 트리 (노드별 직접/하위 포함 상품 수, 카테고리 변경 시까지 캐시)
+    @GetMapping("/categories/tree")
+    public ResponseEntity<List<CategoryTreeNode>> getCategoryTree() {
+        return ResponseEntity.ok(categoryTreeService.getTree());
+    }
+
     // 부품 타입별 제품 조회
     @GetMapping("/products/by-type/{partType}")
     public ResponseEntity<List<Product>> getProductsByType(@PathVariable PartType partType) {
@@ -45,9 +78,12 @@ public class CatalogController {
         return ResponseEntity.ok(products);
     }
 
-    // 제조사별 제품 조회
+    // 제조사별 제품 조회 (검색 색인 사용, 구축 전에는 DB LIKE 조회)
     @GetMapping("/products/by-manufacturer/{manufacturer}")
-    public ResponseEntity<List<Product>> getProductsByManufacturer(@PathVariable String manufacturer) {
+    public ResponseEntity<List<Product>> getProductsByManufacturer(@PathVariable("manufacturer") String manufacturer) {
+        if (productSearchIndexService.isReady()) {
+            return ResponseEntity.ok(findAllInOrder(productSearchIndexService.searchManufacturerIds(manufacturer)));
+        }
         List<Product> products = productRepository.findByManufacturerNameContaining(manufacturer);
         return ResponseEntity.ok(products);
     }
@@ -66,89 +102,176 @@ public class CatalogController {
         return ResponseEntity.ok(products);
     }
 
-    // 부품번호로 검색
+    // 부품번호로 검색 (검색 색인 사용, 구축 전에는 DB LIKE 조회)
     @GetMapping("/products/search/part-number")
-    public ResponseEntity<List<Product>> searchByPartNumber(@RequestParam String partNumber) {
+    public ResponseEntity<List<Product>> searchByPartNumber(@RequestParam("partNumber") String partNumber) {
+        if (productSearchIndexService.isReady()) {
+            return ResponseEntity.ok(findAllInOrder(productSearchIndexService.searchPartNumberIds(partNumber)));
+        }
         List<Product> products = productRepository.findByPartNumberContaining(partNumber);
         return ResponseEntity.ok(products);
     }
 
-    // 고급 검색
+    // 전체 검색 (상품명/설명/제조사/품번/호환 품번, 관련도 순)
+    @GetMapping("/products/search")
+    public ResponseEntity<?> searchProducts(
+            @RequestParam(value = "q", required = false) String q,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        if (!productSearchIndexService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "상품 검색 색인이 준비되지 않았습니다."));
+        }
+        try {
+            return ResponseEntity.ok(productSearchIndexService.search(q, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 고급 검색 (필터/정렬/페이지를 DB에서 처리, 목록 컬럼만 반환)
     @GetMapping("/products/search/advanced")
-    public ResponseEntity<List<Product>> advancedSearch(
-            @RequestParam(required = false) String keyword,
-            @RequestParam(required = false) PartType partType,
-            @RequestParam(required = false) PartCondition partCondition,
-            @RequestParam(required = false) String manufacturer,
-            @RequestParam(required = false) Boolean isOeQuality,
-            @RequestParam(required = false) Boolean isAftermarket,
-            @RequestParam(required = false) Double minPrice,
-            @RequestParam(required = false) Double maxPrice) {
+    public ResponseEntity<?> advancedSearch(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "partType", required = false) PartType partType,
+            @RequestParam(value = "partCondition", required = false) PartCondition partCondition,
+            @RequestParam(value = "manufacturer", required = false) String manufacturer,
+            @RequestParam(value = "isOeQuality", required = false) Boolean isOeQuality,
+            @RequestParam(value = "isAftermarket", required = false) Boolean isAftermarket,
+            @RequestParam(value = "minPrice", required = false) Double minPrice,
+            @RequestParam(value = "maxPrice", required = false) Double maxPrice,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", required = false) String sort) {
         
-        List<Product> allProducts = productRepository.findAll();
-        
-        // 필터링 로직
-        List<Product> filteredProducts = allProducts.stream()
-                .filter(product -> keyword == null || 
-                    product.getName().toLowerCase().contains(keyword.toLowerCase()) ||
-                    product.getDescription().toLowerCase().contains(keyword.toLowerCase()) ||
-                    (product.getOemPartNumber() != null && product.getOemPartNumber().toLowerCase().contains(keyword.toLowerCase())) ||
-                    (product.getAftermarketPartNumber() != null && product.getAftermarketPartNumber().toLowerCase().contains(keyword.toLowerCase())))
-                .filter(product -> partType == null || product.getPartType() == partType)
-                .filter(product -> partCondition == null || product.getPartCondition() == partCondition)
-                .filter(product -> manufacturer == null || 
-                    (product.getManufacturerName() != null && product.getManufacturerName().toLowerCase().contains(manufacturer.toLowerCase())))
-                .filter(product -> isOeQuality == null || (product.getIsOeQuality() != null && product.getIsOeQuality().equals(isOeQuality)))
-                .filter(product -> isAftermarket == null || (product.getIsAftermarket() != null && product.getIsAftermarket().equals(isAftermarket)))
-                .filter(product -> minPrice == null || (product.getPrice() != null && product.getPrice().doubleValue() >= minPrice))
-                .filter(product -> maxPrice == null || (product.getPrice() != null && product.getPrice().doubleValue() <= maxPrice))
-                .toList();
-        
-        return ResponseEntity.ok(filteredProducts);
+        ProductSearchCriteria criteria = new ProductSearchCriteria(keyword, partType, partCondition,
+                manufacturer, isOeQuality, isAftermarket, minPrice, maxPrice);
+        try {
+            return ResponseEntity.ok(catalogSearchService.search(criteria, page, size, sort));
+        } catch (IllegalArgumentException e) {
+            log.warn("고급 검색 실패 - 잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 호환 상품 조회 (호환 품번 체인을 최대 단계까지 추적, 가까운 단계 순)
+    @GetMapping("/interchange/{partNumber}")
+    public ResponseEntity<?> getInterchangeableParts(@PathVariable("partNumber") String partNumber) {
+        try {
+            List<InterchangePartView> items = partCrossReferenceService.findInterchangeable(partNumber);
+            return ResponseEntity.ok(Map.of(
+                "partNumber", partNumber,
+                "normalizedPartNumber", PartCrossReference.normalize(partNumber),
+                "maxDepth", partCrossReferenceService.getMaxDepth(),
+                "count", items.size(),
+                "items", items
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 색인 검색 결과 ID 순서대로 상품 조회
+    private List<Product> findAllInOrder(List<Long> ids) {
+        Map<Long, Product> byId = new HashMap<>();
+        for (Product product : productRepository.findAllById(ids)) {
+            byId.put(product.getId(), product);
+        }
+        List<Product> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Product product = byId.get(id);
+            if (product != null) {
+                ordered.add(product);
+            }
+        }
+        return ordered;
     }
 
-    // 차량 호환성 검색
+    // 차량 호환성 검색 (적용 차종 색인 구축 후에는 색인으로 조회, 제조사 또는 연식 필수)
     @GetMapping("/vehicle-compatibility")
-    public ResponseEntity<List<VehicleCompatibility>> getVehicleCompatibility(
-            @RequestParam(required = false) String manufacturer,
-            @RequestParam(required = false) String model,
-            @RequestParam(required = false) Integer year) {
+    public ResponseEntity<?> getVehicleCompatibility(
+            @RequestParam(value = "manufacturer", required = false) String manufacturer,
+            @RequestParam(value = "model", required = false) String model,
+            @RequestParam(value = "year", required = false) Integer year) {
+        
+        if (manufacturer == null && year == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "manufacturer 또는 year를 입력해주세요."));
+        }
         
         List<VehicleCompatibility> compatibilities;
         
-        if (manufacturer != null && model != null && year != null) {
+        if (vehicleFitmentIndexService.isReady()) {
+            if (manufacturer != null && model != null) {
+                compatibilities = vehicleFitmentIndexService.findFitments(manufacturer, model, year, null);
+            } else if (manufacturer != null) {
+                compatibilities = vehicleFitmentIndexService.findByManufacturer(manufacturer, year);
+            } else {
+                compatibilities = vehicleFitmentIndexService.findByYear(year);
+            }
+        } else if (manufacturer != null && model != null && year != null) {
             compatibilities = vehicleCompatibilityRepository.findByManufacturerAndModelAndYear(manufacturer, model, year);
         } else if (manufacturer != null && model != null) {
             compatibilities = vehicleCompatibilityRepository.findByManufacturerIgnoreCaseAndModelIgnoreCase(manufacturer, model);
         } else if (manufacturer != null) {
             compatibilities = vehicleCompatibilityRepository.findByManufacturerIgnoreCase(manufacturer);
         } else {
-            compatibilities = vehicleCompatibilityRepository.findAll();
+            compatibilities = vehicleCompatibilityRepository.findByYearRange(year);
         }
         
         return ResponseEntity.ok(compatibilities);
     }
 
-    // 카탈로그 통계
+    // 적용 차종 조회 (제조사/모델/연식/엔진, 메모리 색인) 및 장착 부품 SKU
+    @GetMapping("/fitment")
+    public ResponseEntity<?> getFitment(
+            @RequestParam(value = "manufacturer") String manufacturer,
+            @RequestParam(value = "model") String model,
+            @RequestParam(value = "year") Integer year,
+            @RequestParam(value = "engine", required = false) String engine) {
+        if (!vehicleFitmentIndexService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "적용 차종 색인이 준비되지 않았습니다."));
+        }
+        List<VehicleCompatibility> fitments = vehicleFitmentIndexService.findFitments(manufacturer, model, year, engine);
+        Map<String, Object> response = new HashMap<>();
+        response.put("manufacturer", manufacturer);
+        response.put("model", model);
+        response.put("year", year);
+        response.put("engine", engine);
+        response.put("count", fitments.size());
+        response.put("items", fitments);
+        List<Long> fitmentIds = new ArrayList<>(fitments.size());
+        fitments.forEach(fitment -> fitmentIds.add(fitment.getId()));
+        TreeSet<String> skus = new TreeSet<>();
+        for (Collection<FitmentPartView> parts : fitmentService.findParts(fitmentIds).values()) {
+            parts.forEach(part -> skus.add(part.getSku()));
+        }
+        response.put("skus", skus);
+        return ResponseEntity.ok(response);
+    }
+
+    // 차량 목록 적용 부품 일괄 조회 (차량 호환 정보 전체를 모아 한 번에 조회)
+    @PostMapping("/fitment/batch")
+    public ResponseEntity<?> getFitmentBatch(@RequestBody FitmentBatchRequest request) {
+        try {
+            FitmentBatchResponse response = fitmentService.findPartsForVehicles(request.getVehicles());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 카탈로그 통계 (집계 스냅샷 캐시, ETag로 변경 없으면 304)
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getCatalogStats() {
-        Map<String, Object> stats = new HashMap<>();
-        
-        stats.put("totalProducts", productRepository.count());
-        stats.put("activeProducts", productRepository.countByIsActiveTrue());
-        stats.put("oeQualityProducts", productRepository.findOeQualityProducts().size());
-        stats.put("aftermarketProducts", productRepository.findAftermarketProducts().size());
-        stats.put("totalCategories", categoryRepository.count());
-        stats.put("totalVehicleCompatibilities", vehicleCompatibilityRepository.count());
-        
-        // 부품 타입별 통계
-        Map<String, Long> partTypeStats = new HashMap<>();
-        for (PartType partType : PartType.values()) {
-            partTypeStats.put(partType.name(), (long) productRepository.findByPartType(partType).size());
+    public ResponseEntity<Map<String, Object>> getCatalogStats(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CatalogStatsService.Snapshot snapshot = catalogStatsService.getSnapshot();
+        String eTag = "\"catalog-stats-" + snapshot.getVersion() + "\"";
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
         }
-        stats.put("partTypeStats", partTypeStats);
-        
-        return ResponseEntity.ok(stats);
+        return ResponseEntity.ok().eTag(eTag).body(snapshot.getStats());
     }
 
     // 부품 타입 목록
@@ -1,22 +1,26 @@
 package com.inventory.controller;
 
+import com.inventory.dto.CategoryDto;
 import com.inventory.entity.Category;
 import com.inventory.repository.CategoryRepository;
+import com.inventory.service.CategoryService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/categories")
 @RequiredArgsConstructor
+@Slf4j
 public class CategoryController {
 
 	private final CategoryRepository categoryRepository;
+	private final CategoryService categoryService;
 
 	@GetMapping
 	public ResponseEntity<List<Category>> getCategories() {
@@ -35,4 +39,52 @@ public class CategoryController {
 		List<Category> children = categoryRepository.findChildrenByParentId(parentId);
 		return ResponseEntity.ok(children);
 	}
+
+	// 카테고리 생성 (parentId 없으면 대분류)
+	@PostMapping
+	public ResponseEntity<?> createCategory(@RequestBody CategoryDto categoryDto) {
+		try {
+			return ResponseEntity.status(HttpStatus.CREATED).body(categoryService.createCategory(categoryDto));
+		} catch (IllegalArgumentException e) {
+			log.warn("카테고리 생성 실패: {}", e.getMessage());
+			return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+		}
+	}
+
+	// 카테고리 수정 (이름/설명/활성 여부/정렬 순서)
+	@PutMapping("/{id}")
+	public ResponseEntity<?> updateCategory(@PathVariable("id") Long id, @RequestBody CategoryDto categoryDto) {
+		try {
+			Category updated = categoryService.updateCategory(id, categoryDto);
+			return updated != null ? ResponseEntity.ok(updated) : ResponseEntity.notFound().build();
+		} catch (IllegalArgumentException e) {
+			log.warn("카테고리 수정 실패: {}", e.getMessage());
+			return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+		}
+	}
+
+	// 카테고리 이동 (하위 카테고리 포함, parentId 없으면 대분류로 이동)
+	@PutMapping("/{id}/parent")
+	public ResponseEntity<?> moveCategory(@PathVariable("id") Long id,
+			@RequestParam(value = "parentId", required = false) Long parentId) {
+		try {
+			return ResponseEntity.ok(categoryService.moveCategory(id, parentId));
+		} catch (IllegalArgumentException e) {
+			log.warn("카테고리 이동 실패: {}", e.getMessage());
+			return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+		}
+	}
+
+	// 카테고리 삭제 (하위 카테고리/소속 상품이 없는 경우만)
+	@DeleteMapping("/{id}")
+	public ResponseEntity<?> deleteCategory(@PathVariable("id") Long id) {
+		try {
+			return categoryService.deleteCategory(id)
+					? ResponseEntity.noContent().build()
+					: ResponseEntity.notFound().build();
+		} catch (IllegalStateException e) {
+			log.warn("카테고리 삭제 불가: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+		}
+	}
 }
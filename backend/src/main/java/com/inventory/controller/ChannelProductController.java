@@ -1,14 +1,27 @@
 package com.inventory.controller;
 
+import com.inventory.dto.ChannelAllocationDelta;
 import com.inventory.dto.ChannelProductDto;
+import com.inventory.dto.RegistrationCallbackBatchRequest;
+import com.inventory.dto.RegistrationCallbackRequest;
 import com.inventory.entity.ChannelProduct;
 import com.inventory.entity.Product;
 import com.inventory.repository.ChannelProductRepository;
 import com.inventory.repository.ProductRepository;
+import com.inventory.service.ChannelAllocationService;
+import com.inventory.service.ChannelProductCallbackService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -18,10 +31,16 @@ public class ChannelProductController {
 
     private final ChannelProductRepository channelProductRepository;
     private final ProductRepository productRepository;
+    private final ChannelAllocationService channelAllocationService;
+    private final ChannelProductCallbackService channelProductCallbackService;
 
-    public ChannelProductController(ChannelProductRepository channelProductRepository, ProductRepository productRepository) {
+    public ChannelProductController(ChannelProductRepository channelProductRepository, ProductRepository productRepository,
+                                    ChannelAllocationService channelAllocationService,
+                                    ChannelProductCallbackService channelProductCallbackService) {
         this.channelProductRepository = channelProductRepository;
         this.productRepository = productRepository;
+        this.channelAllocationService = channelAllocationService;
+        this.channelProductCallbackService = channelProductCallbackService;
     }
 
     @GetMapping
@@ -41,116 +60,93 @@ public class ChannelProductController {
 
     /**
      * 등록서비스(8082)에서 성공적으로 플랫폼에 상품을 등록한 뒤 호출하는 콜백 엔드포인트.
-     * - 멱등: productId + channel 조합으로 기존 레코드가 있으면 갱신, 없으면 생성
-     * - platformProductId / platformUrl 반영, 상태는 ACTIVE로 세팅
+     * - 멱등: productId + channel 유니크 키 기준 upsert (동시에 들어와도 한 건만 생성)
+     * - platformProductId / platformUrl 반영, 상태는 ACTIVE(등록 ID 없으면 SYNC_PENDING)로 세팅
      */
     @PostMapping("/callback")
-    public ResponseEntity<ChannelProductDto> upsertFromRegistration(@RequestBody RegistrationCallbackRequest request, @RequestHeader(value = "X-Signature", required = false) String signature) {
-        // 간단한 서명 검증(옵션): 환경변수 CALLBACK_SECRET 이 설정된 경우에만 검증
-        String shared = System.getenv("CALLBACK_SECRET");
-        if (shared != null && !shared.isBlank()) {
-            try {
-                String body = toCanonicalString(request);
-                String expected = hmacSha256Hex(shared, body);
-                if (signature == null || !expected.equals(signature)) {
-                    return ResponseEntity.status(401).build();
-                }
-            } catch (Exception e) {
-                return ResponseEntity.status(401).build();
-            }
+    public ResponseEntity<?> upsertFromRegistration(@RequestBody RegistrationCallbackRequest request, @RequestHeader(value = "X-Signature", required = false) String signature) {
+        if (!hasValidSignature(toCanonicalString(request), signature)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        if (request.getProductId() == null || request.getChannel() == null) {
-            return ResponseEntity.badRequest().build();
+        try {
+            return ResponseEntity.ok(channelProductCallbackService.upsert(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
+    }
 
-        Optional<Product> productOpt = productRepository.findById(request.getProductId());
-        if (productOpt.isEmpty()) {
-            return ResponseEntity.badRequest().build();
+    /**
+     * 등록 결과 일괄 콜백 (여러 상품/채널을 한 요청으로)
+     * - 서명 대상: 항목별 정규 문자열을 요청 순서대로 줄바꿈(\n)으로 연결
+     * - 잘못된 항목(상품 없음 등)은 rejected 로 돌려주고 나머지는 반영
+     */
+    @PostMapping("/callback/batch")
+    public ResponseEntity<?> upsertAllFromRegistration(@RequestBody RegistrationCallbackBatchRequest request, @RequestHeader(value = "X-Signature", required = false) String signature) {
+        List<RegistrationCallbackRequest> items = request.getItems() != null ? request.getItems() : List.of();
+        StringBuilder canonical = new StringBuilder();
+        for (RegistrationCallbackRequest item : items) {
+            if (canonical.length() > 0) {
+                canonical.append('\n');
+            }
+            canonical.append(item != null ? toCanonicalString(item) : "");
         }
-
-        // 채널 코드 정규화: 프론트 enum과 일치하도록 통일
-        String normalizedChannel = normalizeChannelCode(request.getChannel());
-
-        // find existing by productId then filter by channel (간단 구현)
-        List<ChannelProduct> existingList = channelProductRepository.findByProductId(request.getProductId());
-        ChannelProduct entity = existingList.stream()
-                .filter(cp -> normalizedChannel.equalsIgnoreCase(cp.getChannel()))
-                .findFirst()
-                .orElseGet(() -> {
-                    ChannelProduct cp = new ChannelProduct();
-                    cp.setProduct(productOpt.get());
-                    cp.setChannel(normalizedChannel);
-                    cp.setStatus(ChannelProduct.Status.ACTIVE);
-                    cp.setAllocatedQuantity(0);
-                    cp.setSoldQuantity(0);
-                    return cp;
-                });
-
-        // 기존 레코드가 구 채널코드(BUNJANG 등)로 저장되어 있으면 최신 코드로 업데이트
-        if (!normalizedChannel.equalsIgnoreCase(entity.getChannel())) {
-            entity.setChannel(normalizedChannel);
+        if (!hasValidSignature(canonical.toString(), signature)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(channelProductCallbackService.upsertAll(items));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
+    }
 
-        // 넘어온 가격/수량이 있으면 반영
-        if (request.getChannelPrice() != null) {
-            entity.setChannelPrice(request.getChannelPrice());
+    // 간단한 서명 검증(옵션): 환경변수 CALLBACK_SECRET 이 설정된 경우에만 검증
+    private static boolean hasValidSignature(String body, String signature) {
+        String shared = System.getenv("CALLBACK_SECRET");
+        if (shared == null || shared.isBlank()) {
+            return true;
         }
-        if (request.getAllocatedQuantity() != null) {
-            entity.setAllocatedQuantity(request.getAllocatedQuantity());
+        if (signature == null) {
+            return false;
         }
-
-        // platformProductId 가 없으면 대기(PENDING)로 표시, 있으면 확정(ACTIVE)
-        entity.setPlatformProductId(request.getPlatformProductId());
-        entity.setPlatformUrl(request.getPlatformUrl());
-        if (request.getPlatformProductId() == null || request.getPlatformProductId().isBlank()) {
-            entity.setStatus(ChannelProduct.Status.SYNC_PENDING);
-        } else {
-            entity.setStatus(ChannelProduct.Status.ACTIVE);
+        try {
+            byte[] expected = hmacSha256Hex(shared, body).getBytes(StandardCharsets.US_ASCII);
+            return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            return false;
         }
-
-        ChannelProduct saved = channelProductRepository.save(entity);
-        return ResponseEntity.ok(ChannelProductDto.fromEntity(saved));
     }
 
-    private static String normalizeChannelCode(String channel) {
-        if (channel == null) return null;
-        String upper = channel.toUpperCase();
-        if (upper.equals("BUNJANG") || upper.equals("BUNGAE") || upper.equals("BUNGAE-JANGTER")) {
-            return "BUNGAE_MARKET";
+    // 간단 HMAC 유틸: Mac은 스레드별로 재사용 (요청마다 getInstance/init 하지 않음, 시크릿이 바뀔 때만 다시 init)
+    private static final ThreadLocal<KeyedMac> HMAC = new ThreadLocal<>();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static String hmacSha256Hex(String secret, String data) throws GeneralSecurityException {
+        KeyedMac keyed = HMAC.get();
+        if (keyed == null || !keyed.secret.equals(secret)) {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            keyed = new KeyedMac(secret, mac);
+            HMAC.set(keyed);
         }
-        return channel;
+        // doFinal 후 Mac은 같은 키로 초기화된 상태로 돌아감
+        byte[] raw = keyed.mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        char[] hex = new char[raw.length * 2];
+        for (int i = 0; i < raw.length; i++) {
+            hex[i * 2] = HEX[(raw[i] >> 4) & 0x0f];
+            hex[i * 2 + 1] = HEX[raw[i] & 0x0f];
+        }
+        return new String(hex);
     }
 
-    public static class RegistrationCallbackRequest {
-        private Long productId;
-        private String channel; // BUNJANG 등
-        private String platformProductId;
-        private String platformUrl;
-        private Double channelPrice; // 선택 전달
-        private Integer allocatedQuantity; // 선택 전달
-
-        public Long getProductId() { return productId; }
-        public void setProductId(Long productId) { this.productId = productId; }
-        public String getChannel() { return channel; }
-        public void setChannel(String channel) { this.channel = channel; }
-        public String getPlatformProductId() { return platformProductId; }
-        public void setPlatformProductId(String platformProductId) { this.platformProductId = platformProductId; }
-        public String getPlatformUrl() { return platformUrl; }
-        public void setPlatformUrl(String platformUrl) { this.platformUrl = platformUrl; }
-        public Double getChannelPrice() { return channelPrice; }
-        public void setChannelPrice(Double channelPrice) { this.channelPrice = channelPrice; }
-        public Integer getAllocatedQuantity() { return allocatedQuantity; }
-        public void setAllocatedQuantity(Integer allocatedQuantity) { this.allocatedQuantity = allocatedQuantity; }
-    }
+    private static final class KeyedMac {
+        private final String secret;
+        private final Mac mac;
 
-    // 간단 HMAC 유틸
-    private static String hmacSha256Hex(String secret, String data) throws Exception {
-        javax.crypto.Mac mac = javax.crypto.Mac.getInstance("HmacSHA256");
-        mac.init(new javax.crypto.spec.SecretKeySpec(secret.getBytes(java.nio.charset.StandardCharsets.UTF_8), "HmacSHA256"));
-        byte[] raw = mac.doFinal(data.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        StringBuilder sb = new StringBuilder();
-        for (byte b : raw) sb.append(String.format("%02x", b));
-        return sb.toString();
+        private KeyedMac(String secret, Mac mac) {
+            this.secret = secret;
+            this.mac = mac;
+        }
     }
 
     private static String toCanonicalString(RegistrationCallbackRequest r) {
@@ -163,7 +159,7 @@ public class ChannelProductController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ChannelProductDto> getChannelProductById(@PathVariable Long id) {
+    public ResponseEntity<ChannelProductDto> getChannelProductById(@PathVariable("id") Long id) {
         return channelProductRepository.findById(id)
                 .map(ChannelProductDto::fromEntity)
                 .map(ResponseEntity::ok)
@@ -173,7 +169,7 @@ public class ChannelProductController {
     @PostMapping
     public ResponseEntity<ChannelProductDto> createChannelProduct(@RequestBody ChannelProductRequest request) {
         Optional<Product> product = productRepository.findById(request.getProductId());
-        if (product.isEmpty()) {
+        if (product.isEmpty() || !hasValidAllocationRule(request)) {
             return ResponseEntity.badRequest().build();
         }
         
@@ -184,40 +180,97 @@ public class ChannelProductController {
         channelProduct.setAllocatedQuantity(request.getAllocatedQuantity());
         channelProduct.setSoldQuantity(0);
         channelProduct.setStatus(ChannelProduct.Status.ACTIVE);
+        applyAllocationRule(channelProduct, request);
         
         ChannelProduct savedChannelProduct = channelProductRepository.save(channelProduct);
+        channelAllocationService.requestRecompute(List.of(request.getProductId()));
         return ResponseEntity.ok(ChannelProductDto.fromEntity(savedChannelProduct));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ChannelProductDto> updateChannelProduct(@PathVariable Long id, @RequestBody ChannelProductRequest request) {
+    public ResponseEntity<ChannelProductDto> updateChannelProduct(@PathVariable("id") Long id, @RequestBody ChannelProductRequest request) {
         Optional<ChannelProduct> existingChannelProduct = channelProductRepository.findById(id);
         if (existingChannelProduct.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        if (!hasValidAllocationRule(request)) {
+            return ResponseEntity.badRequest().build();
+        }
         
         ChannelProduct channelProduct = existingChannelProduct.get();
         channelProduct.setChannelPrice(request.getChannelPrice());
-        channelProduct.setAllocatedQuantity(request.getAllocatedQuantity());
+        // 배분 엔진 사용 시 수량은 규칙으로 재계산 (직접 지정한 수량은 무시)
+        if (!channelAllocationService.isEnabled()) {
+            channelProduct.setAllocatedQuantity(request.getAllocatedQuantity());
+        }
+        applyAllocationRule(channelProduct, request);
         
         ChannelProduct updatedChannelProduct = channelProductRepository.save(channelProduct);
+        channelAllocationService.requestRecompute(List.of(updatedChannelProduct.getProduct().getId()));
         return ResponseEntity.ok(ChannelProductDto.fromEntity(updatedChannelProduct));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteChannelProduct(@PathVariable Long id) {
-        if (!channelProductRepository.existsById(id)) {
+    public ResponseEntity<Void> deleteChannelProduct(@PathVariable("id") Long id) {
+        Optional<ChannelProduct> existing = channelProductRepository.findById(id);
+        if (existing.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        Long productId = existing.get().getProduct().getId();
         channelProductRepository.deleteById(id);
+        // 삭제된 채널 몫을 나머지 채널에 다시 배분
+        channelAllocationService.requestRecompute(List.of(productId));
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 상품의 채널 재고 배분 즉시 재계산
+     * - 노출 수량/상태가 바뀐 채널 상품 목록 반환 (판매 채널에 전송할 수량)
+     */
+    @PostMapping("/allocation/{productId}")
+    public ResponseEntity<?> recomputeAllocation(@PathVariable("productId") Long productId) throws InterruptedException {
+        try {
+            List<ChannelAllocationDelta> changes = channelAllocationService.recomputeNow(productId);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("productId", productId);
+            body.put("changes", changes);
+            return ResponseEntity.ok(body);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private static boolean hasValidAllocationRule(ChannelProductRequest request) {
+        return isNullOrNonNegative(request.getAllocationWeight())
+                && isNullOrNonNegative(request.getAllocationFloor())
+                && isNullOrNonNegative(request.getAllocationCap());
+    }
+
+    private static boolean isNullOrNonNegative(Integer value) {
+        return value == null || value >= 0;
+    }
+
+    // 전달된 규칙만 반영 (cap은 null이면 제한 없음으로 변경하지 않고 유지)
+    private static void applyAllocationRule(ChannelProduct channelProduct, ChannelProductRequest request) {
+        if (request.getAllocationWeight() != null) {
+            channelProduct.setAllocationWeight(request.getAllocationWeight());
+        }
+        if (request.getAllocationFloor() != null) {
+            channelProduct.setAllocationFloor(request.getAllocationFloor());
+        }
+        if (request.getAllocationCap() != null) {
+            channelProduct.setAllocationCap(request.getAllocationCap());
+        }
+    }
     
     public static class ChannelProductRequest {
         private Long productId;
         private String channel;
         private Double channelPrice;
         private Integer allocatedQuantity;
+        private Integer allocationWeight;
+        private Integer allocationFloor;
+        private Integer allocationCap;
         
         // Getters and setters
         public Long getProductId() { return productId; }
@@ -228,5 +281,11 @@ public class ChannelProductController {
         public void setChannelPrice(Double channelPrice) { this.channelPrice = channelPrice; }
         public Integer getAllocatedQuantity() { return allocatedQuantity; }
         public void setAllocatedQuantity(Integer allocatedQuantity) { this.allocatedQuantity = allocatedQuantity; }
+        public Integer getAllocationWeight() { return allocationWeight; }
+        public void setAllocationWeight(Integer allocationWeight) { this.allocationWeight = allocationWeight; }
+        public Integer getAllocationFloor() { return allocationFloor; }
+        public void setAllocationFloor(Integer allocationFloor) { this.allocationFloor = allocationFloor; }
+        public Integer getAllocationCap() { return allocationCap; }
+        public void setAllocationCap(Integer allocationCap) { this.allocationCap = allocationCap; }
     }
 }
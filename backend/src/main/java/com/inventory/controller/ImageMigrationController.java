@@ -1,6 +1,8 @@
 package com.inventory.controller;
 
+import com.inventory.service.ImageBlobMigrationService;
 import com.inventory.service.ImageMigrationService;
+import com.inventory.service.PartCrossReferenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -21,56 +23,72 @@ import java.util.Map;
 public class ImageMigrationController {
     
     private final ImageMigrationService imageMigrationService;
+    private final ImageBlobMigrationService imageBlobMigrationService;
+    private final PartCrossReferenceService partCrossReferenceService;
     
     /**
-     * 모든 이미지 마이그레이션 실행
+     * 파일 이미지 마이그레이션 시작 (백그라운드 실행)
      * - POST /api/admin/migration/images
+     * - 체크포인트 다음 상품부터 이어서 진행, restart=true면 처음부터 다시 실행
+     * - 진행 상황은 /images/status로 확인
      * 
-     * @return 마이그레이션 결과
+     * @param restart 체크포인트 초기화 여부
+     * @return 시작 여부 및 현재 상태
      */
     @PostMapping("/images")
-    public ResponseEntity<?> migrateAllImages() {
-        log.info("🔄 이미지 마이그레이션 요청 받음");
+    public ResponseEntity<?> migrateAllImages(@RequestParam(value = "restart", defaultValue = "false") boolean restart) {
+        log.info("🔄 이미지 마이그레이션 요청 받음 - restart: {}", restart);
         
         try {
-            ImageMigrationService.MigrationResult result = imageMigrationService.migrateAllImages();
+            boolean started = imageMigrationService.start(restart);
+            return ResponseEntity.accepted().body(Map.of(
+                "success", true,
+                "started", started,
+                "message", started ? "이미지 마이그레이션을 시작했습니다" : "이미 마이그레이션이 진행 중입니다",
+                "status", imageMigrationService.getStatus()
+            ));
             
-            if (result.isSuccess()) {
-                log.info("✅ 이미지 마이그레이션 성공 완료");
-                return ResponseEntity.ok(Map.of(
-                    "success", true,
-                    "message", "이미지 마이그레이션이 성공적으로 완료되었습니다",
-                    "statistics", Map.of(
-                        "totalCount", result.getTotalCount(),
-                        "successCount", result.getSuccessCount(),
-                        "errorCount", result.getErrorCount(),
-                        "skippedCount", result.getSkippedCount()
-                    ),
-                    "errors", result.getErrors(),
-                    "skipped", result.getSkipped()
-                ));
-            } else {
-                log.warn("⚠️ 이미지 마이그레이션 완료 (일부 오류 포함)");
-                return ResponseEntity.ok(Map.of(
-                    "success", false,
-                    "message", "이미지 마이그레이션이 완료되었지만 일부 오류가 발생했습니다",
-                    "errorMessage", result.getErrorMessage(),
-                    "statistics", Map.of(
-                        "totalCount", result.getTotalCount(),
-                        "successCount", result.getSuccessCount(),
-                        "errorCount", result.getErrorCount(),
-                        "skippedCount", result.getSkippedCount()
-                    ),
-                    "errors", result.getErrors(),
-                    "skipped", result.getSkipped()
-                ));
-            }
+        } catch (Exception e) {
+            log.error("❌ 이미지 마이그레이션 시작 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body(Map.of(
+                "success", false,
+                "message", "이미지 마이그레이션 시작 중 오류가 발생했습니다",
+                "error", e.getMessage()
+            ));
+        }
+    }
+    
+    /**
+     * 파일 이미지 마이그레이션 중지 요청
+     * - POST /api/admin/migration/images/stop
+     * - 진행 중인 청크가 커밋된 뒤 중지되며, 다시 시작하면 이어서 진행
+     */
+    @PostMapping("/images/stop")
+    public ResponseEntity<?> stopImageMigration() {
+        log.info("⏹️ 이미지 마이그레이션 중지 요청");
+        imageMigrationService.stop();
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "status", imageMigrationService.getStatus()
+        ));
+    }
+    
+    /**
+     * 파일 이미지 마이그레이션 진행 상황 조회
+     * - GET /api/admin/migration/images/status
+     * 
+     * @return 체크포인트(마지막 상품 ID, 누적 건수), 남은 상품 수, 최근 오류/건너뜀 사유
+     */
+    @GetMapping("/images/status")
+    public ResponseEntity<?> getImageMigrationStatus() {
+        try {
+            return ResponseEntity.ok(imageMigrationService.getStatus());
             
         } catch (Exception e) {
-            log.error("❌ 이미지 마이그레이션 실패: {}", e.getMessage(), e);
+            log.error("❌ 이미지 마이그레이션 상태 조회 실패: {}", e.getMessage(), e);
             return ResponseEntity.status(500).body(Map.of(
                 "success", false,
-                "message", "이미지 마이그레이션 중 오류가 발생했습니다",
+                "message", "마이그레이션 상태 조회 중 오류가 발생했습니다",
                 "error", e.getMessage()
             ));
         }
@@ -80,23 +98,22 @@ public class ImageMigrationController {
      * 마이그레이션 상태 확인
      * - GET /api/admin/migration/status
      * 
-     * @return 현재 마이그레이션 상태 정보
+     * @return 파일 이미지 / 바이너리 마이그레이션 상태
      */
     @GetMapping("/status")
     public ResponseEntity<?> getMigrationStatus() {
         log.info("📊 마이그레이션 상태 조회 요청");
         
         try {
-            // TODO: 실제 구현 시 DB에서 마이그레이션 상태 조회
-            // 현재는 간단한 상태 정보만 반환
-            
             return ResponseEntity.ok(Map.of(
                 "migrationAvailable", true,
-                "message", "이미지 마이그레이션을 사용할 수 있습니다",
+                "images", imageMigrationService.getStatus(),
+                "blobs", imageBlobMigrationService.getStatus(),
+                "crossReferences", partCrossReferenceService.getStatus(),
                 "instructions", Map.of(
-                    "step1", "POST /api/admin/migration/images 호출",
-                    "step2", "마이그레이션 결과 확인",
-                    "step3", "필요시 오류 수정 후 재실행"
+                    "step1", "POST /api/admin/migration/images 호출 (restart=true: 처음부터)",
+                    "step2", "GET /api/admin/migration/images/status로 진행 상황 확인",
+                    "step3", "필요시 오류 수정 후 재실행 (체크포인트 이후부터 이어서 진행)"
                 )
             ));
             
@@ -109,4 +126,98 @@ public class ImageMigrationController {
             ));
         }
     }
+    
+    /**
+     * DB(LONGBLOB) → 외부 저장소 바이너리 마이그레이션 시작
+     * - POST /api/admin/migration/blobs
+     * - 백그라운드로 실행되며 진행 상황은 /blobs/status로 확인
+     * 
+     * @return 시작 여부
+     */
+    @PostMapping("/blobs")
+    public ResponseEntity<?> startBlobMigration() {
+        log.info("🔄 이미지 바이너리 마이그레이션 요청 받음");
+        
+        try {
+            boolean started = imageBlobMigrationService.start();
+            return ResponseEntity.accepted().body(Map.of(
+                "success", true,
+                "started", started,
+                "message", started ? "이미지 바이너리 마이그레이션을 시작했습니다" : "이미 마이그레이션이 진행 중입니다",
+                "status", imageBlobMigrationService.getStatus()
+            ));
+            
+        } catch (IllegalStateException e) {
+            log.warn("⚠️ 이미지 바이너리 마이그레이션 시작 불가: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+    
+    /**
+     * 바이너리 마이그레이션 중지 요청
+     * - POST /api/admin/migration/blobs/stop
+     * - 진행 중인 배치가 끝난 뒤 중지됨
+     */
+    @PostMapping("/blobs/stop")
+    public ResponseEntity<?> stopBlobMigration() {
+        log.info("⏹️ 이미지 바이너리 마이그레이션 중지 요청");
+        imageBlobMigrationService.stop();
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "status", imageBlobMigrationService.getStatus()
+        ));
+    }
+    
+    /**
+     * 바이너리 마이그레이션 진행 상황 조회
+     * - GET /api/admin/migration/blobs/status
+     */
+    @GetMapping("/blobs/status")
+    public ResponseEntity<?> getBlobMigrationStatus() {
+        return ResponseEntity.ok(imageBlobMigrationService.getStatus());
+    }
+    
+    /**
+     * 호환 품번 백필 시작 (products.cross_reference_numbers → part_cross_references)
+     * - POST /api/admin/migration/cross-references
+     * - 체크포인트 다음 상품부터 이어서 진행, restart=true면 처음부터 다시 실행
+     * 
+     * @param restart 체크포인트 초기화 여부
+     * @return 시작 여부 및 현재 상태
+     */
+    @PostMapping("/cross-references")
+    public ResponseEntity<?> startCrossReferenceBackfill(
+            @RequestParam(value = "restart", defaultValue = "false") boolean restart) {
+        log.info("🔄 호환 품번 백필 요청 받음 - restart: {}", restart);
+        
+        try {
+            boolean started = partCrossReferenceService.start(restart);
+            return ResponseEntity.accepted().body(Map.of(
+                "success", true,
+                "started", started,
+                "message", started ? "호환 품번 백필을 시작했습니다" : "이미 백필이 진행 중입니다",
+                "status", partCrossReferenceService.getStatus()
+            ));
+            
+        } catch (Exception e) {
+            log.error("❌ 호환 품번 백필 시작 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body(Map.of(
+                "success", false,
+                "message", "호환 품번 백필 시작 중 오류가 발생했습니다",
+                "error", e.getMessage()
+            ));
+        }
+    }
+    
+    /**
+     * 호환 품번 백필 진행 상황 조회
+     * - GET /api/admin/migration/cross-references/status
+     */
+    @GetMapping("/cross-references/status")
+    public ResponseEntity<?> getCrossReferenceBackfillStatus() {
+        return ResponseEntity.ok(partCrossReferenceService.getStatus());
+    }
 }
@@ -1,15 +1,26 @@
 package com.inventory.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inventory.dto.InventoryDto;
 import com.inventory.entity.Inventory;
-import com.inventory.entity.Product;
+import com.inventory.entity.StockMovement;
 import com.inventory.repository.InventoryRepository;
+import com.inventory.repository.OrderRepository;
 import com.inventory.repository.ProductRepository;
+import com.inventory.repository.projection.LocationStockView;
+import com.inventory.service.StockLedgerService;
+import com.inventory.service.WarehouseInventoryService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -18,14 +29,34 @@ public class InventoryController {
 
     private final InventoryRepository inventoryRepository;
     private final ProductRepository productRepository;
+    private final StockLedgerService stockLedgerService;
+    private final WarehouseInventoryService warehouseInventoryService;
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
 
-    public InventoryController(InventoryRepository inventoryRepository, ProductRepository productRepository) {
+    public InventoryController(InventoryRepository inventoryRepository, ProductRepository productRepository,
+                               StockLedgerService stockLedgerService,
+                               WarehouseInventoryService warehouseInventoryService,
+                               OrderRepository orderRepository, ObjectMapper objectMapper) {
         this.inventoryRepository = inventoryRepository;
         this.productRepository = productRepository;
+        this.stockLedgerService = stockLedgerService;
+        this.warehouseInventoryService = warehouseInventoryService;
+        this.orderRepository = orderRepository;
+        this.objectMapper = objectMapper;
     }
 
+    // zone(/aisle)을 지정하면 해당 구역(/통로) 재고만 위치 순으로 조회
     @GetMapping
-    public ResponseEntity<List<InventoryDto>> getAllInventories() {
+    public ResponseEntity<?> getAllInventories(
+            @RequestParam(value = "zone", required = false) String zone,
+            @RequestParam(value = "aisle", required = false) Integer aisle) {
+        if (zone != null) {
+            return ResponseEntity.ok(warehouseInventoryService.getInventoriesAt(zone, aisle));
+        }
+        if (aisle != null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "통로 조회는 구역(zone)을 함께 지정해야 합니다."));
+        }
         List<InventoryDto> inventoryDtos = inventoryRepository.findAll()
                 .stream()
                 .map(InventoryDto::fromEntity)
@@ -33,8 +64,88 @@ public class InventoryController {
         return ResponseEntity.ok(inventoryDtos);
     }
 
+    // 구역별 재고 합계 (위치 수, 상품 수, 수량)
+    @GetMapping("/aggregates/zones")
+    public ResponseEntity<List<LocationStockView>> getZoneTotals() {
+        return ResponseEntity.ok(warehouseInventoryService.getZoneTotals());
+    }
+
+    // 통로별 재고 합계 (zone 미지정 시 전체 구역)
+    @GetMapping("/aggregates/aisles")
+    public ResponseEntity<List<LocationStockView>> getAisleTotals(
+            @RequestParam(value = "zone", required = false) String zone) {
+        return ResponseEntity.ok(warehouseInventoryService.getAisleTotals(zone));
+    }
+
+    // 상품별 전체 창고 재고 합계 (SKU 순, 조회 결과를 읽는 대로 JSON 배열로 전송)
+    @GetMapping("/aggregates/skus")
+    public ResponseEntity<StreamingResponseBody> getSkuTotals(
+            @RequestParam(value = "minQuantity", defaultValue = "0") long minQuantity) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                json.writeStartArray();
+                warehouseInventoryService.forEachSkuTotal(minQuantity, total -> write(() -> {
+                    json.writeStartObject();
+                    json.writeNumberField("productId", total.getProductId());
+                    json.writeStringField("sku", total.getSku());
+                    json.writeStringField("name", total.getName());
+                    json.writeNumberField("locationCount", total.getLocationCount());
+                    json.writeNumberField("quantity", total.getQuantity());
+                    json.writeEndObject();
+                }));
+                json.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 주문 피킹 목록 (위치 경로 순, 재고 부족 상품은 shortages에 부족 수량, 주문이 없으면 404 / 주문 상품이 없으면 400)
+    @GetMapping("/pick-list")
+    public ResponseEntity<StreamingResponseBody> getPickList(@RequestParam("orderId") Long orderId) {
+        if (!orderRepository.existsById(orderId)) {
+            Map<String, String> error = Map.of("error", "주문을 찾을 수 없습니다: " + orderId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+        // 응답 스트리밍을 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 검증을 먼저 수행
+        Map<Long, Integer> quantities;
+        try {
+            quantities = warehouseInventoryService.getPickQuantities(orderId);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = Map.of("error", e.getMessage());
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                json.writeStartObject();
+                json.writeNumberField("orderId", orderId);
+                json.writeArrayFieldStart("lines");
+                Map<Long, Integer> shortages = warehouseInventoryService.forEachPickLine(quantities,
+                        line -> write(() -> json.writeObject(line)));
+                json.writeEndArray();
+                json.writeObjectField("shortages", shortages);
+                json.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private static void write(JsonWrite write) {
+        try {
+            write.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonWrite {
+        void run() throws IOException;
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<InventoryDto> getInventoryById(@PathVariable Long id) {
+    public ResponseEntity<InventoryDto> getInventoryById(@PathVariable("id") Long id) {
         return inventoryRepository.findById(id)
                 .map(InventoryDto::fromEntity)
                 .map(ResponseEntity::ok)
@@ -43,18 +154,16 @@ public class InventoryController {
 
     @PostMapping
     public ResponseEntity<Inventory> createInventory(@RequestBody InventoryRequest request) {
-        Optional<Product> product = productRepository.findById(request.getProductId());
-        if (product.isEmpty()) {
+        if (request.getProductId() == null || request.getQuantity() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            Inventory savedInventory = stockLedgerService.createInventory(request.getProductId(),
+                    request.getQuantity(), request.getWarehouseLocation());
+            return ResponseEntity.ok(savedInventory);
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
-        
-        Inventory inventory = new Inventory();
-        inventory.setProduct(product.get());
-        inventory.setQuantity(request.getQuantity());
-        inventory.setWarehouseLocation(request.getWarehouseLocation());
-        
-        Inventory savedInventory = inventoryRepository.save(inventory);
-        return ResponseEntity.ok(savedInventory);
     }
     
     public static class InventoryRequest {
@@ -71,18 +180,48 @@ public class InventoryController {
         public void setWarehouseLocation(String warehouseLocation) { this.warehouseLocation = warehouseLocation; }
     }
 
+    // 수량은 조회 시점 값에서 바뀌지 않은 경우만 변경 (동시 변경이 있으면 409), 요청에 없는 항목은 유지
     @PutMapping("/{id}")
-    public ResponseEntity<Inventory> updateInventory(@PathVariable Long id, @RequestBody Inventory inventory) {
-        if (!inventoryRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
+    public ResponseEntity<?> updateInventory(@PathVariable("id") Long id, @RequestBody Inventory inventory) {
+        try {
+            Inventory updatedInventory = stockLedgerService.updateInventory(id, inventory.getQuantity(),
+                    inventory.getWarehouseLocation());
+            if (updatedInventory == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(updatedInventory);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 재고 증감 (입고는 양수, 출고는 음수, 조건부 UPDATE로 원자적 처리, type은 저널 이동 유형)
+    @PostMapping("/{id}/adjust")
+    public ResponseEntity<?> adjustInventory(
+            @PathVariable("id") Long id,
+            @RequestParam("delta") int delta,
+            @RequestParam(value = "type", defaultValue = "ADJUSTMENT") String type,
+            @RequestParam(value = "reference", required = false) String reference) {
+        StockMovement.MovementType movementType;
+        try {
+            movementType = StockMovement.MovementType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "잘못된 이동 유형입니다: " + type));
+        }
+        try {
+            return ResponseEntity.ok(InventoryDto.fromEntity(
+                    stockLedgerService.adjustInventory(id, delta, movementType, reference)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         }
-        inventory.setId(id);
-        Inventory updatedInventory = inventoryRepository.save(inventory);
-        return ResponseEntity.ok(updatedInventory);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteInventory(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteInventory(@PathVariable("id") Long id) {
         if (!inventoryRepository.existsById(id)) {
             return ResponseEntity.notFound().build();
         }
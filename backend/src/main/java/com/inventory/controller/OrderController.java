@@ -1,68 +1,123 @@
 package com.inventory.controller;
 
+import com.inventory.dto.OrderDto;
+import com.inventory.dto.OrderPlacementRequest;
 import com.inventory.entity.Order;
-import com.inventory.repository.OrderRepository;
+import com.inventory.service.InsufficientStockException;
+import com.inventory.service.OrderPlacementService;
+import com.inventory.service.OrderQueryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
 
-    private final OrderRepository orderRepository;
+    private final OrderPlacementService orderPlacementService;
+    private final OrderQueryService orderQueryService;
 
-    public OrderController(OrderRepository orderRepository) {
-        this.orderRepository = orderRepository;
+    @Value("${inventory.orders.unpaginated-enabled:true}")
+    private boolean unpaginatedEnabled;
+
+    public OrderController(OrderPlacementService orderPlacementService, OrderQueryService orderQueryService) {
+        this.orderPlacementService = orderPlacementService;
+        this.orderQueryService = orderQueryService;
     }
 
+    /**
+     * 주문 목록 조회
+     * - 기본: 최신순 키셋(커서) 페이지 조회, 주문 요약만 반환 (status, cursor, size)
+     * - all=true: 전체 목록 (항목 포함, status 적용, inventory.orders.unpaginated-enabled=false면 거부)
+     */
     @GetMapping
-    public ResponseEntity<List<Order>> getAllOrders() {
-        return ResponseEntity.ok(orderRepository.findAll());
+    public ResponseEntity<?> getAllOrders(
+            @RequestParam(value = "all", defaultValue = "false") boolean all,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return all ? getAllOrders(status) : getOrderPage(status, cursor, size);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Order> getOrderById(@PathVariable Long id) {
-        return orderRepository.findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<OrderDto> getOrderById(@PathVariable("id") Long id) {
+        OrderDto order = orderQueryService.getOrder(id);
+        return order != null ? ResponseEntity.ok(order) : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping("/number/{orderNumber}")
+    public ResponseEntity<OrderDto> getOrderByNumber(@PathVariable("orderNumber") String orderNumber) {
+        OrderDto order = orderQueryService.getOrderByNumber(orderNumber);
+        return order != null ? ResponseEntity.ok(order) : ResponseEntity.notFound().build();
     }
 
+    // 주문 접수 (재고 일괄 예약, 가격은 서버 계산) - 같은 Idempotency-Key 재시도는 기존 주문을 200으로 반환
     @PostMapping
-    public ResponseEntity<Order> createOrder(@RequestBody Order order) {
-        Order savedOrder = orderRepository.save(order);
-        return ResponseEntity.ok(savedOrder);
+    public ResponseEntity<?> createOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody OrderPlacementRequest request) {
+        try {
+            OrderPlacementService.Placement placement = orderPlacementService.placeOrder(request, idempotencyKey);
+            if (placement.isReplayed()) {
+                return ResponseEntity.ok().header("Idempotent-Replayed", "true").body(placement.getOrder());
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(placement.getOrder());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (InsufficientStockException e) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("error", e.getMessage());
+            body.put("productId", e.getProductId());
+            body.put("requested", e.getRequested());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Order> updateOrder(@PathVariable Long id, @RequestBody Order order) {
-        if (!orderRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
-        order.setId(id);
-        Order updatedOrder = orderRepository.save(order);
-        return ResponseEntity.ok(updatedOrder);
+    public ResponseEntity<Order> updateOrder(@PathVariable("id") Long id, @RequestBody Order order) {
+        Order updatedOrder = orderPlacementService.updateOrder(id, order);
+        return updatedOrder != null ? ResponseEntity.ok(updatedOrder) : ResponseEntity.notFound().build();
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteOrder(@PathVariable Long id) {
-        if (!orderRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
-        orderRepository.deleteById(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<Void> deleteOrder(@PathVariable("id") Long id) {
+        return orderPlacementService.deleteOrder(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
     }
 
+    // 상태별 주문 목록 (GET /api/orders?status= 와 같음: 기본 키셋 페이지, all=true면 항목 포함 전체 목록)
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Order>> getOrdersByStatus(@PathVariable String status) {
+    public ResponseEntity<?> getOrdersByStatus(
+            @PathVariable("status") String status,
+            @RequestParam(value = "all", defaultValue = "false") boolean all,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return all ? getAllOrders(status) : getOrderPage(status, cursor, size);
+    }
+
+    private ResponseEntity<?> getAllOrders(String status) {
+        if (!unpaginatedEnabled) {
+            return ResponseEntity.badRequest().body(Map.of("error", "전체 목록 조회가 비활성화되어 있습니다. cursor/size로 페이지 조회하세요."));
+        }
         try {
-            Order.OrderStatus orderStatus = Order.OrderStatus.valueOf(status.toUpperCase());
-            List<Order> orders = orderRepository.findByStatus(orderStatus);
-            return ResponseEntity.ok(orders);
+            return ResponseEntity.ok(orderQueryService.getAllOrders(status));
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().build();
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
-}
 
+    private ResponseEntity<?> getOrderPage(String status, String cursor, Integer size) {
+        try {
+            return ResponseEntity.ok(orderQueryService.getOrderPage(status, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
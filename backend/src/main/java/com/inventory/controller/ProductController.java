@@ -1,13 +1,16 @@
 package com.inventory.controller;
 
 import com.inventory.dto.ProductDto;
+import com.inventory.entity.ImageCategory;
 import com.inventory.entity.Product;
 import com.inventory.entity.ProductImage;
 import com.inventory.repository.ProductImageRepository;
 import com.inventory.repository.ProductRepository;
+import com.inventory.service.ImageStorageService;
 import com.inventory.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,11 +30,36 @@ public class ProductController {
     private final ProductService productService;
     private final ProductRepository productRepository;
     private final ProductImageRepository productImageRepository;
+    private final ImageStorageService imageStorageService;
     
+    @Value("${inventory.products.unpaginated-enabled:true}")
+    private boolean unpaginatedEnabled;
+    
+    /**
+     * 상품 목록 조회
+     * - 기본: 키셋(커서) 페이지 조회 (cursor, size, sort=id|sku)
+     * - all=true: 전체 목록 조회 (inventory.products.unpaginated-enabled=false면 거부)
+     */
     @GetMapping
-    public ResponseEntity<List<ProductDto>> getAllProducts() {
-        List<ProductDto> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<?> getAllProducts(
+            @RequestParam(value = "all", defaultValue = "false") boolean all,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", required = false) String sort) {
+        if (all) {
+            if (!unpaginatedEnabled) {
+                return ResponseEntity.badRequest().body(Map.of("error", "전체 목록 조회가 비활성화되어 있습니다. cursor/size로 페이지 조회하세요."));
+            }
+            List<ProductDto> products = productService.getAllProducts();
+            return ResponseEntity.ok(products);
+        }
+        
+        try {
+            return ResponseEntity.ok(productService.getProductPage(cursor, size, sort));
+        } catch (IllegalArgumentException e) {
+            log.warn("상품 페이지 조회 실패 - 잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
     
     @GetMapping("/{id}")
@@ -91,8 +119,8 @@ public class ProductController {
             productImage.setProduct(product);
             productImage.setImageName(file.getOriginalFilename());
             productImage.setImageType(file.getContentType());
-            productImage.setImageSize(file.getSize());
-            productImage.setImageData(file.getBytes());
+            productImage.setImageCategory(ImageCategory.ORIGINAL);
+            imageStorageService.storeImageData(productImage, file.getBytes());
             productImage.setCreatedAt(LocalDateTime.now());
             productImage.setUpdatedAt(LocalDateTime.now());
             
@@ -1,19 +1,37 @@
 package com.inventory.controller;
 
+import com.inventory.entity.ImageCategory;
 import com.inventory.entity.ProductImage;
+import com.inventory.repository.projection.ImageContentView;
+import com.inventory.service.ImageBulkIngestionService;
 import com.inventory.service.ProductImageService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * 상품 이미지 컨트롤러
@@ -28,6 +46,13 @@ import java.util.Optional;
 public class ProductImageController {
     
     private final ProductImageService productImageService;
+    private final ImageBulkIngestionService imageBulkIngestionService;
+    
+    @Value("${inventory.images.bulk.timeout-minutes:30}")
+    private long bulkTimeoutMinutes;
+    
+    // 내용 해시 URL용 캐시 정책 (1년, 변경되지 않음)
+    private static final CacheControl IMMUTABLE_CACHE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
     
     /**
      * 상품 이미지 업로드
@@ -53,6 +78,8 @@ public class ProductImageController {
             responseImage.setImageName(uploadedImage.getImageName());
             responseImage.setImageType(uploadedImage.getImageType());
             responseImage.setImageSize(uploadedImage.getImageSize());
+            responseImage.setImageCategory(uploadedImage.getImageCategory());
+            responseImage.setProcessingStatus(uploadedImage.getProcessingStatus());
             responseImage.setCreatedAt(uploadedImage.getCreatedAt());
             responseImage.setUpdatedAt(uploadedImage.getUpdatedAt());
             
@@ -69,6 +96,97 @@ public class ProductImageController {
         }
     }
     
+    /**
+     * 상품 이미지 일괄 등록 (여러 파일 / zip 파트 multipart)
+     * - POST /api/images/bulk (multipart/form-data)
+     * - 파트 이름이 file/files면 경로/파일명으로 SKU 결정, 그 외에는 파트 이름을 SKU로 사용
+     * - 업로드 크기는 전역 multipart 제한을 따름 (큰 아카이브는 zip 본문으로 전송)
+     * - 응답: 파일별 결과를 한 줄씩 기록하는 NDJSON, 마지막 줄은 {"summary": ...}
+     * 
+     * @param request multipart 요청
+     * @return 파일별 결과 스트림
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> bulkUploadFiles(MultipartHttpServletRequest request) {
+        log.info("이미지 일괄 등록 요청 (multipart) - 파트 수: {}", request.getMultiFileMap().size());
+        
+        return streamBulkResults(listener -> imageBulkIngestionService.ingestFilesAsync(request.getMultiFileMap(), listener));
+    }
+    
+    /**
+     * 상품 이미지 일괄 등록 (zip 본문)
+     * - POST /api/images/bulk (application/zip)
+     * - 요청 본문을 임시 파일로 옮긴 뒤 항목 단위로 처리 (SKU는 폴더명 또는 파일명)
+     * - servlet multipart를 거치지 않으며 크기는 inventory.images.bulk.max-upload-mb로 제한
+     * 
+     * @param request zip 본문 요청
+     * @return 파일별 결과 스트림 (NDJSON)
+     */
+    @PostMapping(value = "/bulk", consumes = {"application/zip", "application/x-zip-compressed", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ResponseBodyEmitter> bulkUploadZip(HttpServletRequest request) {
+        log.info("이미지 일괄 등록 요청 (zip) - 크기: {} bytes", request.getContentLengthLong());
+        
+        return streamBulkResults(listener -> {
+            try {
+                return imageBulkIngestionService.ingestZipAsync(request.getInputStream(),
+                        request.getContentLengthLong(), listener);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+    
+    private ResponseEntity<ResponseBodyEmitter> streamBulkResults(
+            Function<Consumer<ImageBulkIngestionService.BulkImageResult>, CompletableFuture<ImageBulkIngestionService.BulkIngestionSummary>> ingestion) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(TimeUnit.MINUTES.toMillis(bulkTimeoutMinutes));
+        try {
+            ingestion.apply(result -> sendLine(emitter, result))
+                .whenComplete((summary, error) -> {
+                    if (error != null) {
+                        log.error("이미지 일괄 등록 실패 - 서버 오류: {}", error.getMessage(), error);
+                        sendLine(emitter, Map.of("error", "이미지 일괄 등록 중 오류가 발생했습니다"));
+                    } else {
+                        sendLine(emitter, Map.of("summary", summary));
+                    }
+                    emitter.complete();
+                });
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+            
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 일괄 등록 거부 - 동시 작업 수 초과");
+            sendLine(emitter, Map.of("error", "진행 중인 일괄 등록이 많습니다. 잠시 후 다시 시도하세요"));
+            emitter.complete();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("이미지 일괄 등록 거부 - {}", e.getMessage());
+            sendLine(emitter, Map.of("error", e.getMessage()));
+            emitter.complete();
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+            
+        } catch (UncheckedIOException e) {
+            log.warn("이미지 일괄 등록 실패 - 요청 본문 읽기 오류: {}", e.getMessage());
+            sendLine(emitter, Map.of("error", "요청 본문을 읽을 수 없습니다"));
+            emitter.complete();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+            
+        } catch (Exception e) {
+            log.error("이미지 일괄 등록 실패 - 서버 오류: {}", e.getMessage(), e);
+            sendLine(emitter, Map.of("error", "이미지 일괄 등록 중 오류가 발생했습니다"));
+            emitter.complete();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+        }
+    }
+    
+    private void sendLine(ResponseBodyEmitter emitter, Object line) {
+        try {
+            emitter.send(line, MediaType.APPLICATION_JSON);
+            emitter.send("\n", MediaType.TEXT_PLAIN);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
     /**
      * 상품의 모든 이미지 조회 (메타데이터만)
      * - GET /api/products/{productId}/images
@@ -129,7 +247,7 @@ public class ProductImageController {
     /**
      * 이미지 실제 데이터 조회
      * - GET /api/images/{imageId}/data
-     * - 이미지 표시용으로 실제 바이너리 데이터 반환
+     * - 이미지 표시용으로 실제 바이너리 데이터를 저장소에서 스트리밍
      * 
      * @param imageId 이미지 ID
      * @return 이미지 바이너리 데이터
@@ -139,25 +257,9 @@ public class ProductImageController {
         log.info("이미지 데이터 조회 - 이미지 ID: {}", imageId);
         
         try {
-            Optional<ProductImage> image = productImageService.getImageData(imageId);
-            
-            if (image.isPresent()) {
-                ProductImage imageData = image.get();
-                
-                // HTTP 헤더 설정
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType(imageData.getImageType()));
-                headers.setContentLength(imageData.getImageSize());
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, 
-                    "inline; filename=\"" + imageData.getImageName() + "\"");
-                
-                return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(imageData.getImageData());
-                    
-            } else {
-                return ResponseEntity.notFound().build();
-            }
+            Optional<ImageContentView> image = productImageService.getImageContent(imageId);
+            return image.<ResponseEntity<?>>map(content -> streamImage(content, CacheControl.noCache()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
             
         } catch (Exception e) {
             log.error("이미지 데이터 조회 실패 - 서버 오류: {}", e.getMessage(), e);
@@ -166,6 +268,30 @@ public class ProductImageController {
         }
     }
     
+    /**
+     * 내용 해시로 이미지 데이터 조회
+     * - GET /api/images/content/{contentHash}
+     * - URL이 내용을 식별하므로 응답이 바뀌지 않음 → 장기 캐시(immutable)
+     * 
+     * @param contentHash 이미지 내용의 SHA-256 해시
+     * @return 이미지 바이너리 데이터
+     */
+    @GetMapping("/content/{contentHash:[0-9a-f]{64}}")
+    public ResponseEntity<?> getImageDataByHash(@PathVariable("contentHash") String contentHash) {
+        log.info("해시 이미지 데이터 조회 - 해시: {}", contentHash);
+        
+        try {
+            Optional<ImageContentView> image = productImageService.getImageContentByHash(contentHash);
+            return image.<ResponseEntity<?>>map(content -> streamImage(content, IMMUTABLE_CACHE))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+            
+        } catch (Exception e) {
+            log.error("해시 이미지 데이터 조회 실패 - 서버 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "이미지 데이터 조회 중 오류가 발생했습니다"));
+        }
+    }
+    
     /**
      * 상품의 대표 이미지 데이터 조회
      * - GET /api/products/{productId}/images/first/data
@@ -179,25 +305,9 @@ public class ProductImageController {
         log.info("상품 대표 이미지 데이터 조회 - 상품 ID: {}", productId);
         
         try {
-            Optional<ProductImage> image = productImageService.getFirstImageData(productId);
-            
-            if (image.isPresent()) {
-                ProductImage imageData = image.get();
-                
-                // HTTP 헤더 설정
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType(imageData.getImageType()));
-                headers.setContentLength(imageData.getImageSize());
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, 
-                    "inline; filename=\"" + imageData.getImageName() + "\"");
-                
-                return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(imageData.getImageData());
-                    
-            } else {
-                return ResponseEntity.notFound().build();
-            }
+            Optional<ImageContentView> image = productImageService.getFirstImageContent(productId);
+            return image.<ResponseEntity<?>>map(content -> streamImage(content, CacheControl.noCache()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
             
         } catch (IllegalArgumentException e) {
             log.warn("대표 이미지 데이터 조회 실패 - 잘못된 요청: {}", e.getMessage());
@@ -222,25 +332,9 @@ public class ProductImageController {
         log.info("상품 등록용 대표 이미지 데이터 조회 - 상품 ID: {}", productId);
         
         try {
-            Optional<ProductImage> image = productImageService.getFirstRegistrationImageByProductId(productId);
-            
-            if (image.isPresent()) {
-                ProductImage imageData = image.get();
-                
-                // HTTP 헤더 설정
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType(imageData.getImageType()));
-                headers.setContentLength(imageData.getImageSize());
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, 
-                    "inline; filename=\"" + imageData.getImageName() + "\"");
-                
-                return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(imageData.getImageData());
-                    
-            } else {
-                return ResponseEntity.notFound().build();
-            }
+            Optional<ImageContentView> image = productImageService.getFirstImageContent(productId, ImageCategory.REGISTRATION);
+            return image.<ResponseEntity<?>>map(content -> streamImage(content, CacheControl.noCache()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
             
         } catch (IllegalArgumentException e) {
             log.warn("등록용 대표 이미지 데이터 조회 실패 - 잘못된 요청: {}", e.getMessage());
@@ -261,17 +355,9 @@ public class ProductImageController {
     public ResponseEntity<?> getLatestRegistrationImageData(@PathVariable("productId") Long productId) {
         log.info("상품 최신 등록용 이미지 데이터 조회 - 상품 ID: {}", productId);
         try {
-            Optional<ProductImage> image = productImageService.getLatestRegistrationImageByProductId(productId);
-            if (image.isPresent()) {
-                ProductImage imageData = image.get();
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType(imageData.getImageType()));
-                headers.setContentLength(imageData.getImageSize());
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + imageData.getImageName() + "\"");
-                return ResponseEntity.ok().headers(headers).body(imageData.getImageData());
-            } else {
-                return ResponseEntity.notFound().build();
-            }
+            Optional<ImageContentView> image = productImageService.getLatestImageContent(productId, ImageCategory.REGISTRATION);
+            return image.<ResponseEntity<?>>map(content -> streamImage(content, CacheControl.noCache()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (Exception e) {
             log.error("최신 등록용 이미지 데이터 조회 실패 - 서버 오류: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -291,25 +377,9 @@ public class ProductImageController {
         log.info("상품 썸네일 대표 이미지 데이터 조회 - 상품 ID: {}", productId);
         
         try {
-            Optional<ProductImage> image = productImageService.getFirstThumbnailImageByProductId(productId);
-            
-            if (image.isPresent()) {
-                ProductImage imageData = image.get();
-                
-                // HTTP 헤더 설정
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType(imageData.getImageType()));
-                headers.setContentLength(imageData.getImageSize());
-                headers.set(HttpHeaders.CONTENT_DISPOSITION, 
-                    "inline; filename=\"" + imageData.getImageName() + "\"");
-                
-                return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(imageData.getImageData());
-                    
-            } else {
-                return ResponseEntity.notFound().build();
-            }
+            Optional<ImageContentView> image = productImageService.getFirstImageContent(productId, ImageCategory.THUMBNAIL);
+            return image.<ResponseEntity<?>>map(content -> streamImage(content, CacheControl.noCache()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
             
         } catch (IllegalArgumentException e) {
             log.warn("썸네일 대표 이미지 데이터 조회 실패 - 잘못된 요청: {}", e.getMessage());
@@ -322,6 +392,27 @@ public class ProductImageController {
         }
     }
     
+    /**
+     * 이미지 스트리밍 응답 구성
+     * - 본문은 Resource로 반환하여 저장소에서 응답으로 직접 복사 (byte[] 미적재)
+     * - ETag는 내용 해시(강한 검증자): If-None-Match 일치 시 Spring이 본문을 읽지 않고 304 응답
+     * - Range 요청은 Spring의 Resource 처리로 206/416 응답 (Accept-Ranges: bytes)
+     * 
+     * @param image 이미지 메타데이터
+     * @param cacheControl 캐시 정책 (해시 URL은 immutable, 그 외는 재검증)
+     * @return 이미지 응답
+     */
+    private ResponseEntity<Resource> streamImage(ImageContentView image, CacheControl cacheControl) {
+        String etag = "\"" + productImageService.resolveContentHash(image) + "\"";
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(cacheControl)
+            .contentType(MediaType.parseMediaType(image.getImageType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename(image.getImageName(), StandardCharsets.UTF_8).build().toString())
+            .body(productImageService.openImageResource(image));
+    }
+    
     /**
      * 이미지 삭제
      * - DELETE /api/images/{imageId}
@@ -392,6 +483,68 @@ public class ProductImageController {
         }
     }
     
+    /**
+     * 실패한 파생 이미지(등록용/썸네일) 재생성
+     * - POST /api/images/{imageId}/derivatives/retry
+     * 
+     * @param imageId 원본 이미지 ID
+     * @return 재시도 대상 파생 이미지 수
+     */
+    @PostMapping("/{imageId}/derivatives/retry")
+    public ResponseEntity<?> retryDerivatives(@PathVariable("imageId") Long imageId) {
+        log.info("파생 이미지 재생성 요청 - 원본 이미지 ID: {}", imageId);
+        
+        try {
+            int count = productImageService.retryDerivatives(imageId);
+            return ResponseEntity.ok(Map.of("retried", count));
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("파생 이미지 재생성 실패 - 잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            
+        } catch (Exception e) {
+            log.error("파생 이미지 재생성 실패 - 서버 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "파생 이미지 재생성 중 오류가 발생했습니다"));
+        }
+    }
+    
+    /**
+     * 파생 이미지 작업 지표 조회
+     * - GET /api/images/derivatives/metrics
+     * 
+     * @return 대기열 길이, 작업자 수, 단계별(queue/load/resize/store) 처리 시간
+     */
+    @GetMapping("/derivatives/metrics")
+    public ResponseEntity<?> getDerivativeMetrics() {
+        try {
+            return ResponseEntity.ok(productImageService.getDerivativeMetrics());
+            
+        } catch (Exception e) {
+            log.error("파생 이미지 지표 조회 실패 - 서버 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "파생 이미지 지표 조회 중 오류가 발생했습니다"));
+        }
+    }
+    
+    /**
+     * 이미지 캐시 통계 조회
+     * - GET /api/images/cache/stats
+     * 
+     * @return 적중/미적중/제거 횟수 및 사용량
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getImageCacheStats() {
+        try {
+            return ResponseEntity.ok(productImageService.getImageCacheStats());
+            
+        } catch (Exception e) {
+            log.error("이미지 캐시 통계 조회 실패 - 서버 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "이미지 캐시 통계 조회 중 오류가 발생했습니다"));
+        }
+    }
+    
     /**
      * 이미지 통계 정보 조회
      * - GET /api/images/statistics
@@ -0,0 +1,163 @@
+package com.inventory.controller;
+
+import com.inventory.dto.StockReservationDto;
+import com.inventory.dto.StockReservationRequest;
+import com.inventory.entity.StockReservation;
+import com.inventory.entity.StockMovement;
+import com.inventory.service.LowStockService;
+import com.inventory.service.StockJournalService;
+import com.inventory.service.StockLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 예약 API (예약 시 차감, 확정 또는 해제), 재고 이동 저널 조회, 재고 부족 알림
+ */
+@RestController
+@RequestMapping("/api/stock")
+@RequiredArgsConstructor
+public class StockController {
+
+    private final StockLedgerService stockLedgerService;
+    private final StockJournalService stockJournalService;
+    private final LowStockService lowStockService;
+
+    @PostMapping("/reservations")
+    public ResponseEntity<?> reserve(@RequestBody StockReservationRequest request) {
+        if (request.getProductId() == null || request.getQuantity() == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "productId와 quantity를 입력해주세요."));
+        }
+        try {
+            StockReservation reservation = stockLedgerService.reserve(request.getProductId(),
+                    request.getInventoryId(), request.getQuantity(), request.getReference());
+            return ResponseEntity.status(HttpStatus.CREATED).body(StockReservationDto.fromEntity(reservation));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/reservations/{id}")
+    public ResponseEntity<StockReservationDto> getReservation(@PathVariable("id") Long id) {
+        StockReservation reservation = stockLedgerService.getReservation(id);
+        if (reservation == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(StockReservationDto.fromEntity(reservation));
+    }
+
+    @PostMapping("/reservations/{id}/commit")
+    public ResponseEntity<?> commit(@PathVariable("id") Long id) {
+        try {
+            return ResponseEntity.ok(StockReservationDto.fromEntity(stockLedgerService.commit(id)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/reservations/{id}/release")
+    public ResponseEntity<?> release(@PathVariable("id") Long id) {
+        try {
+            return ResponseEntity.ok(StockReservationDto.fromEntity(stockLedgerService.release(id)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 상품 재고 증감 (입고는 양수, 출고/실사 차감은 음수, 조건부 UPDATE로 원자적 처리, type은 저널 이동 유형)
+    @PostMapping("/products/{productId}/adjust")
+    public ResponseEntity<?> adjustProduct(
+            @PathVariable("productId") Long productId,
+            @RequestParam("delta") int delta,
+            @RequestParam(value = "type", defaultValue = "ADJUSTMENT") String type,
+            @RequestParam(value = "reference", required = false) String reference) {
+        StockMovement.MovementType movementType;
+        try {
+            movementType = StockMovement.MovementType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "잘못된 이동 유형입니다: " + type));
+        }
+        try {
+            int quantity = stockLedgerService.adjustProduct(productId, delta, movementType, reference);
+            return ResponseEntity.ok(Map.of("productId", productId, "quantity", quantity));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 시점 재고 (inventoryId가 없으면 상품 수량, at이 없으면 현재) - 시점 이전 마지막 스냅샷 + 이후 저널
+    @GetMapping("/as-of")
+    public ResponseEntity<?> getStockAsOf(
+            @RequestParam(value = "productId", required = false) Long productId,
+            @RequestParam(value = "inventoryId", required = false) Long inventoryId,
+            @RequestParam(value = "at", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        try {
+            return ResponseEntity.ok(stockJournalService.getStockAsOf(productId, inventoryId,
+                    at != null ? at : LocalDateTime.now()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 최근 재고 이동 내역 (inventoryId가 있으면 해당 창고 재고, 없으면 상품 전체)
+    @GetMapping("/movements")
+    public ResponseEntity<?> getMovements(
+            @RequestParam(value = "productId", required = false) Long productId,
+            @RequestParam(value = "inventoryId", required = false) Long inventoryId,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        if (productId == null && inventoryId == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "productId 또는 inventoryId를 입력해주세요."));
+        }
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (StockMovement movement : stockJournalService.getRecentMovements(productId, inventoryId,
+                Math.max(1, Math.min(limit, 1000)))) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", movement.getId());
+            item.put("productId", movement.getProduct().getId());
+            item.put("inventoryId", movement.getInventory() != null ? movement.getInventory().getId() : null);
+            item.put("movementType", movement.getMovementType());
+            item.put("quantityDelta", movement.getQuantityDelta());
+            item.put("reference", movement.getReference());
+            item.put("createdAt", movement.getCreatedAt());
+            items.add(item);
+        }
+        return ResponseEntity.ok(items);
+    }
+
+    // 재고 스냅샷 즉시 생성 (주기 실행과 동일)
+    @PostMapping("/snapshots")
+    public ResponseEntity<Map<String, Object>> takeSnapshot() {
+        return ResponseEntity.ok(Map.of("created", stockJournalService.takeSnapshot()));
+    }
+
+    // 현재 재고 부족 상품 (메모리 목록, 상품 테이블 조회 없음)
+    @GetMapping("/low-stock")
+    public ResponseEntity<LowStockService.Snapshot> getLowStock() {
+        return ResponseEntity.ok(lowStockService.getSnapshot());
+    }
+
+    // 재고 부족 변경 구독 (SSE: 연결 시 snapshot, 이후 low-stock 이벤트)
+    @GetMapping(value = "/low-stock/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLowStock() {
+        return lowStockService.subscribe();
+    }
+}
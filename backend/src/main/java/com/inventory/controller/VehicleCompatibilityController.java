@@ -2,6 +2,11 @@ package com.inventory.controller;
 
 import com.inventory.entity.VehicleCompatibility;
 import com.inventory.repository.VehicleCompatibilityRepository;
+import com.inventory.repository.projection.FitmentPartView;
+import com.inventory.service.FitmentService;
+import com.inventory.service.VehicleCompatibilityService;
+import com.inventory.service.VehicleFitmentIndexService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,9 +17,18 @@ import java.util.*;
 public class VehicleCompatibilityController {
 
     private final VehicleCompatibilityRepository vehicleCompatibilityRepository;
-
-    public VehicleCompatibilityController(VehicleCompatibilityRepository vehicleCompatibilityRepository) {
+    private final VehicleCompatibilityService vehicleCompatibilityService;
+    private final VehicleFitmentIndexService vehicleFitmentIndexService;
+    private final FitmentService fitmentService;
+
+    public VehicleCompatibilityController(VehicleCompatibilityRepository vehicleCompatibilityRepository,
+                                          VehicleCompatibilityService vehicleCompatibilityService,
+                                          VehicleFitmentIndexService vehicleFitmentIndexService,
+                                          FitmentService fitmentService) {
         this.vehicleCompatibilityRepository = vehicleCompatibilityRepository;
+        this.vehicleCompatibilityService = vehicleCompatibilityService;
+        this.vehicleFitmentIndexService = vehicleFitmentIndexService;
+        this.fitmentService = fitmentService;
     }
 
     @GetMapping
@@ -23,15 +37,26 @@ public class VehicleCompatibilityController {
         return ResponseEntity.ok(compatibilities);
     }
 
+    // 적용 차종 색인 구축 후에는 색인으로 조회 (조건이 없으면 전체 목록)
     @GetMapping("/search")
     public ResponseEntity<List<VehicleCompatibility>> searchVehicleCompatibilities(
-            @RequestParam(required = false) String manufacturer,
-            @RequestParam(required = false) String model,
-            @RequestParam(required = false) Integer year
+            @RequestParam(value = "manufacturer", required = false) String manufacturer,
+            @RequestParam(value = "model", required = false) String model,
+            @RequestParam(value = "year", required = false) Integer year
     ) {
         List<VehicleCompatibility> compatibilities;
+        boolean hasManufacturer = manufacturer != null && !manufacturer.isEmpty();
+        boolean hasModel = model != null && !model.isEmpty();
         
-        if (manufacturer != null && !manufacturer.isEmpty() && 
+        if (vehicleFitmentIndexService.isReady() && (hasManufacturer || year != null)) {
+            if (hasManufacturer && hasModel) {
+                compatibilities = vehicleFitmentIndexService.findFitments(manufacturer, model, year, null);
+            } else if (hasManufacturer) {
+                compatibilities = vehicleFitmentIndexService.findByManufacturer(manufacturer, null);
+            } else {
+                compatibilities = vehicleFitmentIndexService.findByYear(year);
+            }
+        } else if (manufacturer != null && !manufacturer.isEmpty() && 
             model != null && !model.isEmpty() && year != null) {
             compatibilities = vehicleCompatibilityRepository.findByManufacturerAndModelAndYear(manufacturer, model, year);
         } else if (manufacturer != null && !manufacturer.isEmpty() && 
@@ -49,7 +74,7 @@ public class VehicleCompatibilityController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<VehicleCompatibility> getVehicleCompatibilityById(@PathVariable Long id) {
+    public ResponseEntity<VehicleCompatibility> getVehicleCompatibilityById(@PathVariable("id") Long id) {
         Optional<VehicleCompatibility> compatibility = vehicleCompatibilityRepository.findById(id);
         return compatibility.map(ResponseEntity::ok)
                           .orElse(ResponseEntity.notFound().build());
@@ -57,93 +82,75 @@ public class VehicleCompatibilityController {
 
     @PostMapping
     public ResponseEntity<VehicleCompatibility> createVehicleCompatibility(@RequestBody VehicleCompatibility compatibility) {
-        VehicleCompatibility savedCompatibility = vehicleCompatibilityRepository.save(compatibility);
+        VehicleCompatibility savedCompatibility = vehicleCompatibilityService.createCompatibility(compatibility);
         return ResponseEntity.ok(savedCompatibility);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<VehicleCompatibility> updateVehicleCompatibility(
-            @PathVariable Long id, 
+            @PathVariable("id") Long id, 
             @RequestBody VehicleCompatibility compatibility) {
-        if (!vehicleCompatibilityRepository.existsById(id)) {
+        VehicleCompatibility updatedCompatibility = vehicleCompatibilityService.updateCompatibility(id, compatibility);
+        if (updatedCompatibility == null) {
             return ResponseEntity.notFound().build();
         }
-        compatibility.setId(id);
-        VehicleCompatibility updatedCompatibility = vehicleCompatibilityRepository.save(compatibility);
         return ResponseEntity.ok(updatedCompatibility);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteVehicleCompatibility(@PathVariable Long id) {
-        if (!vehicleCompatibilityRepository.existsById(id)) {
+    public ResponseEntity<Void> deleteVehicleCompatibility(@PathVariable("id") Long id) {
+        if (!vehicleCompatibilityService.deleteCompatibility(id)) {
             return ResponseEntity.notFound().build();
         }
-        vehicleCompatibilityRepository.deleteById(id);
         return ResponseEntity.noContent().build();
     }
 
+    // 장착 부품 목록 (연결된 활성 상품, SKU 순)
     @GetMapping("/{id}/products")
-    public ResponseEntity<List<Map<String, Object>>> getCompatibleProducts(@PathVariable Long id) {
-        Optional<VehicleCompatibility> compatibility = vehicleCompatibilityRepository.findById(id);
-        if (!compatibility.isPresent()) {
+    public ResponseEntity<List<Map<String, Object>>> getCompatibleProducts(@PathVariable("id") Long id) {
+        if (!vehicleCompatibilityRepository.existsById(id)) {
             return ResponseEntity.notFound().build();
         }
 
-        VehicleCompatibility vc = compatibility.get();
         List<Map<String, Object>> compatibleProducts = new ArrayList<>();
+        for (FitmentPartView part : fitmentService.findParts(List.of(id)).getOrDefault(id, List.of())) {
+            compatibleProducts.add(createProductInfo(part));
+        }
+        return ResponseEntity.ok(compatibleProducts);
+    }
 
-        // 차량 정보에 따른 호환 부품 시뮬레이션
-        if (vc.getManufacturer().equals("현대") && vc.getModel().equals("소나타")) {
-            if (vc.getEngineType().contains("2.0L")) {
-                compatibleProducts.add(createProductInfo("HYU-BP001", "현대 소나타 전용 브레이크 패드", "현대 소나타 2.0L용 순정 브레이크 패드", 50000.00, "BRAKE_SYSTEM"));
-                compatibleProducts.add(createProductInfo("HYU-OF003", "현대 소나타 전용 오일 필터", "현대 소나타 2.0L용 순정 오일 필터", 15000.00, "FILTERS"));
-                compatibleProducts.add(createProductInfo("HYU-EO005", "현대 소나타 전용 엔진 오일", "현대 소나타 2.0L용 순정 엔진 오일", 11000.00, "FLUIDS_LUBRICANTS"));
-            } else if (vc.getEngineType().contains("1.6L")) {
-                compatibleProducts.add(createProductInfo("HYU-BP002", "현대 소나타 터보 전용 브레이크 패드", "현대 소나타 1.6L 터보용 순정 브레이크 패드", 55000.00, "BRAKE_SYSTEM"));
-                compatibleProducts.add(createProductInfo("HYU-OF004", "현대 소나타 터보 전용 오일 필터", "현대 소나타 1.6L 터보용 순정 오일 필터", 16000.00, "FILTERS"));
-                compatibleProducts.add(createProductInfo("HYU-EO006", "현대 소나타 터보 전용 엔진 오일", "현대 소나타 1.6L 터보용 순정 엔진 오일", 12000.00, "FLUIDS_LUBRICANTS"));
-            }
-        } else if (vc.getManufacturer().equals("현대") && vc.getModel().equals("아반떼")) {
-            compatibleProducts.add(createProductInfo("HYU-BP003", "현대 아반떼 전용 브레이크 패드", "현대 아반떼 1.6L용 순정 브레이크 패드", 45000.00, "BRAKE_SYSTEM"));
-            compatibleProducts.add(createProductInfo("HYU-OF005", "현대 아반떼 전용 오일 필터", "현대 아반떼 1.6L용 순정 오일 필터", 14000.00, "FILTERS"));
-            compatibleProducts.add(createProductInfo("HYU-EO007", "현대 아반떼 전용 엔진 오일", "현대 아반떼 1.6L용 순정 엔진 오일", 10000.00, "FLUIDS_LUBRICANTS"));
-        } else if (vc.getManufacturer().equals("기아") && vc.getModel().equals("K5")) {
-            if (vc.getEngineType().contains("2.0L")) {
-                compatibleProducts.add(createProductInfo("KIA-BP004", "기아 K5 전용 브레이크 패드", "기아 K5 2.0L용 순정 브레이크 패드", 52000.00, "BRAKE_SYSTEM"));
-                compatibleProducts.add(createProductInfo("KIA-OF006", "기아 K5 전용 오일 필터", "기아 K5 2.0L용 순정 오일 필터", 15500.00, "FILTERS"));
-                compatibleProducts.add(createProductInfo("KIA-EO008", "기아 K5 전용 엔진 오일", "기아 K5 2.0L용 순정 엔진 오일", 11500.00, "FLUIDS_LUBRICANTS"));
-            } else if (vc.getEngineType().contains("1.6L")) {
-                compatibleProducts.add(createProductInfo("KIA-BP005", "기아 K5 터보 전용 브레이크 패드", "기아 K5 1.6L 터보용 순정 브레이크 패드", 57000.00, "BRAKE_SYSTEM"));
-                compatibleProducts.add(createProductInfo("KIA-OF007", "기아 K5 터보 전용 오일 필터", "기아 K5 1.6L 터보용 순정 오일 필터", 16500.00, "FILTERS"));
-                compatibleProducts.add(createProductInfo("KIA-EO009", "기아 K5 터보 전용 엔진 오일", "기아 K5 1.6L 터보용 순정 엔진 오일", 12500.00, "FLUIDS_LUBRICANTS"));
-            }
-        } else if (vc.getManufacturer().equals("기아") && vc.getModel().equals("스포티지")) {
-            if (vc.getEngineType().contains("2.0L")) {
-                compatibleProducts.add(createProductInfo("KIA-BP006", "기아 스포티지 전용 브레이크 패드", "기아 스포티지 2.0L용 순정 브레이크 패드", 50000.00, "BRAKE_SYSTEM"));
-                compatibleProducts.add(createProductInfo("KIA-OF008", "기아 스포티지 전용 오일 필터", "기아 스포티지 2.0L용 순정 오일 필터", 15000.00, "FILTERS"));
-                compatibleProducts.add(createProductInfo("KIA-EO010", "기아 스포티지 전용 엔진 오일", "기아 스포티지 2.0L용 순정 엔진 오일", 11000.00, "FLUIDS_LUBRICANTS"));
-            } else if (vc.getEngineType().contains("1.6L")) {
-                compatibleProducts.add(createProductInfo("KIA-BP007", "기아 스포티지 터보 전용 브레이크 패드", "기아 스포티지 1.6L 터보용 순정 브레이크 패드", 55000.00, "BRAKE_SYSTEM"));
-                compatibleProducts.add(createProductInfo("KIA-OF009", "기아 스포티지 터보 전용 오일 필터", "기아 스포티지 1.6L 터보용 순정 오일 필터", 16000.00, "FILTERS"));
-                compatibleProducts.add(createProductInfo("KIA-EO011", "기아 스포티지 터보 전용 엔진 오일", "기아 스포티지 1.6L 터보용 순정 엔진 오일", 12000.00, "FLUIDS_LUBRICANTS"));
-            }
+    @PostMapping("/{id}/products/{productId}")
+    public ResponseEntity<?> linkProduct(@PathVariable("id") Long id, @PathVariable("productId") Long productId) {
+        try {
+            boolean created = fitmentService.link(id, productId);
+            return ResponseEntity.status(created ? HttpStatus.CREATED : HttpStatus.OK)
+                    .body(Map.of("vehicleCompatibilityId", id, "productId", productId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
         }
+    }
 
-        return ResponseEntity.ok(compatibleProducts);
+    @DeleteMapping("/{id}/products/{productId}")
+    public ResponseEntity<Void> unlinkProduct(@PathVariable("id") Long id, @PathVariable("productId") Long productId) {
+        if (!fitmentService.unlink(id, productId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
     }
 
-    private Map<String, Object> createProductInfo(String sku, String name, String description, Double price, String partType) {
+    private Map<String, Object> createProductInfo(FitmentPartView part) {
         Map<String, Object> product = new HashMap<>();
-        product.put("sku", sku);
-        product.put("name", name);
-        product.put("description", description);
-        product.put("price", price);
-        product.put("partType", partType);
-        product.put("manufacturer", "현대자동차");
-        product.put("isOeQuality", true);
-        product.put("isAftermarket", false);
-        product.put("warrantyMonths", 12);
-        product.put("stock", 100);
+        product.put("id", part.getProductId());
+        product.put("sku", part.getSku());
+        product.put("name", part.getName());
+        product.put("description", part.getDescription());
+        product.put("price", part.getPrice());
+        product.put("partType", part.getPartType() != null ? part.getPartType().name() : null);
+        product.put("manufacturer", part.getManufacturerName());
+        product.put("isOeQuality", part.getIsOeQuality());
+        product.put("isAftermarket", part.getIsAftermarket());
+        product.put("warrantyMonths", part.getWarrantyMonths());
+        product.put("stock", part.getQuantity());
         return product;
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,9 @@ public class CategoryDto {
     private String name;
     private String description;
     private Boolean isActive;
+    private Long parentId;
+    private Integer level;
+    private Integer sortOrder;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 카테고리 트리 노드
+ * - productCount: 이 카테고리에 직접 속한 상품 수
+ * - totalProductCount: 하위 카테고리를 포함한 서브트리 전체 상품 수
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryTreeNode {
+    private Long id;
+    private String name;
+    private String description;
+    private Integer level;
+    private Integer sortOrder;
+    private Long productCount;
+    private Long totalProductCount;
+    private List<CategoryTreeNode> children;
+}
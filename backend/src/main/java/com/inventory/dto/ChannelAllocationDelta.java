@@ -0,0 +1,23 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채널 노출 수량 변경 (판매 채널에 전송해야 하는 수량)
+ * - quantity: 새 노출 수량 (배분 수량 - 판매 수량), previousQuantity: 이전 노출 수량
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChannelAllocationDelta {
+    private Long channelProductId;
+    private Long productId;
+    private String sku;
+    private String channel;
+    private String platformProductId;
+    private Integer previousQuantity;
+    private Integer quantity;
+    private String status;
+}
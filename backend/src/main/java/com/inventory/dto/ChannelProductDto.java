@@ -23,6 +23,9 @@ public class ChannelProductDto {
     private ChannelProduct.Status status;
     private String platformProductId;
     private String platformUrl;
+    private Integer allocationWeight;
+    private Integer allocationFloor;
+    private Integer allocationCap;
     
     public static ChannelProductDto fromEntity(ChannelProduct entity) {
         ChannelProductDto dto = new ChannelProductDto();
@@ -39,6 +42,9 @@ public class ChannelProductDto {
         dto.setStatus(entity.getStatus());
         dto.setPlatformProductId(entity.getPlatformProductId());
         dto.setPlatformUrl(entity.getPlatformUrl());
+        dto.setAllocationWeight(entity.getAllocationWeight());
+        dto.setAllocationFloor(entity.getAllocationFloor());
+        dto.setAllocationCap(entity.getAllocationCap());
         return dto;
     }
 }
@@ -0,0 +1,17 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 차량 목록 적용 부품 일괄 조회 요청 (예: 법인 고객 보유 차량 전체)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FitmentBatchRequest {
+    private List<FitmentQuery> vehicles;
+}
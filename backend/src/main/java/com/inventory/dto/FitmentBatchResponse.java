@@ -0,0 +1,46 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차량 목록 적용 부품 일괄 조회 응답
+ * - vehicles: 요청 순서대로 차량별 적용 차종 ID와 SKU 목록
+ * - parts: 응답에 나온 SKU별 부품 정보 (차량마다 반복하지 않음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FitmentBatchResponse {
+    private Integer vehicleCount;
+    private Integer matchedVehicleCount;
+    private List<VehicleParts> vehicles;
+    private Map<String, Part> parts;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class VehicleParts {
+        private FitmentQuery vehicle;
+        private List<Long> fitmentIds;
+        private List<String> skus;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Part {
+        private Long productId;
+        private String sku;
+        private String name;
+        private BigDecimal price;
+        private String partType;
+        private String manufacturerName;
+        private Integer stock;
+    }
+}
@@ -0,0 +1,18 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 적용 부품 조회 차량 (제조사/모델 필수, 연식/엔진 선택)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FitmentQuery {
+    private String manufacturer;
+    private String model;
+    private Integer year;
+    private String engine;
+}
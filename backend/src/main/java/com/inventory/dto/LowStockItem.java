@@ -0,0 +1,25 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 부족 상품 (수량이 최소 재고 미만인 활성 상품)
+ * - shortage: 최소 재고까지 부족한 수량
+ * - detectedAt: 재고 부족 상태가 된 시각 (부족 상태가 이어지는 동안 유지)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LowStockItem {
+    private Long productId;
+    private String sku;
+    private String name;
+    private Integer quantity;
+    private Integer minimumQuantity;
+    private Integer shortage;
+    private LocalDateTime detectedAt;
+}
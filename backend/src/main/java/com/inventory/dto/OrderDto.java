@@ -0,0 +1,64 @@
+package com.inventory.dto;
+
+import com.inventory.entity.Order;
+import com.inventory.entity.OrderItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDto {
+    private Long id;
+    private String orderNumber;
+    private String customerName;
+    private String customerEmail;
+    private String customerPhone;
+    private String shippingAddress;
+    private String status;
+    private BigDecimal totalAmount;
+    private List<Item> orderItems;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long id;
+        private Long productId;
+        private String productName;
+        private String productSku;
+        private Integer quantity;
+        private BigDecimal unitPrice;
+        private BigDecimal totalPrice;
+    }
+
+    /**
+     * 주문 항목은 상품과 함께 조회되어 있어야 함 (항목/상품 지연 로딩 방지)
+     */
+    public static OrderDto fromEntity(Order order) {
+        List<Item> items = new ArrayList<>();
+        if (order.getOrderItems() != null) {
+            for (OrderItem orderItem : order.getOrderItems()) {
+                items.add(new Item(orderItem.getId(), orderItem.getProduct().getId(),
+                        orderItem.getProduct().getName(), orderItem.getProduct().getSku(),
+                        orderItem.getQuantity(), orderItem.getUnitPrice(), orderItem.getTotalPrice()));
+            }
+        }
+        return of(order, items);
+    }
+
+    public static OrderDto of(Order order, List<Item> items) {
+        return new OrderDto(order.getId(), order.getOrderNumber(), order.getCustomerName(), order.getCustomerEmail(),
+                order.getCustomerPhone(), order.getShippingAddress(),
+                order.getStatus() != null ? order.getStatus().name() : null,
+                order.getTotalAmount(), items, order.getCreatedAt(), order.getUpdatedAt());
+    }
+}
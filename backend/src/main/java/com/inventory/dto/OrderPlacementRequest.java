@@ -0,0 +1,29 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주문 접수 요청 (가격은 서버에서 계산, 같은 SKU가 여러 줄이면 수량 합산)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPlacementRequest {
+    private String customerName;
+    private String customerEmail;
+    private String customerPhone;
+    private String shippingAddress;
+    private List<Line> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        private String sku;
+        private Integer quantity;
+    }
+}
@@ -0,0 +1,27 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 항목 (주문 항목은 포함하지 않음, 상세는 GET /api/orders/{id})
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDto {
+    private Long id;
+    private String orderNumber;
+    private String customerName;
+    private String customerEmail;
+    private String status;
+    private BigDecimal totalAmount;
+    private Integer itemCount;
+    private Integer totalQuantity;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 피킹 목록 한 줄 (창고 위치 1곳에서 꺼낼 수량)
+ * - sequence: 위치 경로(구역 → 통로 → 선반) 순 방문 순서
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PickListLine {
+    private Integer sequence;
+    private Long inventoryId;
+    private Long productId;
+    private String sku;
+    private String name;
+    private String warehouseLocation;
+    private String zone;
+    private Integer aisle;
+    private Integer bin;
+    private Integer pickQuantity;
+    private Integer availableQuantity;
+}
@@ -0,0 +1,23 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상품 목록 커서(키셋) 페이지 응답
+ * - nextCursor를 다음 요청의 cursor 파라미터로 그대로 전달
+ * - 마지막 페이지면 hasNext=false, nextCursor=null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPageResponse {
+    private List<ProductDto> items;
+    private String sort;
+    private Integer size;
+    private Boolean hasNext;
+    private String nextCursor;
+}
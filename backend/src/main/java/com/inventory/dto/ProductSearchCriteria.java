@@ -0,0 +1,25 @@
+package com.inventory.dto;
+
+import com.inventory.entity.PartCondition;
+import com.inventory.entity.PartType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카탈로그 고급 검색 조건
+ * - null인 조건은 적용하지 않음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchCriteria {
+    private String keyword;
+    private PartType partType;
+    private PartCondition partCondition;
+    private String manufacturer;
+    private Boolean isOeQuality;
+    private Boolean isAftermarket;
+    private Double minPrice;
+    private Double maxPrice;
+}
@@ -0,0 +1,16 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카탈로그 전체 검색 결과 항목 (관련도 점수 포함)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchHit {
+    private Integer score;
+    private ProductSearchItem product;
+}
@@ -0,0 +1,34 @@
+package com.inventory.dto;
+
+import com.inventory.entity.PartCondition;
+import com.inventory.entity.PartType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 카탈로그 검색 결과 항목
+ * - 검색 목록에 필요한 컬럼만 조회 (엔티티/연관관계 미로딩)
+ * - 생성자 인자 순서는 ProductSearchRepositoryImpl의 select 순서와 동일해야 함
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchItem {
+    private Long id;
+    private String sku;
+    private String name;
+    private BigDecimal price;
+    private Integer quantity;
+    private Boolean isActive;
+    private Long categoryId;
+    private PartType partType;
+    private PartCondition partCondition;
+    private String manufacturerName;
+    private String oemPartNumber;
+    private String aftermarketPartNumber;
+    private Boolean isOeQuality;
+    private Boolean isAftermarket;
+}
@@ -0,0 +1,17 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 등록서비스 플랫폼 등록 결과 일괄 콜백
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationCallbackBatchRequest {
+    private List<RegistrationCallbackRequest> items;
+}
@@ -0,0 +1,20 @@
+package com.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 등록서비스 플랫폼 등록 결과 콜백 (상품 + 채널 단위)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationCallbackRequest {
+    private Long productId;
+    private String channel; // BUNJANG 등
+    private String platformProductId;
+    private String platformUrl;
+    private Double channelPrice; // 선택 전달
+    private Integer allocatedQuantity; // 선택 전달
+}
@@ -0,0 +1,35 @@
+package com.inventory.dto;
+
+import com.inventory.entity.StockReservation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationDto {
+    private Long id;
+    private Long productId;
+    private Long inventoryId;
+    private Integer quantity;
+    private String status;
+    private String reference;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static StockReservationDto fromEntity(StockReservation reservation) {
+        StockReservationDto dto = new StockReservationDto();
+        dto.setId(reservation.getId());
+        dto.setProductId(reservation.getProduct().getId());
+        dto.setInventoryId(reservation.getInventory() != null ? reservation.getInventory().getId() : null);
+        dto.setQuantity(reservation.getQuantity());
+        dto.setStatus(reservation.getStatus().name());
+        dto.setReference(reservation.getReference());
+        dto.setCreatedAt(reservation.getCreatedAt());
+        dto.setUpdatedAt(reservation.getUpdatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,51 @@
+package com.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 카테고리 클로저 테이블 (categories.parent_id 계층의 모든 조상-자손 경로)
+ * - 카테고리마다 자기 자신 경로(depth 0) 포함, 조상 → 자손 방향으로 한 행
+ * - 카테고리 생성/이동 시 CategoryService가 같은 트랜잭션에서 갱신, 카테고리 삭제 시 함께 삭제
+ * - 서브트리 조회/집계를 재귀 없이 조인 한 번으로 처리
+ */
+@Entity
+@Table(name = "category_closures",
+    indexes = {
+        @Index(name = "idx_category_closures_descendant", columnList = "descendant_id")
+    })
+@IdClass(CategoryClosure.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryClosure {
+
+    @Id
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    /**
+     * 조상에서 자손까지의 단계 수 (자기 자신 0, 직계 자식 1)
+     */
+    @Column(name = "depth", nullable = false)
+    private Integer depth;
+
+    /**
+     * 복합 키 (ancestor_id, descendant_id)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -6,7 +6,9 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 @Entity
-@Table(name = "channel_products")
+@Table(name = "channel_products", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_channel_products_product_channel", columnNames = {"product_id", "channel"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,6 +44,16 @@ public class ChannelProduct {
     @Column(name = "platform_url")
     private String platformUrl;
     
+    // 재고 배분 규칙: floor(최소 보장 수량)를 먼저 채우고 남은 재고를 weight 비율로 배분, cap은 최대 노출 수량 (null이면 제한 없음)
+    @Column(name = "allocation_weight")
+    private Integer allocationWeight = 1;
+    
+    @Column(name = "allocation_floor")
+    private Integer allocationFloor = 0;
+    
+    @Column(name = "allocation_cap")
+    private Integer allocationCap;
+    
     public enum Status {
         DRAFT, ACTIVE, OUT_OF_STOCK, PAUSED, DELETED, SYNC_PENDING, SYNC_FAILED
     }
@@ -0,0 +1,35 @@
+package com.inventory.entity;
+
+/**
+ * 파생 이미지(등록용/썸네일) 생성 상태
+ * - 업로드 시 원본만 저장하고 파생 이미지는 백그라운드에서 생성
+ */
+public enum ImageProcessingStatus {
+    /**
+     * 생성 대기
+     * - 행만 생성된 상태로 바이너리가 없으며 조회 대상에서 제외
+     */
+    PENDING("생성 대기"),
+    
+    /**
+     * 생성 완료
+     * - 원본/기존 이미지(null)도 완료로 취급
+     */
+    READY("완료"),
+    
+    /**
+     * 생성 실패
+     * - 재시도 API로 다시 PENDING 처리 가능
+     */
+    FAILED("실패");
+
+    private final String description;
+
+    ImageProcessingStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
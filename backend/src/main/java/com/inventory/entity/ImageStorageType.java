@@ -0,0 +1,29 @@
+package com.inventory.entity;
+
+/**
+ * 이미지 바이너리 저장 위치
+ * - 행마다 기록하여 저장소 전환/마이그레이션 중에도 올바른 위치에서 읽도록 함
+ */
+public enum ImageStorageType {
+    /**
+     * DB 저장
+     * - product_images.image_data (LONGBLOB) 컬럼에 저장 (기존 방식)
+     */
+    DATABASE("DB"),
+    
+    /**
+     * 로컬 파일 시스템 저장
+     * - SHA-256 해시 기반 디렉토리에 저장, DB에는 해시/크기/메타데이터만 보관
+     */
+    FILESYSTEM("파일 시스템");
+
+    private final String description;
+
+    ImageStorageType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
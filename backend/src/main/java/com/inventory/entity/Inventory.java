@@ -6,15 +6,20 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "inventories")
+@Table(name = "inventories", indexes = {
+    @Index(name = "idx_inventories_location_path", columnList = "location_zone, location_aisle, location_bin")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+// 변경된 컬럼만 UPDATE: 위치만 수정해도 조회 시점의 quantity를 다시 써서 예약 차감을 덮어쓰지 않도록
+@DynamicUpdate
 public class Inventory {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -31,6 +36,19 @@ public class Inventory {
     @Column(name = "warehouse_location")
     private String warehouseLocation;
     
+    // warehouseLocation 파싱 결과 (구역-통로-선반), 저장 시 자동 갱신
+    @Column(name = "location_zone", length = WarehouseLocation.MAX_ZONE_LENGTH)
+    @JsonIgnore
+    private String locationZone;
+    
+    @Column(name = "location_aisle")
+    @JsonIgnore
+    private Integer locationAisle;
+    
+    @Column(name = "location_bin")
+    @JsonIgnore
+    private Integer locationBin;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -41,10 +59,19 @@ public class Inventory {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        applyLocation();
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        applyLocation();
+    }
+    
+    private void applyLocation() {
+        WarehouseLocation location = WarehouseLocation.parse(warehouseLocation);
+        locationZone = location != null ? location.getZone() : null;
+        locationAisle = location != null ? location.getAisle() : null;
+        locationBin = location != null ? location.getBin() : null;
     }
 }
@@ -0,0 +1,71 @@
+package com.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 마이그레이션 체크포인트
+ * - 작업 이름별 한 행, 청크가 커밋될 때 같은 트랜잭션에서 갱신
+ * - 재기동 후 lastProductId 다음 상품부터 이어서 진행
+ */
+@Entity
+@Table(name = "migration_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MigrationCheckpoint {
+
+    /**
+     * 작업 상태
+     */
+    public enum Status { RUNNING, STOPPED, COMPLETED, FAILED }
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    /**
+     * 마지막으로 커밋된 청크의 마지막 상품 ID
+     */
+    @Column(name = "last_product_id", nullable = false)
+    private Long lastProductId = 0L;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status = Status.STOPPED;
+
+    @Column(name = "success_count", nullable = false)
+    private Long successCount = 0L;
+
+    @Column(name = "skipped_count", nullable = false)
+    private Long skippedCount = 0L;
+
+    @Column(name = "error_count", nullable = false)
+    private Long errorCount = 0L;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public MigrationCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -1,16 +1,25 @@
 package com.inventory.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_orders_idempotency_key", columnNames = "idempotency_key")
+}, indexes = {
+    // 주문 목록 (최신순, 상태 필터) 키셋 페이지 조회용
+    @Index(name = "idx_orders_status_created_at", columnList = "status, created_at, id"),
+    @Index(name = "idx_orders_created_at", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,8 +51,15 @@ public class Order {
     private OrderStatus status = OrderStatus.PENDING;
     
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private List<OrderItem> orderItems;
     
+    // 주문 접수 요청의 Idempotency-Key (같은 키로 재시도하면 기존 주문 반환)
+    @Column(name = "idempotency_key", length = 100)
+    @JsonIgnore
+    private String idempotencyKey;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -0,0 +1,102 @@
+package com.inventory.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 호환 품번 (products.cross_reference_numbers 정규화)
+ * - 상품의 OEM/애프터마켓 품번과 호환 품번을 상품당 품번 1행으로 저장
+ * - normalized_part_number 인덱스로 "품번 X와 호환되는 상품" 조회
+ * - 상품이 삭제되면 함께 삭제 (ON DELETE CASCADE)
+ */
+@Entity
+@Table(name = "part_cross_references",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_part_cross_references_product_number",
+            columnNames = {"product_id", "normalized_part_number"})
+    },
+    indexes = {
+        @Index(name = "idx_part_cross_references_normalized", columnList = "normalized_part_number")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartCrossReference {
+
+    /**
+     * 품번 출처 (같은 품번이 여러 출처에 있으면 앞선 출처로 저장)
+     */
+    public enum ReferenceType { OEM, AFTERMARKET, CROSS_REFERENCE }
+
+    // 정규화 품번 최대 길이
+    public static final int MAX_PART_NUMBER_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private Product product;
+
+    /**
+     * 원래 표기 품번
+     */
+    @Column(name = "part_number", length = MAX_PART_NUMBER_LENGTH, nullable = false)
+    private String partNumber;
+
+    /**
+     * 정규화 품번 (영숫자만, 대문자)
+     */
+    @Column(name = "normalized_part_number", length = MAX_PART_NUMBER_LENGTH, nullable = false)
+    private String normalizedPartNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reference_type", length = 20, nullable = false)
+    private ReferenceType referenceType;
+
+    /**
+     * 품번 정규화: 하이픈/공백/기호를 제거하고 대문자로 변환 ("hy-brk 001" → "HYBRK001")
+     * - 호환 품번 행과 상품 검색 색인(ProductSearchIndex)이 같은 규칙을 쓰도록 이 메서드만 사용
+     */
+    public static String normalize(String partNumber) {
+        if (partNumber == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(partNumber.length());
+        for (int i = 0; i < partNumber.length(); i++) {
+            char c = partNumber.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toUpperCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 호환 품번 컬럼 값 분리 (쉼표 구분 문자열 또는 JSON 배열 문자열)
+     */
+    public static List<String> splitNumbers(String crossReferenceNumbers) {
+        List<String> numbers = new ArrayList<>();
+        if (crossReferenceNumbers == null) {
+            return numbers;
+        }
+        for (String number : crossReferenceNumbers.split("[,;\\[\\]\"\\n]+")) {
+            String trimmed = number.trim();
+            if (!trimmed.isEmpty()) {
+                numbers.add(trimmed);
+            }
+        }
+        return numbers;
+    }
+}
@@ -5,15 +5,24 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+    // 카탈로그 고급 검색 필터/정렬 컬럼
+    @Index(name = "idx_products_part_type", columnList = "part_type"),
+    @Index(name = "idx_products_part_condition", columnList = "part_condition"),
+    @Index(name = "idx_products_manufacturer_name", columnList = "manufacturer_name"),
+    @Index(name = "idx_products_price", columnList = "price")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+// 변경된 컬럼만 UPDATE: 상품 수정 저장이 조회 시점의 quantity를 다시 써서 그 사이 예약 차감을 덮어쓰지 않도록
+@DynamicUpdate
 public class Product {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,61 @@
+package com.inventory.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품-적용 차종 연결 (어떤 상품이 어떤 차량 호환 정보에 장착되는지)
+ * - (vehicle_compatibility_id, product_id) 유니크 키: 차종 → 상품 조회 및 중복 연결 방지
+ * - (product_id, vehicle_compatibility_id) 인덱스: 상품 → 적용 차종 조회
+ * - 상품 또는 차량 호환 정보가 삭제되면 함께 삭제 (ON DELETE CASCADE)
+ */
+@Entity
+@Table(name = "product_fitments",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_fitments_fitment_product",
+            columnNames = {"vehicle_compatibility_id", "product_id"})
+    },
+    indexes = {
+        @Index(name = "idx_product_fitments_product_fitment", columnList = "product_id, vehicle_compatibility_id")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFitment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private Product product;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "vehicle_compatibility_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private VehicleCompatibility vehicleCompatibility;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public ProductFitment(Product product, VehicleCompatibility vehicleCompatibility) {
+        this.product = product;
+        this.vehicleCompatibility = vehicleCompatibility;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
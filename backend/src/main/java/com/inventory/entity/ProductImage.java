@@ -12,11 +12,13 @@ import java.time.LocalDateTime;
 
 /**
  * 상품 이미지 엔티티
- * - 상품과 연관된 이미지 데이터를 DB에 저장
- * - LONGBLOB 타입으로 실제 이미지 바이너리 데이터 저장
+ * - 상품과 연관된 이미지 메타데이터 저장
+ * - 바이너리는 storageType에 따라 LONGBLOB 컬럼 또는 외부 저장소(ImageBlobStore)에 저장
  */
 @Entity
-@Table(name = "product_images")
+@Table(name = "product_images", indexes = {
+    @Index(name = "idx_product_images_content_hash", columnList = "content_hash")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,14 +46,29 @@ public class ProductImage {
     
     /**
      * 실제 이미지 바이너리 데이터
-     * - LONGBLOB 타입으로 최대 4GB까지 저장 가능
+     * - storageType이 DATABASE인 경우에만 사용 (외부 저장소 사용 시 null)
      * - JSON 직렬화 시 제외 (용량이 크므로)
      */
     @Lob
-    @Column(name = "image_data", nullable = false, columnDefinition = "LONGBLOB")
+    @Column(name = "image_data", columnDefinition = "LONGBLOB")
     @JsonIgnore  // JSON 직렬화 시 제외 (용량이 크므로)
     private byte[] imageData;
     
+    /**
+     * 이미지 내용의 SHA-256 해시 (16진수 64자)
+     * - 외부 저장소의 키로 사용 (동일 내용은 한 번만 저장)
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
+    /**
+     * 바이너리 저장 위치
+     * - null이면 기존 데이터로 보고 DATABASE로 취급
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_type", length = 20)
+    private ImageStorageType storageType;
+    
     /**
      * 이미지 MIME 타입
      * - image/jpeg, image/png, image/gif 등
@@ -76,6 +93,15 @@ public class ProductImage {
     @Column(name = "image_category", nullable = false)
     private ImageCategory imageCategory;
     
+    /**
+     * 파생 이미지 생성 상태
+     * - 등록용/썸네일은 PENDING으로 생성된 뒤 백그라운드 작업에서 READY/FAILED로 변경
+     * - 원본 및 기존 데이터(null)는 READY로 취급
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "processing_status", length = 20)
+    private ImageProcessingStatus processingStatus;
+    
     /**
      * 원본 이미지 ID (리사이징된 이미지인 경우)
      * - 원본 이미지와의 연결을 위한 참조
@@ -101,10 +127,27 @@ public class ProductImage {
     
     /**
      * 이미지가 유효한지 확인
-     * - 이미지 데이터가 존재하고 크기가 0보다 큰지 확인
+     * - 이미지 데이터(또는 외부 저장소 해시)가 존재하고 크기가 0보다 큰지 확인
      */
     public boolean isValid() {
-        return imageData != null && imageData.length > 0 && imageSize > 0;
+        boolean hasData = isStoredInDatabase()
+            ? imageData != null && imageData.length > 0
+            : contentHash != null;
+        return hasData && imageSize != null && imageSize > 0;
+    }
+    
+    /**
+     * 바이너리가 DB 컬럼에 저장되어 있는지 확인
+     */
+    public boolean isStoredInDatabase() {
+        return storageType == null || storageType == ImageStorageType.DATABASE;
+    }
+    
+    /**
+     * 조회 가능한 상태인지 확인 (파생 이미지 생성 대기/실패가 아닌 경우)
+     */
+    public boolean isReady() {
+        return processingStatus == null || processingStatus == ImageProcessingStatus.READY;
     }
     
     /**
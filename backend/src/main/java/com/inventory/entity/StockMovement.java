@@ -0,0 +1,73 @@
+package com.inventory.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 이동 저널 (추가 전용, 수정/삭제하지 않음)
+ * - 재고 수량이 바뀔 때마다 같은 트랜잭션에서 증감 수량을 1행씩 기록
+ * - inventory_id가 null이면 상품 수량(products.quantity), 있으면 해당 창고 재고(inventories.quantity)의 이동
+ * - (product_id, inventory_id, created_at) 인덱스: 스냅샷 이후 이동분(tail)만 범위 조회
+ * - created_at 인덱스: 스냅샷 생성 시 직전 스냅샷 이후 구간만 집계
+ */
+@Entity
+@Table(name = "stock_movements",
+    indexes = {
+        @Index(name = "idx_stock_movements_stock_created", columnList = "product_id, inventory_id, created_at"),
+        @Index(name = "idx_stock_movements_created", columnList = "created_at")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+public class StockMovement {
+
+    /**
+     * 이동 유형
+     * - OPENING: 기초 재고 (상품/창고 재고 생성 시 초기 수량)
+     * - RESERVATION / RELEASE: 재고 예약 차감 / 예약 해제 복원
+     * - ALLOCATION: 판매 채널 할당
+     */
+    public enum MovementType { OPENING, RECEIPT, SALE, ADJUSTMENT, ALLOCATION, RESERVATION, RELEASE }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private Product product;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "inventory_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private Inventory inventory;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", length = 20, nullable = false)
+    private MovementType movementType;
+
+    /**
+     * 증감 수량 (입고는 양수, 출고는 음수)
+     */
+    @Column(name = "quantity_delta", nullable = false)
+    private Integer quantityDelta;
+
+    /**
+     * 이동 출처 (주문 번호, 예약 ID 등, 선택)
+     */
+    @Column(length = 100)
+    private String reference;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,80 @@
+package com.inventory.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약
+ * - 예약 시 상품(및 지정한 창고 재고) 수량을 즉시 차감하고 예약 행을 남김
+ * - 확정(COMMITTED)은 차감을 그대로 두고, 해제(RELEASED)는 차감한 수량을 되돌림
+ * - 상태 변경은 현재 상태를 조건으로 한 UPDATE로 한 번만 성공 (중복 확정/해제 방지)
+ */
+@Entity
+@Table(name = "stock_reservations",
+    indexes = {
+        @Index(name = "idx_stock_reservations_product_status", columnList = "product_id, status"),
+        @Index(name = "idx_stock_reservations_reference", columnList = "reference")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+public class StockReservation {
+
+    public enum Status { RESERVED, COMMITTED, RELEASED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private Product product;
+
+    /**
+     * 차감한 창고 재고 (상품 수량만 차감했으면 null)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "inventory_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private Inventory inventory;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private Status status;
+
+    /**
+     * 예약 출처 (주문 번호 등, 선택)
+     */
+    @Column(length = 100)
+    private String reference;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
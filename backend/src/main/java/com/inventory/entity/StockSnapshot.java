@@ -0,0 +1,57 @@
+package com.inventory.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 스냅샷 (상품/창고 재고별 특정 시점 수량)
+ * - snapshot_at 시점 수량 = 스냅샷 생성 시 현재 수량 - snapshot_at 이후 저널 증감 합계
+ * - 시점 T의 재고 = T 이전 마지막 스냅샷 + (snapshot_at, T] 저널 증감 (전체 저널을 읽지 않음)
+ * - 마지막 스냅샷과 수량이 달라진 재고만 새 스냅샷을 남김
+ */
+@Entity
+@Table(name = "stock_snapshots",
+    indexes = {
+        @Index(name = "idx_stock_snapshots_stock_at", columnList = "product_id, inventory_id, snapshot_at"),
+        @Index(name = "idx_stock_snapshots_at", columnList = "snapshot_at")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+public class StockSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private Product product;
+
+    /**
+     * 창고 재고 (상품 수량 스냅샷이면 null)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "inventory_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private Inventory inventory;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    /**
+     * 스냅샷 기준 시각 (이 시각 이전 저널까지 반영)
+     */
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
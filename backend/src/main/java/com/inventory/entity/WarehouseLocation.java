@@ -0,0 +1,64 @@
+package com.inventory.entity;
+
+import java.util.Locale;
+
+/**
+ * 창고 위치 코드 (구역-통로-선반, 예: "A-01-02" → 구역 A, 통로 1, 선반 2)
+ * - 구분자는 하이픈/슬래시/공백, 구역은 대문자로 저장
+ * - 통로/선반이 숫자가 아니거나 없으면 null (구역만 있는 위치도 허용)
+ */
+public final class WarehouseLocation {
+
+    public static final int MAX_ZONE_LENGTH = 20;
+
+    private final String zone;
+    private final Integer aisle;
+    private final Integer bin;
+
+    private WarehouseLocation(String zone, Integer aisle, Integer bin) {
+        this.zone = zone;
+        this.aisle = aisle;
+        this.bin = bin;
+    }
+
+    /**
+     * @return 파싱 결과 (빈 값이거나 구역이 너무 길면 null)
+     */
+    public static WarehouseLocation parse(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        String[] parts = location.trim().split("[-/\\s]+");
+        String zone = parts[0].toUpperCase(Locale.ROOT);
+        if (zone.isEmpty() || zone.length() > MAX_ZONE_LENGTH) {
+            return null;
+        }
+        return new WarehouseLocation(zone,
+                parts.length > 1 ? parseNumber(parts[1]) : null,
+                parts.length > 2 ? parseNumber(parts[2]) : null);
+    }
+
+    private static Integer parseNumber(String part) {
+        if (part.isEmpty() || part.length() > 9) {
+            return null;
+        }
+        for (int i = 0; i < part.length(); i++) {
+            if (!Character.isDigit(part.charAt(i))) {
+                return null;
+            }
+        }
+        return Integer.parseInt(part);
+    }
+
+    public String getZone() {
+        return zone;
+    }
+
+    public Integer getAisle() {
+        return aisle;
+    }
+
+    public Integer getBin() {
+        return bin;
+    }
+}
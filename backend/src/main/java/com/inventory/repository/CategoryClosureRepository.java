@@ -0,0 +1,66 @@
+package com.inventory.repository;
+
+import com.inventory.entity.CategoryClosure;
+import com.inventory.repository.projection.CategoryProductCountView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosure.Key> {
+
+    long countByDepth(Integer depth);
+
+    // 서브트리 카테고리 ID (자기 자신 포함)
+    @Query("SELECT c.descendantId FROM CategoryClosure c WHERE c.ancestorId = :categoryId")
+    List<Long> findSubtreeIds(@Param("categoryId") Long categoryId);
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    // 새 카테고리: 부모의 모든 조상(부모 자신 포함) → 새 카테고리 경로 추가
+    @Modifying
+    @Query(value = "INSERT INTO category_closures (ancestor_id, descendant_id, depth) " +
+            "SELECT ancestor_id, :categoryId, depth + 1 FROM category_closures WHERE descendant_id = :parentId",
+            nativeQuery = true)
+    int insertPathsFromParent(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+
+    // 이동: 서브트리 밖의 조상 → 서브트리 경로 제거 (서브트리 내부 경로는 유지)
+    @Modifying
+    @Query("DELETE FROM CategoryClosure c WHERE c.descendantId IN :subtreeIds AND c.ancestorId NOT IN :subtreeIds")
+    int deleteExternalPaths(@Param("subtreeIds") Collection<Long> subtreeIds);
+
+    // 이동: 새 부모의 모든 조상 × 서브트리 모든 자손 경로 추가
+    @Modifying
+    @Query(value = "INSERT INTO category_closures (ancestor_id, descendant_id, depth) " +
+            "SELECT sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1 " +
+            "FROM category_closures sup CROSS JOIN category_closures sub " +
+            "WHERE sup.descendant_id = :parentId AND sub.ancestor_id = :categoryId",
+            nativeQuery = true)
+    int insertSubtreePaths(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+
+    @Modifying
+    @Query("DELETE FROM CategoryClosure c WHERE c.descendantId = :categoryId")
+    int deleteByDescendantId(@Param("categoryId") Long categoryId);
+
+    @Modifying
+    @Query("DELETE FROM CategoryClosure c")
+    int deleteAllPaths();
+
+    /**
+     * 카테고리별 상품 수 (직접 소속 / 서브트리 전체) 한 번의 집계
+     * - 비활성 카테고리 또는 비활성 조상 아래 카테고리에 속한 상품은 제외 (트리에 표시되지 않으므로)
+     */
+    @Query("SELECT c.ancestorId AS categoryId, " +
+           "SUM(CASE WHEN c.depth = 0 THEN 1 ELSE 0 END) AS productCount, COUNT(p.id) AS totalProductCount " +
+           "FROM CategoryClosure c, Product p " +
+           "WHERE p.category.id = c.descendantId " +
+           "AND NOT EXISTS (SELECT 1 FROM CategoryClosure path, Category hidden " +
+           "  WHERE path.descendantId = c.descendantId AND hidden.id = path.ancestorId AND hidden.isActive = false) " +
+           "GROUP BY c.ancestorId")
+    List<CategoryProductCountView> countProductsBySubtree();
+}
@@ -1,11 +1,14 @@
 package com.inventory.repository;
 
 import com.inventory.entity.Category;
+import com.inventory.repository.projection.CategoryTreeRowView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -29,4 +32,23 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     List<Category> findByLevelOrderBySortOrder(@Param("level") Integer level);
     
     List<Category> findByName(String name);
+    
+    // 카테고리 트리용: 자신과 모든 조상이 활성인 카테고리 (클로저 테이블로 조상 확인)
+    @Query("SELECT c.id AS id, c.name AS name, c.description AS description, c.parent.id AS parentId, " +
+           "c.level AS level, c.sortOrder AS sortOrder FROM Category c " +
+           "WHERE NOT EXISTS (SELECT 1 FROM CategoryClosure path, Category hidden " +
+           "  WHERE path.descendantId = c.id AND hidden.id = path.ancestorId AND hidden.isActive = false) " +
+           "ORDER BY c.level, c.sortOrder, c.id")
+    List<CategoryTreeRowView> findActiveTreeRows();
+    
+    // 클로저 테이블 재구축용 (ID, 부모 ID)
+    @Query("SELECT c.id, c.parent.id FROM Category c")
+    List<Object[]> findAllParentLinks();
+    
+    boolean existsByParentId(Long parentId);
+    
+    // 카테고리 이동 시 하위 카테고리 단계 조정
+    @Modifying
+    @Query("UPDATE Category c SET c.level = c.level + :delta WHERE c.id IN :ids")
+    int shiftLevels(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
 }
\ No newline at end of file
@@ -1,14 +1,31 @@
 package com.inventory.repository;
 
 import com.inventory.entity.ChannelProduct;
+import com.inventory.repository.projection.ChannelAllocationView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ChannelProductRepository extends JpaRepository<ChannelProduct, Long> {
     List<ChannelProduct> findByChannel(String channel);
     List<ChannelProduct> findByProductId(Long productId);
-}
 
+    // 상품 + 채널 단위 채널 상품 (uk_channel_products_product_channel), 응답 변환용으로 상품 함께 조회
+    @Query("SELECT cp FROM ChannelProduct cp JOIN FETCH cp.product WHERE cp.product.id = :productId AND cp.channel = :channel")
+    Optional<ChannelProduct> findWithProductByProductIdAndChannel(@Param("productId") Long productId,
+                                                                  @Param("channel") String channel);
+
+    // 재고 배분 재계산용: 대상 상품의 채널 상품만 조회 (product_id 외래 키 인덱스 사용)
+    @Query("SELECT cp.id AS id, cp.product.id AS productId, cp.channel AS channel, cp.status AS status, " +
+           "cp.allocatedQuantity AS allocatedQuantity, cp.soldQuantity AS soldQuantity, " +
+           "cp.allocationWeight AS allocationWeight, cp.allocationFloor AS allocationFloor, " +
+           "cp.allocationCap AS allocationCap, cp.platformProductId AS platformProductId " +
+           "FROM ChannelProduct cp WHERE cp.product.id IN :productIds ORDER BY cp.id ASC")
+    List<ChannelAllocationView> findAllocationViewsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+}
@@ -1,12 +1,22 @@
 package com.inventory.repository;
 
 import com.inventory.entity.Inventory;
+import com.inventory.repository.projection.LocationStockView;
+import com.inventory.repository.projection.PickLocationView;
+import com.inventory.repository.projection.SkuStockTotalView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
@@ -16,4 +26,82 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     
     @Query("SELECT i FROM Inventory i WHERE i.warehouseLocation = :location")
     List<Inventory> findByWarehouseLocation(@Param("location") String location);
-}
\ No newline at end of file
+    
+    // 구역(/통로) 재고 - (location_zone, location_aisle, location_bin) 인덱스, 위치 경로 순
+    @Query("SELECT i FROM Inventory i WHERE i.locationZone = :zone " +
+           "AND (:aisle IS NULL OR i.locationAisle = :aisle) " +
+           "ORDER BY i.locationAisle, i.locationBin, i.id")
+    List<Inventory> findByLocation(@Param("zone") String zone, @Param("aisle") Integer aisle);
+    
+    // 구역별 재고 합계 (위치 코드가 파싱되지 않은 재고는 zone null 그룹, 마지막)
+    @Query("SELECT i.locationZone AS zone, CAST(NULL AS Integer) AS aisle, " +
+           "COUNT(DISTINCT i.warehouseLocation) AS locationCount, COUNT(DISTINCT i.product.id) AS skuCount, " +
+           "SUM(i.quantity) AS quantity " +
+           "FROM Inventory i GROUP BY i.locationZone ORDER BY i.locationZone NULLS LAST")
+    List<LocationStockView> sumByZone();
+    
+    // 통로별 재고 합계 (zone이 null이면 전체 구역)
+    @Query("SELECT i.locationZone AS zone, i.locationAisle AS aisle, " +
+           "COUNT(DISTINCT i.warehouseLocation) AS locationCount, COUNT(DISTINCT i.product.id) AS skuCount, " +
+           "SUM(i.quantity) AS quantity " +
+           "FROM Inventory i WHERE (:zone IS NULL OR i.locationZone = :zone) " +
+           "GROUP BY i.locationZone, i.locationAisle " +
+           "ORDER BY i.locationZone NULLS LAST, i.locationAisle NULLS LAST")
+    List<LocationStockView> sumByAisle(@Param("zone") String zone);
+    
+    /**
+     * 상품별 전체 창고 재고 합계 (SKU 순, 합계가 minQuantity 이상인 상품만)
+     * - 결과를 한 번에 올리지 않도록 fetch size 단위로 읽음 (읽기 전용 트랜잭션 안에서 소비 후 close)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id AS productId, p.sku AS sku, p.name AS name, " +
+           "COUNT(i.id) AS locationCount, SUM(i.quantity) AS quantity " +
+           "FROM Inventory i JOIN i.product p " +
+           "GROUP BY p.id, p.sku, p.name HAVING SUM(i.quantity) >= :minQuantity ORDER BY p.sku")
+    Stream<SkuStockTotalView> streamSkuTotals(@Param("minQuantity") long minQuantity);
+    
+    /**
+     * 상품들의 재고가 있는 창고 위치 (구역 → 통로 → 선반 순, 파싱되지 않은 위치는 마지막)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i.id AS inventoryId, p.id AS productId, p.sku AS sku, p.name AS name, " +
+           "i.warehouseLocation AS warehouseLocation, i.locationZone AS zone, " +
+           "i.locationAisle AS aisle, i.locationBin AS bin, i.quantity AS quantity " +
+           "FROM Inventory i JOIN i.product p " +
+           "WHERE p.id IN :productIds AND i.quantity > 0 " +
+           "ORDER BY i.locationZone NULLS LAST, i.locationAisle NULLS LAST, i.locationBin NULLS LAST, " +
+           "i.warehouseLocation, i.id")
+    Stream<PickLocationView> streamPickLocations(@Param("productIds") Collection<Long> productIds);
+    
+    // 위치 컬럼이 채워지지 않은 재고 (위치 컬럼 도입 전 데이터) - [id, warehouseLocation]
+    @Query("SELECT i.id, i.warehouseLocation FROM Inventory i " +
+           "WHERE i.locationZone IS NULL AND i.warehouseLocation IS NOT NULL")
+    List<Object[]> findUnparsedLocations();
+    
+    // 창고 재고 차감 (해당 상품의 재고이고 남은 수량이 충분한 경우만) - 변경된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity - :quantity, i.updatedAt = :now " +
+           "WHERE i.id = :inventoryId AND i.product.id = :productId AND i.quantity >= :quantity")
+    int decrementQuantity(@Param("inventoryId") Long inventoryId, @Param("productId") Long productId,
+                          @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+    
+    // 창고 재고 증감 (결과가 음수가 되지 않는 경우만) - 변경된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity + :delta, i.updatedAt = :now " +
+           "WHERE i.id = :inventoryId AND i.quantity + :delta >= 0")
+    int adjustQuantity(@Param("inventoryId") Long inventoryId, @Param("delta") int delta,
+                       @Param("now") LocalDateTime now);
+    
+    // 창고 재고 수량 지정 (조회 이후 다른 변경이 없었던 경우만) - 변경된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = :quantity, i.updatedAt = :now " +
+           "WHERE i.id = :inventoryId AND i.quantity = :expected")
+    int compareAndSetQuantity(@Param("inventoryId") Long inventoryId, @Param("expected") int expected,
+                              @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+}
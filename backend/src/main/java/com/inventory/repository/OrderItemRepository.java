@@ -2,6 +2,8 @@ package com.inventory.repository;
 
 import com.inventory.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,5 +12,10 @@ import java.util.List;
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     List<OrderItem> findByOrderId(Long orderId);
     List<OrderItem> findByProductId(Long productId);
+
+    // 주문의 상품별 수량 합계 - [productId, quantity]
+    @Query("SELECT oi.product.id, SUM(oi.quantity) FROM OrderItem oi " +
+           "WHERE oi.order.id = :orderId GROUP BY oi.product.id")
+    List<Object[]> sumQuantityByProduct(@Param("orderId") Long orderId);
 }
 
@@ -1,9 +1,14 @@
 package com.inventory.repository;
 
 import com.inventory.entity.Order;
+import com.inventory.repository.projection.OrderSummaryView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,5 +18,50 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByStatus(Order.OrderStatus status);
     List<Order> findByCustomerNameContainingIgnoreCase(String customerName);
     List<Order> findByCustomerEmail(String customerEmail);
-}
 
+    // 주문 + 항목 + 상품 한 번에 조회
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems i LEFT JOIN FETCH i.product " +
+           "WHERE o.id = :id")
+    Optional<Order> findWithItemsById(@Param("id") Long id);
+
+    // 주문번호로 주문 + 항목 + 상품 한 번에 조회
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems i LEFT JOIN FETCH i.product " +
+           "WHERE o.orderNumber = :orderNumber")
+    Optional<Order> findWithItemsByOrderNumber(@Param("orderNumber") String orderNumber);
+
+    // 전체 주문 + 항목 + 상품 한 번에 조회 (최신순)
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems i LEFT JOIN FETCH i.product " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findAllWithItems();
+
+    // 상태별 전체 주문 + 항목 + 상품 한 번에 조회 (최신순)
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems i LEFT JOIN FETCH i.product " +
+           "WHERE o.status = :status ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findAllWithItemsByStatus(@Param("status") Order.OrderStatus status);
+
+    // Idempotency-Key로 접수된 주문 (uk_orders_idempotency_key)
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems i LEFT JOIN FETCH i.product " +
+           "WHERE o.idempotencyKey = :idempotencyKey")
+    Optional<Order> findWithItemsByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+    // 주문 목록 키셋 페이지 조회 (최신순: 생성 시각, ID 내림차순)
+    // - 커서보다 이전 주문만 조회, 인덱스 (status, created_at, id) / (created_at, id) 사용
+    String SUMMARY_SELECT =
+            "SELECT o.id AS id, o.orderNumber AS orderNumber, o.customerName AS customerName, " +
+            "o.customerEmail AS customerEmail, o.status AS status, o.totalAmount AS totalAmount, " +
+            "(SELECT COUNT(i) FROM OrderItem i WHERE i.order = o) AS itemCount, " +
+            "(SELECT SUM(i.quantity) FROM OrderItem i WHERE i.order = o) AS totalQuantity, " +
+            "o.createdAt AS createdAt, o.updatedAt AS updatedAt FROM Order o ";
+    String BEFORE_CURSOR =
+            "(o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC";
+
+    @Query(SUMMARY_SELECT + "WHERE " + BEFORE_CURSOR)
+    List<OrderSummaryView> findSummariesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE o.status = :status AND " + BEFORE_CURSOR)
+    List<OrderSummaryView> findSummariesByStatusBefore(@Param("status") Order.OrderStatus status,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id, Limit limit);
+}
@@ -0,0 +1,54 @@
+package com.inventory.repository;
+
+import com.inventory.entity.PartCrossReference;
+import com.inventory.repository.projection.InterchangePartView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PartCrossReferenceRepository extends JpaRepository<PartCrossReference, Long> {
+
+    List<PartCrossReference> findByProductId(Long productId);
+
+    @Modifying
+    @Query("DELETE FROM PartCrossReference r WHERE r.product.id IN :productIds")
+    int deleteByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 호환 상품 조회 (호환 품번 체인을 재귀 CTE 한 번으로 추적)
+     * - 시작: 정규화 품번이 일치하는 상품 (normalized_part_number 인덱스)
+     * - 확장: 찾은 상품의 다른 품번을 가진 상품 (product_id / normalized_part_number 인덱스)
+     * - UNION으로 (상품, 단계) 중복을 제거하고 maxDepth로 순환 체인을 끊음, 상품별 최소 단계만 반환
+     * - MariaDB 재귀 CTE 전용 (H2는 재귀 CTE 안의 바인딩 파라미터를 지원하지 않음)
+     *
+     * @param partNumber 정규화 품번
+     * @param maxDepth 최대 확장 단계
+     * @param limit 최대 결과 수
+     */
+    @Query(value = "WITH RECURSIVE chain (product_id, depth) AS (" +
+            "  SELECT r.product_id, 0 FROM part_cross_references r WHERE r.normalized_part_number = :partNumber" +
+            "  UNION" +
+            "  SELECT next_ref.product_id, chain.depth + 1 FROM chain" +
+            "  JOIN part_cross_references own_ref ON own_ref.product_id = chain.product_id" +
+            "  JOIN part_cross_references next_ref ON next_ref.normalized_part_number = own_ref.normalized_part_number" +
+            "   AND next_ref.product_id <> own_ref.product_id" +
+            "  WHERE chain.depth < :maxDepth" +
+            ") " +
+            "SELECT p.id AS productId, p.sku AS sku, p.name AS name, p.manufacturer_name AS manufacturerName, " +
+            "p.oem_part_number AS oemPartNumber, p.aftermarket_part_number AS aftermarketPartNumber, " +
+            "p.price AS price, p.quantity AS quantity, p.is_active AS isActive, c.depth AS depth " +
+            "FROM (SELECT product_id, MIN(depth) AS depth FROM chain GROUP BY product_id) c " +
+            "JOIN products p ON p.id = c.product_id " +
+            "ORDER BY c.depth, p.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<InterchangePartView> findInterchangeable(@Param("partNumber") String partNumber,
+                                                  @Param("maxDepth") int maxDepth,
+                                                  @Param("limit") int limit);
+}
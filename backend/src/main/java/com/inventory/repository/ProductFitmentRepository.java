@@ -0,0 +1,37 @@
+package com.inventory.repository;
+
+import com.inventory.entity.ProductFitment;
+import com.inventory.repository.projection.FitmentPartView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProductFitmentRepository extends JpaRepository<ProductFitment, Long> {
+
+    boolean existsByVehicleCompatibilityIdAndProductId(Long vehicleCompatibilityId, Long productId);
+
+    @Modifying
+    @Query("DELETE FROM ProductFitment f WHERE f.vehicleCompatibility.id = :fitmentId AND f.product.id = :productId")
+    int deleteLink(@Param("fitmentId") Long fitmentId, @Param("productId") Long productId);
+
+    /**
+     * 여러 차량 호환 정보의 장착 부품을 한 번에 조회 (활성 상품만, 차량 호환 정보/SKU 순)
+     * - (vehicle_compatibility_id, product_id) 유니크 키로 연결 행을 찾고 상품은 PK로 조인
+     *
+     * @param fitmentIds 차량 호환 정보 ID 목록
+     */
+    @Query("SELECT f.vehicleCompatibility.id AS fitmentId, p.id AS productId, p.sku AS sku, p.name AS name, " +
+           "p.description AS description, p.price AS price, p.partType AS partType, " +
+           "p.manufacturerName AS manufacturerName, p.isOeQuality AS isOeQuality, " +
+           "p.isAftermarket AS isAftermarket, p.warrantyMonths AS warrantyMonths, p.quantity AS quantity " +
+           "FROM ProductFitment f JOIN f.product p " +
+           "WHERE f.vehicleCompatibility.id IN :fitmentIds AND p.isActive = true " +
+           "ORDER BY f.vehicleCompatibility.id, p.sku")
+    List<FitmentPartView> findPartsByFitmentIds(@Param("fitmentIds") Collection<Long> fitmentIds);
+}
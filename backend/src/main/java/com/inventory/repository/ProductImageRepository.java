@@ -1,10 +1,20 @@
 package com.inventory.repository;
 
 import com.inventory.entity.ImageCategory;
+import com.inventory.entity.ImageProcessingStatus;
+import com.inventory.entity.ImageStorageType;
 import com.inventory.entity.ProductImage;
+import com.inventory.repository.projection.ImageContentView;
+import com.inventory.repository.projection.ProductImageCountView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +53,18 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
      */
     long countByProductId(Long productId);
     
+    /**
+     * 여러 상품의 이미지 개수를 한 번에 조회
+     * - 상품 목록 DTO 조립 시 상품별 COUNT 쿼리(N+1) 대신 GROUP BY 한 번으로 처리
+     * - 이미지가 없는 상품은 결과에 포함되지 않음
+     * 
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID별 이미지 개수
+     */
+    @Query("SELECT i.product.id AS productId, COUNT(i.id) AS imageCount FROM ProductImage i " +
+           "WHERE i.product.id IN :productIds GROUP BY i.product.id")
+    List<ProductImageCountView> countByProductIdIn(@Param("productIds") Collection<Long> productIds);
+    
     /**
      * 상품 ID로 모든 이미지 삭제
      * - 상품 삭제 시 관련 이미지들도 함께 삭제
@@ -51,26 +73,51 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
      */
     void deleteByProductId(Long productId);
     
+    /**
+     * 조회 가능한 이미지 조건 (파생 이미지 생성 대기/실패 제외, 기존 데이터의 null은 완료로 취급)
+     */
+    String READY_CONDITION = "(i.processingStatus IS NULL OR i.processingStatus = com.inventory.entity.ImageProcessingStatus.READY)";
+    
+    /**
+     * 스트리밍용 메타데이터 SELECT 절 (ImageContentView 별칭)
+     */
+    String CONTENT_VIEW_SELECT = "SELECT i.id AS id, i.imageName AS imageName, i.imageType AS imageType, " +
+           "i.imageSize AS imageSize, i.contentHash AS contentHash, i.storageType AS storageType, " +
+           "i.processingStatus AS processingStatus FROM ProductImage i ";
+    
     /**
      * 상품 ID와 이미지 카테고리로 이미지 목록 조회
-     * - 특정 카테고리의 이미지만 조회
+     * - 특정 카테고리의 조회 가능한 이미지만 생성일 오름차순으로 조회
      * 
      * @param productId 상품 ID
      * @param imageCategory 이미지 카테고리
      * @return 이미지 목록
      */
-    List<ProductImage> findByProductIdAndImageCategoryOrderByCreatedAtAsc(Long productId, ImageCategory imageCategory);
+    @Query("SELECT i FROM ProductImage i WHERE i.product.id = :productId AND i.imageCategory = :imageCategory " +
+           "AND " + READY_CONDITION + " ORDER BY i.createdAt ASC, i.id ASC")
+    List<ProductImage> findReadyByProductIdAndImageCategory(@Param("productId") Long productId,
+                                                            @Param("imageCategory") ImageCategory imageCategory);
     
     /**
-     * 상품 ID와 이미지 카테고리로 첫 번째 이미지 조회
-     * - 특정 카테고리의 첫 번째 이미지 조회
+     * 상품 ID와 이미지 카테고리로 첫 번째/최신 이미지 조회
+     * - Limit.of(1)과 함께 사용
      * 
      * @param productId 상품 ID
      * @param imageCategory 이미지 카테고리
-     * @return 첫 번째 이미지
+     * @param limit 조회 개수
+     * @return 이미지 목록
      */
-    Optional<ProductImage> findFirstByProductIdAndImageCategoryOrderByCreatedAtAsc(Long productId, ImageCategory imageCategory);
-    Optional<ProductImage> findFirstByProductIdAndImageCategoryOrderByCreatedAtDesc(Long productId, ImageCategory imageCategory);
+    @Query("SELECT i FROM ProductImage i WHERE i.product.id = :productId AND i.imageCategory = :imageCategory " +
+           "AND " + READY_CONDITION + " ORDER BY i.createdAt ASC, i.id ASC")
+    List<ProductImage> findFirstReadyByProductIdAndImageCategory(@Param("productId") Long productId,
+                                                                 @Param("imageCategory") ImageCategory imageCategory,
+                                                                 Limit limit);
+    
+    @Query("SELECT i FROM ProductImage i WHERE i.product.id = :productId AND i.imageCategory = :imageCategory " +
+           "AND " + READY_CONDITION + " ORDER BY i.createdAt DESC, i.id DESC")
+    List<ProductImage> findLatestReadyByProductIdAndImageCategory(@Param("productId") Long productId,
+                                                                  @Param("imageCategory") ImageCategory imageCategory,
+                                                                  Limit limit);
     
     /**
      * 상품 ID와 이미지 카테고리로 이미지 개수 조회
@@ -81,4 +128,128 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
      * @return 이미지 개수
      */
     long countByProductIdAndImageCategory(Long productId, ImageCategory imageCategory);
-}
\ No newline at end of file
+    
+    /**
+     * 특정 저장소에서 해시를 참조하는 이미지 개수 조회
+     * - 외부 저장소 파일 삭제 전 다른 행이 같은 내용을 참조하는지 확인
+     * 
+     * @param contentHash 내용 해시
+     * @param storageType 저장소 종류
+     * @return 참조 개수
+     */
+    long countByContentHashAndStorageType(String contentHash, ImageStorageType storageType);
+    
+    /**
+     * 이미지 ID로 외부 저장소 해시 조회 (바이너리 미로딩)
+     * 
+     * @param imageId 이미지 ID
+     * @param storageType 저장소 종류
+     * @return 내용 해시
+     */
+    @Query("SELECT i.contentHash FROM ProductImage i WHERE i.id = :imageId AND i.storageType = :storageType")
+    Optional<String> findContentHashByIdAndStorageType(@Param("imageId") Long imageId,
+                                                       @Param("storageType") ImageStorageType storageType);
+    
+    /**
+     * 상품 ID로 외부 저장소 해시 목록 조회 (바이너리 미로딩)
+     * 
+     * @param productId 상품 ID
+     * @param storageType 저장소 종류
+     * @return 내용 해시 목록
+     */
+    @Query("SELECT DISTINCT i.contentHash FROM ProductImage i WHERE i.product.id = :productId AND i.storageType = :storageType")
+    List<String> findContentHashesByProductIdAndStorageType(@Param("productId") Long productId,
+                                                            @Param("storageType") ImageStorageType storageType);
+    
+    /**
+     * DB 컬럼에 바이너리가 남아있는 이미지 ID 조회 (키셋 배치)
+     * - 외부 저장소 마이그레이션 대상 선정용
+     * 
+     * @param lastId 이전 배치의 마지막 ID
+     * @param limit 배치 크기
+     * @return 이미지 ID 목록 (오름차순)
+     */
+    @Query("SELECT i.id FROM ProductImage i WHERE i.id > :lastId " +
+           "AND (i.storageType IS NULL OR i.storageType = com.inventory.entity.ImageStorageType.DATABASE) " +
+           "AND i.imageData IS NOT NULL ORDER BY i.id")
+    List<Long> findDatabaseStoredImageIdsAfter(@Param("lastId") Long lastId, Limit limit);
+    
+    /**
+     * 이미지가 속한 상품 ID 조회 (바이너리 미로딩)
+     * 
+     * @param imageId 이미지 ID
+     * @return 상품 ID
+     */
+    @Query("SELECT i.product.id FROM ProductImage i WHERE i.id = :imageId")
+    Optional<Long> findProductIdById(@Param("imageId") Long imageId);
+    
+    /**
+     * 스트리밍용 메타데이터 조회 (바이너리 미로딩)
+     * - 아래 *ContentView* 메서드는 ImageContentView 프로젝션 컬럼만 SELECT
+     * 
+     * @param id 이미지 ID
+     * @return 이미지 메타데이터
+     */
+    Optional<ImageContentView> findContentViewById(Long id);
+    Optional<ImageContentView> findFirstContentViewByProductIdOrderByCreatedAtAsc(Long productId);
+    Optional<ImageContentView> findFirstContentViewByContentHashOrderByIdAsc(String contentHash);
+    
+    @Query(CONTENT_VIEW_SELECT + "WHERE i.product.id = :productId AND i.imageCategory = :imageCategory " +
+           "AND " + READY_CONDITION + " ORDER BY i.createdAt ASC, i.id ASC")
+    List<ImageContentView> findFirstReadyContentViews(@Param("productId") Long productId,
+                                                      @Param("imageCategory") ImageCategory imageCategory,
+                                                      Limit limit);
+    
+    @Query(CONTENT_VIEW_SELECT + "WHERE i.product.id = :productId AND i.imageCategory = :imageCategory " +
+           "AND " + READY_CONDITION + " ORDER BY i.createdAt DESC, i.id DESC")
+    List<ImageContentView> findLatestReadyContentViews(@Param("productId") Long productId,
+                                                       @Param("imageCategory") ImageCategory imageCategory,
+                                                       Limit limit);
+    
+    /**
+     * 원본 이미지의 특정 상태 파생 이미지 조회
+     * 
+     * @param originalImageId 원본 이미지 ID
+     * @param processingStatus 생성 상태
+     * @return 파생 이미지 목록
+     */
+    List<ProductImage> findByOriginalImageIdAndProcessingStatus(Long originalImageId, ImageProcessingStatus processingStatus);
+    
+    /**
+     * 특정 상태의 파생 이미지를 가진 원본 이미지 ID 조회 (바이너리 미로딩)
+     * - 기동 시 처리되지 않은 파생 이미지 작업 복구용
+     * 
+     * @param processingStatus 생성 상태
+     * @return 원본 이미지 ID 목록
+     */
+    @Query("SELECT DISTINCT i.originalImageId FROM ProductImage i " +
+           "WHERE i.processingStatus = :processingStatus AND i.originalImageId IS NOT NULL")
+    List<Long> findOriginalImageIdsByProcessingStatus(@Param("processingStatus") ImageProcessingStatus processingStatus);
+    
+    /**
+     * 원본 이미지의 파생 이미지 상태 일괄 변경
+     * 
+     * @param originalImageId 원본 이미지 ID
+     * @param from 변경 전 상태
+     * @param to 변경 후 상태
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ProductImage i SET i.processingStatus = :to " +
+           "WHERE i.originalImageId = :originalImageId AND i.processingStatus = :from")
+    int updateProcessingStatus(@Param("originalImageId") Long originalImageId,
+                               @Param("from") ImageProcessingStatus from,
+                               @Param("to") ImageProcessingStatus to);
+    
+    /**
+     * 해시가 없는 기존 이미지에 내용 해시 기록
+     * - 이미 해시가 있는 행은 변경하지 않음
+     * 
+     * @param imageId 이미지 ID
+     * @param contentHash 내용 해시
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ProductImage i SET i.contentHash = :contentHash WHERE i.id = :imageId AND i.contentHash IS NULL")
+    int updateContentHashIfAbsent(@Param("imageId") Long imageId, @Param("contentHash") String contentHash);
+}
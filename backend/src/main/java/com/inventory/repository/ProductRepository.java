@@ -3,16 +3,27 @@ package com.inventory.repository;
 import com.inventory.entity.PartCondition;
 import com.inventory.entity.PartType;
 import com.inventory.entity.Product;
+import com.inventory.repository.projection.ProductImageSourceView;
+import com.inventory.repository.projection.ProductOrderView;
+import com.inventory.repository.projection.PartTypeStatsView;
+import com.inventory.repository.projection.ProductPartNumbersView;
+import com.inventory.repository.projection.ProductSkuView;
+import com.inventory.repository.projection.ProductStockLevelView;
+import com.inventory.repository.projection.ProductSummaryView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductSearchRepository {
     
     Optional<Product> findBySku(String sku);
     
@@ -20,6 +31,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     
     List<Product> findByNameContainingIgnoreCase(String name);
     
+    // 목록 DTO 조립용: 카테고리를 fetch join으로 함께 로딩 (N+1 방지)
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category ORDER BY p.id")
+    List<Product> findAllWithCategory();
+    
     @Query("SELECT p FROM Product p WHERE p.category.id = :categoryId")
     List<Product> findByCategoryId(@Param("categoryId") Long categoryId);
     
@@ -28,12 +43,48 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     
     boolean existsBySku(String sku);
     
+    // 일괄 이미지 등록용: SKU 목록을 한 번의 IN 조회로 상품 ID로 변환
+    List<ProductSkuView> findSkuViewsBySkuIn(Collection<String> skus);
+    
+    // 일괄 콜백용: 존재하는 상품 ID만 한 번의 IN 조회로 확인
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
+    // 주문 접수용: 주문 SKU 전체를 한 번의 IN 조회로 확인 (가격/활성 여부)
+    @Query("SELECT p.id AS id, p.sku AS sku, p.name AS name, p.price AS price, p.isActive AS isActive " +
+           "FROM Product p WHERE p.sku IN :skus")
+    List<ProductOrderView> findOrderViewsBySkuIn(@Param("skus") Collection<String> skus);
+    
+    // 파일 이미지 마이그레이션용: ID 오름차순 범위 조회 (afterId 초과)
+    @Query("SELECT p.id AS id, p.imageUrl AS imageUrl FROM Product p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<ProductImageSourceView> findImageSourcesAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    long countByIdGreaterThan(Long id);
+    
+    // 호환 품번 백필용: 품번 컬럼만 ID 오름차순 범위 조회 (afterId 초과)
+    @Query("SELECT p.id AS id, p.oemPartNumber AS oemPartNumber, p.aftermarketPartNumber AS aftermarketPartNumber, " +
+           "p.crossReferenceNumbers AS crossReferenceNumbers FROM Product p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<ProductPartNumbersView> findPartNumbersAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    // 검색 색인 구축용: ID 오름차순 범위 조회 (afterId 초과)
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
     boolean existsByBarcode(String barcode);
     
+    boolean existsByCategoryId(Long categoryId);
+    
     // 대시보드 통계용 메서드들
     Long countByIsActiveTrue();
     Long countByIsSerializedTrue();
     
+    // 카탈로그 통계용: 부품 타입별 전체/활성/OE/애프터마켓 상품 수를 한 번의 집계로 조회
+    @Query("SELECT p.partType AS partType, COUNT(p) AS total, " +
+           "SUM(CASE WHEN p.isActive = true THEN 1 ELSE 0 END) AS active, " +
+           "SUM(CASE WHEN p.isOeQuality = true THEN 1 ELSE 0 END) AS oeQuality, " +
+           "SUM(CASE WHEN p.isAftermarket = true THEN 1 ELSE 0 END) AS aftermarket " +
+           "FROM Product p GROUP BY p.partType")
+    List<PartTypeStatsView> aggregateStatsByPartType();
+    
     // 카탈로그 검색 관련 메서드들
     List<Product> findByPartType(PartType partType);
     
@@ -56,4 +107,50 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     
     @Query("SELECT p FROM Product p WHERE p.isAftermarket = true")
     List<Product> findAftermarketProducts();
-}
\ No newline at end of file
+    
+    // 키셋 페이지네이션용 프로젝션 조회 (정렬 컬럼은 PK / unique 인덱스만 허용)
+    String SUMMARY_SELECT = "SELECT p.id AS id, p.sku AS sku, p.name AS name, p.description AS description, " +
+            "p.price AS price, p.cost AS cost, p.barcode AS barcode, p.quantity AS quantity, " +
+            "p.minimumQuantity AS minimumQuantity, p.isActive AS isActive, p.isSerialized AS isSerialized, " +
+            "c.id AS categoryId, c.name AS categoryName, p.imageUrl AS imageUrl, " +
+            "(SELECT COUNT(i.id) FROM ProductImage i WHERE i.product.id = p.id) AS imageCount, " +
+            "p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+            "FROM Product p LEFT JOIN p.category c ";
+    
+    @Query(SUMMARY_SELECT + "WHERE p.id > :cursor ORDER BY p.id ASC")
+    List<ProductSummaryView> findSummariesAfterId(@Param("cursor") Long cursor, Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE p.sku > :cursor ORDER BY p.sku ASC")
+    List<ProductSummaryView> findSummariesAfterSku(@Param("cursor") String cursor, Limit limit);
+
+    // 재고 차감 (남은 수량이 충분한 경우만, 행 잠금만 사용) - 변경된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.quantity = p.quantity - :quantity, p.updatedAt = :now " +
+           "WHERE p.id = :productId AND p.quantity >= :quantity")
+    int decrementQuantity(@Param("productId") Long productId, @Param("quantity") int quantity,
+                          @Param("now") LocalDateTime now);
+
+    // 재고 복원 (예약 해제) - 변경된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :quantity, p.updatedAt = :now WHERE p.id = :productId")
+    int incrementQuantity(@Param("productId") Long productId, @Param("quantity") int quantity,
+                          @Param("now") LocalDateTime now);
+
+    // 재고 증감 (입고/실사 조정, 결과가 음수가 되지 않는 경우만) - 변경된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :delta, p.updatedAt = :now " +
+           "WHERE p.id = :productId AND p.quantity + :delta >= 0")
+    int adjustQuantity(@Param("productId") Long productId, @Param("delta") int delta,
+                       @Param("now") LocalDateTime now);
+
+    // 재고 수준 (재고 부족 판정용, 변경된 상품만 다시 조회)
+    String STOCK_LEVEL_SELECT = "SELECT p.id AS id, p.sku AS sku, p.name AS name, p.quantity AS quantity, " +
+            "p.minimumQuantity AS minimumQuantity, p.isActive AS isActive FROM Product p ";
+
+    @Query(STOCK_LEVEL_SELECT + "WHERE p.id IN :productIds")
+    List<ProductStockLevelView> findStockLevels(@Param("productIds") Collection<Long> productIds);
+
+    // 재고 부족 활성 상품 (기동 시 재고 부족 목록 초기화용)
+    @Query(STOCK_LEVEL_SELECT + "WHERE p.isActive = true AND COALESCE(p.quantity, 0) < p.minimumQuantity")
+    List<ProductStockLevelView> findLowStockLevels();
+}
@@ -0,0 +1,16 @@
+package com.inventory.repository;
+
+import com.inventory.dto.ProductSearchItem;
+import com.inventory.entity.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 카탈로그 검색용 커스텀 리포지토리
+ * - Specification 조건으로 목록 컬럼만 프로젝션 조회 (엔티티 미로딩)
+ */
+public interface ProductSearchRepository {
+
+    Page<ProductSearchItem> searchItems(Specification<Product> spec, Pageable pageable);
+}
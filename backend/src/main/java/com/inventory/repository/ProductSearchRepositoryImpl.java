@@ -0,0 +1,100 @@
+package com.inventory.repository;
+
+import com.inventory.dto.ProductSearchItem;
+import com.inventory.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProductSearchRepository 구현 (Criteria API)
+ * - 목록 조회: 생성자 프로젝션 + ORDER BY + LIMIT/OFFSET
+ * - 전체 건수: 같은 조건의 COUNT 쿼리 (첫 페이지가 덜 찼으면 생략)
+ * - 카테고리는 FK 컬럼(category_id)만 참조하여 조인하지 않음
+ */
+class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProductSearchItem> searchItems(Specification<Product> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ProductSearchItem> query = cb.createQuery(ProductSearchItem.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.construct(ProductSearchItem.class,
+                root.get("id"),
+                root.get("sku"),
+                root.get("name"),
+                root.get("price"),
+                root.get("quantity"),
+                root.get("isActive"),
+                root.get("category").get("id"),
+                root.get("partType"),
+                root.get("partCondition"),
+                root.get("manufacturerName"),
+                root.get("oemPartNumber"),
+                root.get("aftermarketPartNumber"),
+                root.get("isOeQuality"),
+                root.get("isAftermarket")));
+        Predicate where = toPredicate(spec, root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<ProductSearchItem> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<ProductSearchItem> items = typedQuery.getResultList();
+
+        // 첫 페이지가 페이지 크기보다 적게 조회되면 전체 건수가 확정되므로 COUNT 생략
+        if (pageable.isUnpaged() || (pageable.getOffset() == 0 && items.size() < pageable.getPageSize())) {
+            return new PageImpl<>(items, pageable, items.size());
+        }
+        return new PageImpl<>(items, pageable, count(spec));
+    }
+
+    private long count(Specification<Product> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.count(root));
+        Predicate where = toPredicate(spec, root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate toPredicate(Specification<Product> spec, Root<Product> root,
+                                         CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return spec == null ? null : spec.toPredicate(root, query, cb);
+    }
+
+    private static List<Order> toOrders(Sort sort, Root<Product> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(order.isAscending()
+                    ? cb.asc(root.get(order.getProperty()))
+                    : cb.desc(root.get(order.getProperty())));
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,118 @@
+package com.inventory.repository;
+
+import com.inventory.dto.ProductSearchCriteria;
+import com.inventory.entity.PartCondition;
+import com.inventory.entity.PartType;
+import com.inventory.entity.Product;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * 상품 검색 조건 Specification 모음
+ * - 모든 조건을 SQL WHERE 절로 변환 (null 조건은 생략)
+ * - 부품 타입/상태/OE·애프터마켓 여부/가격은 인덱스 컬럼 비교, 키워드/제조사는 LIKE 부분 일치
+ */
+public final class ProductSpecifications {
+
+    // MariaDB는 문자열 리터럴 안의 '\'를 이스케이프로 해석하므로 별도 문자 사용
+    private static final char LIKE_ESCAPE = '!';
+
+    private ProductSpecifications() {
+    }
+
+    /**
+     * 검색 조건 전체를 AND로 결합
+     */
+    public static Specification<Product> matching(ProductSearchCriteria criteria) {
+        return Specification.where(keywordContains(criteria.getKeyword()))
+                .and(partTypeEquals(criteria.getPartType()))
+                .and(partConditionEquals(criteria.getPartCondition()))
+                .and(manufacturerContains(criteria.getManufacturer()))
+                .and(oeQualityEquals(criteria.getIsOeQuality()))
+                .and(aftermarketEquals(criteria.getIsAftermarket()))
+                .and(priceBetween(criteria.getMinPrice(), criteria.getMaxPrice()));
+    }
+
+    /**
+     * 상품명/설명/OEM 품번/애프터마켓 품번 중 하나에 키워드 포함 (대소문자 무시)
+     */
+    public static Specification<Product> keywordContains(String keyword) {
+        if (isBlank(keyword)) {
+            return null;
+        }
+        String pattern = containsPattern(keyword);
+        return (root, query, cb) -> cb.or(
+                likeIgnoreCase(cb, root.get("name"), pattern),
+                likeIgnoreCase(cb, root.get("description"), pattern),
+                likeIgnoreCase(cb, root.get("oemPartNumber"), pattern),
+                likeIgnoreCase(cb, root.get("aftermarketPartNumber"), pattern));
+    }
+
+    public static Specification<Product> partTypeEquals(PartType partType) {
+        return partType == null ? null : (root, query, cb) -> cb.equal(root.get("partType"), partType);
+    }
+
+    public static Specification<Product> partConditionEquals(PartCondition partCondition) {
+        return partCondition == null ? null : (root, query, cb) -> cb.equal(root.get("partCondition"), partCondition);
+    }
+
+    /**
+     * 제조사명 부분 일치 (대소문자 무시)
+     */
+    public static Specification<Product> manufacturerContains(String manufacturer) {
+        if (isBlank(manufacturer)) {
+            return null;
+        }
+        String pattern = containsPattern(manufacturer);
+        return (root, query, cb) -> likeIgnoreCase(cb, root.get("manufacturerName"), pattern);
+    }
+
+    public static Specification<Product> oeQualityEquals(Boolean isOeQuality) {
+        return isOeQuality == null ? null : (root, query, cb) -> cb.equal(root.get("isOeQuality"), isOeQuality);
+    }
+
+    public static Specification<Product> aftermarketEquals(Boolean isAftermarket) {
+        return isAftermarket == null ? null : (root, query, cb) -> cb.equal(root.get("isAftermarket"), isAftermarket);
+    }
+
+    /**
+     * 가격 범위 (양 끝 포함, 가격이 없는 상품은 범위 조건이 있으면 제외)
+     */
+    public static Specification<Product> priceBetween(Double minPrice, Double maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Expression<BigDecimal> price = root.get("price");
+            if (minPrice != null && maxPrice != null) {
+                return cb.between(price, BigDecimal.valueOf(minPrice), BigDecimal.valueOf(maxPrice));
+            }
+            return minPrice != null
+                    ? cb.greaterThanOrEqualTo(price, BigDecimal.valueOf(minPrice))
+                    : cb.lessThanOrEqualTo(price, BigDecimal.valueOf(maxPrice));
+        };
+    }
+
+    private static jakarta.persistence.criteria.Predicate likeIgnoreCase(CriteriaBuilder cb, Expression<String> column, String pattern) {
+        return cb.like(cb.lower(column), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * 부분 일치 LIKE 패턴 (소문자, %/_ 이스케이프)
+     */
+    private static String containsPattern(String value) {
+        String escaped = value.trim().toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
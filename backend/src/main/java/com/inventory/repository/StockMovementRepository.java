@@ -0,0 +1,47 @@
+package com.inventory.repository;
+
+import com.inventory.entity.StockMovement;
+import com.inventory.repository.projection.StockDeltaView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
+
+    // 상품 수량 증감 합계 [from, to] - (product_id, inventory_id, created_at) 인덱스 범위 조회
+    @Query("SELECT COALESCE(SUM(m.quantityDelta), 0) FROM StockMovement m " +
+           "WHERE m.product.id = :productId AND m.inventory IS NULL " +
+           "AND m.createdAt >= :from AND m.createdAt <= :to")
+    long sumProductDelta(@Param("productId") Long productId,
+                         @Param("from") LocalDateTime from,
+                         @Param("to") LocalDateTime to);
+
+    // 창고 재고 증감 합계 [from, to]
+    @Query("SELECT COALESCE(SUM(m.quantityDelta), 0) FROM StockMovement m " +
+           "WHERE m.product.id = :productId AND m.inventory.id = :inventoryId " +
+           "AND m.createdAt >= :from AND m.createdAt <= :to")
+    long sumInventoryDelta(@Param("productId") Long productId,
+                           @Param("inventoryId") Long inventoryId,
+                           @Param("from") LocalDateTime from,
+                           @Param("to") LocalDateTime to);
+
+    /**
+     * from 이후 재고별 증감 합계 (스냅샷 생성용, created_at 인덱스 범위 조회)
+     */
+    @Query("SELECT m.product.id AS productId, m.inventory.id AS inventoryId, SUM(m.quantityDelta) AS delta " +
+           "FROM StockMovement m WHERE m.createdAt >= :from " +
+           "GROUP BY m.product.id, m.inventory.id")
+    List<StockDeltaView> sumDeltasSince(@Param("from") LocalDateTime from);
+
+    // 최근 이동 내역 (상품 전체: 상품 수량 + 창고 재고)
+    List<StockMovement> findByProductIdOrderByCreatedAtDescIdDesc(Long productId, Limit limit);
+
+    // 최근 이동 내역 (창고 재고)
+    List<StockMovement> findByInventoryIdOrderByCreatedAtDescIdDesc(Long inventoryId, Limit limit);
+}
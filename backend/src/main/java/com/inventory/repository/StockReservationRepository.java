@@ -0,0 +1,45 @@
+package com.inventory.repository;
+
+import com.inventory.entity.StockReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * 예약 상태 변경 (현재 상태가 from인 경우만, 동시에 요청해도 한 건만 성공)
+     *
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StockReservation r SET r.status = :to, r.updatedAt = :now WHERE r.id = :id AND r.status = :from")
+    int transition(@Param("id") Long id,
+                   @Param("from") StockReservation.Status from,
+                   @Param("to") StockReservation.Status to,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 출처별 예약 상태 일괄 변경 (현재 상태가 from인 예약만)
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StockReservation r SET r.status = :to, r.updatedAt = :now " +
+           "WHERE r.reference = :reference AND r.status = :from")
+    int transitionByReference(@Param("reference") String reference,
+                              @Param("from") StockReservation.Status from,
+                              @Param("to") StockReservation.Status to,
+                              @Param("now") LocalDateTime now);
+
+    // 출처별 예약 ID (ID 순 = 일괄 예약 시 상품 ID 순)
+    @Query("SELECT r.id FROM StockReservation r WHERE r.reference = :reference AND r.status = :status ORDER BY r.id")
+    List<Long> findIdsByReferenceAndStatus(@Param("reference") String reference,
+                                           @Param("status") StockReservation.Status status);
+}
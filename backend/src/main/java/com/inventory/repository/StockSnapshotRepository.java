@@ -0,0 +1,38 @@
+package com.inventory.repository;
+
+import com.inventory.entity.StockSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, Long> {
+
+    // 시점 이전 마지막 상품 수량 스냅샷 - (product_id, inventory_id, snapshot_at) 인덱스
+    Optional<StockSnapshot> findFirstByProductIdAndInventoryIsNullAndSnapshotAtLessThanEqualOrderBySnapshotAtDesc(
+            Long productId, LocalDateTime at);
+
+    // 시점 이전 마지막 창고 재고 스냅샷
+    Optional<StockSnapshot> findFirstByProductIdAndInventoryIdAndSnapshotAtLessThanEqualOrderBySnapshotAtDesc(
+            Long productId, Long inventoryId, LocalDateTime at);
+
+    @Query("SELECT MAX(s.snapshotAt) FROM StockSnapshot s")
+    LocalDateTime findLastSnapshotAt();
+
+    // 기초 스냅샷: 현재 상품 수량 전체
+    @Modifying
+    @Query(value = "INSERT INTO stock_snapshots (product_id, inventory_id, quantity, snapshot_at) " +
+                   "SELECT id, NULL, COALESCE(quantity, 0), :at FROM products", nativeQuery = true)
+    int insertProductBaseline(@Param("at") LocalDateTime at);
+
+    // 기초 스냅샷: 현재 창고 재고 수량 전체
+    @Modifying
+    @Query(value = "INSERT INTO stock_snapshots (product_id, inventory_id, quantity, snapshot_at) " +
+                   "SELECT product_id, id, quantity, :at FROM inventories", nativeQuery = true)
+    int insertInventoryBaseline(@Param("at") LocalDateTime at);
+}
@@ -1,6 +1,7 @@
 package com.inventory.repository;
 
 import com.inventory.entity.VehicleCompatibility;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -39,4 +40,7 @@ public interface VehicleCompatibilityRepository extends JpaRepository<VehicleCom
     // 연식 범위로 검색
     @Query("SELECT v FROM VehicleCompatibility v WHERE v.yearStart <= :year AND (v.yearEnd IS NULL OR v.yearEnd >= :year)")
     List<VehicleCompatibility> findByYearRange(@Param("year") Integer year);
+    
+    // 적용 차종 색인 구축용: ID 오름차순 범위 조회 (afterId 초과)
+    List<VehicleCompatibility> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.inventory.repository.projection;
+
+/**
+ * 카테고리별 상품 수 프로젝션
+ * - 클로저 테이블 GROUP BY ancestor_id 집계 결과 매핑용
+ */
+public interface CategoryProductCountView {
+    Long getCategoryId();
+    Long getProductCount();
+    Long getTotalProductCount();
+}
@@ -0,0 +1,13 @@
+package com.inventory.repository.projection;
+
+/**
+ * 카테고리 트리 행 프로젝션 (부모는 ID만)
+ */
+public interface CategoryTreeRowView {
+    Long getId();
+    String getName();
+    String getDescription();
+    Long getParentId();
+    Integer getLevel();
+    Integer getSortOrder();
+}
@@ -0,0 +1,19 @@
+package com.inventory.repository.projection;
+
+import com.inventory.entity.ChannelProduct;
+
+/**
+ * 채널 재고 배분용 인터페이스 프로젝션 (배분 규칙과 현재 배분 수량만 조회)
+ */
+public interface ChannelAllocationView {
+    Long getId();
+    Long getProductId();
+    String getChannel();
+    ChannelProduct.Status getStatus();
+    Integer getAllocatedQuantity();
+    Integer getSoldQuantity();
+    Integer getAllocationWeight();
+    Integer getAllocationFloor();
+    Integer getAllocationCap();
+    String getPlatformProductId();
+}
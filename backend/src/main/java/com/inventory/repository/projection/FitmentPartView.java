@@ -0,0 +1,23 @@
+package com.inventory.repository.projection;
+
+import com.inventory.entity.PartType;
+
+import java.math.BigDecimal;
+
+/**
+ * 적용 차종별 장착 부품 조회 결과 프로젝션 (차량 호환 정보 × 상품 1행)
+ */
+public interface FitmentPartView {
+    Long getFitmentId();
+    Long getProductId();
+    String getSku();
+    String getName();
+    String getDescription();
+    BigDecimal getPrice();
+    PartType getPartType();
+    String getManufacturerName();
+    Boolean getIsOeQuality();
+    Boolean getIsAftermarket();
+    Integer getWarrantyMonths();
+    Integer getQuantity();
+}
@@ -0,0 +1,18 @@
+package com.inventory.repository.projection;
+
+import com.inventory.entity.ImageProcessingStatus;
+import com.inventory.entity.ImageStorageType;
+
+/**
+ * 이미지 스트리밍용 메타데이터 프로젝션
+ * - image_data(LONGBLOB)를 제외한 컬럼만 조회하여 응답 헤더 구성과 저장소 조회에 사용
+ */
+public interface ImageContentView {
+    Long getId();
+    String getImageName();
+    String getImageType();
+    Long getImageSize();
+    String getContentHash();
+    ImageStorageType getStorageType();
+    ImageProcessingStatus getProcessingStatus();
+}
@@ -0,0 +1,20 @@
+package com.inventory.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 호환 품번 조회 결과 프로젝션
+ * - depth: 조회 품번을 직접 가진 상품은 0, 호환 품번을 한 번 거칠 때마다 1 증가
+ */
+public interface InterchangePartView {
+    Long getProductId();
+    String getSku();
+    String getName();
+    String getManufacturerName();
+    String getOemPartNumber();
+    String getAftermarketPartNumber();
+    BigDecimal getPrice();
+    Integer getQuantity();
+    Boolean getIsActive();
+    Integer getDepth();
+}
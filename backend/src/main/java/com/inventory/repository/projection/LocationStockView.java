@@ -0,0 +1,13 @@
+package com.inventory.repository.projection;
+
+/**
+ * 창고 위치별 재고 집계 프로젝션
+ * - 구역별 집계는 aisle이 null, 위치 코드가 파싱되지 않은 재고는 zone null 그룹
+ */
+public interface LocationStockView {
+    String getZone();
+    Integer getAisle();
+    Long getLocationCount();
+    Long getSkuCount();
+    Long getQuantity();
+}
@@ -0,0 +1,23 @@
+package com.inventory.repository.projection;
+
+import com.inventory.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 인터페이스 프로젝션
+ * - 주문 컬럼만 조회 (주문 항목/상품 미로딩), 항목 수와 총 수량은 서브쿼리로 함께 조회
+ */
+public interface OrderSummaryView {
+    Long getId();
+    String getOrderNumber();
+    String getCustomerName();
+    String getCustomerEmail();
+    Order.OrderStatus getStatus();
+    BigDecimal getTotalAmount();
+    Long getItemCount();
+    Long getTotalQuantity();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,15 @@
+package com.inventory.repository.projection;
+
+import com.inventory.entity.PartType;
+
+/**
+ * 부품 타입별 상품 통계 프로젝션
+ * - GROUP BY part_type 집계 결과 매핑용 (partType이 없는 상품은 partType null 그룹)
+ */
+public interface PartTypeStatsView {
+    PartType getPartType();
+    Long getTotal();
+    Long getActive();
+    Long getOeQuality();
+    Long getAftermarket();
+}
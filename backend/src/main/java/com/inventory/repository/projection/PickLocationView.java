@@ -0,0 +1,16 @@
+package com.inventory.repository.projection;
+
+/**
+ * 피킹 후보 위치 프로젝션 (창고 재고 1행, 위치 경로 순으로 조회)
+ */
+public interface PickLocationView {
+    Long getInventoryId();
+    Long getProductId();
+    String getSku();
+    String getName();
+    String getWarehouseLocation();
+    String getZone();
+    Integer getAisle();
+    Integer getBin();
+    Integer getQuantity();
+}
@@ -0,0 +1,10 @@
+package com.inventory.repository.projection;
+
+/**
+ * 상품별 이미지 개수 프로젝션
+ * - GROUP BY product_id 집계 결과 매핑용
+ */
+public interface ProductImageCountView {
+    Long getProductId();
+    Long getImageCount();
+}
@@ -0,0 +1,10 @@
+package com.inventory.repository.projection;
+
+/**
+ * 상품 ID/imageUrl 프로젝션
+ * - 파일 이미지 마이그레이션에서 상품 엔티티 전체를 로딩하지 않고 ID 범위로 조회할 때 사용
+ */
+public interface ProductImageSourceView {
+    Long getId();
+    String getImageUrl();
+}
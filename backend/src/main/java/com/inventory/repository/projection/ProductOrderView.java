@@ -0,0 +1,14 @@
+package com.inventory.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 접수용 상품 프로젝션 (SKU 확인 및 가격 계산)
+ */
+public interface ProductOrderView {
+    Long getId();
+    String getSku();
+    String getName();
+    BigDecimal getPrice();
+    Boolean getIsActive();
+}
@@ -0,0 +1,11 @@
+package com.inventory.repository.projection;
+
+/**
+ * 상품 품번 컬럼 프로젝션 (호환 품번 백필용)
+ */
+public interface ProductPartNumbersView {
+    Long getId();
+    String getOemPartNumber();
+    String getAftermarketPartNumber();
+    String getCrossReferenceNumbers();
+}
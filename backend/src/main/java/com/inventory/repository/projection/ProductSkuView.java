@@ -0,0 +1,10 @@
+package com.inventory.repository.projection;
+
+/**
+ * 상품 ID/SKU 프로젝션
+ * - SKU 목록을 상품 ID로 변환할 때 사용 (엔티티 전체 로딩 없이 IN 조회)
+ */
+public interface ProductSkuView {
+    Long getId();
+    String getSku();
+}
@@ -0,0 +1,13 @@
+package com.inventory.repository.projection;
+
+/**
+ * 상품 재고 수준 프로젝션 (재고 부족 판정용)
+ */
+public interface ProductStockLevelView {
+    Long getId();
+    String getSku();
+    String getName();
+    Integer getQuantity();
+    Integer getMinimumQuantity();
+    Boolean getIsActive();
+}
@@ -0,0 +1,29 @@
+package com.inventory.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 조회용 인터페이스 프로젝션
+ * - ProductDto에 필요한 컬럼만 조회 (엔티티/연관관계 미로딩)
+ * - 카테고리는 LEFT JOIN, 이미지 개수는 서브쿼리로 함께 조회
+ */
+public interface ProductSummaryView {
+    Long getId();
+    String getSku();
+    String getName();
+    String getDescription();
+    BigDecimal getPrice();
+    BigDecimal getCost();
+    String getBarcode();
+    Integer getQuantity();
+    Integer getMinimumQuantity();
+    Boolean getIsActive();
+    Boolean getIsSerialized();
+    Long getCategoryId();
+    String getCategoryName();
+    String getImageUrl();
+    Long getImageCount();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,12 @@
+package com.inventory.repository.projection;
+
+/**
+ * 상품별 전체 창고 재고 합계 프로젝션
+ */
+public interface SkuStockTotalView {
+    Long getProductId();
+    String getSku();
+    String getName();
+    Long getLocationCount();
+    Long getQuantity();
+}
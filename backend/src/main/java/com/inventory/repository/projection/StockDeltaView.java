@@ -0,0 +1,10 @@
+package com.inventory.repository.projection;
+
+/**
+ * 재고별 저널 증감 합계 (inventoryId가 null이면 상품 수량)
+ */
+public interface StockDeltaView {
+    Long getProductId();
+    Long getInventoryId();
+    Long getDelta();
+}
@@ -0,0 +1,118 @@
+package com.inventory.service;
+
+import com.inventory.dto.ProductSearchCriteria;
+import com.inventory.dto.ProductSearchItem;
+import com.inventory.dto.ProductSearchResponse;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductSpecifications;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 카탈로그 고급 검색 서비스
+ * - 모든 필터를 SQL 조건으로 변환하여 DB에서 필터링/정렬/페이지 처리
+ * - 결과는 목록 컬럼만 담은 ProductSearchItem으로 반환
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CatalogSearchService {
+
+    // 허용 정렬 기준 (요청 값 -> 엔티티 속성)
+    private static final Map<String, String> SORT_PROPERTIES = Map.of(
+            "id", "id",
+            "sku", "sku",
+            "name", "name",
+            "price", "price",
+            "manufacturer", "manufacturerName",
+            "createdat", "createdAt");
+
+    private final ProductRepository productRepository;
+
+    @Value("${inventory.products.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${inventory.products.page.max-size:200}")
+    private int maxPageSize;
+
+    /**
+     * 조건 검색
+     *
+     * @param criteria 검색 조건 (null 항목은 미적용)
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기 (미지정 시 기본값, 최대값 초과 시 최대값)
+     * @param sort 정렬 기준 "필드[,asc|desc]" (기본 id,asc)
+     */
+    public ProductSearchResponse search(ProductSearchCriteria criteria, Integer page, Integer size, String sort) {
+        int pageNumber = resolvePage(page);
+        int pageSize = resolvePageSize(size);
+        Sort resolvedSort = resolveSort(sort);
+        log.info("카탈로그 검색 - criteria: {}, page: {}, size: {}, sort: {}", criteria, pageNumber, pageSize, resolvedSort);
+
+        Page<ProductSearchItem> result = productRepository.searchItems(
+                ProductSpecifications.matching(criteria),
+                PageRequest.of(pageNumber, pageSize, resolvedSort));
+        return new ProductSearchResponse(result.getContent(), pageNumber, pageSize,
+                result.getTotalElements(), result.getTotalPages(), describe(resolvedSort));
+    }
+
+    // 응답용 정렬 표기 (요청 형식과 동일: "필드,방향;...")
+    private static String describe(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + "," + order.getDirection().name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(";"));
+    }
+
+    private int resolvePage(Integer page) {
+        if (page == null) return 0;
+        if (page < 0) {
+            throw new IllegalArgumentException("page는 0 이상이어야 합니다: " + page);
+        }
+        return page;
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) return defaultPageSize;
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다: " + size);
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * 정렬 파라미터 해석
+     * - 동일 값이 많은 컬럼으로 정렬해도 페이지 간 순서가 고정되도록 id를 마지막 기준으로 추가
+     */
+    private Sort resolveSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by(Sort.Direction.ASC, "id");
+        }
+        String[] parts = sort.split(",");
+        if (parts.length > 2) {
+            throw new IllegalArgumentException("잘못된 정렬 형식입니다: " + sort + " (형식: 필드[,asc|desc])");
+        }
+        String property = SORT_PROPERTIES.get(parts[0].trim().toLowerCase(Locale.ROOT));
+        if (property == null) {
+            throw new IllegalArgumentException("지원되지 않는 정렬 기준입니다: " + parts[0].trim()
+                    + " (허용: id, sku, name, price, manufacturer, createdAt)");
+        }
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length == 2) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new IllegalArgumentException("잘못된 정렬 방향입니다: " + parts[1].trim() + " (허용: asc, desc)"));
+        }
+        Sort resolved = Sort.by(direction, property);
+        return "id".equals(property) ? resolved : resolved.and(Sort.by(Sort.Direction.ASC, "id"));
+    }
+}
@@ -0,0 +1,175 @@
+package com.inventory.service;
+
+import com.inventory.entity.PartType;
+import com.inventory.repository.CategoryRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.VehicleCompatibilityRepository;
+import com.inventory.repository.projection.PartTypeStatsView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카탈로그 통계 서비스
+ * - 상품 통계는 부품 타입별 GROUP BY 집계 한 번으로 계산 (전체/활성/OE/애프터마켓은 조건부 SUM의 합계)
+ * - 계산 결과를 스냅샷으로 보관하고 TTL 동안 재사용, 상품 변경(커밋 후) 시 즉시 무효화
+ * - 스냅샷마다 버전을 부여하여 대시보드가 ETag로 변경 여부만 확인할 수 있도록 함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogStatsService {
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final VehicleCompatibilityRepository vehicleCompatibilityRepository;
+
+    @Value("${inventory.catalog.stats.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    // 무효화 시마다 증가, 계산 시작 이후 무효화가 있었다면 계산 결과를 스냅샷으로 보관하지 않음
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Object loadLock = new Object();
+    private volatile Snapshot snapshot;
+    // 마지막으로 계산한 스냅샷 (무효화 후에도 유지, 값이 같으면 버전을 그대로 사용)
+    private Snapshot lastLoaded;
+
+    /**
+     * 현재 통계 스냅샷 (만료/무효화된 경우 다시 계산)
+     * - 동시에 여러 요청이 만료된 스냅샷을 만나도 계산은 한 번만 수행
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        synchronized (loadLock) {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current;
+            }
+            long loadGeneration = generation.get();
+            Snapshot loaded = load(loadGeneration);
+            lastLoaded = loaded;
+            if (generation.get() == loadGeneration) {
+                snapshot = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * 상품 변경 시 스냅샷 무효화 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * 차량 호환 정보 변경 시 스냅샷 무효화 (차량 호환 정보 수 포함)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehicleCompatibilityChanged(VehicleCompatibilityChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null
+                && current.generation == generation.get()
+                && System.nanoTime() - current.loadedAtNanos < ttlSeconds * 1_000_000_000L;
+    }
+
+    private Snapshot load(long loadGeneration) {
+        long startedAt = System.currentTimeMillis();
+        long total = 0;
+        long active = 0;
+        long oeQuality = 0;
+        long aftermarket = 0;
+
+        // 상품이 없는 부품 타입도 0으로 표시
+        Map<PartType, Long> byPartType = new EnumMap<>(PartType.class);
+        for (PartType partType : PartType.values()) {
+            byPartType.put(partType, 0L);
+        }
+        for (PartTypeStatsView row : productRepository.aggregateStatsByPartType()) {
+            total += row.getTotal();
+            active += nullToZero(row.getActive());
+            oeQuality += nullToZero(row.getOeQuality());
+            aftermarket += nullToZero(row.getAftermarket());
+            if (row.getPartType() != null) {
+                byPartType.put(row.getPartType(), row.getTotal());
+            }
+        }
+
+        Map<String, Long> partTypeStats = new LinkedHashMap<>();
+        byPartType.forEach((partType, count) -> partTypeStats.put(partType.name(), count));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalProducts", total);
+        stats.put("activeProducts", active);
+        stats.put("oeQualityProducts", oeQuality);
+        stats.put("aftermarketProducts", aftermarket);
+        stats.put("totalCategories", categoryRepository.count());
+        stats.put("totalVehicleCompatibilities", vehicleCompatibilityRepository.count());
+        stats.put("partTypeStats", partTypeStats);
+
+        // 통계 값이 이전 계산과 같으면 버전 유지 (TTL 만료만으로 ETag가 바뀌지 않도록)
+        long version = lastLoaded != null && lastLoaded.counts.equals(stats)
+                ? lastLoaded.version
+                : versionSequence.incrementAndGet();
+
+        Map<String, Object> response = new LinkedHashMap<>(stats);
+        LocalDateTime generatedAt = LocalDateTime.now();
+        response.put("generatedAt", generatedAt);
+        log.debug("카탈로그 통계 계산 - 상품 {}건, {}ms", total, System.currentTimeMillis() - startedAt);
+        return new Snapshot(version, loadGeneration, System.nanoTime(), generatedAt,
+                stats, Collections.unmodifiableMap(response));
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * 통계 스냅샷
+     */
+    public static class Snapshot {
+        private final long version;
+        private final long generation;
+        private final long loadedAtNanos;
+        private final LocalDateTime generatedAt;
+        // 버전 비교용 통계 값 (generatedAt 제외)
+        private final Map<String, Object> counts;
+        private final Map<String, Object> stats;
+
+        Snapshot(long version, long generation, long loadedAtNanos, LocalDateTime generatedAt,
+                 Map<String, Object> counts, Map<String, Object> stats) {
+            this.version = version;
+            this.generation = generation;
+            this.loadedAtNanos = loadedAtNanos;
+            this.generatedAt = generatedAt;
+            this.counts = counts;
+            this.stats = stats;
+        }
+
+        public long getVersion() { return version; }
+        public LocalDateTime getGeneratedAt() { return generatedAt; }
+        public Map<String, Object> getStats() { return stats; }
+    }
+}
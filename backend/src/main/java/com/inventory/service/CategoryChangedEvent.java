@@ -0,0 +1,18 @@
+package com.inventory.service;
+
+/**
+ * 카테고리 생성/수정/이동/삭제 이벤트
+ * - 트랜잭션 안에서 발행하면 커밋 후 리스너가 처리 (카테고리 트리 캐시 무효화)
+ */
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+
+    public CategoryChangedEvent(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+}
@@ -0,0 +1,226 @@
+package com.inventory.service;
+
+import com.inventory.dto.CategoryDto;
+import com.inventory.entity.Category;
+import com.inventory.entity.CategoryClosure;
+import com.inventory.repository.CategoryClosureRepository;
+import com.inventory.repository.CategoryRepository;
+import com.inventory.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 변경 서비스
+ * - 카테고리 생성/수정/이동/삭제 시 클로저 테이블(category_closures)을 같은 트랜잭션에서 갱신
+ * - 변경 후 CategoryChangedEvent 발행 (커밋 후 카테고리 트리 캐시 무효화)
+ * - 기동 시 클로저 테이블이 카테고리와 맞지 않으면 parent_id 계층으로 다시 구축
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class CategoryService {
+
+    private static final String INSERT_CLOSURE_SQL =
+            "INSERT INTO category_closures (ancestor_id, descendant_id, depth) VALUES (?, ?, ?)";
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository closureRepository;
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Category createCategory(CategoryDto categoryDto) {
+        Category category = createCategory(categoryDto.getName(), categoryDto.getDescription(),
+                categoryDto.getParentId(), categoryDto.getSortOrder());
+        if (Boolean.FALSE.equals(categoryDto.getIsActive())) {
+            category.setIsActive(false);
+        }
+        return category;
+    }
+
+    /**
+     * 카테고리 생성 (단계는 상위 카테고리 기준으로 계산)
+     *
+     * @param parentId 상위 카테고리 ID (null이면 대분류)
+     */
+    public Category createCategory(String name, String description, Long parentId, Integer sortOrder) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("카테고리 이름을 입력해주세요.");
+        }
+        Category parent = parentId != null ? findCategory(parentId) : null;
+
+        Category category = new Category();
+        category.setName(name);
+        category.setDescription(description);
+        category.setParent(parent);
+        category.setLevel(parent != null ? parent.getLevel() + 1 : 0);
+        category.setSortOrder(sortOrder != null ? sortOrder : 0);
+        category.setIsActive(true);
+        Category saved = categoryRepository.save(category);
+
+        closureRepository.save(new CategoryClosure(saved.getId(), saved.getId(), 0));
+        if (parent != null) {
+            closureRepository.insertPathsFromParent(saved.getId(), parent.getId());
+        }
+        log.info("카테고리 생성: {} (상위: {})", saved.getId(), parentId);
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
+        return saved;
+    }
+
+    /**
+     * 카테고리 속성 수정 (이름/설명/활성 여부/정렬 순서, null 항목은 유지)
+     * - 상위 카테고리 변경은 moveCategory 사용
+     *
+     * @return 수정된 카테고리 (없으면 null)
+     */
+    public Category updateCategory(Long id, CategoryDto categoryDto) {
+        return categoryRepository.findById(id)
+                .map(category -> {
+                    if (categoryDto.getName() != null) {
+                        if (categoryDto.getName().isBlank()) {
+                            throw new IllegalArgumentException("카테고리 이름을 입력해주세요.");
+                        }
+                        category.setName(categoryDto.getName());
+                    }
+                    if (categoryDto.getDescription() != null) {
+                        category.setDescription(categoryDto.getDescription());
+                    }
+                    if (categoryDto.getIsActive() != null) {
+                        category.setIsActive(categoryDto.getIsActive());
+                    }
+                    if (categoryDto.getSortOrder() != null) {
+                        category.setSortOrder(categoryDto.getSortOrder());
+                    }
+                    Category saved = categoryRepository.save(category);
+                    eventPublisher.publishEvent(new CategoryChangedEvent(id));
+                    return saved;
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 카테고리 이동 (하위 카테고리 포함)
+     * - 서브트리 밖 조상 경로를 지우고 새 상위 카테고리의 조상 × 서브트리 경로를 추가
+     * - 서브트리 전체의 단계를 이동한 만큼 조정
+     *
+     * @param parentId 새 상위 카테고리 ID (null이면 대분류로 이동)
+     */
+    public Category moveCategory(Long id, Long parentId) {
+        Category category = findCategory(id);
+        Category parent = parentId != null ? findCategory(parentId) : null;
+        if (parent != null && closureRepository.existsByAncestorIdAndDescendantId(id, parent.getId())) {
+            throw new IllegalArgumentException("자기 자신 또는 하위 카테고리 아래로 이동할 수 없습니다: " + parentId);
+        }
+
+        List<Long> subtreeIds = closureRepository.findSubtreeIds(id);
+        closureRepository.deleteExternalPaths(subtreeIds);
+        if (parent != null) {
+            closureRepository.insertSubtreePaths(id, parent.getId());
+        }
+
+        int newLevel = parent != null ? parent.getLevel() + 1 : 0;
+        int delta = newLevel - category.getLevel();
+        category.setParent(parent);
+        category.setLevel(newLevel);
+        Category saved = categoryRepository.save(category);
+
+        List<Long> descendantIds = new ArrayList<>(subtreeIds);
+        descendantIds.remove(id);
+        if (delta != 0 && !descendantIds.isEmpty()) {
+            categoryRepository.shiftLevels(descendantIds, delta);
+        }
+        log.info("카테고리 이동: {} → 상위 {} (하위 {}개 포함)", id, parentId, descendantIds.size());
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
+        return saved;
+    }
+
+    /**
+     * 카테고리 삭제 (하위 카테고리나 소속 상품이 없는 경우만)
+     *
+     * @return 삭제 여부 (없으면 false)
+     */
+    public boolean deleteCategory(Long id) {
+        if (!categoryRepository.existsById(id)) {
+            return false;
+        }
+        if (categoryRepository.existsByParentId(id)) {
+            throw new IllegalStateException("하위 카테고리가 있어 삭제할 수 없습니다: " + id);
+        }
+        if (productRepository.existsByCategoryId(id)) {
+            throw new IllegalStateException("카테고리에 속한 상품이 있어 삭제할 수 없습니다: " + id);
+        }
+        closureRepository.deleteByDescendantId(id);
+        categoryRepository.deleteById(id);
+        log.info("카테고리 삭제: {}", id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
+        return true;
+    }
+
+    /**
+     * 기동 완료 시 클로저 테이블 확인 (클로저 도입 전 데이터 또는 직접 수정된 데이터)
+     * - 카테고리마다 자기 자신 경로가 하나씩 있어야 하므로 개수가 다르면 다시 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyClosureOnReady() {
+        long categories = categoryRepository.count();
+        long selfPaths = closureRepository.countByDepth(0);
+        if (categories != selfPaths) {
+            log.info("카테고리 클로저 테이블 불일치 - 카테고리 {}개, 자기 경로 {}개, 다시 구축합니다", categories, selfPaths);
+            rebuildClosure();
+        }
+    }
+
+    /**
+     * parent_id 계층으로 클로저 테이블 전체 재구축
+     *
+     * @return 생성된 경로 수
+     */
+    public int rebuildClosure() {
+        Map<Long, Long> parentById = new HashMap<>();
+        for (Object[] link : categoryRepository.findAllParentLinks()) {
+            parentById.put((Long) link[0], (Long) link[1]);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (Long id : parentById.keySet()) {
+            // 자기 자신부터 위로 올라가며 조상 경로 생성 (잘못된 순환 데이터는 중단)
+            Set<Long> visited = new HashSet<>();
+            Long ancestor = id;
+            int depth = 0;
+            while (ancestor != null && visited.add(ancestor)) {
+                rows.add(new Object[]{ancestor, id, depth++});
+                ancestor = parentById.get(ancestor);
+            }
+            if (ancestor != null) {
+                log.warn("⚠️ 카테고리 계층에 순환이 있습니다 - 카테고리 ID: {}", id);
+            }
+        }
+
+        closureRepository.deleteAllPaths();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CLOSURE_SQL, rows);
+        }
+        log.info("✅ 카테고리 클로저 테이블 구축 - 카테고리 {}개, 경로 {}개", parentById.size(), rows.size());
+        eventPublisher.publishEvent(new CategoryChangedEvent(null));
+        return rows.size();
+    }
+
+    private Category findCategory(Long id) {
+        return categoryRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + id));
+    }
+}
@@ -0,0 +1,140 @@
+package com.inventory.service;
+
+import com.inventory.dto.CategoryTreeNode;
+import com.inventory.repository.CategoryClosureRepository;
+import com.inventory.repository.CategoryRepository;
+import com.inventory.repository.projection.CategoryProductCountView;
+import com.inventory.repository.projection.CategoryTreeRowView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리 트리 서비스
+ * - 활성 카테고리 전체를 한 번에 조회하여 메모리에서 트리로 조립 (노드별 자식 조회 없음)
+ * - 노드별 상품 수는 클로저 테이블 집계 한 번으로 계산
+ * - 트리 구조는 카테고리 변경 시까지, 상품 수는 상품 변경 시까지 캐시 (각각 커밋 후 무효화)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeService {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository closureRepository;
+
+    // 무효화 시마다 증가, 조회 시작 이후 무효화가 있었다면 결과를 캐시하지 않음
+    private final AtomicLong structureGeneration = new AtomicLong();
+    private final AtomicLong countGeneration = new AtomicLong();
+    private final Object loadLock = new Object();
+    private volatile CachedTree cached;
+
+    /**
+     * 활성 카테고리 트리 (대분류 목록, 정렬 순서 기준)
+     * - 비활성 카테고리와 그 하위 카테고리는 제외
+     */
+    public List<CategoryTreeNode> getTree() {
+        CachedTree current = cached;
+        if (isFresh(current)) {
+            return current.roots;
+        }
+        synchronized (loadLock) {
+            current = cached;
+            if (isFresh(current)) {
+                return current.roots;
+            }
+            long structureVersion = structureGeneration.get();
+            long countVersion = countGeneration.get();
+
+            // 구조가 그대로면 행을 재사용하고 상품 수만 다시 집계
+            List<CategoryTreeRowView> rows = current != null && current.structureVersion == structureVersion
+                    ? current.rows
+                    : categoryRepository.findActiveTreeRows();
+            Map<Long, CategoryProductCountView> counts = new HashMap<>();
+            for (CategoryProductCountView count : closureRepository.countProductsBySubtree()) {
+                counts.put(count.getCategoryId(), count);
+            }
+
+            CachedTree loaded = new CachedTree(structureVersion, countVersion, rows, assemble(rows, counts));
+            if (structureGeneration.get() == structureVersion && countGeneration.get() == countVersion) {
+                cached = loaded;
+            }
+            log.debug("카테고리 트리 조립 - 카테고리 {}개", rows.size());
+            return loaded.roots;
+        }
+    }
+
+    /**
+     * 카테고리 변경 시 트리 무효화 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     * - 활성 여부가 바뀌면 상품 수 집계 대상도 바뀌므로 함께 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        structureGeneration.incrementAndGet();
+        countGeneration.incrementAndGet();
+    }
+
+    /**
+     * 상품 변경 시 상품 수만 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        countGeneration.incrementAndGet();
+    }
+
+    private boolean isFresh(CachedTree current) {
+        return current != null
+                && current.structureVersion == structureGeneration.get()
+                && current.countVersion == countGeneration.get();
+    }
+
+    /**
+     * 행 목록 → 트리 (형제 순서는 조회 정렬 순서 유지)
+     */
+    private static List<CategoryTreeNode> assemble(List<CategoryTreeRowView> rows,
+                                                   Map<Long, CategoryProductCountView> counts) {
+        Map<Long, CategoryTreeNode> nodes = new HashMap<>(rows.size() * 2);
+        for (CategoryTreeRowView row : rows) {
+            CategoryProductCountView count = counts.get(row.getId());
+            nodes.put(row.getId(), new CategoryTreeNode(row.getId(), row.getName(), row.getDescription(),
+                    row.getLevel(), row.getSortOrder(),
+                    count != null ? count.getProductCount() : 0L,
+                    count != null ? count.getTotalProductCount() : 0L,
+                    new ArrayList<>()));
+        }
+        List<CategoryTreeNode> roots = new ArrayList<>();
+        for (CategoryTreeRowView row : rows) {
+            CategoryTreeNode node = nodes.get(row.getId());
+            CategoryTreeNode parent = row.getParentId() != null ? nodes.get(row.getParentId()) : null;
+            if (parent != null) {
+                parent.getChildren().add(node);
+            } else if (row.getParentId() == null) {
+                roots.add(node);
+            }
+        }
+        return Collections.unmodifiableList(roots);
+    }
+
+    private static class CachedTree {
+        private final long structureVersion;
+        private final long countVersion;
+        private final List<CategoryTreeRowView> rows;
+        private final List<CategoryTreeNode> roots;
+
+        CachedTree(long structureVersion, long countVersion, List<CategoryTreeRowView> rows,
+                   List<CategoryTreeNode> roots) {
+            this.structureVersion = structureVersion;
+            this.countVersion = countVersion;
+            this.rows = rows;
+            this.roots = roots;
+        }
+    }
+}
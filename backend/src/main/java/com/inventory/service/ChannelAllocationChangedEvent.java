@@ -0,0 +1,22 @@
+package com.inventory.service;
+
+import com.inventory.dto.ChannelAllocationDelta;
+
+import java.util.List;
+
+/**
+ * 채널 노출 수량 변경 이벤트 (재고 배분 재계산 트랜잭션에서 발행, 커밋 후 처리)
+ * - 노출 수량이나 상태가 바뀐 채널 상품만 포함 (판매 채널 재고 전송 대상)
+ */
+public class ChannelAllocationChangedEvent {
+
+    private final List<ChannelAllocationDelta> changes;
+
+    public ChannelAllocationChangedEvent(List<ChannelAllocationDelta> changes) {
+        this.changes = List.copyOf(changes);
+    }
+
+    public List<ChannelAllocationDelta> getChanges() {
+        return changes;
+    }
+}
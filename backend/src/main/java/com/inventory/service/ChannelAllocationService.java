@@ -0,0 +1,196 @@
+package com.inventory.service;
+
+import com.inventory.dto.ChannelAllocationDelta;
+import com.inventory.entity.ChannelProduct;
+import com.inventory.repository.ChannelProductRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.projection.ChannelAllocationView;
+import com.inventory.repository.projection.ProductStockLevelView;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 채널 재고 배분 서비스
+ * - 상품 수량(예약 차감 후)에서 안전 재고를 뺀 판매 가능 재고를 채널 상품별 규칙(weight/floor/cap)으로 배분
+ *   (채널 노출 수량 합계가 판매 가능 재고를 넘지 않으므로 매장 판매와 채널 판매가 겹쳐도 초과 판매 없음)
+ * - StockChangedEvent / ProductChangedEvent(커밋 후)로 변경된 상품만 재계산, 변경된 상품 ID는 CoalescingRefresher로
+ *   모아 단일 스레드에서 상품/채널 상품 IN 조회 각 한 번으로 처리 (전체 채널 상품 수와 무관)
+ * - 노출 수량(배분 수량 - 판매 수량)이나 상태가 바뀐 채널 상품만 배치 UPDATE 후 ChannelAllocationChangedEvent 발행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChannelAllocationService {
+
+    private static final String UPDATE_ALLOCATION_SQL =
+            "UPDATE channel_products SET allocated_quantity = ?, status = ? WHERE id = ?";
+
+    // 배분 대상 상태 (DRAFT/PAUSED/DELETED는 0으로 배분하고 상태는 유지)
+    private static final Set<ChannelProduct.Status> LISTED = EnumSet.of(ChannelProduct.Status.ACTIVE,
+            ChannelProduct.Status.OUT_OF_STOCK, ChannelProduct.Status.SYNC_PENDING, ChannelProduct.Status.SYNC_FAILED);
+
+    private final ProductRepository productRepository;
+    private final ChannelProductRepository channelProductRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${inventory.channels.allocation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${inventory.channels.allocation.safety-stock:0}")
+    private int safetyStock;
+
+    @Value("${inventory.channels.allocation.chunk-size:500}")
+    private int chunkSize;
+
+    private CoalescingRefresher refresher;
+
+    @PostConstruct
+    void init() {
+        refresher = new CoalescingRefresher("channel-allocation", "채널 재고 배분", chunkSize, this::recompute);
+    }
+
+    /**
+     * 재고 수량 변경 반영 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        requestRecompute(event.getProductIds());
+    }
+
+    /**
+     * 상품 변경 반영 (활성 여부 변경, 삭제)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        requestRecompute(List.of(event.getProductId()));
+    }
+
+    /**
+     * 재계산 예약 (채널 상품 등록/규칙 변경 시)
+     */
+    public void requestRecompute(Collection<Long> productIds) {
+        if (!enabled) {
+            return;
+        }
+        refresher.enqueue(productIds);
+    }
+
+    /**
+     * 즉시 재계산 (재계산 스레드에서 실행, 완료까지 대기)
+     *
+     * @return 노출 수량/상태가 바뀐 채널 상품
+     */
+    public List<ChannelAllocationDelta> recomputeNow(Long productId) throws InterruptedException {
+        if (!enabled) {
+            throw new IllegalStateException("채널 재고 배분이 비활성화되어 있습니다.");
+        }
+        try {
+            return refresher.submit(() -> recompute(List.of(productId))).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("채널 재고 배분 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * 대기 중인 재계산이 모두 끝날 때까지 대기
+     */
+    public void awaitIdle() throws InterruptedException {
+        refresher.awaitIdle();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+
+    private List<ChannelAllocationDelta> recompute(List<Long> productIds) {
+        List<ChannelAllocationDelta> changes = transactionTemplate.execute(status -> {
+            Map<Long, List<ChannelAllocationView>> listingsByProduct = new LinkedHashMap<>();
+            for (ChannelAllocationView listing : channelProductRepository.findAllocationViewsByProductIdIn(productIds)) {
+                listingsByProduct.computeIfAbsent(listing.getProductId(), id -> new ArrayList<>()).add(listing);
+            }
+            if (listingsByProduct.isEmpty()) {
+                return List.<ChannelAllocationDelta>of();
+            }
+            Map<Long, ProductStockLevelView> levels = new HashMap<>();
+            for (ProductStockLevelView level : productRepository.findStockLevels(listingsByProduct.keySet())) {
+                levels.put(level.getId(), level);
+            }
+
+            List<ChannelAllocationDelta> deltas = new ArrayList<>();
+            List<Object[]> updates = new ArrayList<>();
+            listingsByProduct.forEach((productId, listings) ->
+                    allocate(levels.get(productId), productId, listings, deltas, updates));
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_ALLOCATION_SQL, updates);
+                eventPublisher.publishEvent(new ChannelAllocationChangedEvent(deltas));
+            }
+            return deltas;
+        });
+        if (!changes.isEmpty()) {
+            log.info("채널 재고 배분 - 상품 {}개, 변경 채널 {}건", productIds.size(), changes.size());
+        }
+        return changes;
+    }
+
+    private void allocate(ProductStockLevelView level, Long productId, List<ChannelAllocationView> listings,
+                          List<ChannelAllocationDelta> deltas, List<Object[]> updates) {
+        int available = 0;
+        if (level != null && Boolean.TRUE.equals(level.getIsActive()) && level.getQuantity() != null) {
+            available = Math.max(level.getQuantity() - safetyStock, 0);
+        }
+        List<ChannelAllocator.Rule> rules = new ArrayList<>(listings.size());
+        for (ChannelAllocationView listing : listings) {
+            rules.add(LISTED.contains(listing.getStatus())
+                    ? new ChannelAllocator.Rule(listing.getAllocationWeight(), listing.getAllocationFloor(),
+                            listing.getAllocationCap())
+                    : new ChannelAllocator.Rule(0, 0, 0));
+        }
+        int[] quantities = ChannelAllocator.allocate(available, rules);
+
+        for (int i = 0; i < listings.size(); i++) {
+            ChannelAllocationView listing = listings.get(i);
+            int sold = listing.getSoldQuantity() != null ? listing.getSoldQuantity() : 0;
+            Integer previous = listing.getAllocatedQuantity() != null ? listing.getAllocatedQuantity() - sold : null;
+            ChannelProduct.Status status = listing.getStatus();
+            if (status == ChannelProduct.Status.ACTIVE && quantities[i] == 0) {
+                status = ChannelProduct.Status.OUT_OF_STOCK;
+            } else if (status == ChannelProduct.Status.OUT_OF_STOCK && quantities[i] > 0) {
+                status = ChannelProduct.Status.ACTIVE;
+            }
+            if (Objects.equals(previous, quantities[i]) && status == listing.getStatus()) {
+                continue;
+            }
+            // 노출 수량 = 배분 수량 - 판매 수량이 되도록 배분 수량 저장
+            updates.add(new Object[]{sold + quantities[i], status != null ? status.name() : null, listing.getId()});
+            deltas.add(new ChannelAllocationDelta(listing.getId(), productId, level != null ? level.getSku() : null,
+                    listing.getChannel(), listing.getPlatformProductId(), previous, quantities[i],
+                    status != null ? status.name() : null));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.inventory.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 상품의 판매 가능 재고를 채널별 노출 수량으로 배분
+ * - 1단계: floor(최소 보장 수량)를 가중치가 큰 채널부터 채움 (재고가 모자라면 뒤 채널은 일부/0)
+ * - 2단계: 남은 재고를 weight 비율로 배분, cap에 닿은 채널은 cap으로 고정하고 나머지 채널끼리 다시 배분
+ * - 나눠떨어지지 않는 나머지는 소수점 이하가 큰 채널부터 1개씩 (같으면 가중치가 큰 채널, 입력 순서)
+ * - 배분 합계는 판매 가능 재고를 넘지 않음 (모든 채널이 cap에 닿으면 남는 재고는 배분하지 않음)
+ */
+final class ChannelAllocator {
+
+    private ChannelAllocator() {
+    }
+
+    /**
+     * @param available 판매 가능 재고 (0 이하면 전 채널 0)
+     * @param rules     채널별 배분 규칙 (입력 순서 = 결과 순서)
+     * @return 채널별 노출 수량
+     */
+    static int[] allocate(int available, List<Rule> rules) {
+        int size = rules.size();
+        int[] allocated = new int[size];
+        int remaining = Math.max(available, 0);
+        if (remaining == 0 || size == 0) {
+            return allocated;
+        }
+
+        List<Integer> byWeight = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            byWeight.add(i);
+        }
+        byWeight.sort(Comparator.comparingInt((Integer i) -> -rules.get(i).weight).thenComparingInt(i -> i));
+
+        for (int i : byWeight) {
+            int floor = Math.min(rules.get(i).floor, rules.get(i).cap);
+            int granted = Math.min(floor, remaining);
+            allocated[i] = granted;
+            remaining -= granted;
+        }
+
+        List<Integer> open = new ArrayList<>(size);
+        for (int i : byWeight) {
+            if (rules.get(i).weight > 0 && allocated[i] < rules.get(i).cap) {
+                open.add(i);
+            }
+        }
+        while (remaining > 0 && !open.isEmpty()) {
+            long totalWeight = 0;
+            for (int i : open) {
+                totalWeight += rules.get(i).weight;
+            }
+            // 몫만으로 cap에 닿는 채널은 cap으로 고정하고 남은 재고를 다시 배분
+            List<Integer> capped = new ArrayList<>();
+            for (int i : open) {
+                long share = remaining * (long) rules.get(i).weight / totalWeight;
+                if (share >= rules.get(i).cap - allocated[i]) {
+                    capped.add(i);
+                }
+            }
+            if (!capped.isEmpty()) {
+                for (int i : capped) {
+                    remaining -= rules.get(i).cap - allocated[i];
+                    allocated[i] = rules.get(i).cap;
+                }
+                open.removeAll(capped);
+                continue;
+            }
+
+            // 남은 채널은 모두 몫 + 1 ≤ cap 이므로 나머지를 1개씩 나눠도 cap을 넘지 않음
+            long[] fractions = new long[size];
+            int distributed = 0;
+            for (int i : open) {
+                long weighted = remaining * (long) rules.get(i).weight;
+                int share = (int) (weighted / totalWeight);
+                fractions[i] = weighted % totalWeight;
+                allocated[i] += share;
+                distributed += share;
+            }
+            int leftover = remaining - distributed;
+            List<Integer> byFraction = new ArrayList<>(open);
+            byFraction.sort(Comparator.comparingLong((Integer i) -> -fractions[i])
+                    .thenComparingInt(i -> -rules.get(i).weight)
+                    .thenComparingInt(i -> i));
+            for (int k = 0; k < leftover; k++) {
+                allocated[byFraction.get(k)]++;
+            }
+            remaining = 0;
+        }
+        return allocated;
+    }
+
+    /**
+     * 채널 배분 규칙 (weight 0이면 floor만 받음, cap 없으면 Integer.MAX_VALUE)
+     */
+    static final class Rule {
+        final int weight;
+        final int floor;
+        final int cap;
+
+        Rule(Integer weight, Integer floor, Integer cap) {
+            this.weight = weight != null ? Math.max(weight, 0) : 1;
+            this.floor = floor != null ? Math.max(floor, 0) : 0;
+            this.cap = cap != null ? Math.max(cap, 0) : Integer.MAX_VALUE;
+        }
+    }
+}
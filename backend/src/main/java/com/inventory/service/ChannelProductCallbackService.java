@@ -0,0 +1,203 @@
+package com.inventory.service;
+
+import com.inventory.dto.ChannelProductDto;
+import com.inventory.dto.RegistrationCallbackRequest;
+import com.inventory.entity.ChannelProduct;
+import com.inventory.repository.ChannelProductRepository;
+import com.inventory.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 등록서비스 콜백 반영 서비스 (플랫폼 등록 결과 → 채널 상품)
+ * - (product_id, channel) 유니크 키 기준 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 생성/갱신
+ *   (같은 상품의 콜백이 동시에 들어와도 행이 중복 생성되지 않음, 기존 행 조회 후 Java 비교 없음)
+ * - 일괄 콜백은 상품 존재 여부 IN 조회 1회 + JDBC 배치 upsert 1회 (키 순으로 정렬하여 잠금 순서 고정)
+ * - 반영 후(커밋 후) 해당 상품의 채널 재고 배분 재계산 요청
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChannelProductCallbackService {
+
+    // 가격/수량은 전달된 경우만 갱신, 신규 행의 배분 수량은 전달값 또는 0 (자동 배분 중이면 수량은 항상 무시)
+    private static final String UPSERT_SQL =
+            "INSERT INTO channel_products (product_id, channel, channel_price, allocated_quantity, sold_quantity, " +
+            "status, platform_product_id, platform_url, allocation_weight, allocation_floor) " +
+            "VALUES (?, ?, ?, ?, 0, ?, ?, ?, 1, 0) " +
+            "ON DUPLICATE KEY UPDATE channel = VALUES(channel), " +
+            "channel_price = COALESCE(VALUES(channel_price), channel_price), " +
+            "allocated_quantity = COALESCE(?, allocated_quantity), status = VALUES(status), " +
+            "platform_product_id = VALUES(platform_product_id), platform_url = VALUES(platform_url)";
+
+    private static final Comparator<RegistrationCallbackRequest> BY_KEY = Comparator
+            .comparing(RegistrationCallbackRequest::getProductId)
+            .thenComparing(RegistrationCallbackRequest::getChannel);
+
+    private final ChannelProductRepository channelProductRepository;
+    private final ProductRepository productRepository;
+    private final ChannelAllocationService channelAllocationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${inventory.channels.callback.batch-max-items:500}")
+    private int batchMaxItems;
+
+    /**
+     * 콜백 한 건 반영
+     *
+     * @throws IllegalArgumentException 상품 ID/채널이 없거나 상품이 없는 경우
+     */
+    public ChannelProductDto upsert(RegistrationCallbackRequest request) {
+        String rejection = validate(request);
+        if (rejection != null) {
+            throw new IllegalArgumentException(rejection);
+        }
+        if (!productRepository.existsById(request.getProductId())) {
+            throw new IllegalArgumentException("상품이 없습니다: " + request.getProductId());
+        }
+        RegistrationCallbackRequest normalized = normalize(request);
+        ChannelProduct saved = transactionTemplate.execute(status -> {
+            jdbcTemplate.update(UPSERT_SQL, toParameters(normalized, channelAllocationService.isEnabled()));
+            return channelProductRepository.findWithProductByProductIdAndChannel(
+                    normalized.getProductId(), normalized.getChannel()).orElseThrow();
+        });
+        channelAllocationService.requestRecompute(List.of(normalized.getProductId()));
+        return ChannelProductDto.fromEntity(saved);
+    }
+
+    /**
+     * 콜백 여러 건 반영 (잘못된 항목만 제외하고 나머지는 한 트랜잭션에서 반영)
+     *
+     * @throws IllegalArgumentException 항목이 없거나 최대 건수를 넘는 경우
+     */
+    public BatchResult upsertAll(List<RegistrationCallbackRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("콜백 항목을 입력해주세요.");
+        }
+        if (requests.size() > batchMaxItems) {
+            throw new IllegalArgumentException("콜백 항목은 최대 " + batchMaxItems + "건까지 보낼 수 있습니다.");
+        }
+
+        Set<Long> productIds = new HashSet<>();
+        for (RegistrationCallbackRequest request : requests) {
+            if (request != null && request.getProductId() != null) {
+                productIds.add(request.getProductId());
+            }
+        }
+        Set<Long> existing = productIds.isEmpty() ? Set.of() : new HashSet<>(productRepository.findExistingIds(productIds));
+
+        List<RegistrationCallbackRequest> accepted = new ArrayList<>(requests.size());
+        List<Map<String, Object>> rejected = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            RegistrationCallbackRequest request = requests.get(i);
+            String rejection = validate(request);
+            if (rejection == null && !existing.contains(request.getProductId())) {
+                rejection = "상품이 없습니다: " + request.getProductId();
+            }
+            if (rejection != null) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("index", i);
+                item.put("productId", request != null ? request.getProductId() : null);
+                item.put("channel", request != null ? request.getChannel() : null);
+                item.put("error", rejection);
+                rejected.add(item);
+                continue;
+            }
+            accepted.add(normalize(request));
+        }
+
+        if (!accepted.isEmpty()) {
+            // 같은 키는 요청 순서대로 반영 (정렬은 안정 정렬)
+            List<RegistrationCallbackRequest> ordered = new ArrayList<>(accepted);
+            ordered.sort(BY_KEY);
+            boolean allocationEnabled = channelAllocationService.isEnabled();
+            List<Object[]> rows = new ArrayList<>(ordered.size());
+            for (RegistrationCallbackRequest request : ordered) {
+                rows.add(toParameters(request, allocationEnabled));
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, rows));
+
+            Set<Long> changedProductIds = new LinkedHashSet<>();
+            for (RegistrationCallbackRequest request : accepted) {
+                changedProductIds.add(request.getProductId());
+            }
+            channelAllocationService.requestRecompute(changedProductIds);
+        }
+        log.info("등록 콜백 일괄 반영 - 요청 {}건, 반영 {}건, 제외 {}건", requests.size(), accepted.size(), rejected.size());
+        return new BatchResult(requests.size(), accepted.size(), rejected);
+    }
+
+    private static String validate(RegistrationCallbackRequest request) {
+        if (request == null || request.getProductId() == null || request.getChannel() == null
+                || request.getChannel().isBlank()) {
+            return "productId와 channel을 입력해주세요.";
+        }
+        if (request.getAllocatedQuantity() != null && request.getAllocatedQuantity() < 0) {
+            return "allocatedQuantity는 0 이상이어야 합니다.";
+        }
+        return null;
+    }
+
+    private static RegistrationCallbackRequest normalize(RegistrationCallbackRequest request) {
+        return new RegistrationCallbackRequest(request.getProductId(), normalizeChannelCode(request.getChannel()),
+                request.getPlatformProductId(), request.getPlatformUrl(), request.getChannelPrice(),
+                request.getAllocatedQuantity());
+    }
+
+    // platformProductId 가 없으면 대기(SYNC_PENDING)로 표시, 있으면 확정(ACTIVE)
+    // 자동 배분 중이면 배분 수량은 ChannelAllocationService만 쓰므로 콜백 값은 무시 (신규 행은 0, 기존 행은 유지)
+    private static Object[] toParameters(RegistrationCallbackRequest request, boolean allocationEnabled) {
+        boolean pending = request.getPlatformProductId() == null || request.getPlatformProductId().isBlank();
+        ChannelProduct.Status status = pending ? ChannelProduct.Status.SYNC_PENDING : ChannelProduct.Status.ACTIVE;
+        Integer allocatedQuantity = allocationEnabled ? null : request.getAllocatedQuantity();
+        return new Object[]{request.getProductId(), request.getChannel(), request.getChannelPrice(),
+                allocatedQuantity != null ? allocatedQuantity : 0, status.name(),
+                request.getPlatformProductId(), request.getPlatformUrl(), allocatedQuantity};
+    }
+
+    /**
+     * 채널 코드 정규화: 프론트 enum과 일치하도록 통일 (구 번개장터 코드 → BUNGAE_MARKET)
+     */
+    static String normalizeChannelCode(String channel) {
+        String trimmed = channel.trim();
+        String upper = trimmed.toUpperCase(Locale.ROOT);
+        if (upper.equals("BUNJANG") || upper.equals("BUNGAE") || upper.equals("BUNGAE-JANGTER")) {
+            return "BUNGAE_MARKET";
+        }
+        return trimmed;
+    }
+
+    /**
+     * 일괄 콜백 결과 (rejected: 요청 순번/사유)
+     */
+    public static class BatchResult {
+        private final int received;
+        private final int upserted;
+        private final List<Map<String, Object>> rejected;
+
+        BatchResult(int received, int upserted, List<Map<String, Object>> rejected) {
+            this.received = received;
+            this.upserted = upserted;
+            this.rejected = rejected;
+        }
+
+        public int getReceived() { return received; }
+        public int getUpserted() { return upserted; }
+        public List<Map<String, Object>> getRejected() { return rejected; }
+    }
+}
@@ -0,0 +1,197 @@
+package com.inventory.service;
+
+import com.inventory.entity.MigrationCheckpoint;
+import com.inventory.repository.MigrationCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 체크포인트 기반 청크 작업 실행기 (상품 ID 오름차순, 재기동 후 이어서 진행)
+ * - 작업 1개당 전용 백그라운드 스레드 1개, 동시에 한 번만 실행
+ * - 청크 처리기가 청크 커밋과 같은 트랜잭션에서 체크포인트를 갱신하므로 실패 시 마지막 커밋 청크 다음부터 재처리
+ * - 중지 요청은 현재 청크 커밋 후 반영
+ * - 상태 조회용 최근 오류/건너뜀 사유 보관
+ */
+@Slf4j
+class CheckpointedJobRunner {
+
+    // 상태 조회용으로 보관하는 최근 오류/건너뜀 사유 수
+    private static final int MAX_RECENT_MESSAGES = 100;
+
+    /**
+     * 청크 1개 처리
+     */
+    interface ChunkProcessor {
+        /**
+         * 체크포인트 다음 청크를 처리하고 체크포인트와 함께 커밋
+         *
+         * @return 커밋된 체크포인트 (더 처리할 상품이 없으면 null)
+         */
+        MigrationCheckpoint processNext(MigrationCheckpoint checkpoint);
+    }
+
+    private final String jobName;
+    private final String displayName;
+    private final MigrationCheckpointRepository checkpointRepository;
+    private final ChunkProcessor processor;
+    private final ExecutorService executor;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean stopRequested = new AtomicBoolean(false);
+    private final Deque<String> recentErrors = new ArrayDeque<>();
+    private final Deque<String> recentSkipped = new ArrayDeque<>();
+    private volatile MigrationCheckpoint progress;
+
+    /**
+     * @param jobName 체크포인트 작업 이름 (migration_checkpoints.job_name)
+     * @param displayName 로그 표시 이름
+     * @param threadName 백그라운드 스레드 이름
+     */
+    CheckpointedJobRunner(String jobName, String displayName, String threadName,
+                          MigrationCheckpointRepository checkpointRepository, ChunkProcessor processor) {
+        this.jobName = jobName;
+        this.displayName = displayName;
+        this.checkpointRepository = checkpointRepository;
+        this.processor = processor;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 작업 시작 (체크포인트 다음 상품부터)
+     *
+     * @param restart true면 체크포인트를 초기화하고 처음부터 실행 (완료된 작업도 처음부터 실행)
+     * @return 새로 시작했으면 true, 이미 실행 중이면 false
+     */
+    boolean start(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            MigrationCheckpoint checkpoint = checkpointRepository.findById(jobName)
+                .orElseGet(() -> new MigrationCheckpoint(jobName));
+            if (restart || checkpoint.getStatus() == MigrationCheckpoint.Status.COMPLETED) {
+                checkpoint = new MigrationCheckpoint(jobName);
+                synchronized (this) {
+                    recentErrors.clear();
+                    recentSkipped.clear();
+                }
+            }
+            if (checkpoint.getStartedAt() == null) {
+                checkpoint.setStartedAt(LocalDateTime.now());
+            }
+            checkpoint.setStatus(MigrationCheckpoint.Status.RUNNING);
+            checkpoint.setFinishedAt(null);
+            checkpoint.setLastError(null);
+            progress = checkpointRepository.save(checkpoint);
+            stopRequested.set(false);
+            executor.submit(this::run);
+            return true;
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 중지 요청 (현재 청크 커밋 후 중지)
+     */
+    void stop() {
+        stopRequested.set(true);
+    }
+
+    private void run() {
+        MigrationCheckpoint checkpoint = progress;
+        log.info("🔄 {} 시작 - 시작 상품 ID: {} 초과", displayName, checkpoint.getLastProductId());
+        try {
+            while (!stopRequested.get()) {
+                MigrationCheckpoint committed = processor.processNext(checkpoint);
+                if (committed == null) {
+                    checkpoint.setStatus(MigrationCheckpoint.Status.COMPLETED);
+                    break;
+                }
+                checkpoint = committed;
+                progress = checkpoint;
+            }
+            if (checkpoint.getStatus() != MigrationCheckpoint.Status.COMPLETED) {
+                checkpoint.setStatus(MigrationCheckpoint.Status.STOPPED);
+            }
+            log.info("✅ {} {} - 성공: {}, 건너뜀: {}, 실패: {}, 마지막 상품 ID: {}", displayName,
+                    checkpoint.getStatus() == MigrationCheckpoint.Status.COMPLETED ? "완료" : "중지",
+                    checkpoint.getSuccessCount(), checkpoint.getSkippedCount(), checkpoint.getErrorCount(),
+                    checkpoint.getLastProductId());
+        } catch (Exception e) {
+            // 체크포인트는 마지막으로 커밋된 청크에 머물러 있으므로 재시작 시 실패한 청크부터 다시 처리
+            log.error("❌ {} 중단 - 마지막 커밋 상품 ID: {}, 오류: {}",
+                    displayName, checkpoint.getLastProductId(), e.getMessage(), e);
+            addError("상품 ID " + checkpoint.getLastProductId() + " 이후 청크: " + e.getMessage());
+            checkpoint = checkpointRepository.findById(jobName).orElse(checkpoint);
+            checkpoint.setStatus(MigrationCheckpoint.Status.FAILED);
+            checkpoint.setLastError(truncate(e.getMessage()));
+        } finally {
+            checkpoint.setFinishedAt(LocalDateTime.now());
+            try {
+                progress = checkpointRepository.save(checkpoint);
+            } catch (Exception e) {
+                log.error("❌ {} 체크포인트 저장 실패: {}", displayName, e.getMessage());
+            }
+            running.set(false);
+        }
+    }
+
+    synchronized void addError(String message) {
+        addRecent(recentErrors, message);
+    }
+
+    synchronized void addSkipped(String message) {
+        addRecent(recentSkipped, message);
+    }
+
+    private static void addRecent(Deque<String> messages, String message) {
+        if (messages.size() >= MAX_RECENT_MESSAGES) {
+            messages.removeFirst();
+        }
+        messages.addLast(message);
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    /**
+     * 현재 체크포인트 (실행한 적이 없으면 저장된 값 또는 초기값)
+     */
+    MigrationCheckpoint getCheckpoint() {
+        MigrationCheckpoint checkpoint = progress;
+        return checkpoint != null
+            ? checkpoint
+            : checkpointRepository.findById(jobName).orElseGet(() -> new MigrationCheckpoint(jobName));
+    }
+
+    /**
+     * 현재 상태 (체크포인트 + 최근 오류/건너뜀 사유)
+     *
+     * @param remainingProducts 체크포인트 이후 남은 상품 수
+     */
+    MigrationStatus getStatus(MigrationCheckpoint checkpoint, long remainingProducts) {
+        synchronized (this) {
+            return new MigrationStatus(running.get(), checkpoint, remainingProducts,
+                    new ArrayList<>(recentErrors), new ArrayList<>(recentSkipped));
+        }
+    }
+
+    void shutdown() {
+        stopRequested.set(true);
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,103 @@
+package com.inventory.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 변경 상품 병합 처리기 (커밋 후 이벤트 → 단일 스레드 일괄 처리)
+ * - 이벤트를 받는 요청 스레드는 상품 ID만 모아 두고 반환 (조회/갱신 없음)
+ * - 처리 스레드는 모인 ID를 chunkSize 단위로 나눠 처리, 처리가 예약된 동안 들어온 ID는 같은 처리에 합쳐짐
+ * - 처리 스레드가 하나이므로 같은 상품을 동시에 처리하지 않음 (execute/submit으로 넣은 작업도 같은 순서로 실행)
+ */
+@Slf4j
+class CoalescingRefresher {
+
+    private final String displayName;
+    private final int chunkSize;
+    private final Consumer<List<Long>> handler;
+    private final ExecutorService executor;
+    private final Set<Long> pendingProductIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * @param threadName 처리 스레드 이름
+     * @param displayName 로그 표시 이름
+     * @param chunkSize 한 번에 처리할 최대 상품 수 (IN 목록 길이)
+     * @param handler 상품 ID 청크 처리 (처리 스레드에서 호출)
+     */
+    CoalescingRefresher(String threadName, String displayName, int chunkSize, Consumer<List<Long>> handler) {
+        this.displayName = displayName;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.handler = handler;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 처리 예약 (이미 예약된 처리가 있으면 ID만 추가)
+     */
+    void enqueue(Collection<Long> productIds) {
+        pendingProductIds.addAll(productIds);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::processPending);
+        }
+    }
+
+    /**
+     * 처리 스레드에서 작업 실행 (예약된 처리와 순서 보장)
+     */
+    void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    /**
+     * 대기 중인 처리가 모두 끝날 때까지 대기
+     */
+    void awaitIdle() throws InterruptedException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void processPending() {
+        // 플래그를 먼저 내려야 이후 추가된 ID가 다음 처리에서 누락되지 않음
+        scheduled.set(false);
+        List<Long> productIds = new ArrayList<>(pendingProductIds);
+        pendingProductIds.removeAll(productIds);
+        if (productIds.isEmpty()) {
+            return;
+        }
+        try {
+            for (int from = 0; from < productIds.size(); from += chunkSize) {
+                handler.accept(productIds.subList(from, Math.min(from + chunkSize, productIds.size())));
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠️ {} 실패 - 상품 {}개: {}", displayName, productIds.size(), e.getMessage());
+        }
+    }
+}
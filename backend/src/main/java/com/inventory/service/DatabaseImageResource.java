@@ -0,0 +1,129 @@
+package com.inventory.service;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * DB 컬럼(image_data)에 저장된 이미지를 JDBC Blob 스트림으로 제공하는 Resource
+ * - getInputStream() 호출 시점에 연결을 열고, 스트림을 닫을 때 Blob/연결을 함께 정리
+ * - 길이는 메타데이터(image_size)를 사용하여 Range 처리 시 전체를 읽지 않도록 함
+ */
+class DatabaseImageResource extends AbstractResource {
+
+    private static final String SELECT_IMAGE_DATA = "SELECT image_data FROM product_images WHERE id = ?";
+
+    private final DataSource dataSource;
+    private final Long imageId;
+    private final long contentLength;
+    private final String filename;
+
+    DatabaseImageResource(DataSource dataSource, Long imageId, long contentLength, String filename) {
+        this.dataSource = dataSource;
+        this.imageId = imageId;
+        this.contentLength = contentLength;
+        this.filename = filename;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.prepareStatement(SELECT_IMAGE_DATA);
+            statement.setLong(1, imageId);
+            resultSet = statement.executeQuery();
+            Blob blob = resultSet.next() ? resultSet.getBlob(1) : null;
+            if (blob == null) {
+                throw new FileNotFoundException("이미지 데이터가 없습니다: " + imageId);
+            }
+            return new BlobInputStream(blob, resultSet, statement, connection);
+        } catch (SQLException e) {
+            closeQuietly(resultSet, statement, connection);
+            throw new IOException("이미지 데이터를 읽을 수 없습니다: " + imageId, e);
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(resultSet, statement, connection);
+            throw e;
+        }
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public String getDescription() {
+        return "product_images.image_data [id=" + imageId + "]";
+    }
+
+    private void closeQuietly(ResultSet resultSet, PreparedStatement statement, Connection connection) {
+        try {
+            if (resultSet != null) resultSet.close();
+        } catch (SQLException ignored) {
+        }
+        try {
+            if (statement != null) statement.close();
+        } catch (SQLException ignored) {
+        }
+        DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+
+    /**
+     * Blob 스트림을 닫을 때 JDBC 자원을 함께 반환하는 래퍼
+     */
+    private class BlobInputStream extends FilterInputStream {
+
+        private final Blob blob;
+        private final ResultSet resultSet;
+        private final PreparedStatement statement;
+        private final Connection connection;
+        private boolean closed;
+
+        BlobInputStream(Blob blob, ResultSet resultSet, PreparedStatement statement, Connection connection) throws SQLException {
+            super(blob.getBinaryStream());
+            this.blob = blob;
+            this.resultSet = resultSet;
+            this.statement = statement;
+            this.connection = connection;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                try {
+                    blob.free();
+                } catch (SQLException | UnsupportedOperationException ignored) {
+                }
+                closeQuietly(resultSet, statement, connection);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.inventory.service;
+
+import com.inventory.dto.FitmentBatchResponse;
+import com.inventory.dto.FitmentQuery;
+import com.inventory.entity.Product;
+import com.inventory.entity.ProductFitment;
+import com.inventory.entity.VehicleCompatibility;
+import com.inventory.repository.ProductFitmentRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.VehicleCompatibilityRepository;
+import com.inventory.repository.projection.FitmentPartView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 상품-적용 차종 연결 및 적용 부품 조회 서비스
+ * - 차량(제조사/모델/연식/엔진) → 차량 호환 정보 ID는 적용 차종 메모리 색인으로 변환 (DB 조회 없음)
+ * - 차량 호환 정보 ID 전체를 모아 IN 조회 한 번으로 장착 부품 조회 (차량별 조회 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FitmentService {
+
+    private final ProductFitmentRepository productFitmentRepository;
+    private final ProductRepository productRepository;
+    private final VehicleCompatibilityRepository vehicleCompatibilityRepository;
+    private final VehicleFitmentIndexService vehicleFitmentIndexService;
+
+    @Value("${inventory.catalog.fitment.batch-max-vehicles:500}")
+    private int batchMaxVehicles;
+
+    @Value("${inventory.catalog.fitment.in-clause-size:1000}")
+    private int inClauseSize;
+
+    /**
+     * 상품을 차량 호환 정보에 연결 (이미 연결되어 있으면 그대로)
+     *
+     * @return 새로 연결했으면 true
+     */
+    @Transactional
+    public boolean link(Long fitmentId, Long productId) {
+        VehicleCompatibility compatibility = vehicleCompatibilityRepository.findById(fitmentId)
+                .orElseThrow(() -> new IllegalArgumentException("차량 호환 정보를 찾을 수 없습니다: " + fitmentId));
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+        if (productFitmentRepository.existsByVehicleCompatibilityIdAndProductId(fitmentId, productId)) {
+            return false;
+        }
+        productFitmentRepository.save(new ProductFitment(product, compatibility));
+        log.info("적용 차종 연결: 차량 호환 {} - 상품 {}", fitmentId, productId);
+        return true;
+    }
+
+    /**
+     * @return 연결 해제 여부 (연결이 없으면 false)
+     */
+    @Transactional
+    public boolean unlink(Long fitmentId, Long productId) {
+        boolean removed = productFitmentRepository.deleteLink(fitmentId, productId) > 0;
+        if (removed) {
+            log.info("적용 차종 연결 해제: 차량 호환 {} - 상품 {}", fitmentId, productId);
+        }
+        return removed;
+    }
+
+    /**
+     * 차량 호환 정보별 장착 부품 (활성 상품, SKU 순)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<FitmentPartView>> findParts(Collection<Long> fitmentIds) {
+        Map<Long, List<FitmentPartView>> partsByFitment = new HashMap<>();
+        if (fitmentIds.isEmpty()) {
+            return partsByFitment;
+        }
+        // IN 목록이 너무 길어지지 않도록 나눠서 조회 (일반적인 요청은 한 번)
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(fitmentIds));
+        for (int from = 0; from < ids.size(); from += inClauseSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + inClauseSize, ids.size()));
+            for (FitmentPartView part : productFitmentRepository.findPartsByFitmentIds(chunk)) {
+                partsByFitment.computeIfAbsent(part.getFitmentId(), id -> new ArrayList<>()).add(part);
+            }
+        }
+        return partsByFitment;
+    }
+
+    /**
+     * 차량 목록의 적용 부품 일괄 조회
+     * - 차량마다 적용 차종 색인으로 차량 호환 정보를 찾은 뒤, 전체 ID를 모아 한 번에 부품 조회
+     * - 차량별 SKU는 해당 차량에 맞는 모든 차량 호환 정보의 부품 합집합 (SKU 순)
+     *
+     * @throws IllegalArgumentException 차량 목록이 비었거나 상한을 넘은 경우, 제조사/모델이 없는 차량이 있는 경우
+     * @throws IllegalStateException 적용 차종 색인이 준비되지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public FitmentBatchResponse findPartsForVehicles(List<FitmentQuery> vehicles) {
+        if (vehicles == null || vehicles.isEmpty()) {
+            throw new IllegalArgumentException("조회할 차량을 입력해주세요.");
+        }
+        if (vehicles.size() > batchMaxVehicles) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 차량은 최대 " + batchMaxVehicles + "대입니다.");
+        }
+        for (int i = 0; i < vehicles.size(); i++) {
+            FitmentQuery vehicle = vehicles.get(i);
+            if (vehicle == null || isBlank(vehicle.getManufacturer()) || isBlank(vehicle.getModel())) {
+                throw new IllegalArgumentException("차량 " + (i + 1) + "번째: 제조사와 모델을 입력해주세요.");
+            }
+        }
+        if (!vehicleFitmentIndexService.isReady()) {
+            throw new IllegalStateException("적용 차종 색인이 준비되지 않았습니다.");
+        }
+
+        List<List<Long>> fitmentIdsByVehicle = new ArrayList<>(vehicles.size());
+        Set<Long> allFitmentIds = new LinkedHashSet<>();
+        for (FitmentQuery vehicle : vehicles) {
+            List<Long> fitmentIds = new ArrayList<>();
+            for (VehicleCompatibility fitment : vehicleFitmentIndexService.findFitments(
+                    vehicle.getManufacturer(), vehicle.getModel(), vehicle.getYear(), vehicle.getEngine())) {
+                fitmentIds.add(fitment.getId());
+            }
+            fitmentIdsByVehicle.add(fitmentIds);
+            allFitmentIds.addAll(fitmentIds);
+        }
+
+        Map<Long, List<FitmentPartView>> partsByFitment = findParts(allFitmentIds);
+
+        Map<String, FitmentBatchResponse.Part> parts = new TreeMap<>();
+        List<FitmentBatchResponse.VehicleParts> results = new ArrayList<>(vehicles.size());
+        int matched = 0;
+        for (int i = 0; i < vehicles.size(); i++) {
+            Set<String> skus = new TreeSet<>();
+            for (Long fitmentId : fitmentIdsByVehicle.get(i)) {
+                for (FitmentPartView part : partsByFitment.getOrDefault(fitmentId, List.of())) {
+                    skus.add(part.getSku());
+                    parts.computeIfAbsent(part.getSku(), sku -> toPart(part));
+                }
+            }
+            if (!skus.isEmpty()) {
+                matched++;
+            }
+            results.add(new FitmentBatchResponse.VehicleParts(vehicles.get(i), fitmentIdsByVehicle.get(i),
+                    new ArrayList<>(skus)));
+        }
+        log.debug("적용 부품 일괄 조회 - 차량 {}대, 차량 호환 정보 {}건, 부품 {}종",
+                vehicles.size(), allFitmentIds.size(), parts.size());
+        return new FitmentBatchResponse(vehicles.size(), matched, results, parts);
+    }
+
+    private static FitmentBatchResponse.Part toPart(FitmentPartView part) {
+        return new FitmentBatchResponse.Part(part.getProductId(), part.getSku(), part.getName(), part.getPrice(),
+                part.getPartType() != null ? part.getPartType().name() : null,
+                part.getManufacturerName(), part.getQuantity());
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,203 @@
+package com.inventory.service;
+
+import com.inventory.entity.ImageStorageType;
+import com.inventory.entity.ProductImage;
+import com.inventory.repository.ProductImageRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이미지 바이너리 외부 저장소 마이그레이션 서비스
+ * - product_images.image_data(LONGBLOB)에 남아있는 바이너리를 설정된 외부 저장소로 이동
+ * - 백그라운드 단일 스레드에서 ID 오름차순 배치 단위로 처리하고 배치마다 커밋
+ * - 중단 후 재시작해도 DB 컬럼에 남은 행만 다시 조회하므로 이어서 진행됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageBlobMigrationService {
+
+    private final ProductImageRepository productImageRepository;
+    private final ImageStorageService imageStorageService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "image-blob-migrator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean stopRequested = new AtomicBoolean(false);
+    private final AtomicLong migratedCount = new AtomicLong();
+    private final AtomicLong migratedBytes = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private volatile long lastProcessedId = 0L;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+
+    @Value("${inventory.images.blob-migration.batch-size:50}")
+    private int batchSize;
+
+    @Value("${inventory.images.blob-migration.auto-start:false}")
+    private boolean autoStart;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (autoStart && imageStorageService.getWriteStorageType() != ImageStorageType.DATABASE) {
+            start();
+        }
+    }
+
+    /**
+     * 마이그레이션 시작
+     *
+     * @return 새로 시작했으면 true, 이미 실행 중이면 false
+     */
+    public boolean start() {
+        ImageStorageType target = imageStorageService.getWriteStorageType();
+        if (target == ImageStorageType.DATABASE) {
+            throw new IllegalStateException("외부 저장소가 설정되어 있지 않습니다 (inventory.images.store=database)");
+        }
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        stopRequested.set(false);
+        migratedCount.set(0);
+        migratedBytes.set(0);
+        errorCount.set(0);
+        lastProcessedId = 0L;
+        lastError = null;
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        executor.submit(() -> run(target));
+        return true;
+    }
+
+    /**
+     * 마이그레이션 중지 요청 (현재 배치 완료 후 중지)
+     */
+    public void stop() {
+        stopRequested.set(true);
+    }
+
+    private void run(ImageStorageType target) {
+        log.info("🔄 이미지 바이너리 마이그레이션 시작 - 대상 저장소: {}, 배치 크기: {}", target, batchSize);
+        try {
+            while (!stopRequested.get()) {
+                List<Long> ids = productImageRepository.findDatabaseStoredImageIdsAfter(lastProcessedId, Limit.of(batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(status -> ids.forEach(id -> migrateImage(id, target)));
+                lastProcessedId = ids.get(ids.size() - 1);
+                log.info("📦 이미지 바이너리 마이그레이션 진행 - 누적: {}건, 마지막 ID: {}", migratedCount.get(), lastProcessedId);
+            }
+            log.info("✅ 이미지 바이너리 마이그레이션 종료 - 이동: {}건 ({} bytes), 실패: {}건",
+                    migratedCount.get(), migratedBytes.get(), errorCount.get());
+        } catch (Exception e) {
+            log.error("❌ 이미지 바이너리 마이그레이션 중단: {}", e.getMessage(), e);
+            lastError = e.getMessage();
+        } finally {
+            finishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 이미지 1건 이동
+     * - 외부 저장소 기록이 끝난 뒤에만 DB 컬럼을 비우므로 실패해도 데이터가 유실되지 않음
+     */
+    private void migrateImage(Long imageId, ImageStorageType target) {
+        ProductImage image = productImageRepository.findById(imageId).orElse(null);
+        if (image == null || !image.isStoredInDatabase() || image.getImageData() == null) {
+            return;
+        }
+        try {
+            byte[] data = image.getImageData();
+            String contentHash = ImageStorageService.sha256Hex(data);
+            imageStorageService.putBlob(target, contentHash, data);
+
+            image.setContentHash(contentHash);
+            image.setStorageType(target);
+            image.setImageData(null);
+            productImageRepository.save(image);
+
+            migratedCount.incrementAndGet();
+            migratedBytes.addAndGet(data.length);
+        } catch (Exception e) {
+            errorCount.incrementAndGet();
+            lastError = "이미지 ID " + imageId + ": " + e.getMessage();
+            log.error("❌ 이미지 바이너리 이동 실패 - 이미지 ID: {}, 오류: {}", imageId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 마이그레이션 상태
+     */
+    public BlobMigrationStatus getStatus() {
+        return new BlobMigrationStatus(running.get(), imageStorageService.getWriteStorageType(),
+                migratedCount.get(), migratedBytes.get(), errorCount.get(), lastProcessedId,
+                startedAt, finishedAt, lastError);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopRequested.set(true);
+        executor.shutdown();
+    }
+
+    /**
+     * 마이그레이션 상태 클래스
+     */
+    public static class BlobMigrationStatus {
+        private final boolean running;
+        private final ImageStorageType targetStorage;
+        private final long migratedCount;
+        private final long migratedBytes;
+        private final long errorCount;
+        private final long lastProcessedId;
+        private final LocalDateTime startedAt;
+        private final LocalDateTime finishedAt;
+        private final String lastError;
+
+        public BlobMigrationStatus(boolean running, ImageStorageType targetStorage, long migratedCount,
+                                   long migratedBytes, long errorCount, long lastProcessedId,
+                                   LocalDateTime startedAt, LocalDateTime finishedAt, String lastError) {
+            this.running = running;
+            this.targetStorage = targetStorage;
+            this.migratedCount = migratedCount;
+            this.migratedBytes = migratedBytes;
+            this.errorCount = errorCount;
+            this.lastProcessedId = lastProcessedId;
+            this.startedAt = startedAt;
+            this.finishedAt = finishedAt;
+            this.lastError = lastError;
+        }
+
+        public boolean isRunning() { return running; }
+        public ImageStorageType getTargetStorage() { return targetStorage; }
+        public long getMigratedCount() { return migratedCount; }
+        public long getMigratedBytes() { return migratedBytes; }
+        public long getErrorCount() { return errorCount; }
+        public long getLastProcessedId() { return lastProcessedId; }
+        public LocalDateTime getStartedAt() { return startedAt; }
+        public LocalDateTime getFinishedAt() { return finishedAt; }
+        public String getLastError() { return lastError; }
+    }
+}
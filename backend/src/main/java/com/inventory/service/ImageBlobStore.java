@@ -0,0 +1,56 @@
+package com.inventory.service;
+
+import com.inventory.entity.ImageStorageType;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+
+/**
+ * 이미지 바이너리 외부 저장소
+ * - 내용의 SHA-256 해시를 키로 사용하는 content-addressed 저장소
+ * - 동일 내용은 한 번만 저장되므로 삭제는 참조가 모두 사라진 뒤에만 수행해야 함
+ */
+public interface ImageBlobStore {
+
+    /**
+     * 저장소 종류 (ProductImage.storageType에 기록되는 값)
+     */
+    ImageStorageType getStorageType();
+
+    /**
+     * 바이너리 저장
+     * - 이미 같은 해시가 존재하면 아무 작업도 하지 않음
+     *
+     * @param contentHash 내용의 SHA-256 해시 (16진수 소문자)
+     * @param data 이미지 바이트
+     */
+    void put(String contentHash, byte[] data) throws IOException;
+
+    /**
+     * 바이너리 조회
+     *
+     * @param contentHash 내용 해시
+     * @return 이미지 바이트
+     * @throws java.nio.file.NoSuchFileException 해시에 해당하는 데이터가 없는 경우
+     */
+    byte[] get(String contentHash) throws IOException;
+
+    /**
+     * 스트리밍용 Resource 조회
+     * - 바이트 배열로 읽지 않고 응답에 직접 복사/Range 응답이 가능하도록 제공
+     *
+     * @param contentHash 내용 해시
+     * @return 해시에 해당하는 Resource (존재 여부는 호출 측에서 확인)
+     */
+    Resource getResource(String contentHash);
+
+    /**
+     * 바이너리 존재 여부 확인
+     */
+    boolean exists(String contentHash);
+
+    /**
+     * 바이너리 삭제 (없으면 무시)
+     */
+    void delete(String contentHash) throws IOException;
+}
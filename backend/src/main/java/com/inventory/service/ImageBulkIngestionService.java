@@ -0,0 +1,746 @@
+package com.inventory.service;
+
+import com.inventory.entity.ImageCategory;
+import com.inventory.entity.ImageProcessingStatus;
+import com.inventory.entity.Product;
+import com.inventory.entity.ProductImage;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.projection.ProductSkuView;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 상품 이미지 일괄 등록 서비스
+ * - zip 또는 여러 파일 multipart를 항목 단위로 스트리밍 처리 (전체 아카이브를 메모리에 올리지 않음)
+ * - 요청 본문/파트는 요청 스레드에서 임시 파일로 옮긴 뒤 작업 스레드에 넘김
+ *   (핸들러 반환 후 컨테이너가 요청과 multipart 임시 파일을 정리해도 영향 없음, 처리 후 임시 파일 삭제)
+ * - 항목은 건수/용량 상한까지 모아 배치 처리: SKU는 배치당 한 번의 IN 조회, 행은 JDBC 배치 INSERT
+ * - 배치가 커밋될 때마다 파일별 결과를 전달하고 파생 이미지 작업을 등록 (작업자 풀에서 병렬 생성)
+ *
+ * SKU 결정 규칙
+ * - zip 항목/파일 경로에 폴더가 있으면 첫 번째 폴더명 (예: ABC-123/front.jpg)
+ * - 폴더가 없으면 확장자를 뺀 파일명, 끝의 "_숫자"는 순번으로 보고 제외 (예: ABC-123_2.jpg)
+ * - multipart 파트 이름이 file/files가 아니면 파트 이름을 SKU로 사용 (예: -F "ABC-123=@front.jpg")
+ */
+@Service
+@Slf4j
+public class ImageBulkIngestionService {
+
+    // 항목별 최대 이미지 크기 (단건 업로드와 동일, 10MB)
+    private static final int MAX_IMAGE_SIZE = 10 * 1024 * 1024;
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+        "jpg", "image/jpeg",
+        "jpeg", "image/jpeg",
+        "png", "image/png",
+        "gif", "image/gif",
+        "webp", "image/webp"
+    );
+
+    private static final Pattern SEQUENCE_SUFFIX = Pattern.compile("^(.+)_\\d+$");
+    private static final Set<String> GENERIC_PART_NAMES = Set.of("file", "files");
+
+    private static final String INSERT_SQL = "INSERT INTO product_images " +
+        "(product_id, image_name, image_data, content_hash, storage_type, image_type, image_size, " +
+        "image_category, processing_status, original_image_id, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ProductRepository productRepository;
+    private final ImageStorageService imageStorageService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageDataCache imageDataCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTemplate;
+
+    private final int batchSize;
+    private final long batchMaxBytes;
+    private final int concurrentImports;
+    private final long maxUploadBytes;
+
+    // 동시 작업 수 제한 (임시 파일로 옮기기 전에 확보하므로 초과 요청은 본문을 읽지 않고 거부)
+    private final Semaphore importPermits;
+
+    private ThreadPoolExecutor executor;
+
+    public ImageBulkIngestionService(ProductRepository productRepository,
+                                     ImageStorageService imageStorageService,
+                                     ImageDerivativeService imageDerivativeService,
+                                     ImageDataCache imageDataCache,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${inventory.images.bulk.batch-size:32}") int batchSize,
+                                     @Value("${inventory.images.bulk.batch-max-mb:64}") long batchMaxMb,
+                                     @Value("${inventory.images.bulk.concurrent-imports:2}") int concurrentImports,
+                                     @Value("${inventory.images.bulk.max-upload-mb:1024}") long maxUploadMb) {
+        this.productRepository = productRepository;
+        this.imageStorageService = imageStorageService;
+        this.imageDerivativeService = imageDerivativeService;
+        this.imageDataCache = imageDataCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = Math.max(1, batchSize);
+        this.batchMaxBytes = Math.max(MAX_IMAGE_SIZE, batchMaxMb * 1024 * 1024);
+        this.concurrentImports = Math.max(1, concurrentImports);
+        this.maxUploadBytes = Math.max(1, maxUploadMb) * 1024 * 1024;
+        this.importPermits = new Semaphore(this.concurrentImports);
+    }
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(concurrentImports, concurrentImports, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "image-bulk-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        log.info("이미지 일괄 등록 설정 - 배치: {}건/{} MB, 동시 작업: {}, zip 최대: {} MB",
+                batchSize, batchMaxBytes / (1024 * 1024), concurrentImports, maxUploadBytes / (1024 * 1024));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * zip 스트림 일괄 등록 (본문을 임시 파일로 옮긴 뒤 작업 스레드에서 비동기 실행)
+     *
+     * @param zipStream zip 형식 요청 본문 (호출 스레드에서 끝까지 읽음)
+     * @param contentLength 요청 본문 크기 (모르면 -1)
+     * @param listener 파일별 결과 수신 (배치 커밋 시마다 호출)
+     * @return 전체 결과 요약
+     * @throws RejectedExecutionException 동시 작업 수 초과
+     * @throws IllegalArgumentException 본문이 최대 크기를 넘는 경우
+     * @throws UncheckedIOException 본문을 읽을 수 없는 경우
+     */
+    public CompletableFuture<BulkIngestionSummary> ingestZipAsync(InputStream zipStream, long contentLength,
+                                                                 Consumer<BulkImageResult> listener) {
+        acquirePermit();
+        List<SpooledPart> parts = new ArrayList<>(1);
+        try {
+            if (contentLength > maxUploadBytes) {
+                throw tooLarge();
+            }
+            parts.add(new SpooledPart(null, null, null, spool(zipStream)));
+        } catch (IOException e) {
+            releaseSpooled(parts);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            releaseSpooled(parts);
+            throw e;
+        }
+        return submit(parts, listener, ingestion -> {
+            try (InputStream in = Files.newInputStream(parts.get(0).path)) {
+                ingestion.addZip(in, null);
+            } catch (IOException e) {
+                log.warn("zip 읽기 실패: {}", e.getMessage());
+                ingestion.reportStreamError(e);
+            }
+        });
+    }
+
+    /**
+     * multipart 파일 일괄 등록 (파트를 임시 파일로 복사한 뒤 작업 스레드에서 비동기 실행)
+     * - zip 파트는 항목 단위로 펼쳐서 처리, 그 외 파트는 이미지 한 건으로 처리
+     *
+     * @param files 파트 이름별 업로드 파일 (호출 스레드에서 복사)
+     * @param listener 파일별 결과 수신 (배치 커밋 시마다 호출)
+     * @return 전체 결과 요약
+     * @throws RejectedExecutionException 동시 작업 수 초과
+     * @throws UncheckedIOException 파트를 복사할 수 없는 경우
+     */
+    public CompletableFuture<BulkIngestionSummary> ingestFilesAsync(MultiValueMap<String, MultipartFile> files,
+                                                                   Consumer<BulkImageResult> listener) {
+        acquirePermit();
+        List<SpooledPart> parts = new ArrayList<>();
+        try {
+            for (Map.Entry<String, List<MultipartFile>> part : files.entrySet()) {
+                String partSku = GENERIC_PART_NAMES.contains(part.getKey()) ? null : part.getKey().trim();
+                for (MultipartFile file : part.getValue()) {
+                    Path path = Files.createTempFile("image-bulk-", ".part");
+                    parts.add(new SpooledPart(partSku, file.getOriginalFilename(), file.getContentType(), path));
+                    file.transferTo(path);
+                }
+            }
+        } catch (IOException e) {
+            releaseSpooled(parts);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            releaseSpooled(parts);
+            throw e;
+        }
+        return submit(parts, listener, ingestion -> parts.forEach(ingestion::addFile));
+    }
+
+    private void acquirePermit() {
+        if (!importPermits.tryAcquire()) {
+            throw new RejectedExecutionException("동시 일괄 등록 작업 수 초과: " + concurrentImports);
+        }
+    }
+
+    // 작업 스레드에서 실행, 끝나면(또는 제출 실패 시) 임시 파일 삭제 후 작업 슬롯 반환
+    private CompletableFuture<BulkIngestionSummary> submit(List<SpooledPart> parts, Consumer<BulkImageResult> listener,
+                                                           Consumer<Ingestion> work) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    Ingestion ingestion = new Ingestion(listener);
+                    work.accept(ingestion);
+                    return ingestion.finish();
+                } finally {
+                    releaseSpooled(parts);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            releaseSpooled(parts);
+            throw e;
+        }
+    }
+
+    private void releaseSpooled(List<SpooledPart> parts) {
+        for (SpooledPart part : parts) {
+            try {
+                Files.deleteIfExists(part.path);
+            } catch (IOException e) {
+                log.warn("일괄 등록 임시 파일 삭제 실패 - {}: {}", part.path, e.getMessage());
+            }
+        }
+        importPermits.release();
+    }
+
+    /**
+     * 요청 본문을 임시 파일로 복사 (최대 크기 초과 시 중단)
+     */
+    private Path spool(InputStream in) throws IOException {
+        Path path = Files.createTempFile("image-bulk-", ".zip");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            byte[] buffer = new byte[64 * 1024];
+            long written = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                written += read;
+                if (written > maxUploadBytes) {
+                    throw tooLarge();
+                }
+                out.write(buffer, 0, read);
+            }
+            return path;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    private IllegalArgumentException tooLarge() {
+        return new IllegalArgumentException(String.format("업로드 크기가 너무 큽니다. 최대 크기: %d MB",
+                maxUploadBytes / (1024 * 1024)));
+    }
+
+    /**
+     * 요청 하나의 일괄 등록 상태 (작업 스레드 전용)
+     */
+    private class Ingestion {
+        private final Consumer<BulkImageResult> listener;
+        private final long startedAt = System.nanoTime();
+        private final List<Entry> batch = new ArrayList<>();
+        private long batchBytes;
+        // SKU → 상품 ID (없는 SKU는 null로 기록하여 재조회하지 않음)
+        private final Map<String, Long> productIds = new HashMap<>();
+        private final Set<Long> touchedProducts = new LinkedHashSet<>();
+        private int total;
+        private int created;
+        private int failed;
+        private int skipped;
+
+        Ingestion(Consumer<BulkImageResult> listener) {
+            this.listener = listener;
+        }
+
+        void addFile(SpooledPart part) {
+            String fileName = part.fileName;
+            String partSku = part.partSku;
+            try (InputStream in = Files.newInputStream(part.path)) {
+                if (isZip(fileName, part.contentType)) {
+                    addZip(in, partSku);
+                } else {
+                    addEntry(fileName, partSku, in);
+                }
+            } catch (IOException e) {
+                log.warn("업로드 파일 읽기 실패 - 파일: {}, 오류: {}", fileName, e.getMessage());
+                report(BulkImageResult.failed(fileName, partSku, "파일을 읽을 수 없습니다: " + e.getMessage()));
+            }
+        }
+
+        void addZip(InputStream in, String partSku) throws IOException {
+            ZipInputStream zip = new ZipInputStream(in);
+            ZipEntry zipEntry;
+            while ((zipEntry = zip.getNextEntry()) != null) {
+                if (!zipEntry.isDirectory()) {
+                    addEntry(zipEntry.getName(), partSku, zip);
+                }
+            }
+        }
+
+        /**
+         * 항목 하나를 읽어 배치에 추가 (이미지가 아니거나 크기 초과면 즉시 결과 전달)
+         */
+        void addEntry(String path, String partSku, InputStream in) throws IOException {
+            String fileName = fileName(path);
+            if (fileName.isEmpty() || fileName.startsWith(".") || path.startsWith("__MACOSX/")) {
+                return;
+            }
+            String sku = partSku != null ? partSku : resolveSku(path);
+            String exactSku = partSku != null ? null : exactSku(path, sku);
+            String contentType = CONTENT_TYPES.get(extension(fileName));
+            if (contentType == null) {
+                report(BulkImageResult.skipped(path, sku, "지원하지 않는 파일 형식입니다"));
+                return;
+            }
+            if (sku == null || sku.isEmpty()) {
+                report(BulkImageResult.failed(path, null, "SKU를 확인할 수 없습니다"));
+                return;
+            }
+            byte[] data = readBounded(in);
+            if (data == null) {
+                report(BulkImageResult.failed(path, sku,
+                    String.format("파일 크기가 너무 큽니다. 최대 크기: %d MB", MAX_IMAGE_SIZE / (1024 * 1024))));
+                return;
+            }
+            if (data.length == 0) {
+                report(BulkImageResult.failed(path, sku, "빈 파일입니다"));
+                return;
+            }
+            batch.add(new Entry(path, fileName, sku, exactSku, contentType, data));
+            batchBytes += data.length;
+            if (batch.size() >= batchSize || batchBytes >= batchMaxBytes) {
+                flush();
+            }
+        }
+
+        void reportStreamError(IOException e) {
+            flush();
+            report(BulkImageResult.failed(null, null, "요청 본문을 읽을 수 없습니다: " + e.getMessage()));
+        }
+
+        BulkIngestionSummary finish() {
+            flush();
+            double elapsedMs = (System.nanoTime() - startedAt) / 1_000_000.0;
+            log.info("📦 이미지 일괄 등록 완료 - 전체: {}, 등록: {}, 실패: {}, 제외: {}, 상품: {}개, {} ms",
+                    total, created, failed, skipped, touchedProducts.size(), Math.round(elapsedMs));
+            return new BulkIngestionSummary(total, created, failed, skipped, touchedProducts.size(), elapsedMs);
+        }
+
+        /**
+         * 배치 처리: SKU IN 조회 → 저장소 기록 → 원본/파생 PENDING 행 JDBC 배치 INSERT → 커밋 후 파생 작업 등록
+         */
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Entry> entries = new ArrayList<>(batch);
+            batch.clear();
+            batchBytes = 0;
+
+            resolveProductIds(entries);
+
+            List<Entry> accepted = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (entry.exactSku != null && productIds.get(entry.exactSku) != null) {
+                    entry.sku = entry.exactSku;
+                }
+                Long productId = productIds.get(entry.sku);
+                if (productId == null) {
+                    report(BulkImageResult.failed(entry.path, entry.sku, "상품을 찾을 수 없습니다: " + entry.sku));
+                    continue;
+                }
+                try {
+                    entry.image = newOriginal(productId, entry);
+                    accepted.add(entry);
+                } catch (IOException e) {
+                    report(BulkImageResult.failed(entry.path, entry.sku, "이미지 저장 실패: " + e.getMessage()));
+                }
+            }
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            List<Long> originalIds;
+            try {
+                originalIds = requiresNewTemplate.execute(status -> insertWithPlaceholders(accepted));
+            } catch (Exception e) {
+                log.error("이미지 일괄 등록 배치 실패 - {}건, 오류: {}", accepted.size(), e.getMessage(), e);
+                for (Entry entry : accepted) {
+                    report(BulkImageResult.failed(entry.path, entry.sku, "이미지 등록 중 오류가 발생했습니다"));
+                }
+                return;
+            }
+
+            Set<Long> batchProducts = new LinkedHashSet<>();
+            for (Entry entry : accepted) {
+                Long productId = entry.image.getProduct().getId();
+                batchProducts.add(productId);
+                report(BulkImageResult.created(entry.path, entry.sku, productId,
+                    entry.image.getId(), entry.image.getImageSize()));
+            }
+            batchProducts.forEach(imageDataCache::invalidate);
+            touchedProducts.addAll(batchProducts);
+            imageDerivativeService.submitAll(originalIds);
+        }
+
+        private void resolveProductIds(List<Entry> entries) {
+            Set<String> unresolved = new LinkedHashSet<>();
+            for (Entry entry : entries) {
+                if (!productIds.containsKey(entry.sku)) {
+                    unresolved.add(entry.sku);
+                }
+                if (entry.exactSku != null && !productIds.containsKey(entry.exactSku)) {
+                    unresolved.add(entry.exactSku);
+                }
+            }
+            if (unresolved.isEmpty()) {
+                return;
+            }
+            for (ProductSkuView view : productRepository.findSkuViewsBySkuIn(unresolved)) {
+                productIds.put(view.getSku(), view.getId());
+            }
+            for (String sku : unresolved) {
+                productIds.putIfAbsent(sku, null);
+            }
+        }
+
+        private void report(BulkImageResult result) {
+            total++;
+            switch (result.getStatus()) {
+                case CREATED -> created++;
+                case FAILED -> failed++;
+                case SKIPPED -> skipped++;
+            }
+            try {
+                listener.accept(result);
+            } catch (Exception e) {
+                // 응답 연결이 끊겨도 등록은 계속 진행
+                log.debug("일괄 등록 결과 전달 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private ProductImage newOriginal(Long productId, Entry entry) throws IOException {
+        Product product = new Product();
+        product.setId(productId);
+        ProductImage image = new ProductImage();
+        image.setProduct(product);
+        image.setImageName(entry.fileName);
+        image.setImageType(entry.contentType);
+        image.setImageCategory(ImageCategory.ORIGINAL);
+        image.setProcessingStatus(ImageProcessingStatus.READY);
+        imageStorageService.storeImageData(image, entry.data);
+        // 저장소 기록이 끝난 바이트는 배치 INSERT 전까지만 필요 (DATABASE 저장 시 엔티티가 참조)
+        entry.data = null;
+        return image;
+    }
+
+    /**
+     * 원본 행과 파생 이미지 PENDING 행을 JDBC 배치로 기록
+     *
+     * @return 생성된 원본 이미지 ID 목록
+     */
+    private List<Long> insertWithPlaceholders(List<Entry> entries) {
+        List<ProductImage> originals = entries.stream().map(entry -> entry.image).toList();
+        insertRows(originals, true);
+
+        List<ProductImage> placeholders = new ArrayList<>();
+        for (ProductImage original : originals) {
+            placeholders.addAll(imageDerivativeService.newPlaceholders(original));
+        }
+        insertRows(placeholders, false);
+        return originals.stream().map(ProductImage::getId).toList();
+    }
+
+    private void insertRows(List<ProductImage> rows, boolean assignIds) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        BatchPreparedStatementSetter setter = new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ProductImage image = rows.get(i);
+                ps.setLong(1, image.getProduct().getId());
+                ps.setString(2, image.getImageName());
+                if (image.getImageData() != null) {
+                    ps.setBytes(3, image.getImageData());
+                } else {
+                    ps.setNull(3, Types.BLOB);
+                }
+                ps.setString(4, image.getContentHash());
+                ps.setString(5, image.getStorageType() != null ? image.getStorageType().name() : null);
+                ps.setString(6, image.getImageType());
+                ps.setLong(7, image.getImageSize());
+                ps.setString(8, image.getImageCategory().name());
+                ps.setString(9, image.getProcessingStatus().name());
+                if (image.getOriginalImageId() != null) {
+                    ps.setLong(10, image.getOriginalImageId());
+                } else {
+                    ps.setNull(10, Types.BIGINT);
+                }
+                ps.setTimestamp(11, timestamp);
+                ps.setTimestamp(12, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        };
+
+        if (!assignIds) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, setter);
+        } else {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                setter, keyHolder);
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            if (keys.size() != rows.size()) {
+                throw new IllegalStateException("생성된 이미지 ID 수가 일치하지 않습니다: " + keys.size() + "/" + rows.size());
+            }
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            }
+        }
+        for (ProductImage row : rows) {
+            row.setCreatedAt(now);
+            row.setUpdatedAt(now);
+        }
+    }
+
+    /**
+     * 최대 크기까지만 읽기
+     *
+     * @return 읽은 바이트 (최대 크기 초과 시 null)
+     */
+    private static byte[] readBounded(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (out.size() + read > MAX_IMAGE_SIZE) {
+                return null;
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    static String resolveSku(String path) {
+        String normalized = path.replace('\\', '/');
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        int slash = normalized.indexOf('/');
+        if (slash > 0) {
+            return normalized.substring(0, slash).trim();
+        }
+        String baseName = normalized;
+        int dot = baseName.lastIndexOf('.');
+        if (dot > 0) {
+            baseName = baseName.substring(0, dot);
+        }
+        Matcher matcher = SEQUENCE_SUFFIX.matcher(baseName);
+        return (matcher.matches() ? matcher.group(1) : baseName).trim();
+    }
+
+    /**
+     * 순번 접미사를 제외하기 전의 파일명 (같은 이름의 SKU가 있으면 우선 사용, 예: ABC_2.jpg → ABC_2)
+     *
+     * @return 접미사가 제외되지 않았으면 null
+     */
+    private static String exactSku(String path, String sku) {
+        String baseName = fileName(path);
+        int dot = baseName.lastIndexOf('.');
+        if (dot > 0) {
+            baseName = baseName.substring(0, dot);
+        }
+        baseName = baseName.trim();
+        return path.replace('\\', '/').contains("/") || baseName.equals(sku) ? null : baseName;
+    }
+
+    private static String fileName(String path) {
+        if (path == null) {
+            return "";
+        }
+        String normalized = path.replace('\\', '/');
+        return normalized.substring(normalized.lastIndexOf('/') + 1);
+    }
+
+    private static String extension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isZip(String fileName, String contentType) {
+        return (fileName != null && fileName.toLowerCase(Locale.ROOT).endsWith(".zip"))
+            || (contentType != null && contentType.contains("zip"));
+    }
+
+    /**
+     * 임시 파일로 옮긴 업로드 (zip 본문이면 파트 정보 없음)
+     */
+    private static final class SpooledPart {
+        final String partSku;
+        final String fileName;
+        final String contentType;
+        final Path path;
+
+        SpooledPart(String partSku, String fileName, String contentType, Path path) {
+            this.partSku = partSku;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.path = path;
+        }
+    }
+
+    /**
+     * 배치 대기 중인 항목
+     */
+    private static class Entry {
+        final String path;
+        final String fileName;
+        final String exactSku;
+        final String contentType;
+        String sku;
+        byte[] data;
+        ProductImage image;
+
+        Entry(String path, String fileName, String sku, String exactSku, String contentType, byte[] data) {
+            this.path = path;
+            this.fileName = fileName;
+            this.sku = sku;
+            this.exactSku = exactSku;
+            this.contentType = contentType;
+            this.data = data;
+        }
+    }
+
+    /**
+     * 파일별 처리 결과
+     */
+    public static class BulkImageResult {
+
+        public enum Status { CREATED, FAILED, SKIPPED }
+
+        private final String file;
+        private final String sku;
+        private final Status status;
+        private final Long productId;
+        private final Long imageId;
+        private final Long imageSize;
+        private final String error;
+
+        private BulkImageResult(String file, String sku, Status status, Long productId, Long imageId,
+                                Long imageSize, String error) {
+            this.file = file;
+            this.sku = sku;
+            this.status = status;
+            this.productId = productId;
+            this.imageId = imageId;
+            this.imageSize = imageSize;
+            this.error = error;
+        }
+
+        static BulkImageResult created(String file, String sku, Long productId, Long imageId, Long imageSize) {
+            return new BulkImageResult(file, sku, Status.CREATED, productId, imageId, imageSize, null);
+        }
+
+        static BulkImageResult failed(String file, String sku, String error) {
+            return new BulkImageResult(file, sku, Status.FAILED, null, null, null, error);
+        }
+
+        static BulkImageResult skipped(String file, String sku, String reason) {
+            return new BulkImageResult(file, sku, Status.SKIPPED, null, null, null, reason);
+        }
+
+        public String getFile() { return file; }
+        public String getSku() { return sku; }
+        public Status getStatus() { return status; }
+        public Long getProductId() { return productId; }
+        public Long getImageId() { return imageId; }
+        public Long getImageSize() { return imageSize; }
+        public String getError() { return error; }
+    }
+
+    /**
+     * 일괄 등록 결과 요약
+     */
+    public static class BulkIngestionSummary {
+        private final int total;
+        private final int created;
+        private final int failed;
+        private final int skipped;
+        private final int products;
+        private final double elapsedMs;
+
+        public BulkIngestionSummary(int total, int created, int failed, int skipped, int products, double elapsedMs) {
+            this.total = total;
+            this.created = created;
+            this.failed = failed;
+            this.skipped = skipped;
+            this.products = products;
+            this.elapsedMs = elapsedMs;
+        }
+
+        public int getTotal() { return total; }
+        public int getCreated() { return created; }
+        public int getFailed() { return failed; }
+        public int getSkipped() { return skipped; }
+        public int getProducts() { return products; }
+        public double getElapsedMs() { return elapsedMs; }
+    }
+}
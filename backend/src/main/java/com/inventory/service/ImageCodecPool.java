@@ -0,0 +1,115 @@
+package com.inventory.service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.spi.IIORegistry;
+import javax.imageio.spi.ImageReaderSpi;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ImageReader / JPEG ImageWriter 재사용 풀
+ * - ImageIO.getImageReaders/getImageWritersByFormatName은 호출마다 새 인스턴스(네이티브 코덱 상태 포함)를 생성하므로
+ *   사용 후 reset()하여 반환하고 다음 요청에서 재사용
+ * - 풀 크기를 넘는 인스턴스는 반환 시 dispose
+ */
+class ImageCodecPool {
+
+    private final int maxIdlePerType;
+    private final Map<ImageReaderSpi, Queue<ImageReader>> readers = new ConcurrentHashMap<>();
+    private final Map<ImageReaderSpi, AtomicInteger> readerIdleCounts = new ConcurrentHashMap<>();
+    private final Queue<ImageWriter> jpegWriters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger jpegWriterIdleCount = new AtomicInteger();
+
+    ImageCodecPool(int maxIdlePerType) {
+        this.maxIdlePerType = maxIdlePerType;
+    }
+
+    /**
+     * 입력 형식을 해석할 수 있는 ImageReader 대여
+     *
+     * @return ImageReader (해석할 수 있는 형식이 없으면 null)
+     */
+    ImageReader borrowReader(ImageInputStream input) throws IOException {
+        ImageReaderSpi spi = findReaderSpi(input);
+        if (spi == null) {
+            return null;
+        }
+        ImageReader reader = readers.computeIfAbsent(spi, key -> new ConcurrentLinkedQueue<>()).poll();
+        if (reader != null) {
+            readerIdleCounts.get(spi).decrementAndGet();
+            return reader;
+        }
+        return spi.createReaderInstance();
+    }
+
+    /**
+     * ImageReader 반환
+     */
+    void returnReader(ImageReader reader) {
+        reader.reset();
+        ImageReaderSpi spi = reader.getOriginatingProvider();
+        if (spi == null) {
+            reader.dispose();
+            return;
+        }
+        AtomicInteger idle = readerIdleCounts.computeIfAbsent(spi, key -> new AtomicInteger());
+        if (idle.incrementAndGet() > maxIdlePerType) {
+            idle.decrementAndGet();
+            reader.dispose();
+            return;
+        }
+        readers.computeIfAbsent(spi, key -> new ConcurrentLinkedQueue<>()).offer(reader);
+    }
+
+    /**
+     * JPEG ImageWriter 대여
+     */
+    ImageWriter borrowJpegWriter() {
+        ImageWriter writer = jpegWriters.poll();
+        if (writer != null) {
+            jpegWriterIdleCount.decrementAndGet();
+            return writer;
+        }
+        return ImageIO.getImageWritersByFormatName("jpg").next();
+    }
+
+    /**
+     * JPEG ImageWriter 반환
+     */
+    void returnJpegWriter(ImageWriter writer) {
+        writer.reset();
+        if (jpegWriterIdleCount.incrementAndGet() > maxIdlePerType) {
+            jpegWriterIdleCount.decrementAndGet();
+            writer.dispose();
+            return;
+        }
+        jpegWriters.offer(writer);
+    }
+
+    private ImageReaderSpi findReaderSpi(ImageInputStream input) throws IOException {
+        Iterator<ImageReaderSpi> providers = IIORegistry.getDefaultInstance()
+            .getServiceProviders(ImageReaderSpi.class, true);
+        while (providers.hasNext()) {
+            ImageReaderSpi spi = providers.next();
+            input.mark();
+            try {
+                if (spi.canDecodeInput(input)) {
+                    return spi;
+                }
+            } catch (IOException e) {
+                // 헤더가 짧거나 손상된 경우 해당 형식이 아닌 것으로 간주 (ImageIO와 동일)
+            } finally {
+                input.reset();
+            }
+        }
+        return null;
+    }
+}
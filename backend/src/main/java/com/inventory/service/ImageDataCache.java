@@ -0,0 +1,372 @@
+package com.inventory.service;
+
+import com.inventory.entity.ImageCategory;
+import com.inventory.entity.ImageProcessingStatus;
+import com.inventory.entity.ImageStorageType;
+import com.inventory.repository.projection.ImageContentView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품별 대표 썸네일/등록용 이미지 캐시
+ * - 이미지 크기(바이트)를 가중치로 하는 LRU, 전체 용량(MB) 상한 초과 시 오래된 항목부터 제거
+ * - off-heap 설정 시 direct ByteBuffer에 저장하여 대용량 캐시가 GC 대상 힙을 차지하지 않도록 함
+ * - 키: 상품 ID + 이미지 카테고리 + 조회 위치(첫 번째/최신)
+ */
+@Component
+@Slf4j
+public class ImageDataCache {
+
+    /**
+     * 조회 위치 (생성일 기준 첫 번째 / 최신)
+     */
+    public enum Position { FIRST, LATEST }
+
+    // 항목별 키/메타데이터 고정 비용 추정치
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    private final boolean enabled;
+    private final boolean offHeap;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    private final LinkedHashMap<String, CachedImage> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentBytes;
+
+    // 무효화 시마다 증가, 조회 시작 이후 무효화가 있었다면 적재하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ImageDataCache(@Value("${inventory.images.cache.enabled:true}") boolean enabled,
+                          @Value("${inventory.images.cache.max-size-mb:64}") long maxSizeMb,
+                          @Value("${inventory.images.cache.max-entry-kb:2048}") long maxEntryKb,
+                          @Value("${inventory.images.cache.off-heap:false}") boolean offHeap) {
+        this.enabled = enabled && maxSizeMb > 0;
+        this.offHeap = offHeap;
+        this.maxBytes = maxSizeMb * 1024 * 1024;
+        this.maxEntryBytes = Math.min(maxEntryKb * 1024, this.maxBytes);
+        log.info("이미지 캐시 설정 - 사용: {}, 최대: {} MB, 항목 최대: {} KB, off-heap: {}",
+                this.enabled, maxSizeMb, maxEntryKb, offHeap);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시할 수 있는 크기인지 확인
+     */
+    public boolean isCacheable(Long imageSize) {
+        return enabled && imageSize != null && imageSize <= maxEntryBytes;
+    }
+
+    /**
+     * 조회 시작 시점의 세대 값 (put 시 전달)
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시 조회 (적중/미적중 집계)
+     */
+    public CachedImage get(Long productId, ImageCategory category, Position position) {
+        if (!enabled) {
+            return null;
+        }
+        CachedImage cached;
+        synchronized (this) {
+            cached = entries.get(key(productId, category, position));
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return cached;
+    }
+
+    /**
+     * 캐시 적재
+     * - 조회 시작 이후 무효화가 발생했다면 이전 데이터일 수 있으므로 적재하지 않음
+     * - off-heap 버퍼는 적재가 확정된 항목만 할당 (적재하지 않는 항목은 힙 배열을 그대로 감쌈)
+     *
+     * @param expectedGeneration 조회 시작 시점의 currentGeneration() 값
+     * @return 적재된 항목 (적재하지 않은 경우에도 호출 측에서 응답에 사용할 수 있는 항목)
+     */
+    public CachedImage put(Long productId, ImageCategory category, Position position,
+                           ImageContentView image, String contentHash, byte[] data, long expectedGeneration) {
+        if (!enabled || data.length > maxEntryBytes) {
+            return new CachedImage(productId, image, contentHash, wrap(data));
+        }
+        synchronized (this) {
+            if (generation.get() != expectedGeneration) {
+                return new CachedImage(productId, image, contentHash, wrap(data));
+            }
+            CachedImage cached = new CachedImage(productId, image, contentHash, toBuffer(data));
+            CachedImage previous = entries.put(key(productId, category, position), cached);
+            if (previous != null) {
+                currentBytes -= previous.weight();
+            }
+            currentBytes += cached.weight();
+            evictIfNeeded();
+            return cached;
+        }
+    }
+
+    /**
+     * 상품의 캐시 항목 무효화
+     * - 트랜잭션 중이면 커밋 후 수행 (커밋 전 재조회로 이전 이미지가 다시 적재되는 것을 방지)
+     */
+    public void invalidateAfterCommit(Long productId) {
+        if (!enabled || productId == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(productId);
+                }
+            });
+        } else {
+            invalidate(productId);
+        }
+    }
+
+    /**
+     * 상품의 캐시 항목 즉시 무효화
+     */
+    public void invalidate(Long productId) {
+        if (!enabled || productId == null) {
+            return;
+        }
+        synchronized (this) {
+            generation.incrementAndGet();
+            String prefix = productId + ":";
+            Iterator<Map.Entry<String, CachedImage>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, CachedImage> entry = it.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    currentBytes -= entry.getValue().weight();
+                    it.remove();
+                    invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * 전체 캐시 비우기
+     */
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(enabled, offHeap, entries.size(), currentBytes, maxBytes,
+                hits.get(), misses.get(), evictions.get(), invalidations.get());
+    }
+
+    private void evictIfNeeded() {
+        Iterator<CachedImage> it = entries.values().iterator();
+        while (currentBytes > maxBytes && it.hasNext()) {
+            CachedImage eldest = it.next();
+            currentBytes -= eldest.weight();
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private ByteBuffer toBuffer(byte[] data) {
+        if (!offHeap) {
+            return wrap(data);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private static ByteBuffer wrap(byte[] data) {
+        return ByteBuffer.wrap(data).asReadOnlyBuffer();
+    }
+
+    private static String key(Long productId, ImageCategory category, Position position) {
+        return productId + ":" + category + ":" + position;
+    }
+
+    /**
+     * 캐시된 이미지 (메타데이터 + 바이너리)
+     * - ImageContentView를 구현하므로 저장소 조회 결과와 같은 방식으로 응답에 사용
+     */
+    public static class CachedImage implements ImageContentView {
+        private final Long productId;
+        private final Long id;
+        private final String imageName;
+        private final String imageType;
+        private final String contentHash;
+        private final ImageStorageType storageType;
+        private final ByteBuffer data;
+
+        CachedImage(Long productId, ImageContentView image, String contentHash, ByteBuffer data) {
+            this.productId = productId;
+            this.id = image.getId();
+            this.imageName = image.getImageName();
+            this.imageType = image.getImageType();
+            this.contentHash = contentHash;
+            this.storageType = image.getStorageType();
+            this.data = data;
+        }
+
+        public Long getProductId() { return productId; }
+        @Override public Long getId() { return id; }
+        @Override public String getImageName() { return imageName; }
+        @Override public String getImageType() { return imageType; }
+        @Override public Long getImageSize() { return (long) data.capacity(); }
+        @Override public String getContentHash() { return contentHash; }
+        @Override public ImageStorageType getStorageType() { return storageType; }
+        @Override public ImageProcessingStatus getProcessingStatus() { return ImageProcessingStatus.READY; }
+
+        long weight() {
+            return data.capacity() + ENTRY_OVERHEAD_BYTES;
+        }
+
+        /**
+         * 캐시된 바이너리를 복사 없이 읽는 Resource (Range 응답 지원)
+         */
+        public Resource toResource() {
+            return new ByteBufferResource(data.duplicate(), imageName);
+        }
+    }
+
+    /**
+     * ByteBuffer 기반 읽기 전용 Resource
+     */
+    private static class ByteBufferResource extends AbstractResource {
+        private final ByteBuffer buffer;
+        private final String filename;
+
+        ByteBufferResource(ByteBuffer buffer, String filename) {
+            this.buffer = buffer;
+            this.filename = filename;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            ByteBuffer view = buffer.duplicate();
+            return new InputStream() {
+                @Override
+                public int read() {
+                    return view.hasRemaining() ? view.get() & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (!view.hasRemaining()) {
+                        return -1;
+                    }
+                    int n = Math.min(len, view.remaining());
+                    view.get(b, off, n);
+                    return n;
+                }
+
+                @Override
+                public long skip(long n) {
+                    int skipped = (int) Math.max(0, Math.min(n, view.remaining()));
+                    view.position(view.position() + skipped);
+                    return skipped;
+                }
+
+                @Override
+                public int available() {
+                    return view.remaining();
+                }
+            };
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.capacity();
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public String getDescription() {
+            return "cached image [" + filename + "]";
+        }
+    }
+
+    /**
+     * 캐시 통계 정보 클래스
+     */
+    public static class CacheStats {
+        private final boolean enabled;
+        private final boolean offHeap;
+        private final int entries;
+        private final long sizeBytes;
+        private final long maxSizeBytes;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long invalidations;
+
+        public CacheStats(boolean enabled, boolean offHeap, int entries, long sizeBytes, long maxSizeBytes,
+                          long hits, long misses, long evictions, long invalidations) {
+            this.enabled = enabled;
+            this.offHeap = offHeap;
+            this.entries = entries;
+            this.sizeBytes = sizeBytes;
+            this.maxSizeBytes = maxSizeBytes;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.invalidations = invalidations;
+        }
+
+        public boolean isEnabled() { return enabled; }
+        public boolean isOffHeap() { return offHeap; }
+        public int getEntries() { return entries; }
+        public long getSizeBytes() { return sizeBytes; }
+        public long getMaxSizeBytes() { return maxSizeBytes; }
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getEvictions() { return evictions; }
+        public long getInvalidations() { return invalidations; }
+        public double getHitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
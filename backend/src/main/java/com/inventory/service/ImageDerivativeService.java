@@ -0,0 +1,371 @@
+package com.inventory.service;
+
+import com.inventory.entity.ImageCategory;
+import com.inventory.entity.ImageProcessingStatus;
+import com.inventory.entity.ProductImage;
+import com.inventory.repository.ProductImageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파생 이미지(등록용/썸네일) 생성 서비스
+ * - 업로드 트랜잭션에서는 PENDING 상태의 파생 이미지 행만 만들고, 커밋 후 작업을 대기열에 등록
+ * - 크기가 제한된 작업자 풀에서 원본을 한 번 디코딩하여 모든 규격을 생성한 뒤 READY로 변경
+ * - 실패 시 FAILED로 기록하며 재시도 API 또는 재기동 시 PENDING 복구로 다시 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageDerivativeService {
+
+    // 카테고리별 생성 규격 (생성 순서 유지)
+    private static final Map<ImageCategory, ImageResizeService.ResizeTarget> TARGETS = new LinkedHashMap<>();
+    static {
+        TARGETS.put(ImageCategory.REGISTRATION, ImageResizeService.REGISTRATION_TARGET);
+        TARGETS.put(ImageCategory.THUMBNAIL, ImageResizeService.THUMBNAIL_TARGET);
+    }
+
+    private final ProductImageRepository productImageRepository;
+    private final ImageStorageService imageStorageService;
+    private final ImageResizeService imageResizeService;
+    private final ImageDataCache imageDataCache;
+    private final TransactionTemplate transactionTemplate;
+
+    // 0 이하: CPU 코어 수
+    @Value("${inventory.images.derivatives.worker-threads:0}")
+    private int workerThreads;
+
+    @Value("${inventory.images.derivatives.queue-capacity:200}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+    // 작업자/afterCommit 콜백에서 항상 별도 트랜잭션으로 실행
+    private TransactionTemplate requiresNewTemplate;
+
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final StageTimer queueWait = new StageTimer();
+    private final StageTimer loadStage = new StageTimer();
+    private final StageTimer resizeStage = new StageTimer();
+    private final StageTimer storeStage = new StageTimer();
+
+    @PostConstruct
+    void init() {
+        if (workerThreads <= 0) {
+            workerThreads = Runtime.getRuntime().availableProcessors();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), r -> {
+                Thread thread = new Thread(r, "image-derivative-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        requiresNewTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        log.info("파생 이미지 작업자 설정 - 스레드: {}, 대기열: {}", workerThreads, queueCapacity);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 기동 시 처리되지 않은(PENDING) 파생 이미지 작업 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        List<Long> originalIds = productImageRepository.findOriginalImageIdsByProcessingStatus(ImageProcessingStatus.PENDING);
+        if (!originalIds.isEmpty()) {
+            log.info("🔄 대기 중인 파생 이미지 작업 복구 - 원본 {}건", originalIds.size());
+            originalIds.forEach(this::submit);
+        }
+    }
+
+    /**
+     * 원본 이미지의 파생 이미지 생성 예약
+     * - 현재 트랜잭션에서 PENDING 행을 저장하고, 커밋 후 작업을 대기열에 등록
+     *
+     * @param original 저장된 원본 이미지
+     * @return PENDING 상태의 파생 이미지 목록
+     */
+    public List<ProductImage> requestDerivatives(ProductImage original) {
+        List<ProductImage> pending = new ArrayList<>();
+        for (ProductImage derivative : newPlaceholders(original)) {
+            pending.add(productImageRepository.save(derivative));
+        }
+        submitAfterCommit(original.getId());
+        return pending;
+    }
+
+    /**
+     * 원본 이미지의 PENDING 파생 이미지 행 생성 (저장하지 않음)
+     * - 일괄 등록에서는 JDBC 배치로 직접 기록한 뒤 submitAll로 작업 등록
+     */
+    public List<ProductImage> newPlaceholders(ProductImage original) {
+        List<ProductImage> placeholders = new ArrayList<>();
+        for (ImageCategory category : TARGETS.keySet()) {
+            ProductImage derivative = new ProductImage();
+            derivative.setProduct(original.getProduct());
+            derivative.setImageName(ensureJpegName(original.getImageName()));
+            derivative.setImageType("image/jpeg");
+            derivative.setImageSize(0L);
+            derivative.setImageCategory(category);
+            derivative.setOriginalImageId(original.getId());
+            derivative.setProcessingStatus(ImageProcessingStatus.PENDING);
+            placeholders.add(derivative);
+        }
+        return placeholders;
+    }
+
+    /**
+     * 커밋된 원본 이미지들의 파생 이미지 작업 등록 (일괄 등록용)
+     * - 대기열이 가득 차면 FAILED 처리하지 않고 호출 스레드에서 직접 처리하여 유입 속도를 작업자 처리량에 맞춤
+     *
+     * @param originalImageIds 원본 이미지 ID 목록
+     */
+    public void submitAll(Collection<Long> originalImageIds) {
+        for (Long originalImageId : originalImageIds) {
+            long enqueuedAt = System.nanoTime();
+            try {
+                executor.execute(() -> process(originalImageId, enqueuedAt));
+            } catch (RejectedExecutionException e) {
+                process(originalImageId, enqueuedAt);
+            }
+            submittedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 실패한 파생 이미지 재시도
+     *
+     * @param originalImageId 원본 이미지 ID
+     * @return 재시도 대상 파생 이미지 수
+     */
+    public int retryFailed(Long originalImageId) {
+        int updated = productImageRepository.updateProcessingStatus(
+            originalImageId, ImageProcessingStatus.FAILED, ImageProcessingStatus.PENDING);
+        if (updated > 0) {
+            submitAfterCommit(originalImageId);
+        }
+        return updated;
+    }
+
+    private void submitAfterCommit(Long originalImageId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(originalImageId);
+                }
+            });
+        } else {
+            submit(originalImageId);
+        }
+    }
+
+    private void submit(Long originalImageId) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> process(originalImageId, enqueuedAt));
+            submittedCount.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            log.warn("파생 이미지 대기열 초과 - 원본 ID: {} (FAILED 처리, 재시도 필요)", originalImageId);
+            markFailed(originalImageId);
+        }
+    }
+
+    /**
+     * 파생 이미지 생성 (작업자 스레드)
+     * - 원본 로딩 → 디코딩 1회 + 규격별 리사이즈/인코딩 → 저장소 기록 및 READY 변경
+     */
+    private void process(Long originalImageId, long enqueuedAt) {
+        queueWait.record(System.nanoTime() - enqueuedAt);
+        try {
+            long started = System.nanoTime();
+            List<ProductImage> pending = productImageRepository.findByOriginalImageIdAndProcessingStatus(
+                originalImageId, ImageProcessingStatus.PENDING);
+            if (pending.isEmpty()) {
+                return;
+            }
+            ProductImage original = productImageRepository.findById(originalImageId).orElse(null);
+            if (original == null) {
+                return;
+            }
+            byte[] originalData = imageStorageService.loadImageData(original);
+            loadStage.record(System.nanoTime() - started);
+
+            started = System.nanoTime();
+            List<ImageResizeService.ResizeTarget> targets = pending.stream()
+                .map(image -> TARGETS.get(image.getImageCategory()))
+                .distinct()
+                .toList();
+            Map<ImageResizeService.ResizeTarget, ImageResizeService.ResizedImage> results =
+                imageResizeService.createDerivatives(originalData, original.getImageType(), targets);
+            resizeStage.record(System.nanoTime() - started);
+
+            started = System.nanoTime();
+            requiresNewTemplate.executeWithoutResult(status -> {
+                for (ProductImage placeholder : pending) {
+                    ImageResizeService.ResizedImage result = results.get(TARGETS.get(placeholder.getImageCategory()));
+                    productImageRepository.findById(placeholder.getId()).ifPresent(image -> storeDerivative(image, result));
+                }
+                imageDataCache.invalidateAfterCommit(original.getProduct().getId());
+            });
+            storeStage.record(System.nanoTime() - started);
+
+            completedCount.incrementAndGet();
+            log.info("파생 이미지 생성 완료 - 원본 ID: {}, {}건", originalImageId, pending.size());
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            log.error("파생 이미지 생성 실패 - 원본 ID: {}, 오류: {}", originalImageId, e.getMessage(), e);
+            markFailed(originalImageId);
+        }
+    }
+
+    private void storeDerivative(ProductImage image, ImageResizeService.ResizedImage result) {
+        try {
+            image.setImageType(result.contentType);
+            imageStorageService.storeImageData(image, result.data);
+            image.setProcessingStatus(ImageProcessingStatus.READY);
+        } catch (Exception e) {
+            throw new IllegalStateException("파생 이미지 저장 실패: " + image.getId(), e);
+        }
+    }
+
+    private void markFailed(Long originalImageId) {
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> productImageRepository.updateProcessingStatus(
+                originalImageId, ImageProcessingStatus.PENDING, ImageProcessingStatus.FAILED));
+        } catch (Exception e) {
+            log.error("파생 이미지 상태 변경 실패 - 원본 ID: {}, 오류: {}", originalImageId, e.getMessage());
+        }
+    }
+
+    private String ensureJpegName(String name) {
+        if (name == null || name.isBlank()) return "image.jpg";
+        String lower = name.toLowerCase();
+        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) return name;
+        int dot = name.lastIndexOf('.');
+        return (dot > 0 ? name.substring(0, dot) : name) + ".jpg";
+    }
+
+    /**
+     * 작업 지표 조회
+     */
+    public DerivativeMetrics getMetrics() {
+        Map<String, StageStats> stages = new LinkedHashMap<>();
+        stages.put("queue", queueWait.snapshot());
+        stages.put("load", loadStage.snapshot());
+        stages.put("resize", resizeStage.snapshot());
+        stages.put("store", storeStage.snapshot());
+        return new DerivativeMetrics(executor.getQueue().size(), queueCapacity, executor.getActiveCount(), workerThreads,
+            submittedCount.get(), completedCount.get(), failedCount.get(), rejectedCount.get(), stages);
+    }
+
+    /**
+     * 단계별 처리 시간 누적기
+     */
+    private static class StageTimer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        StageStats snapshot() {
+            long n = count.sum();
+            double avgMs = n == 0 ? 0.0 : totalNanos.sum() / (double) n / 1_000_000.0;
+            return new StageStats(n, avgMs, maxNanos.get() / 1_000_000.0);
+        }
+    }
+
+    /**
+     * 단계별 처리 시간 통계
+     */
+    public static class StageStats {
+        private final long count;
+        private final double avgMs;
+        private final double maxMs;
+
+        public StageStats(long count, double avgMs, double maxMs) {
+            this.count = count;
+            this.avgMs = avgMs;
+            this.maxMs = maxMs;
+        }
+
+        public long getCount() { return count; }
+        public double getAvgMs() { return avgMs; }
+        public double getMaxMs() { return maxMs; }
+    }
+
+    /**
+     * 파생 이미지 작업 지표
+     */
+    public static class DerivativeMetrics {
+        private final int queueDepth;
+        private final int queueCapacity;
+        private final int activeWorkers;
+        private final int workerThreads;
+        private final long submitted;
+        private final long completed;
+        private final long failed;
+        private final long rejected;
+        private final Map<String, StageStats> stages;
+
+        public DerivativeMetrics(int queueDepth, int queueCapacity, int activeWorkers, int workerThreads,
+                                 long submitted, long completed, long failed, long rejected,
+                                 Map<String, StageStats> stages) {
+            this.queueDepth = queueDepth;
+            this.queueCapacity = queueCapacity;
+            this.activeWorkers = activeWorkers;
+            this.workerThreads = workerThreads;
+            this.submitted = submitted;
+            this.completed = completed;
+            this.failed = failed;
+            this.rejected = rejected;
+            this.stages = stages;
+        }
+
+        public int getQueueDepth() { return queueDepth; }
+        public int getQueueCapacity() { return queueCapacity; }
+        public int getActiveWorkers() { return activeWorkers; }
+        public int getWorkerThreads() { return workerThreads; }
+        public long getSubmitted() { return submitted; }
+        public long getCompleted() { return completed; }
+        public long getFailed() { return failed; }
+        public long getRejected() { return rejected; }
+        public Map<String, StageStats> getStages() { return stages; }
+    }
+}
@@ -1,138 +1,234 @@
 package com.inventory.service;
 
+import com.inventory.entity.ImageCategory;
+import com.inventory.entity.ImageProcessingStatus;
+import com.inventory.entity.MigrationCheckpoint;
 import com.inventory.entity.Product;
 import com.inventory.entity.ProductImage;
-import com.inventory.repository.ProductRepository;
+import com.inventory.repository.MigrationCheckpointRepository;
 import com.inventory.repository.ProductImageRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.projection.ProductImageCountView;
+import com.inventory.repository.projection.ProductImageSourceView;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 이미지 마이그레이션 서비스
- * - 기존 파일 시스템의 이미지를 DB로 마이그레이션
- * - 상품의 imageUrl 필드를 기반으로 파일을 찾아서 DB에 저장
+ * - 기존 파일 시스템의 이미지(상품 imageUrl)를 이미지 저장소로 마이그레이션
+ * - 백그라운드에서 상품 ID 오름차순 청크 단위로 처리하고 청크마다 커밋 (실패 시 해당 청크만 재처리)
+ * - 청크 안의 파일 읽기/해시 계산은 크기가 제한된 풀에서 병렬 처리
+ * - 체크포인트(migration_checkpoints)를 청크와 같은 트랜잭션에서 갱신하므로 재기동 후 이어서 진행
+ * - 원본 저장 후 등록용/썸네일 파생 이미지 생성을 함께 예약
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class ImageMigrationService {
-    
-    private final ProductRepository productRepository;
-    private final ProductImageRepository productImageRepository;
-    
+
+    static final String JOB_NAME = "file-images";
+
     // 기존 이미지 파일이 저장된 디렉토리
     private static final String UPLOAD_DIR = "uploads/images/";
-    
+
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ImageStorageService imageStorageService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final MigrationCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${inventory.images.file-migration.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${inventory.images.file-migration.read-threads:4}")
+    private int readThreads;
+
+    @Value("${inventory.images.file-migration.auto-resume:true}")
+    private boolean autoResume;
+
+    private CheckpointedJobRunner runner;
+    private ExecutorService readPool;
+
+    @PostConstruct
+    void init() {
+        runner = new CheckpointedJobRunner(JOB_NAME, "이미지 마이그레이션", "image-file-migrator",
+                checkpointRepository, this::migrateNextChunk);
+        AtomicInteger threadNumber = new AtomicInteger();
+        readPool = Executors.newFixedThreadPool(Math.max(1, readThreads), r -> {
+            Thread thread = new Thread(r, "image-file-reader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
-     * 모든 상품의 이미지를 파일 시스템에서 DB로 마이그레이션
-     * 
-     * @return 마이그레이션 결과 통계
+     * 기동 시 중단된(RUNNING 상태로 남은) 마이그레이션 이어서 실행
      */
-    public MigrationResult migrateAllImages() {
-        log.info("🔄 이미지 마이그레이션 시작...");
-        
-        MigrationResult result = new MigrationResult();
-        
-        try {
-            // 1. 모든 상품 조회
-            List<Product> products = productRepository.findAll();
-            log.info("📦 마이그레이션할 상품 수: {}", products.size());
-            
-            // 2. 각 상품의 이미지 마이그레이션
-            for (Product product : products) {
-                try {
-                    migrateProductImages(product, result);
-                } catch (Exception e) {
-                    log.error("❌ 상품 이미지 마이그레이션 실패 - 상품 ID: {}, 오류: {}", 
-                            product.getId(), e.getMessage());
-                    result.addError(product.getId(), e.getMessage());
-                }
-            }
-            
-            log.info("✅ 이미지 마이그레이션 완료 - 성공: {}, 실패: {}, 총 처리: {}", 
-                    result.getSuccessCount(), result.getErrorCount(), result.getTotalCount());
-            
-        } catch (Exception e) {
-            log.error("❌ 이미지 마이그레이션 중 전체 오류 발생: {}", e.getMessage(), e);
-            result.setErrorMessage("마이그레이션 중 오류 발생: " + e.getMessage());
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnReady() {
+        if (!autoResume) {
+            return;
         }
-        
-        return result;
+        checkpointRepository.findById(JOB_NAME)
+            .filter(checkpoint -> checkpoint.getStatus() == MigrationCheckpoint.Status.RUNNING)
+            .ifPresent(checkpoint -> {
+                log.info("🔄 중단된 이미지 마이그레이션 재개 - 마지막 상품 ID: {}", checkpoint.getLastProductId());
+                start(false);
+            });
     }
-    
+
     /**
-     * 특정 상품의 이미지 마이그레이션
-     * 
-     * @param product 마이그레이션할 상품
-     * @param result 마이그레이션 결과 (통계용)
+     * 마이그레이션 시작 (체크포인트 다음 상품부터)
+     *
+     * @param restart true면 체크포인트를 초기화하고 처음부터 실행 (완료된 작업도 처음부터 실행)
+     * @return 새로 시작했으면 true, 이미 실행 중이면 false
      */
-    private void migrateProductImages(Product product, MigrationResult result) {
-        log.debug("🔄 상품 이미지 마이그레이션 - 상품 ID: {}, 상품명: {}", 
-                product.getId(), product.getName());
-        
-        // 1. 상품에 이미지가 이미 DB에 있는지 확인
-        long existingImageCount = productImageRepository.countByProductId(product.getId());
-        if (existingImageCount > 0) {
-            log.debug("⏭️ 상품 ID {}는 이미 DB에 이미지가 있음 ({}개), 건너뜀", 
-                    product.getId(), existingImageCount);
-            result.addSkipped(product.getId(), "이미 DB에 이미지가 존재함");
-            return;
+    public boolean start(boolean restart) {
+        return runner.start(restart);
+    }
+
+    /**
+     * 마이그레이션 중지 요청 (현재 청크 커밋 후 중지)
+     */
+    public void stop() {
+        runner.stop();
+    }
+
+    private MigrationCheckpoint migrateNextChunk(MigrationCheckpoint checkpoint) {
+        List<ProductImageSourceView> chunk = productRepository.findImageSourcesAfter(
+            checkpoint.getLastProductId(), Limit.of(chunkSize));
+        return chunk.isEmpty() ? null : migrateChunk(checkpoint, chunk);
+    }
+
+    /**
+     * 청크 1개 처리
+     * - 이미지가 이미 있는 상품은 IN 조회 한 번으로 제외
+     * - 파일 읽기/저장소 기록은 읽기 풀에서 병렬 처리
+     * - 원본/PENDING 파생 행 저장과 체크포인트 갱신을 한 트랜잭션으로 커밋한 뒤 파생 작업 등록
+     *
+     * @return 커밋된 체크포인트
+     */
+    private MigrationCheckpoint migrateChunk(MigrationCheckpoint checkpoint, List<ProductImageSourceView> chunk) {
+        List<Long> productIds = chunk.stream().map(ProductImageSourceView::getId).toList();
+        Set<Long> withImages = new HashSet<>();
+        for (ProductImageCountView count : productImageRepository.countByProductIdIn(productIds)) {
+            if (count.getImageCount() > 0) {
+                withImages.add(count.getProductId());
+            }
         }
-        
-        // 2. 상품의 imageUrl 필드 확인
-        String imageUrl = product.getImageUrl();
-        if (imageUrl == null || imageUrl.trim().isEmpty()) {
-            log.debug("⏭️ 상품 ID {}는 imageUrl이 없음, 건너뜀", product.getId());
-            result.addSkipped(product.getId(), "imageUrl이 없음");
-            return;
+
+        List<CompletableFuture<FileOutcome>> reads = new ArrayList<>();
+        long skipped = 0;
+        for (ProductImageSourceView source : chunk) {
+            if (withImages.contains(source.getId())) {
+                skipped++;
+                addSkipped(source.getId(), "이미 DB에 이미지가 존재함");
+                continue;
+            }
+            String filePath = getFilePathFromUrl(source.getImageUrl());
+            if (filePath == null) {
+                skipped++;
+                addSkipped(source.getId(), source.getImageUrl() == null || source.getImageUrl().isBlank()
+                    ? "imageUrl이 없음" : "올바르지 않은 imageUrl: " + source.getImageUrl());
+                continue;
+            }
+            reads.add(CompletableFuture.supplyAsync(() -> loadFile(source.getId(), Paths.get(filePath)), readPool));
         }
-        
-        // 3. 파일 경로 생성
-        String filePath = getFilePathFromUrl(imageUrl);
-        if (filePath == null) {
-            log.debug("⏭️ 상품 ID {}의 imageUrl이 올바르지 않음: {}", product.getId(), imageUrl);
-            result.addSkipped(product.getId(), "올바르지 않은 imageUrl: " + imageUrl);
-            return;
+
+        List<ProductImage> loaded = new ArrayList<>();
+        long errors = 0;
+        for (CompletableFuture<FileOutcome> read : reads) {
+            FileOutcome outcome = read.join();
+            if (outcome.image != null) {
+                loaded.add(outcome.image);
+            } else if (outcome.error) {
+                errors++;
+                addError(outcome.productId, outcome.message);
+            } else {
+                skipped++;
+                addSkipped(outcome.productId, outcome.message);
+            }
         }
-        
-        // 4. 파일 존재 여부 확인
-        File imageFile = new File(filePath);
-        if (!imageFile.exists()) {
-            log.debug("⏭️ 상품 ID {}의 이미지 파일이 존재하지 않음: {}", product.getId(), filePath);
-            result.addSkipped(product.getId(), "파일이 존재하지 않음: " + filePath);
-            return;
+
+        long chunkSkipped = skipped;
+        long chunkErrors = errors;
+        Long lastProductId = productIds.get(productIds.size() - 1);
+        List<Long> originalIds = new ArrayList<>();
+        MigrationCheckpoint committed = transactionTemplate.execute(status -> {
+            for (ProductImage image : loaded) {
+                image.setProduct(productRepository.getReferenceById(image.getProduct().getId()));
+                ProductImage saved = productImageRepository.save(image);
+                productImageRepository.saveAll(imageDerivativeService.newPlaceholders(saved));
+                originalIds.add(saved.getId());
+            }
+            checkpoint.setLastProductId(lastProductId);
+            checkpoint.setSuccessCount(checkpoint.getSuccessCount() + loaded.size());
+            checkpoint.setSkippedCount(checkpoint.getSkippedCount() + chunkSkipped);
+            checkpoint.setErrorCount(checkpoint.getErrorCount() + chunkErrors);
+            return checkpointRepository.save(checkpoint);
+        });
+
+        imageDerivativeService.submitAll(originalIds);
+        log.info("📦 이미지 마이그레이션 청크 커밋 - 상품 ID ~{}, 성공: {}, 건너뜀: {}, 실패: {}",
+                lastProductId, loaded.size(), chunkSkipped, chunkErrors);
+        return committed;
+    }
+
+    /**
+     * 파일 1개 읽기 + 저장소 기록 (읽기 풀)
+     */
+    private FileOutcome loadFile(Long productId, Path file) {
+        if (!Files.isRegularFile(file)) {
+            return FileOutcome.skipped(productId, "파일이 존재하지 않음: " + file);
         }
-        
-        // 5. 이미지 파일을 DB에 저장
         try {
-            ProductImage productImage = createProductImageFromFile(product, imageFile);
-            productImageRepository.save(productImage);
-            
-            log.info("✅ 상품 이미지 마이그레이션 성공 - 상품 ID: {}, 파일: {}", 
-                    product.getId(), imageFile.getName());
-            result.addSuccess(product.getId(), imageFile.getName());
-            
-        } catch (Exception e) {
-            log.error("❌ 상품 이미지 저장 실패 - 상품 ID: {}, 파일: {}, 오류: {}", 
-                    product.getId(), filePath, e.getMessage());
-            result.addError(product.getId(), "파일 저장 실패: " + e.getMessage());
+            byte[] imageData = Files.readAllBytes(file);
+            if (imageData.length == 0) {
+                return FileOutcome.skipped(productId, "빈 파일: " + file);
+            }
+
+            Product product = new Product();
+            product.setId(productId);
+            ProductImage productImage = new ProductImage();
+            productImage.setProduct(product);
+            productImage.setImageName(file.getFileName().toString());
+            productImage.setImageType(getMimeTypeFromFile(file));
+            productImage.setImageCategory(ImageCategory.ORIGINAL);
+            productImage.setProcessingStatus(ImageProcessingStatus.READY);
+            imageStorageService.storeImageData(productImage, imageData);
+            return FileOutcome.loaded(productId, productImage);
+
+        } catch (IOException | RuntimeException e) {
+            log.error("❌ 상품 이미지 파일 읽기 실패 - 상품 ID: {}, 파일: {}, 오류: {}", productId, file, e.getMessage());
+            return FileOutcome.failed(productId, "파일 저장 실패: " + e.getMessage());
         }
     }
-    
+
     /**
      * imageUrl에서 실제 파일 경로 추출
-     * 
+     *
      * @param imageUrl 상품의 imageUrl 필드
      * @return 실제 파일 경로
      */
@@ -140,7 +236,7 @@ public class ImageMigrationService {
         if (imageUrl == null || imageUrl.trim().isEmpty()) {
             return null;
         }
-        
+
         // URL에서 파일명만 추출
         String fileName;
         if (imageUrl.startsWith("/uploads/images/")) {
@@ -152,49 +248,24 @@ public class ImageMigrationService {
         } else {
             fileName = imageUrl;
         }
-        
+
         // 파일명이 비어있으면 null 반환
         if (fileName.trim().isEmpty()) {
             return null;
         }
-        
+
         return UPLOAD_DIR + fileName;
     }
-    
-    /**
-     * 파일로부터 ProductImage 엔티티 생성
-     * 
-     * @param product 상품 엔티티
-     * @param imageFile 이미지 파일
-     * @return ProductImage 엔티티
-     */
-    private ProductImage createProductImageFromFile(Product product, File imageFile) throws IOException {
-        // 1. 파일 데이터 읽기
-        byte[] imageData = Files.readAllBytes(imageFile.toPath());
-        
-        // 2. MIME 타입 추정
-        String mimeType = getMimeTypeFromFile(imageFile);
-        
-        // 3. ProductImage 엔티티 생성
-        ProductImage productImage = new ProductImage();
-        productImage.setProduct(product);
-        productImage.setImageName(imageFile.getName());
-        productImage.setImageData(imageData);
-        productImage.setImageType(mimeType);
-        productImage.setImageSize(imageFile.length());
-        
-        return productImage;
-    }
-    
+
     /**
      * 파일 확장자로부터 MIME 타입 추정
-     * 
+     *
      * @param file 파일
      * @return MIME 타입
      */
-    private String getMimeTypeFromFile(File file) {
-        String fileName = file.getName().toLowerCase();
-        
+    private String getMimeTypeFromFile(Path file) {
+        String fileName = file.getFileName().toString().toLowerCase();
+
         if (fileName.endsWith(".jpg") || fileName.endsWith(".jpeg")) {
             return "image/jpeg";
         } else if (fileName.endsWith(".png")) {
@@ -209,49 +280,56 @@ public class ImageMigrationService {
             return "image/jpeg"; // 기본값
         }
     }
-    
+
+    private void addError(Long productId, String error) {
+        runner.addError("상품 ID " + productId + ": " + error);
+    }
+
+    private void addSkipped(Long productId, String reason) {
+        log.debug("⏭️ 상품 ID {} 건너뜀: {}", productId, reason);
+        runner.addSkipped("상품 ID " + productId + ": " + reason);
+    }
+
+    /**
+     * 현재 마이그레이션 상태 (체크포인트 + 최근 오류/건너뜀 사유)
+     */
+    public MigrationStatus getStatus() {
+        MigrationCheckpoint checkpoint = runner.getCheckpoint();
+        return runner.getStatus(checkpoint, productRepository.countByIdGreaterThan(checkpoint.getLastProductId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdown();
+        readPool.shutdown();
+    }
+
     /**
-     * 마이그레이션 결과 클래스
+     * 파일 1개 처리 결과
      */
-    public static class MigrationResult {
-        private int totalCount = 0;
-        private int successCount = 0;
-        private int errorCount = 0;
-        private int skippedCount = 0;
-        private String errorMessage;
-        private java.util.List<String> errors = new java.util.ArrayList<>();
-        private java.util.List<String> skipped = new java.util.ArrayList<>();
-        
-        public void addSuccess(Long productId, String fileName) {
-            successCount++;
-            totalCount++;
-            log.debug("✅ 마이그레이션 성공 - 상품 ID: {}, 파일: {}", productId, fileName);
+    private static class FileOutcome {
+        final Long productId;
+        final ProductImage image;
+        final boolean error;
+        final String message;
+
+        private FileOutcome(Long productId, ProductImage image, boolean error, String message) {
+            this.productId = productId;
+            this.image = image;
+            this.error = error;
+            this.message = message;
         }
-        
-        public void addError(Long productId, String error) {
-            errorCount++;
-            totalCount++;
-            errors.add("상품 ID " + productId + ": " + error);
+
+        static FileOutcome loaded(Long productId, ProductImage image) {
+            return new FileOutcome(productId, image, false, null);
         }
-        
-        public void addSkipped(Long productId, String reason) {
-            skippedCount++;
-            totalCount++;
-            skipped.add("상품 ID " + productId + ": " + reason);
+
+        static FileOutcome skipped(Long productId, String reason) {
+            return new FileOutcome(productId, null, false, reason);
         }
-        
-        // Getters
-        public int getTotalCount() { return totalCount; }
-        public int getSuccessCount() { return successCount; }
-        public int getErrorCount() { return errorCount; }
-        public int getSkippedCount() { return skippedCount; }
-        public String getErrorMessage() { return errorMessage; }
-        public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
-        public java.util.List<String> getErrors() { return errors; }
-        public java.util.List<String> getSkipped() { return skipped; }
-        
-        public boolean isSuccess() {
-            return errorMessage == null && errorCount == 0;
+
+        static FileOutcome failed(Long productId, String error) {
+            return new FileOutcome(productId, null, true, error);
         }
     }
 }
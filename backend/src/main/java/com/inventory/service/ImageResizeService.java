@@ -4,11 +4,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 이미지 리사이징 서비스
@@ -31,6 +39,25 @@ public class ImageResizeService {
     private static final float REGISTRATION_QUALITY = 0.85f;
     private static final float THUMBNAIL_QUALITY = 0.8f;
     private static final long REGISTRATION_MAX_BYTES = 2L * 1024 * 1024; // 2MB 상한
+    private static final long THUMBNAIL_MAX_BYTES = 256L * 1024;
+
+    // ImageReader/ImageWriter 재사용 풀 (형식별 유휴 인스턴스 상한)
+    private final ImageCodecPool codecPool = new ImageCodecPool(Runtime.getRuntime().availableProcessors() * 2);
+
+    // 용량 상한 이하 최고 품질 탐색 인코더 (품질별 bpp 추정치를 인스턴스 수명 동안 학습)
+    private final JpegSizeTargetEncoder jpegEncoder = new JpegSizeTargetEncoder(codecPool);
+
+    /**
+     * 등록용 이미지 규격 (JPEG, 긴 변 800px, 2MB 이하)
+     */
+    public static final ResizeTarget REGISTRATION_TARGET = new ResizeTarget(
+        "registration", REGISTRATION_MAX_WIDTH, REGISTRATION_MAX_HEIGHT, REGISTRATION_QUALITY, REGISTRATION_MAX_BYTES);
+    
+    /**
+     * 썸네일 이미지 규격 (JPEG, 긴 변 200px, 256KB 이하)
+     */
+    public static final ResizeTarget THUMBNAIL_TARGET = new ResizeTarget(
+        "thumbnail", THUMBNAIL_MAX_WIDTH, THUMBNAIL_MAX_HEIGHT, THUMBNAIL_QUALITY, THUMBNAIL_MAX_BYTES);
 
     /**
      * 원본 이미지 리사이징 (등록용)
@@ -42,32 +69,8 @@ public class ImageResizeService {
      */
     public byte[] resizeForRegistration(byte[] originalImageData, String originalFormat) {
         try {
-            BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(originalImageData));
-            if (originalImage == null) {
-                log.warn("원본 이미지를 읽을 수 없습니다");
-                return originalImageData;
-            }
-
-            // 이미지 크기 확인
-            int originalWidth = originalImage.getWidth();
-            int originalHeight = originalImage.getHeight();
-            
-            log.info("원본 이미지 크기: {}x{}", originalWidth, originalHeight);
-
-            // 비율 유지 리사이즈(긴 변 800px 이내)
-            Dimension newSize = calculateResizeDimensions(originalWidth, originalHeight,
-                REGISTRATION_MAX_WIDTH, REGISTRATION_MAX_HEIGHT);
-
-            BufferedImage resizedImage = resizeImage(toRGB(originalImage), newSize.width, newSize.height);
-
-            // JPEG로 인코딩(메타 제거) + 용량 2MB 이하 품질 조정
-            byte[] encoded = encodeJpegWithTargetSize(resizedImage, REGISTRATION_QUALITY, REGISTRATION_MAX_BYTES);
-
-            log.info("등록용 이미지 생성 완료: {}x{} -> {}x{}, 최종 크기: {} bytes",
-                originalWidth, originalHeight, newSize.width, newSize.height, encoded.length);
-
-            return encoded;
-            
+            return createDerivatives(originalImageData, originalFormat, List.of(REGISTRATION_TARGET))
+                .get(REGISTRATION_TARGET).data;
         } catch (IOException e) {
             log.error("이미지 리사이징 실패: {}", e.getMessage(), e);
             return originalImageData; // 실패 시 원본 반환
@@ -84,34 +87,84 @@ public class ImageResizeService {
      */
     public byte[] createThumbnail(byte[] originalImageData, String originalFormat) {
         try {
-            BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(originalImageData));
-            if (originalImage == null) {
-                log.warn("원본 이미지를 읽을 수 없습니다");
-                return originalImageData;
-            }
-
-            int originalWidth = originalImage.getWidth();
-            int originalHeight = originalImage.getHeight();
-            
-            // 비율을 유지하면서 썸네일 크기로 리사이징
-            Dimension thumbnailSize = calculateResizeDimensions(originalWidth, originalHeight, 
-                THUMBNAIL_MAX_WIDTH, THUMBNAIL_MAX_HEIGHT);
-            
-            BufferedImage thumbnailImage = resizeImage(toRGB(originalImage), thumbnailSize.width, thumbnailSize.height);
-
-            // JPEG로 인코딩(간단 품질)
-            byte[] thumbnailData = encodeJpegWithTargetSize(thumbnailImage, THUMBNAIL_QUALITY, 256 * 1024);
-            log.info("썸네일 이미지 생성 완료: {}x{} -> {}x{}, 크기: {} bytes", 
-                originalWidth, originalHeight, thumbnailSize.width, thumbnailSize.height, thumbnailData.length);
-            
-            return thumbnailData;
-            
+            return createDerivatives(originalImageData, originalFormat, List.of(THUMBNAIL_TARGET))
+                .get(THUMBNAIL_TARGET).data;
         } catch (IOException e) {
             log.error("썸네일 생성 실패: {}", e.getMessage(), e);
             return originalImageData; // 실패 시 원본 반환
         }
     }
 
+    /**
+     * 여러 규격의 파생 이미지 생성
+     * - 원본은 한 번만 디코딩하고 모든 규격을 같은 래스터에서 생성
+     * - 가장 큰 규격보다 충분히 큰 원본은 디코딩 단계에서 서브샘플링하여 전체 해상도 래스터를 만들지 않음
+     * - 절반씩 단계적으로 축소한 중간 이미지를 규격 간에 공유 (큰 규격 → 작은 규격 순서)
+     * - 디코딩할 수 없는 형식은 원본 바이트/타입을 그대로 반환 (기존 동작 유지)
+     * 
+     * @param originalImageData 원본 이미지 바이트 배열
+     * @param originalContentType 원본 MIME 타입
+     * @param targets 생성할 규격 목록
+     * @return 규격별 결과 (입력 순서 유지)
+     */
+    public Map<ResizeTarget, ResizedImage> createDerivatives(byte[] originalImageData, String originalContentType,
+                                                             List<ResizeTarget> targets) throws IOException {
+        Map<ResizeTarget, ResizedImage> results = new LinkedHashMap<>();
+        for (ResizeTarget target : targets) {
+            results.put(target, null);
+        }
+
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(originalImageData))) {
+            ImageReader reader = codecPool.borrowReader(input);
+            if (reader == null) {
+                log.warn("원본 이미지를 읽을 수 없습니다");
+                results.replaceAll((target, ignored) -> new ResizedImage(originalImageData, originalContentType, -1, -1));
+                return results;
+            }
+
+            int originalWidth;
+            int originalHeight;
+            BufferedImage decoded;
+            try {
+                reader.setInput(input, true, true);
+                originalWidth = reader.getWidth(0);
+                originalHeight = reader.getHeight(0);
+
+                // 가장 큰 규격 대비 2배 이상 남도록 서브샘플링 (이후 단계적 축소로 품질 보정)
+                int subsampling = Integer.MAX_VALUE;
+                for (ResizeTarget target : targets) {
+                    Dimension size = calculateResizeDimensions(originalWidth, originalHeight, target.maxWidth, target.maxHeight);
+                    subsampling = Math.min(subsampling, Math.min(originalWidth / (size.width * 2), originalHeight / (size.height * 2)));
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                decoded = reader.read(0, param);
+                log.info("원본 이미지 크기: {}x{}, 디코딩 크기: {}x{} (서브샘플링 1/{})",
+                    originalWidth, originalHeight, decoded.getWidth(), decoded.getHeight(), Math.max(subsampling, 1));
+            } finally {
+                codecPool.returnReader(reader);
+            }
+
+            // 큰 규격부터 처리하여 절반 축소 단계를 재사용
+            List<ResizeTarget> ordered = new ArrayList<>(targets);
+            ordered.sort(Comparator.comparingLong((ResizeTarget t) -> (long) t.maxWidth * t.maxHeight).reversed());
+            BufferedImage working = decoded;
+            for (ResizeTarget target : ordered) {
+                // 비율 유지 리사이즈 후 JPEG로 인코딩(메타 제거) + 용량 상한 이하로 품질 조정
+                Dimension newSize = calculateResizeDimensions(originalWidth, originalHeight, target.maxWidth, target.maxHeight);
+                working = halveWhileLarger(working, newSize.width, newSize.height);
+                BufferedImage resizedImage = resizeImage(working, newSize.width, newSize.height);
+                byte[] encoded = jpegEncoder.encode(resizedImage, target.quality, target.maxBytes);
+                results.put(target, new ResizedImage(encoded, "image/jpeg", newSize.width, newSize.height));
+                log.info("{} 이미지 생성 완료: {}x{} -> {}x{}, 최종 크기: {} bytes",
+                    target.name, originalWidth, originalHeight, newSize.width, newSize.height, encoded.length);
+            }
+        }
+        return results;
+    }
+
     /**
      * 리사이징할 새로운 크기 계산
      * - 비율을 유지하면서 최대 크기 내에서 계산
@@ -122,17 +175,33 @@ public class ImageResizeService {
         double heightRatio = (double) maxHeight / originalHeight;
         double ratio = Math.min(widthRatio, heightRatio);
         
-        int newWidth = (int) (originalWidth * ratio);
-        int newHeight = (int) (originalHeight * ratio);
+        int newWidth = Math.max(1, (int) (originalWidth * ratio));
+        int newHeight = Math.max(1, (int) (originalHeight * ratio));
         
         return new Dimension(newWidth, newHeight);
     }
 
+    /**
+     * 목표 크기의 2배 이상인 동안 절반씩 축소
+     * - 한 번에 큰 비율로 bilinear 축소할 때 생기는 계단/모아레 현상을 줄이고, 각 단계 비용은 이전 단계의 1/4
+     */
+    private BufferedImage halveWhileLarger(BufferedImage image, int targetWidth, int targetHeight) {
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = resizeImage(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return current;
+    }
+
     /**
      * 이미지 리사이징 실행
-     * - 고품질 리샘플링 사용
+     * - 고품질 리샘플링 사용, 결과는 JPEG 인코딩용 TYPE_INT_RGB (원본 색상 모델 변환 포함)
      */
     private BufferedImage resizeImage(BufferedImage originalImage, int targetWidth, int targetHeight) {
+        if (originalImage.getType() == BufferedImage.TYPE_INT_RGB
+                && originalImage.getWidth() == targetWidth && originalImage.getHeight() == targetHeight) {
+            return originalImage;
+        }
         BufferedImage resizedImage = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
         
         Graphics2D g2d = resizedImage.createGraphics();
@@ -148,42 +217,6 @@ public class ImageResizeService {
         return resizedImage;
     }
 
-    private BufferedImage toRGB(BufferedImage src) {
-        if (src.getType() == BufferedImage.TYPE_INT_RGB) return src;
-        BufferedImage rgb = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_RGB);
-        Graphics2D g = rgb.createGraphics();
-        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-        g.drawImage(src, 0, 0, null);
-        g.dispose();
-        return rgb;
-    }
-
-    private byte[] encodeJpegWithTargetSize(BufferedImage image, float startQuality, long maxBytes) throws IOException {
-        float q = startQuality;
-        byte[] out = encodeJpeg(image, q);
-        int steps = 0;
-        while (out.length > maxBytes && q > 0.6f && steps < 5) {
-            q -= 0.05f; // 품질 단계적으로 낮춤
-            out = encodeJpeg(image, q);
-            steps++;
-        }
-        return out;
-    }
-
-    private byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        javax.imageio.ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
-        javax.imageio.stream.ImageOutputStream ios = ImageIO.createImageOutputStream(baos);
-        writer.setOutput(ios);
-        javax.imageio.plugins.jpeg.JPEGImageWriteParam jpegParams = new javax.imageio.plugins.jpeg.JPEGImageWriteParam(null);
-        jpegParams.setCompressionMode(javax.imageio.ImageWriteParam.MODE_EXPLICIT);
-        jpegParams.setCompressionQuality(quality);
-        writer.write(null, new javax.imageio.IIOImage(image, null, null), jpegParams);
-        writer.dispose();
-        ios.close();
-        return baos.toByteArray();
-    }
-
     /**
      * 이미지 메타데이터 추출
      */
@@ -204,6 +237,42 @@ public class ImageResizeService {
         return null;
     }
 
+    /**
+     * 파생 이미지 규격
+     */
+    public static class ResizeTarget {
+        public final String name;
+        public final int maxWidth;
+        public final int maxHeight;
+        public final float quality;
+        public final long maxBytes;
+
+        public ResizeTarget(String name, int maxWidth, int maxHeight, float quality, long maxBytes) {
+            this.name = name;
+            this.maxWidth = maxWidth;
+            this.maxHeight = maxHeight;
+            this.quality = quality;
+            this.maxBytes = maxBytes;
+        }
+    }
+
+    /**
+     * 파생 이미지 생성 결과
+     */
+    public static class ResizedImage {
+        public final byte[] data;
+        public final String contentType;
+        public final int width;
+        public final int height;
+
+        public ResizedImage(byte[] data, String contentType, int width, int height) {
+            this.data = data;
+            this.contentType = contentType;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
     /**
      * 이미지 메타데이터 클래스
      */
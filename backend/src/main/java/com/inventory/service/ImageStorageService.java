@@ -0,0 +1,299 @@
+package com.inventory.service;
+
+import com.inventory.entity.ImageStorageType;
+import com.inventory.entity.ProductImage;
+import com.inventory.repository.ProductImageRepository;
+import com.inventory.repository.projection.ImageContentView;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 바이너리 저장 위치 관리 서비스
+ * - 신규 이미지는 설정(inventory.images.store)에 따라 DB 컬럼 또는 외부 저장소에 기록
+ * - 조회는 행의 storageType을 기준으로 하므로 저장소 전환/마이그레이션 중에도 동작
+ * - 외부 저장소는 같은 내용을 한 번만 저장하므로(이미 있으면 기록 생략) 기록 중인 해시는 삭제하지 않음
+ *   (기록한 트랜잭션이 끝날 때까지, 트랜잭션 밖 기록은 유예 시간 동안 보호 → 보호 중 요청된 삭제는 보호 해제 후 재확인)
+ */
+@Service
+@Slf4j
+public class ImageStorageService {
+
+    private final ProductImageRepository productImageRepository;
+    private final DataSource dataSource;
+    private final Map<ImageStorageType, ImageBlobStore> blobStores = new EnumMap<>(ImageStorageType.class);
+    private final ImageStorageType writeStorageType;
+    private final long releaseGraceSeconds;
+
+    // 아직 커밋되지 않은 기록이 참조하는 해시별 기록 수 (정리 작업이 삭제하지 않음)
+    private final Map<String, Integer> inFlightWrites = new ConcurrentHashMap<>();
+    // 보호 중이라 미뤄 둔 삭제 요청 (해시 → 저장소)
+    private final Map<String, ImageStorageType> deferredReleases = new ConcurrentHashMap<>();
+    // 해시별 보호/삭제 판단 직렬화 (해시 분할 잠금)
+    private final Object[] hashLocks = new Object[64];
+    private final ScheduledExecutorService graceScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "image-blob-grace");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ImageStorageService(ProductImageRepository productImageRepository,
+                               DataSource dataSource,
+                               List<ImageBlobStore> blobStores,
+                               @Value("${inventory.images.store:database}") String store,
+                               @Value("${inventory.images.release-grace-seconds:600}") long releaseGraceSeconds) {
+        this.productImageRepository = productImageRepository;
+        this.dataSource = dataSource;
+        this.releaseGraceSeconds = releaseGraceSeconds;
+        for (int i = 0; i < hashLocks.length; i++) {
+            hashLocks[i] = new Object();
+        }
+        for (ImageBlobStore blobStore : blobStores) {
+            this.blobStores.put(blobStore.getStorageType(), blobStore);
+        }
+        this.writeStorageType = ImageStorageType.valueOf(store.trim().toUpperCase());
+        if (writeStorageType != ImageStorageType.DATABASE && !this.blobStores.containsKey(writeStorageType)) {
+            throw new IllegalStateException("이미지 저장소 구현이 없습니다: " + store);
+        }
+        log.info("이미지 저장소 설정: {}", writeStorageType);
+    }
+
+    /**
+     * 신규 이미지가 기록되는 저장소
+     */
+    public ImageStorageType getWriteStorageType() {
+        return writeStorageType;
+    }
+
+    /**
+     * 등록된 외부 저장소 종류 목록 (DATABASE 제외)
+     */
+    public Set<ImageStorageType> getExternalStorageTypes() {
+        return Collections.unmodifiableSet(blobStores.keySet());
+    }
+
+    /**
+     * 이미지 바이트를 설정된 저장소에 기록하고 엔티티에 해시/크기/저장 위치를 반영
+     * - DATABASE: image_data 컬럼에 저장
+     * - 그 외: 외부 저장소에 저장하고 image_data는 비움
+     */
+    public void storeImageData(ProductImage image, byte[] data) throws IOException {
+        String contentHash = sha256Hex(data);
+        image.setContentHash(contentHash);
+        image.setImageSize((long) data.length);
+        image.setStorageType(writeStorageType);
+
+        if (writeStorageType == ImageStorageType.DATABASE) {
+            image.setImageData(data);
+        } else {
+            putBlob(writeStorageType, contentHash, data);
+            image.setImageData(null);
+        }
+    }
+
+    /**
+     * 외부 저장소 기록 (기록한 행이 커밋될 때까지 해시 삭제 보호)
+     * - 트랜잭션 안: 트랜잭션 종료 시 보호 해제, 롤백이면 참조 없는 파일 정리
+     * - 트랜잭션 밖: 호출 측이 이어서 행을 저장하므로 유예 시간(release-grace-seconds) 후 보호 해제
+     */
+    public void putBlob(ImageStorageType storageType, String contentHash, byte[] data) throws IOException {
+        ImageBlobStore blobStore = getBlobStore(storageType);
+        pin(contentHash);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    unpin(contentHash);
+                    if (status != STATUS_COMMITTED) {
+                        releaseUnreferenced(storageType, List.of(contentHash));
+                    }
+                }
+            });
+        } else {
+            graceScheduler.schedule(() -> unpin(contentHash), releaseGraceSeconds, TimeUnit.SECONDS);
+        }
+        blobStore.put(contentHash, data);
+    }
+
+    /**
+     * 이미지 바이트 조회 (행의 storageType 기준)
+     */
+    public byte[] loadImageData(ProductImage image) throws IOException {
+        if (image.isStoredInDatabase()) {
+            return image.getImageData();
+        }
+        return getBlobStore(image.getStorageType()).get(image.getContentHash());
+    }
+
+    /**
+     * 이미지 스트리밍용 Resource 조회 (행의 storageType 기준)
+     * - DATABASE: JDBC Blob 스트림, 외부 저장소: 저장소가 제공하는 Resource
+     * - 실제 읽기는 응답 기록 시점에 일어나므로 304 응답에서는 바이너리를 읽지 않음
+     */
+    public Resource openResource(ImageContentView image) {
+        if (isStoredInDatabase(image)) {
+            long size = image.getImageSize() != null ? image.getImageSize() : 0L;
+            return new DatabaseImageResource(dataSource, image.getId(), size, image.getImageName());
+        }
+        return getBlobStore(image.getStorageType()).getResource(image.getContentHash());
+    }
+
+    /**
+     * 내용 해시 조회
+     * - 해시가 없는 기존 DB 저장 이미지는 Blob을 스트리밍으로 읽어 계산한 뒤 기록 (최초 1회)
+     */
+    public String resolveContentHash(ImageContentView image) throws IOException {
+        if (image.getContentHash() != null) {
+            return image.getContentHash();
+        }
+        if (!isStoredInDatabase(image)) {
+            throw new IllegalStateException("외부 저장소 이미지에 해시가 없습니다: " + image.getId());
+        }
+        String contentHash;
+        try (InputStream in = openResource(image).getInputStream()) {
+            contentHash = sha256Hex(in);
+        }
+        productImageRepository.updateContentHashIfAbsent(image.getId(), contentHash);
+        log.debug("기존 이미지 해시 기록 - 이미지 ID: {}, 해시: {}", image.getId(), contentHash);
+        return contentHash;
+    }
+
+    private boolean isStoredInDatabase(ImageContentView image) {
+        return image.getStorageType() == null || image.getStorageType() == ImageStorageType.DATABASE;
+    }
+
+    /**
+     * 외부 저장소 파일 정리 예약
+     * - 트랜잭션 커밋 후, 더 이상 참조하는 행이 없는 해시만 삭제 (롤백 시 파일 유지)
+     *
+     * @param storageType 저장소 종류
+     * @param contentHashes 삭제된 행이 참조하던 해시 목록
+     */
+    public void releaseAfterCommit(ImageStorageType storageType, Collection<String> contentHashes) {
+        if (storageType == null || storageType == ImageStorageType.DATABASE || contentHashes.isEmpty()) {
+            return;
+        }
+        List<String> hashes = contentHashes.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        Runnable release = () -> releaseUnreferenced(storageType, hashes);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release.run();
+                }
+            });
+        } else {
+            release.run();
+        }
+    }
+
+    private void releaseUnreferenced(ImageStorageType storageType, List<String> hashes) {
+        ImageBlobStore blobStore = getBlobStore(storageType);
+        for (String hash : hashes) {
+            try {
+                // 기록 보호와 같은 잠금 안에서 확인/삭제 (확인 후 다른 요청이 같은 파일을 재사용하지 못하도록)
+                synchronized (lockFor(hash)) {
+                    if (inFlightWrites.containsKey(hash)) {
+                        deferredReleases.put(hash, storageType);
+                        log.debug("기록 중인 이미지 파일 삭제 보류 - 해시: {}", hash);
+                        continue;
+                    }
+                    if (productImageRepository.countByContentHashAndStorageType(hash, storageType) == 0) {
+                        blobStore.delete(hash);
+                        log.debug("참조 없는 이미지 파일 삭제 - 해시: {}", hash);
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("이미지 파일 정리 실패 - 해시: {}, 오류: {}", hash, e.getMessage());
+            }
+        }
+    }
+
+    private void pin(String hash) {
+        synchronized (lockFor(hash)) {
+            inFlightWrites.merge(hash, 1, Integer::sum);
+        }
+    }
+
+    // 마지막 기록의 보호가 풀리면 미뤄 둔 삭제 요청 재확인
+    private void unpin(String hash) {
+        ImageStorageType deferred;
+        synchronized (lockFor(hash)) {
+            if (inFlightWrites.computeIfPresent(hash, (key, count) -> count > 1 ? count - 1 : null) != null) {
+                return;
+            }
+            deferred = deferredReleases.remove(hash);
+        }
+        if (deferred != null) {
+            releaseUnreferenced(deferred, List.of(hash));
+        }
+    }
+
+    private Object lockFor(String hash) {
+        return hashLocks[Math.floorMod(hash.hashCode(), hashLocks.length)];
+    }
+
+    @PreDestroy
+    void shutdown() {
+        graceScheduler.shutdownNow();
+    }
+
+    ImageBlobStore getBlobStore(ImageStorageType storageType) {
+        ImageBlobStore blobStore = blobStores.get(storageType);
+        if (blobStore == null) {
+            throw new IllegalStateException("이미지 저장소 구현이 없습니다: " + storageType);
+        }
+        return blobStore;
+    }
+
+    /**
+     * SHA-256 해시 (16진수 소문자 64자)
+     */
+    public static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 스트림 SHA-256 해시 (전체를 메모리에 올리지 않고 계산)
+     */
+    public static String sha256Hex(InputStream in) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.inventory.service;
+
+/**
+ * 재고 부족으로 예약/차감할 수 없는 경우
+ * - 여러 상품을 한 번에 차감하다 실패하면 어느 상품인지 알 수 없으므로 productId null
+ */
+public class InsufficientStockException extends IllegalStateException {
+
+    private final Long productId;
+    private final int requested;
+
+    public InsufficientStockException(Long productId, int requested) {
+        super("재고가 부족합니다 - 상품 ID: " + productId + ", 요청 수량: " + requested);
+        this.productId = productId;
+        this.requested = requested;
+    }
+
+    public InsufficientStockException(String message) {
+        super(message);
+        this.productId = null;
+        this.requested = 0;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+}
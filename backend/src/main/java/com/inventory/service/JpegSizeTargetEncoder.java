@@ -0,0 +1,186 @@
+package com.inventory.service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.plugins.jpeg.JPEGImageWriteParam;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 용량 상한 JPEG 인코더
+ * - 품질 단계(QUALITY_STEP 간격)를 이진 탐색하여 상한 이하인 가장 높은 품질을 선택
+ * - 시도 품질은 이전 인코딩에서 학습한 품질별 픽셀당 바이트(bpp) 추정치를 이미지별 실측 비율로 보정하여 예측 (인코딩 횟수 감소)
+ * - 인코딩 출력은 스레드별로 재사용하는 버퍼에 기록하고, 채택된 결과만 복사
+ */
+class JpegSizeTargetEncoder {
+
+    // 품질 탐색 하한/간격 (기존 단계식 조정의 하한과 동일)
+    static final float MIN_QUALITY = 0.6f;
+    static final float QUALITY_STEP = 0.025f;
+
+    // bpp 추정치 이동 평균 가중치 / 예측 여유율
+    private static final double MODEL_WEIGHT = 0.2;
+    private static final double PREDICTION_MARGIN = 0.95;
+
+    // 스레드별 버퍼가 이 크기를 넘으면 반환하지 않고 버림 (큰 이미지 이후 메모리 점유 방지)
+    private static final int MAX_RETAINED_BUFFER = 8 * 1024 * 1024;
+
+    private final ImageCodecPool codecPool;
+    private final ThreadLocal<GrowableBuffer> buffers = ThreadLocal.withInitial(() -> new GrowableBuffer(256 * 1024));
+
+    // 품질 단계별 bpp 추정치 (NaN: 관측 없음), 인덱스 i = MIN_QUALITY + i * QUALITY_STEP
+    private final double[] bytesPerPixel;
+
+    private final AtomicLong imageCount = new AtomicLong();
+    private final AtomicLong encodeCount = new AtomicLong();
+
+    JpegSizeTargetEncoder(ImageCodecPool codecPool) {
+        this.codecPool = codecPool;
+        this.bytesPerPixel = new double[levelIndex(1.0f) + 1];
+        Arrays.fill(bytesPerPixel, Double.NaN);
+    }
+
+    /**
+     * 용량 상한 이하인 가장 높은 품질로 인코딩
+     * - startQuality에서도 상한 이하면 startQuality 결과를 사용
+     * - MIN_QUALITY에서도 상한을 넘으면 MIN_QUALITY 결과를 반환 (기존 동작과 동일)
+     *
+     * @param image 인코딩할 이미지 (TYPE_INT_RGB)
+     * @param startQuality 최대 품질
+     * @param maxBytes 용량 상한
+     * @return JPEG 바이트
+     */
+    byte[] encode(BufferedImage image, float startQuality, long maxBytes) throws IOException {
+        imageCount.incrementAndGet();
+        long pixels = (long) image.getWidth() * image.getHeight();
+        int top = levelIndex(Math.max(startQuality, MIN_QUALITY));
+
+        // 탐색 구간: lo 이하 품질은 상한 이하(확인됨), hi 이상 품질은 상한 초과(확인됨)
+        int lo = -1;
+        int hi = top + 1;
+        byte[] best = null;
+        byte[] lowest = null;
+        // 이 이미지의 복잡도 보정 계수 (실측 크기 / 모델 예측 크기)
+        double scale = 1.0;
+        int probe = predictLevel(pixels, maxBytes, scale, lo, hi, top);
+        while (hi - lo > 1) {
+            float quality = probe == top ? startQuality : levelQuality(probe);
+            GrowableBuffer out = encodeToBuffer(image, quality);
+            scale = record(probe, out.size(), pixels);
+            if (out.size() <= maxBytes) {
+                lo = probe;
+                best = out.toByteArray();
+            } else {
+                hi = probe;
+                if (probe == 0) {
+                    lowest = out.toByteArray();
+                }
+            }
+            probe = predictLevel(pixels, maxBytes, scale, lo, hi, top);
+        }
+        return best != null ? best : lowest;
+    }
+
+    /**
+     * 지정 품질로 한 번 인코딩 (버퍼 재사용, 결과 복사)
+     */
+    byte[] encodeAt(BufferedImage image, float quality) throws IOException {
+        return encodeToBuffer(image, quality).toByteArray();
+    }
+
+    /**
+     * 누적 인코딩 횟수
+     */
+    long getEncodeCount() {
+        return encodeCount.get();
+    }
+
+    /**
+     * 누적 대상 이미지 수
+     */
+    long getImageCount() {
+        return imageCount.get();
+    }
+
+    private GrowableBuffer encodeToBuffer(BufferedImage image, float quality) throws IOException {
+        encodeCount.incrementAndGet();
+        GrowableBuffer buffer = buffers.get();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            buffer = new GrowableBuffer(256 * 1024);
+            buffers.set(buffer);
+        }
+        buffer.reset();
+        ImageWriter writer = codecPool.borrowJpegWriter();
+        try (ImageOutputStream ios = new MemoryCacheImageOutputStream(buffer)) {
+            writer.setOutput(ios);
+            JPEGImageWriteParam jpegParams = new JPEGImageWriteParam(null);
+            jpegParams.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            jpegParams.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), jpegParams);
+        } finally {
+            codecPool.returnJpegWriter(writer);
+        }
+        return buffer;
+    }
+
+    /**
+     * 다음 시도 품질 단계 예측 (lo < 결과 < hi)
+     * - 관측이 있는 단계 중 보정된 예상 크기가 상한 이하인 가장 높은 단계
+     * - 구간 안에 관측이 없는 단계가 섞여 있으면 예측 대신 이분 지점을 사용
+     *   (단, 아직 시도하지 않은 최대 품질 단계 top이 관측 없음이면 top부터 시도 - 대부분 첫 시도에 상한 이하)
+     */
+    private synchronized int predictLevel(long pixels, long maxBytes, double scale, int lo, int hi, int top) {
+        for (int i = hi - 1; i > lo; i--) {
+            double bpp = bytesPerPixel[i];
+            if (Double.isNaN(bpp)) {
+                return i == top ? top : (lo + hi + 1) / 2;
+            }
+            if (bpp * scale * pixels <= maxBytes * PREDICTION_MARGIN) {
+                return i;
+            }
+        }
+        return lo + 1;
+    }
+
+    /**
+     * 관측 크기를 모델에 반영
+     *
+     * @return 이 관측 이전 모델 대비 실측 비율 (이미지 복잡도 보정 계수)
+     */
+    private synchronized double record(int level, int bytes, long pixels) {
+        if (pixels <= 0) {
+            return 1.0;
+        }
+        double observed = (double) bytes / pixels;
+        double current = bytesPerPixel[level];
+        bytesPerPixel[level] = Double.isNaN(current) ? observed : current + MODEL_WEIGHT * (observed - current);
+        return Double.isNaN(current) || current <= 0 ? 1.0 : observed / current;
+    }
+
+    private static int levelIndex(float quality) {
+        return Math.max(0, Math.round((quality - MIN_QUALITY) / QUALITY_STEP));
+    }
+
+    private static float levelQuality(int level) {
+        return MIN_QUALITY + level * QUALITY_STEP;
+    }
+
+    /**
+     * 내부 배열을 재사용하는 출력 버퍼
+     */
+    private static class GrowableBuffer extends ByteArrayOutputStream {
+        GrowableBuffer(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
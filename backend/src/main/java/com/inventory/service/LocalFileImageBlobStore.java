@@ -0,0 +1,108 @@
+package com.inventory.service;
+
+import com.inventory.entity.ImageStorageType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 파일 시스템 이미지 저장소
+ * - {root}/{해시 앞 2자}/{다음 2자}/{해시} 경로로 샤딩하여 디렉토리당 파일 수를 제한
+ * - 같은 디렉토리의 임시 파일에 기록 후 rename하여 부분 기록된 파일이 노출되지 않도록 함
+ */
+@Component
+@Slf4j
+public class LocalFileImageBlobStore implements ImageBlobStore {
+
+    private final Path root;
+
+    public LocalFileImageBlobStore(@Value("${inventory.images.filesystem.root:uploads/blobs}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public ImageStorageType getStorageType() {
+        return ImageStorageType.FILESYSTEM;
+    }
+
+    @Override
+    public void put(String contentHash, byte[] data) throws IOException {
+        Path target = resolve(contentHash);
+        if (Files.exists(target)) {
+            log.debug("이미 저장된 이미지 - 해시: {}", contentHash);
+            return;
+        }
+
+        Path dir = target.getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, contentHash, ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // 동시에 같은 내용이 저장된 경우는 성공으로 간주
+            if (Files.exists(target)) {
+                return;
+            }
+            throw e;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.debug("이미지 파일 저장 완료 - 경로: {}, 크기: {} bytes", target, data.length);
+    }
+
+    @Override
+    public byte[] get(String contentHash) throws IOException {
+        return Files.readAllBytes(resolve(contentHash));
+    }
+
+    @Override
+    public Resource getResource(String contentHash) {
+        return new FileSystemResource(resolve(contentHash));
+    }
+
+    @Override
+    public boolean exists(String contentHash) {
+        return Files.exists(resolve(contentHash));
+    }
+
+    @Override
+    public void delete(String contentHash) throws IOException {
+        Files.deleteIfExists(resolve(contentHash));
+    }
+
+    /**
+     * 해시로 저장 경로 계산
+     * - 해시 형식을 검증하여 경로 조작을 방지
+     */
+    Path resolve(String contentHash) {
+        if (contentHash == null || !contentHash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("올바르지 않은 이미지 해시입니다: " + contentHash);
+        }
+        return root.resolve(contentHash.substring(0, 2))
+            .resolve(contentHash.substring(2, 4))
+            .resolve(contentHash);
+    }
+}
@@ -0,0 +1,248 @@
+package com.inventory.service;
+
+import com.inventory.dto.LowStockItem;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.projection.ProductStockLevelView;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 재고 부족 감지 서비스 (Product.minimumQuantity 기준)
+ * - 활성 상품 중 수량이 최소 재고 미만인 상품을 메모리에 보관 (조회는 불변 스냅샷 반환, 상품 테이블 조회 없음)
+ * - 기동 완료 시 재고 부족 상품 한 번 조회로 초기화, 이후 StockChangedEvent / ProductChangedEvent(커밋 후)로
+ *   변경된 상품만 다시 판정
+ * - 변경된 상품 ID는 CoalescingRefresher로 모아 단일 스레드에서 IN 조회 한 번으로 판정 (커밋하는 요청 스레드에서 조회하지 않음)
+ * - 판정 결과가 바뀌면 SSE 구독자에게 전송 (ENTERED: 부족 발생, UPDATED: 부족 수량 변경, CLEARED: 해소)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LowStockService {
+
+    private static final String EVENT_SNAPSHOT = "snapshot";
+    private static final String EVENT_CHANGE = "low-stock";
+    private static final Comparator<LowStockItem> BY_SKU =
+            Comparator.comparing(LowStockItem::getSku, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ProductRepository productRepository;
+
+    @Value("${inventory.stock.low-stock.refresh-chunk-size:1000}")
+    private int refreshChunkSize;
+
+    @Value("${inventory.stock.low-stock.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    // 판정/전송은 모두 처리기 스레드에서 순서대로 처리 (lowStock, version 변경도 이 스레드만)
+    private CoalescingRefresher refresher;
+    private final Map<Long, LowStockItem> lowStock = new HashMap<>();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile Snapshot snapshot = new Snapshot(0L, false, List.of());
+
+    @PostConstruct
+    void init() {
+        refresher = new CoalescingRefresher("low-stock", "재고 부족 판정", refreshChunkSize, this::refresh);
+    }
+
+    /**
+     * 기동 완료 시 재고 부족 목록 초기화 (초기 데이터 적재 이후)
+     * - 초기화 전에 들어온 변경은 초기화 이후 다시 판정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnReady() {
+        refresher.execute(this::load);
+    }
+
+    /**
+     * 재고 수량 변경 반영 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        refresher.enqueue(event.getProductIds());
+    }
+
+    /**
+     * 상품 변경 반영 (최소 재고/활성 여부 변경, 삭제)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        refresher.enqueue(List.of(event.getProductId()));
+    }
+
+    /**
+     * 현재 재고 부족 목록 (SKU 순, 마지막 판정 결과)
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 재고 부족 변경 구독 (연결 직후 현재 목록을 snapshot 이벤트로 전송, 이후 변경마다 low-stock 이벤트)
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        // 판정 스레드에서 등록하여 스냅샷과 이후 변경 이벤트 사이에 누락/역전이 없도록 함
+        refresher.execute(() -> {
+            Snapshot current = snapshot;
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("version", current.getVersion());
+            data.put("items", current.getItems());
+            if (send(emitter, EVENT_SNAPSHOT, data)) {
+                emitters.add(emitter);
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * 대기 중인 판정이 모두 끝날 때까지 대기
+     */
+    public void awaitIdle() throws InterruptedException {
+        refresher.awaitIdle();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    private void load() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            lowStock.clear();
+            LocalDateTime now = LocalDateTime.now();
+            for (ProductStockLevelView level : productRepository.findLowStockLevels()) {
+                lowStock.put(level.getId(), toItem(level, now));
+            }
+            publishSnapshot(true);
+            log.info("✅ 재고 부족 목록 초기화 - {}개 상품, {}ms", lowStock.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("재고 부족 목록 초기화 실패", e);
+        }
+    }
+
+    private void refresh(List<Long> productIds) {
+        Map<Long, ProductStockLevelView> levels = new HashMap<>();
+        for (ProductStockLevelView level : productRepository.findStockLevels(productIds)) {
+            levels.put(level.getId(), level);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Map<String, Object>> changes = new ArrayList<>();
+        for (Long productId : productIds) {
+            ProductStockLevelView level = levels.get(productId);
+            LowStockItem previous = lowStock.get(productId);
+            if (level == null || !isLow(level)) {
+                if (previous != null) {
+                    lowStock.remove(productId);
+                    changes.add(change("CLEARED", previous));
+                }
+                continue;
+            }
+            LowStockItem item = toItem(level, previous != null ? previous.getDetectedAt() : now);
+            if (previous == null) {
+                lowStock.put(productId, item);
+                changes.add(change("ENTERED", item));
+            } else if (!item.equals(previous)) {
+                lowStock.put(productId, item);
+                changes.add(change("UPDATED", item));
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        Snapshot published = publishSnapshot(snapshot.isReady());
+        for (Map<String, Object> change : changes) {
+            change.put("version", published.getVersion());
+            for (SseEmitter emitter : emitters) {
+                if (!send(emitter, EVENT_CHANGE, change)) {
+                    emitters.remove(emitter);
+                }
+            }
+        }
+    }
+
+    private Snapshot publishSnapshot(boolean ready) {
+        List<LowStockItem> items = new ArrayList<>(lowStock.values());
+        items.sort(BY_SKU);
+        Snapshot published = new Snapshot(snapshot.getVersion() + 1, ready, List.copyOf(items));
+        snapshot = published;
+        return published;
+    }
+
+    private static boolean isLow(ProductStockLevelView level) {
+        return Boolean.TRUE.equals(level.getIsActive())
+                && level.getMinimumQuantity() != null
+                && quantityOf(level) < level.getMinimumQuantity();
+    }
+
+    private static LowStockItem toItem(ProductStockLevelView level, LocalDateTime detectedAt) {
+        int quantity = quantityOf(level);
+        return new LowStockItem(level.getId(), level.getSku(), level.getName(), quantity,
+                level.getMinimumQuantity(), level.getMinimumQuantity() - quantity, detectedAt);
+    }
+
+    private static int quantityOf(ProductStockLevelView level) {
+        return level.getQuantity() != null ? level.getQuantity() : 0;
+    }
+
+    private static Map<String, Object> change(String type, LowStockItem item) {
+        Map<String, Object> change = new LinkedHashMap<>();
+        change.put("type", type);
+        change.put("item", item);
+        return change;
+    }
+
+    private static boolean send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자 (다음 변경부터 제외)
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * 재고 부족 목록 스냅샷 (불변)
+     * - version: 판정 결과가 바뀔 때마다 증가 (SSE 이벤트의 version과 비교하여 누락 확인)
+     * - ready: 기동 시 초기화 완료 여부
+     */
+    public static class Snapshot {
+        private final long version;
+        private final boolean ready;
+        private final List<LowStockItem> items;
+
+        Snapshot(long version, boolean ready, List<LowStockItem> items) {
+            this.version = version;
+            this.ready = ready;
+            this.items = items;
+        }
+
+        public long getVersion() { return version; }
+        public boolean isReady() { return ready; }
+        public List<LowStockItem> getItems() { return items; }
+        public int getCount() { return items.size(); }
+    }
+}
@@ -0,0 +1,57 @@
+package com.inventory.service;
+
+import com.inventory.entity.MigrationCheckpoint;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 체크포인트 기반 백그라운드 작업 상태 (이미지 파일 마이그레이션, 호환 품번 백필)
+ */
+public class MigrationStatus {
+    private final boolean running;
+    private final MigrationCheckpoint.Status status;
+    private final long lastProductId;
+    private final long remainingProducts;
+    private final long successCount;
+    private final long skippedCount;
+    private final long errorCount;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime finishedAt;
+    private final String lastError;
+    private final List<String> recentErrors;
+    private final List<String> recentSkipped;
+
+    public MigrationStatus(boolean running, MigrationCheckpoint checkpoint, long remainingProducts,
+                           List<String> recentErrors, List<String> recentSkipped) {
+        this.running = running;
+        this.status = checkpoint.getStatus();
+        this.lastProductId = checkpoint.getLastProductId();
+        this.remainingProducts = remainingProducts;
+        this.successCount = checkpoint.getSuccessCount();
+        this.skippedCount = checkpoint.getSkippedCount();
+        this.errorCount = checkpoint.getErrorCount();
+        this.startedAt = checkpoint.getStartedAt();
+        this.updatedAt = checkpoint.getUpdatedAt();
+        this.finishedAt = checkpoint.getFinishedAt();
+        this.lastError = checkpoint.getLastError();
+        this.recentErrors = recentErrors;
+        this.recentSkipped = recentSkipped;
+    }
+
+    public boolean isRunning() { return running; }
+    public MigrationCheckpoint.Status getStatus() { return status; }
+    public long getLastProductId() { return lastProductId; }
+    public long getRemainingProducts() { return remainingProducts; }
+    public long getSuccessCount() { return successCount; }
+    public long getSkippedCount() { return skippedCount; }
+    public long getErrorCount() { return errorCount; }
+    public long getTotalCount() { return successCount + skippedCount + errorCount; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public String getLastError() { return lastError; }
+    public List<String> getRecentErrors() { return recentErrors; }
+    public List<String> getRecentSkipped() { return recentSkipped; }
+}
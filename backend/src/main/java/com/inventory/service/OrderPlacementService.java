@@ -0,0 +1,274 @@
+package com.inventory.service;
+
+import com.inventory.dto.OrderDto;
+import com.inventory.dto.OrderPlacementRequest;
+import com.inventory.entity.Order;
+import com.inventory.entity.OrderItem;
+import com.inventory.repository.OrderRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.projection.ProductOrderView;
+import com.inventory.repository.projection.ProductStockLevelView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 주문 접수 서비스
+ * - 주문 SKU 전체를 한 번의 IN 조회로 확인하고 단가/금액은 상품 가격으로 서버에서 계산
+ * - 한 트랜잭션에서 주문 저장 → 전체 상품 재고 일괄 예약 (하나라도 부족하면 주문까지 롤백)
+ * - Idempotency-Key는 주문 행에 유니크 키로 저장, 같은 키로 재시도하면 기존 주문 반환
+ *   (동시에 같은 키로 들어오면 유니크 키 위반으로 한쪽만 접수, 나머지는 접수된 주문 반환)
+ * - 주문 행을 재고 차감보다 먼저 저장하여 중복 요청이 상품 행 잠금을 기다리지 않도록 함
+ * - 주문 수정/삭제 시 같은 트랜잭션에서 주문 예약(출처 "order:주문번호") 처리
+ *   (취소/삭제 → 예약 해제, 확정 이후 상태 → 예약 확정)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderPlacementService {
+
+    private static final DateTimeFormatter ORDER_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+    // 예약을 확정하는 주문 상태 (확정 이후 단계)
+    private static final Set<Order.OrderStatus> COMMITTED_STATUSES = EnumSet.of(Order.OrderStatus.CONFIRMED,
+            Order.OrderStatus.PROCESSING, Order.OrderStatus.SHIPPED, Order.OrderStatus.DELIVERED);
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final StockLedgerService stockLedgerService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${inventory.orders.max-lines:200}")
+    private int maxLines;
+
+    /**
+     * 주문 접수
+     *
+     * @param idempotencyKey 재시도 식별 키 (선택, 같은 키의 이전 요청 본문과 비교하지 않음)
+     * @throws IllegalArgumentException 요청이 잘못되었거나 없는/판매 중지된 SKU가 있는 경우
+     * @throws InsufficientStockException 재고가 부족한 경우
+     * @throws IllegalStateException 동시 주문으로 재고가 바뀌어 접수하지 못한 경우
+     */
+    public Placement placeOrder(OrderPlacementRequest request, String idempotencyKey) {
+        String key = normalizeKey(idempotencyKey);
+        if (key != null) {
+            Optional<Order> existing = orderRepository.findWithItemsByIdempotencyKey(key);
+            if (existing.isPresent()) {
+                return new Placement(OrderDto.fromEntity(existing.get()), true);
+            }
+        }
+        Map<String, Integer> quantitiesBySku = validate(request);
+
+        Map<String, ProductOrderView> products = new HashMap<>();
+        for (ProductOrderView product : productRepository.findOrderViewsBySkuIn(quantitiesBySku.keySet())) {
+            products.put(product.getSku(), product);
+        }
+        List<String> unavailable = new ArrayList<>();
+        for (String sku : quantitiesBySku.keySet()) {
+            ProductOrderView product = products.get(sku);
+            if (product == null || !Boolean.TRUE.equals(product.getIsActive()) || product.getPrice() == null) {
+                unavailable.add(sku);
+            }
+        }
+        if (!unavailable.isEmpty()) {
+            throw new IllegalArgumentException("주문할 수 없는 SKU입니다: " + String.join(", ", unavailable));
+        }
+
+        Order order = new Order();
+        order.setOrderNumber(newOrderNumber());
+        order.setCustomerName(request.getCustomerName().trim());
+        order.setCustomerEmail(request.getCustomerEmail().trim());
+        order.setCustomerPhone(request.getCustomerPhone().trim());
+        order.setShippingAddress(request.getShippingAddress().trim());
+        order.setStatus(Order.OrderStatus.PENDING);
+        order.setIdempotencyKey(key);
+
+        List<OrderItem> items = new ArrayList<>(quantitiesBySku.size());
+        Map<Long, Integer> quantitiesByProduct = new LinkedHashMap<>();
+        Map<Long, ProductOrderView> productsById = new HashMap<>();
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (Map.Entry<String, Integer> line : quantitiesBySku.entrySet()) {
+            ProductOrderView product = products.get(line.getKey());
+            BigDecimal unitPrice = product.getPrice().setScale(2, RoundingMode.HALF_UP);
+            BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(line.getValue()));
+
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProduct(productRepository.getReferenceById(product.getId()));
+            item.setQuantity(line.getValue());
+            item.setUnitPrice(unitPrice);
+            item.setTotalPrice(totalPrice);
+            items.add(item);
+            quantitiesByProduct.put(product.getId(), line.getValue());
+            productsById.put(product.getId(), product);
+            totalAmount = totalAmount.add(totalPrice);
+        }
+        order.setOrderItems(items);
+        order.setTotalAmount(totalAmount);
+
+        Order saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                Order persisted = orderRepository.saveAndFlush(order);
+                stockLedgerService.reserveAll(quantitiesByProduct, reservationReference(persisted.getOrderNumber()));
+                return persisted;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키로 먼저 접수된 주문 (유니크 키 위반)
+            if (key == null) {
+                throw e;
+            }
+            Order existing = orderRepository.findWithItemsByIdempotencyKey(key).orElseThrow(() -> e);
+            return new Placement(OrderDto.fromEntity(existing), true);
+        } catch (InsufficientStockException e) {
+            throw shortage(quantitiesByProduct);
+        }
+
+        List<OrderDto.Item> itemDtos = new ArrayList<>(items.size());
+        for (OrderItem item : saved.getOrderItems()) {
+            ProductOrderView product = productsById.get(item.getProduct().getId());
+            itemDtos.add(new OrderDto.Item(item.getId(), product.getId(), product.getName(), product.getSku(),
+                    item.getQuantity(), item.getUnitPrice(), item.getTotalPrice()));
+        }
+        log.info("주문 접수: {} - {}개 상품, {}원", saved.getOrderNumber(), items.size(), totalAmount);
+        return new Placement(OrderDto.of(saved, itemDtos), false);
+    }
+
+    /**
+     * 주문 수정 (요청 본문으로 덮어씀)
+     * - 취소로 바뀌면 남은 예약 해제(수량 복원), 확정/처리/출고/배송 완료로 바뀌면 남은 예약 확정
+     *
+     * @return 수정된 주문 (없으면 null)
+     */
+    public Order updateOrder(Long id, Order order) {
+        return transactionTemplate.execute(status -> {
+            Order current = orderRepository.findById(id).orElse(null);
+            if (current == null) {
+                return null;
+            }
+            String reference = reservationReference(current.getOrderNumber());
+            order.setId(id);
+            Order updated = orderRepository.save(order);
+            if (updated.getStatus() == Order.OrderStatus.CANCELLED) {
+                stockLedgerService.releaseByReference(reference);
+            } else if (COMMITTED_STATUSES.contains(updated.getStatus())) {
+                stockLedgerService.commitByReference(reference);
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * 주문 삭제 (남은 예약 해제 후 삭제, 확정된 예약은 그대로 둠)
+     *
+     * @return 삭제했으면 true, 주문이 없으면 false
+     */
+    public boolean deleteOrder(Long id) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Order current = orderRepository.findById(id).orElse(null);
+            if (current == null) {
+                return false;
+            }
+            stockLedgerService.releaseByReference(reservationReference(current.getOrderNumber()));
+            orderRepository.delete(current);
+            return true;
+        }));
+    }
+
+    /**
+     * 요청 검증 후 SKU별 수량 (요청 순서 유지, 같은 SKU는 합산)
+     */
+    private Map<String, Integer> validate(OrderPlacementRequest request) {
+        if (request == null || isBlank(request.getCustomerName()) || isBlank(request.getCustomerEmail())
+                || isBlank(request.getCustomerPhone()) || isBlank(request.getShippingAddress())) {
+            throw new IllegalArgumentException("주문자 이름, 이메일, 연락처, 배송지를 입력해주세요.");
+        }
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("주문 상품을 입력해주세요.");
+        }
+        if (request.getItems().size() > maxLines) {
+            throw new IllegalArgumentException("주문 상품은 최대 " + maxLines + "줄까지 입력할 수 있습니다.");
+        }
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (OrderPlacementRequest.Line line : request.getItems()) {
+            if (line == null || isBlank(line.getSku()) || line.getQuantity() == null || line.getQuantity() <= 0) {
+                throw new IllegalArgumentException("주문 상품마다 SKU와 1 이상의 수량을 입력해주세요.");
+            }
+            quantities.merge(line.getSku().trim(), line.getQuantity(), Math::addExact);
+        }
+        return quantities;
+    }
+
+    /**
+     * 일괄 예약 실패 후 (롤백 이후) 현재 수량으로 부족한 상품 확인
+     */
+    private IllegalStateException shortage(Map<Long, Integer> quantitiesByProduct) {
+        for (ProductStockLevelView level : productRepository.findStockLevels(quantitiesByProduct.keySet())) {
+            int available = level.getQuantity() != null ? level.getQuantity() : 0;
+            int requested = quantitiesByProduct.get(level.getId());
+            if (available < requested) {
+                return new InsufficientStockException(level.getId(), requested);
+            }
+        }
+        return new IllegalStateException("동시 주문으로 재고가 변경되었습니다. 다시 시도해주세요.");
+    }
+
+    private static String normalizeKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        String key = idempotencyKey.trim();
+        if (key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_IDEMPOTENCY_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        return key;
+    }
+
+    // 주문 재고 예약 출처
+    private static String reservationReference(String orderNumber) {
+        return "order:" + orderNumber;
+    }
+
+    private static String newOrderNumber() {
+        return "ORD-" + LocalDate.now().format(ORDER_DATE) + "-"
+                + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 주문 접수 결과 (replayed: 같은 Idempotency-Key로 이미 접수된 주문)
+     */
+    public static class Placement {
+        private final OrderDto order;
+        private final boolean replayed;
+
+        Placement(OrderDto order, boolean replayed) {
+            this.order = order;
+            this.replayed = replayed;
+        }
+
+        public OrderDto getOrder() { return order; }
+        public boolean isReplayed() { return replayed; }
+    }
+}
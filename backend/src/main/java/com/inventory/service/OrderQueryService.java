@@ -0,0 +1,148 @@
+package com.inventory.service;
+
+import com.inventory.dto.OrderDto;
+import com.inventory.dto.OrderPageResponse;
+import com.inventory.dto.OrderSummaryDto;
+import com.inventory.entity.Order;
+import com.inventory.repository.OrderRepository;
+import com.inventory.repository.projection.OrderSummaryView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 주문 조회 서비스
+ * - 목록은 키셋(커서) 페이지로 주문 컬럼만 조회 (항목 수/총 수량은 서브쿼리, 항목/상품 엔티티 미로딩)
+ * - 상세/전체 목록은 주문 + 항목 + 상품을 JOIN FETCH 한 번으로 조회하여 DTO로 변환 (직렬화 중 지연 로딩 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class OrderQueryService {
+
+    // 첫 페이지 커서 (모든 주문보다 이후)
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final OrderRepository orderRepository;
+
+    @Value("${inventory.orders.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${inventory.orders.page.max-size:200}")
+    private int maxPageSize;
+
+    /**
+     * 주문 목록 키셋(커서) 페이지 조회 (최신순)
+     *
+     * @param status 주문 상태 (선택, 대소문자 무시)
+     * @param cursor 이전 페이지의 nextCursor ("생성 시각,ID", 첫 페이지는 null)
+     * @param size 페이지 크기 (null이면 기본값, 최대값으로 제한)
+     */
+    public OrderPageResponse getOrderPage(String status, String cursor, Integer size) {
+        Order.OrderStatus orderStatus = parseStatus(status);
+        int pageSize = resolvePageSize(size);
+        LocalDateTime createdAt = FIRST_PAGE_CREATED_AT;
+        long id = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf(',');
+            try {
+                createdAt = LocalDateTime.parse(cursor.substring(0, Math.max(separator, 0)).trim());
+                id = Long.parseLong(cursor.substring(separator + 1).trim());
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 cursor 값입니다: " + cursor);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        List<OrderSummaryView> rows = orderStatus != null
+                ? orderRepository.findSummariesByStatusBefore(orderStatus, createdAt, id, limit)
+                : orderRepository.findSummariesBefore(createdAt, id, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<OrderSummaryView> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummaryView last = page.get(page.size() - 1);
+            nextCursor = last.getCreatedAt() + "," + last.getId();
+        }
+
+        List<OrderSummaryDto> items = new ArrayList<>(page.size());
+        for (OrderSummaryView row : page) {
+            items.add(new OrderSummaryDto(row.getId(), row.getOrderNumber(), row.getCustomerName(),
+                    row.getCustomerEmail(), row.getStatus() != null ? row.getStatus().name() : null,
+                    row.getTotalAmount(), toInt(row.getItemCount()), toInt(row.getTotalQuantity()),
+                    row.getCreatedAt(), row.getUpdatedAt()));
+        }
+        return new OrderPageResponse(items, orderStatus != null ? orderStatus.name() : null,
+                pageSize, hasNext, nextCursor);
+    }
+
+    /**
+     * 전체 주문 (항목/상품 포함, 최신순)
+     */
+    public List<OrderDto> getAllOrders() {
+        return getAllOrders(null);
+    }
+
+    /**
+     * 전체 주문 (항목/상품 포함, 최신순)
+     *
+     * @param status 주문 상태 (선택, 대소문자 무시)
+     */
+    public List<OrderDto> getAllOrders(String status) {
+        Order.OrderStatus orderStatus = parseStatus(status);
+        List<Order> orders = orderStatus != null
+                ? orderRepository.findAllWithItemsByStatus(orderStatus)
+                : orderRepository.findAllWithItems();
+        List<OrderDto> result = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            result.add(OrderDto.fromEntity(order));
+        }
+        return result;
+    }
+
+    /**
+     * 주문 상세 (항목/상품 포함)
+     */
+    public OrderDto getOrder(Long id) {
+        return orderRepository.findWithItemsById(id).map(OrderDto::fromEntity).orElse(null);
+    }
+
+    public OrderDto getOrderByNumber(String orderNumber) {
+        return orderRepository.findWithItemsByOrderNumber(orderNumber).map(OrderDto::fromEntity).orElse(null);
+    }
+
+    private static Order.OrderStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return Order.OrderStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원되지 않는 주문 상태입니다: " + status);
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) return defaultPageSize;
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다: " + size);
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private static Integer toInt(Long value) {
+        return value != null ? value.intValue() : 0;
+    }
+}
@@ -0,0 +1,243 @@
+package com.inventory.service;
+
+import com.inventory.entity.MigrationCheckpoint;
+import com.inventory.entity.PartCrossReference;
+import com.inventory.entity.PartCrossReference.ReferenceType;
+import com.inventory.entity.Product;
+import com.inventory.repository.MigrationCheckpointRepository;
+import com.inventory.repository.PartCrossReferenceRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.projection.InterchangePartView;
+import com.inventory.repository.projection.ProductPartNumbersView;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 호환 품번 서비스
+ * - 상품의 OEM/애프터마켓/호환 품번을 part_cross_references에 정규화하여 유지 (상품 저장 트랜잭션 커밋 직전 동기화)
+ * - 기존 cross_reference_numbers 컬럼 백필: 상품 ID 청크 단위로 처리하고 청크마다 체크포인트와 함께 커밋
+ * - 호환 상품 조회: 재귀 CTE 한 번으로 호환 품번 체인을 추적
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartCrossReferenceService {
+
+    static final String JOB_NAME = "cross-references";
+
+    private static final String INSERT_SQL = "INSERT INTO part_cross_references " +
+            "(product_id, part_number, normalized_part_number, reference_type) VALUES (?, ?, ?, ?)";
+
+    private final PartCrossReferenceRepository crossReferenceRepository;
+    private final ProductRepository productRepository;
+    private final MigrationCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${inventory.catalog.cross-reference.backfill-chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${inventory.catalog.cross-reference.auto-backfill:true}")
+    private boolean autoBackfill;
+
+    @Value("${inventory.catalog.cross-reference.max-depth:3}")
+    private int maxDepth;
+
+    @Value("${inventory.catalog.cross-reference.max-results:200}")
+    private int maxResults;
+
+    private CheckpointedJobRunner runner;
+
+    @PostConstruct
+    void init() {
+        runner = new CheckpointedJobRunner(JOB_NAME, "호환 품번 백필", "cross-reference-backfill",
+                checkpointRepository, this::backfillNextChunk);
+    }
+
+    /**
+     * 호환 상품 조회
+     *
+     * @param partNumber 품번 (하이픈/공백/대소문자 무관)
+     * @return 호환 상품 (단계 오름차순, 조회 품번을 직접 가진 상품이 0단계)
+     */
+    public List<InterchangePartView> findInterchangeable(String partNumber) {
+        String normalized = PartCrossReference.normalize(partNumber);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("품번에 영문자/숫자가 없습니다: " + partNumber);
+        }
+        return crossReferenceRepository.findInterchangeable(normalized, maxDepth, maxResults);
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * 상품 저장 시 호환 품번 행 동기화 (상품 저장과 같은 트랜잭션, 커밋 직전)
+     * - 삭제는 FK ON DELETE CASCADE로 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            return;
+        }
+        Product product = event.getProduct();
+        Map<String, PartCrossReference> desired = new LinkedHashMap<>();
+        for (PartCrossReference row : toRows(product.getId(), product.getOemPartNumber(),
+                product.getAftermarketPartNumber(), product.getCrossReferenceNumbers())) {
+            row.setProduct(product);
+            desired.put(row.getNormalizedPartNumber(), row);
+        }
+
+        List<PartCrossReference> removed = new ArrayList<>();
+        for (PartCrossReference existing : crossReferenceRepository.findByProductId(product.getId())) {
+            PartCrossReference wanted = desired.get(existing.getNormalizedPartNumber());
+            if (wanted != null && wanted.getReferenceType() == existing.getReferenceType()
+                    && wanted.getPartNumber().equals(existing.getPartNumber())) {
+                desired.remove(existing.getNormalizedPartNumber());
+            } else {
+                removed.add(existing);
+            }
+        }
+        if (removed.isEmpty() && desired.isEmpty()) {
+            return;
+        }
+        crossReferenceRepository.deleteAll(removed);
+        crossReferenceRepository.flush();
+        crossReferenceRepository.saveAll(desired.values());
+    }
+
+    /**
+     * 기동 완료 시 백필이 끝나지 않았으면 실행 (이전 실행이 중단된 경우 체크포인트부터 이어서)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnReady() {
+        if (!autoBackfill) {
+            return;
+        }
+        MigrationCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElse(null);
+        if (checkpoint == null || checkpoint.getStatus() != MigrationCheckpoint.Status.COMPLETED) {
+            start(false);
+        }
+    }
+
+    /**
+     * 백필 시작 (체크포인트 다음 상품부터)
+     *
+     * @param restart true면 체크포인트를 초기화하고 처음부터 실행 (완료된 작업도 처음부터 실행)
+     * @return 새로 시작했으면 true, 이미 실행 중이면 false
+     */
+    public boolean start(boolean restart) {
+        return runner.start(restart);
+    }
+
+    /**
+     * 백필 중지 요청 (현재 청크 커밋 후 중지)
+     */
+    public void stop() {
+        runner.stop();
+    }
+
+    private MigrationCheckpoint backfillNextChunk(MigrationCheckpoint checkpoint) {
+        List<ProductPartNumbersView> chunk = productRepository.findPartNumbersAfter(
+            checkpoint.getLastProductId(), Limit.of(chunkSize));
+        return chunk.isEmpty() ? null : backfillChunk(checkpoint, chunk);
+    }
+
+    /**
+     * 청크 1개 처리
+     * - 청크 상품의 기존 행을 지우고 다시 넣으므로 같은 청크를 재처리해도 결과가 같음
+     * - 삭제/JDBC 배치 INSERT/체크포인트 갱신을 한 트랜잭션으로 커밋
+     *
+     * @return 커밋된 체크포인트
+     */
+    private MigrationCheckpoint backfillChunk(MigrationCheckpoint checkpoint, List<ProductPartNumbersView> chunk) {
+        List<Long> productIds = new ArrayList<>(chunk.size());
+        List<Object[]> rows = new ArrayList<>();
+        long withNumbers = 0;
+        for (ProductPartNumbersView product : chunk) {
+            productIds.add(product.getId());
+            List<PartCrossReference> productRows = toRows(product.getId(), product.getOemPartNumber(),
+                    product.getAftermarketPartNumber(), product.getCrossReferenceNumbers());
+            if (!productRows.isEmpty()) {
+                withNumbers++;
+            }
+            for (PartCrossReference row : productRows) {
+                rows.add(new Object[]{product.getId(), row.getPartNumber(), row.getNormalizedPartNumber(),
+                        row.getReferenceType().name()});
+            }
+        }
+
+        long chunkWithNumbers = withNumbers;
+        long chunkWithout = chunk.size() - withNumbers;
+        Long lastProductId = productIds.get(productIds.size() - 1);
+        MigrationCheckpoint committed = transactionTemplate.execute(status -> {
+            crossReferenceRepository.deleteByProductIdIn(productIds);
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            }
+            checkpoint.setLastProductId(lastProductId);
+            checkpoint.setSuccessCount(checkpoint.getSuccessCount() + chunkWithNumbers);
+            checkpoint.setSkippedCount(checkpoint.getSkippedCount() + chunkWithout);
+            return checkpointRepository.save(checkpoint);
+        });
+        log.debug("📦 호환 품번 백필 청크 커밋 - 상품 ID ~{}, 품번 행: {}", lastProductId, rows.size());
+        return committed;
+    }
+
+    /**
+     * 상품 품번 → 호환 품번 행 (정규화 품번 기준 중복 제거, OEM > 애프터마켓 > 호환 품번 순으로 우선)
+     */
+    private static List<PartCrossReference> toRows(Long productId, String oemPartNumber, String aftermarketPartNumber,
+                                                   String crossReferenceNumbers) {
+        Map<String, PartCrossReference> rows = new LinkedHashMap<>();
+        addRow(rows, productId, oemPartNumber, ReferenceType.OEM);
+        addRow(rows, productId, aftermarketPartNumber, ReferenceType.AFTERMARKET);
+        for (String number : PartCrossReference.splitNumbers(crossReferenceNumbers)) {
+            addRow(rows, productId, number, ReferenceType.CROSS_REFERENCE);
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    private static void addRow(Map<String, PartCrossReference> rows, Long productId, String partNumber,
+                               ReferenceType type) {
+        String normalized = PartCrossReference.normalize(partNumber);
+        if (normalized.isEmpty() || rows.containsKey(normalized)) {
+            return;
+        }
+        if (partNumber.length() > PartCrossReference.MAX_PART_NUMBER_LENGTH) {
+            log.warn("⚠️ 품번이 너무 길어 호환 품번에서 제외 - 상품 ID: {}, 품번: {}", productId, partNumber);
+            return;
+        }
+        rows.put(normalized, new PartCrossReference(null, null, partNumber.trim(), normalized, type));
+    }
+
+    /**
+     * 현재 백필 상태 (체크포인트 + 최근 오류)
+     */
+    public MigrationStatus getStatus() {
+        MigrationCheckpoint checkpoint = runner.getCheckpoint();
+        return runner.getStatus(checkpoint, productRepository.countByIdGreaterThan(checkpoint.getLastProductId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdown();
+    }
+}
@@ -0,0 +1,41 @@
+package com.inventory.service;
+
+import com.inventory.entity.Product;
+
+/**
+ * 상품 생성/수정/삭제 이벤트
+ * - 트랜잭션 안에서 발행하면 커밋 후 리스너가 처리 (검색 색인 증분 갱신)
+ */
+public class ProductChangedEvent {
+
+    private final Long productId;
+    private final Product product;
+
+    private ProductChangedEvent(Long productId, Product product) {
+        this.productId = productId;
+        this.product = product;
+    }
+
+    public static ProductChangedEvent saved(Product product) {
+        return new ProductChangedEvent(product.getId(), product);
+    }
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, null);
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    /**
+     * 저장된 상품 (삭제 이벤트면 null)
+     */
+    public Product getProduct() {
+        return product;
+    }
+
+    public boolean isDeleted() {
+        return product == null;
+    }
+}
@@ -1,24 +1,33 @@
 package com.inventory.service;
 
 import com.inventory.entity.ImageCategory;
+import com.inventory.entity.ImageProcessingStatus;
+import com.inventory.entity.ImageStorageType;
 import com.inventory.entity.Product;
 import com.inventory.entity.ProductImage;
 import com.inventory.repository.ProductImageRepository;
 import com.inventory.repository.ProductRepository;
+import com.inventory.repository.projection.ImageContentView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * 상품 이미지 서비스
  * - 상품 이미지의 업로드, 조회, 삭제 기능 제공
- * - DB에 이미지 바이너리 데이터를 저장하고 관리
+ * - 바이너리 저장 위치는 ImageStorageService가 결정 (DB 컬럼 또는 외부 저장소)
  */
 @Service
 @RequiredArgsConstructor
@@ -28,7 +37,9 @@ public class ProductImageService {
     
     private final ProductImageRepository productImageRepository;
     private final ProductRepository productRepository;
-    private final ImageResizeService imageResizeService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageStorageService imageStorageService;
+    private final ImageDataCache imageDataCache;
     
     // 최대 이미지 크기 (10MB)
     private static final long MAX_IMAGE_SIZE = 10 * 1024 * 1024;
@@ -39,8 +50,8 @@ public class ProductImageService {
     );
     
     /**
-     * 상품 이미지 업로드 (원본 + 리사이징된 버전들)
-     * - MultipartFile을 받아서 원본, 썸네일, 등록용 이미지를 모두 생성하여 DB에 저장
+     * 상품 이미지 업로드 (원본 저장 + 파생 이미지 생성 예약)
+     * - 원본만 저장하고 즉시 반환, 등록용/썸네일은 커밋 후 백그라운드 작업으로 생성 (PENDING → READY/FAILED)
      * 
      * @param productId 상품 ID
      * @param file 업로드할 이미지 파일
@@ -68,17 +79,10 @@ public class ProductImageService {
             log.info("원본 이미지 저장 완료 - 이미지 ID: {}, 크기: {} bytes", 
                     savedOriginal.getId(), savedOriginal.getImageSize());
             
-            // 4. 등록용 이미지 생성 및 저장 (JPEG 800px/<=2MB)
-            byte[] registrationImageData = imageResizeService.resizeForRegistration(originalImageData, contentType);
-            ProductImage registrationImage = createImageEntity(product, ensureJpegName(fileName), registrationImageData, "image/jpeg", ImageCategory.REGISTRATION, savedOriginal.getId());
-            productImageRepository.save(registrationImage);
-            log.info("등록용 이미지 저장 완료 - 크기: {} bytes", registrationImageData.length);
+            // 4. 등록용(JPEG 800px/<=2MB)/썸네일 생성 예약
+            imageDerivativeService.requestDerivatives(savedOriginal);
             
-            // 5. 썸네일 이미지 생성 및 저장 (JPEG)
-            byte[] thumbnailImageData = imageResizeService.createThumbnail(originalImageData, contentType);
-            ProductImage thumbnailImage = createImageEntity(product, ensureJpegName(fileName), thumbnailImageData, "image/jpeg", ImageCategory.THUMBNAIL, savedOriginal.getId());
-            productImageRepository.save(thumbnailImage);
-            log.info("썸네일 이미지 저장 완료 - 크기: {} bytes", thumbnailImageData.length);
+            imageDataCache.invalidateAfterCommit(productId);
             
             log.info("이미지 업로드 완료 - 원본 ID: {}, 총 크기: {} bytes", 
                     savedOriginal.getId(), originalImageData.length);
@@ -93,27 +97,20 @@ public class ProductImageService {
     
     /**
      * ProductImage 엔티티 생성 헬퍼 메서드
+     * - 바이너리는 설정된 저장소에 기록되고 엔티티에는 해시/크기/저장 위치가 반영됨
      */
     private ProductImage createImageEntity(Product product, String fileName, byte[] imageData, 
-                                         String contentType, ImageCategory category, Long originalImageId) {
+                                         String contentType, ImageCategory category, Long originalImageId) throws IOException {
         ProductImage image = new ProductImage();
         image.setProduct(product);
         image.setImageName(fileName);
-        image.setImageData(imageData);
         image.setImageType(contentType);
-        image.setImageSize((long) imageData.length);
         image.setImageCategory(category);
         image.setOriginalImageId(originalImageId);
+        image.setProcessingStatus(ImageProcessingStatus.READY);
+        imageStorageService.storeImageData(image, imageData);
         return image;
     }
-
-    private String ensureJpegName(String name) {
-        if (name == null || name.isBlank()) return "image.jpg";
-        String lower = name.toLowerCase();
-        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) return name;
-        int dot = name.lastIndexOf('.');
-        return (dot > 0 ? name.substring(0, dot) : name) + ".jpg";
-    }
     
     /**
      * 상품의 모든 이미지 조회 (메타데이터만)
@@ -167,6 +164,134 @@ public class ProductImageService {
         return productImageRepository.findById(imageId);
     }
     
+    /**
+     * 이미지 바이너리 조회
+     * - 저장 위치(DB 컬럼 / 외부 저장소)에 관계없이 실제 바이트를 반환
+     * 
+     * @param image 이미지 엔티티
+     * @return 이미지 바이트
+     */
+    public byte[] loadImageData(ProductImage image) {
+        try {
+            return imageStorageService.loadImageData(image);
+        } catch (IOException e) {
+            log.error("이미지 바이너리 읽기 실패 - 이미지 ID: {}, 오류: {}", image.getId(), e.getMessage());
+            throw new RuntimeException("이미지 데이터를 읽을 수 없습니다", e);
+        }
+    }
+    
+    /**
+     * 스트리밍용 이미지 메타데이터 조회 (바이너리 미로딩)
+     * 
+     * @param imageId 이미지 ID
+     * @return 이미지 메타데이터
+     */
+    @Transactional(readOnly = true)
+    public Optional<ImageContentView> getImageContent(Long imageId) {
+        return productImageRepository.findContentViewById(imageId).filter(this::isReady);
+    }
+    
+    /**
+     * 내용 해시로 스트리밍용 이미지 메타데이터 조회
+     * - content-addressed URL(/api/images/content/{hash}) 응답용
+     * 
+     * @param contentHash 내용 해시
+     * @return 같은 내용을 가진 이미지 중 하나의 메타데이터
+     */
+    @Transactional(readOnly = true)
+    public Optional<ImageContentView> getImageContentByHash(String contentHash) {
+        return productImageRepository.findFirstContentViewByContentHashOrderByIdAsc(contentHash).filter(this::isReady);
+    }
+    
+    @Transactional(readOnly = true)
+    public Optional<ImageContentView> getFirstImageContent(Long productId) {
+        return productImageRepository.findFirstContentViewByProductIdOrderByCreatedAtAsc(productId).filter(this::isReady);
+    }
+    
+    /**
+     * 상품의 카테고리별 첫 번째 이미지 조회 (썸네일/등록용 캐시 경유)
+     * 
+     * @param productId 상품 ID
+     * @param category 이미지 카테고리
+     * @return 이미지 메타데이터 (캐시 적중 시 바이너리 포함)
+     */
+    public Optional<ImageContentView> getFirstImageContent(Long productId, ImageCategory category) {
+        return getCachedImageContent(productId, category, ImageDataCache.Position.FIRST);
+    }
+    
+    /**
+     * 상품의 카테고리별 최신 이미지 조회 (썸네일/등록용 캐시 경유)
+     */
+    public Optional<ImageContentView> getLatestImageContent(Long productId, ImageCategory category) {
+        return getCachedImageContent(productId, category, ImageDataCache.Position.LATEST);
+    }
+    
+    /**
+     * 캐시 조회 후 미적중 시 메타데이터/바이너리를 읽어 적재
+     * - 항목 최대 크기를 넘는 이미지는 캐시하지 않고 저장소 스트리밍으로 응답
+     * - 바이너리 읽기 실패 시에도 스트리밍 응답으로 대체
+     */
+    private Optional<ImageContentView> getCachedImageContent(Long productId, ImageCategory category,
+                                                             ImageDataCache.Position position) {
+        ImageDataCache.CachedImage cached = imageDataCache.get(productId, category, position);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        long generation = imageDataCache.currentGeneration();
+        Optional<ImageContentView> image = position == ImageDataCache.Position.FIRST
+            ? productImageRepository.findFirstReadyContentViews(productId, category, Limit.of(1)).stream().findFirst()
+            : productImageRepository.findLatestReadyContentViews(productId, category, Limit.of(1)).stream().findFirst();
+        if (image.isEmpty() || !imageDataCache.isCacheable(image.get().getImageSize())) {
+            return image;
+        }
+        
+        ImageContentView view = image.get();
+        String contentHash = resolveContentHash(view);
+        try (InputStream in = imageStorageService.openResource(view).getInputStream()) {
+            byte[] data = in.readAllBytes();
+            return Optional.of(imageDataCache.put(productId, category, position, view, contentHash, data, generation));
+        } catch (IOException e) {
+            log.warn("이미지 캐시 적재 실패 - 이미지 ID: {}, 오류: {}", view.getId(), e.getMessage());
+            return image;
+        }
+    }
+    
+    private boolean isReady(ImageContentView image) {
+        return image.getProcessingStatus() == null || image.getProcessingStatus() == ImageProcessingStatus.READY;
+    }
+    
+    /**
+     * 이미지 내용 해시 조회 (ETag 용)
+     * - 해시가 없는 기존 이미지는 최초 조회 시 계산하여 기록
+     * 
+     * @param image 이미지 메타데이터
+     * @return SHA-256 해시
+     */
+    public String resolveContentHash(ImageContentView image) {
+        try {
+            return imageStorageService.resolveContentHash(image);
+        } catch (IOException e) {
+            log.error("이미지 해시 계산 실패 - 이미지 ID: {}, 오류: {}", image.getId(), e.getMessage());
+            throw new RuntimeException("이미지 데이터를 읽을 수 없습니다", e);
+        }
+    }
+    
+    /**
+     * 이미지 스트리밍용 Resource 조회
+     * - 바이너리는 응답 기록 시점에 저장소에서 직접 읽음
+     * 
+     * @param image 이미지 메타데이터
+     * @return 이미지 Resource
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Resource openImageResource(ImageContentView image) {
+        if (image instanceof ImageDataCache.CachedImage cached) {
+            return cached.toResource();
+        }
+        return imageStorageService.openResource(image);
+    }
+    
     /**
      * 상품의 첫 번째 이미지 데이터 조회
      * - 상품 대표 이미지의 실제 데이터 조회
@@ -194,7 +319,14 @@ public class ProductImageService {
             throw new IllegalArgumentException("이미지를 찾을 수 없습니다: " + imageId);
         }
         
+        Map<ImageStorageType, List<String>> externalHashes = new EnumMap<>(ImageStorageType.class);
+        for (ImageStorageType storageType : imageStorageService.getExternalStorageTypes()) {
+            productImageRepository.findContentHashByIdAndStorageType(imageId, storageType)
+                .ifPresent(hash -> externalHashes.put(storageType, List.of(hash)));
+        }
+        productImageRepository.findProductIdById(imageId).ifPresent(imageDataCache::invalidateAfterCommit);
         productImageRepository.deleteById(imageId);
+        externalHashes.forEach(imageStorageService::releaseAfterCommit);
         log.info("이미지 삭제 완료 - 이미지 ID: {}", imageId);
     }
     
@@ -208,7 +340,13 @@ public class ProductImageService {
         log.info("상품의 모든 이미지 삭제 - 상품 ID: {}", productId);
         
         long count = productImageRepository.countByProductId(productId);
+        Map<ImageStorageType, List<String>> externalHashes = new EnumMap<>(ImageStorageType.class);
+        for (ImageStorageType storageType : imageStorageService.getExternalStorageTypes()) {
+            externalHashes.put(storageType, productImageRepository.findContentHashesByProductIdAndStorageType(productId, storageType));
+        }
         productImageRepository.deleteByProductId(productId);
+        externalHashes.forEach(imageStorageService::releaseAfterCommit);
+        imageDataCache.invalidateAfterCommit(productId);
         
         log.info("상품의 모든 이미지 삭제 완료 - 상품 ID: {}, 삭제된 이미지 수: {}", productId, count);
     }
@@ -272,7 +410,7 @@ public class ProductImageService {
     @Transactional(readOnly = true)
     public List<ProductImage> getRegistrationImagesByProductId(Long productId) {
         log.info("상품 등록용 이미지 조회 - 상품 ID: {}", productId);
-        return productImageRepository.findByProductIdAndImageCategoryOrderByCreatedAtAsc(productId, ImageCategory.REGISTRATION);
+        return productImageRepository.findReadyByProductIdAndImageCategory(productId, ImageCategory.REGISTRATION);
     }
     
     /**
@@ -285,7 +423,7 @@ public class ProductImageService {
     @Transactional(readOnly = true)
     public Optional<ProductImage> getFirstRegistrationImageByProductId(Long productId) {
         log.info("상품 첫 번째 등록용 이미지 조회 - 상품 ID: {}", productId);
-        return productImageRepository.findFirstByProductIdAndImageCategoryOrderByCreatedAtAsc(productId, ImageCategory.REGISTRATION);
+        return productImageRepository.findFirstReadyByProductIdAndImageCategory(productId, ImageCategory.REGISTRATION, Limit.of(1)).stream().findFirst();
     }
     
     /**
@@ -295,7 +433,7 @@ public class ProductImageService {
     @Transactional(readOnly = true)
     public Optional<ProductImage> getLatestRegistrationImageByProductId(Long productId) {
         log.info("상품 최신 등록용 이미지 조회 - 상품 ID: {}", productId);
-        return productImageRepository.findFirstByProductIdAndImageCategoryOrderByCreatedAtDesc(productId, ImageCategory.REGISTRATION);
+        return productImageRepository.findLatestReadyByProductIdAndImageCategory(productId, ImageCategory.REGISTRATION, Limit.of(1)).stream().findFirst();
     }
     
     /**
@@ -308,7 +446,7 @@ public class ProductImageService {
     @Transactional(readOnly = true)
     public List<ProductImage> getThumbnailImagesByProductId(Long productId) {
         log.info("상품 썸네일 이미지 조회 - 상품 ID: {}", productId);
-        return productImageRepository.findByProductIdAndImageCategoryOrderByCreatedAtAsc(productId, ImageCategory.THUMBNAIL);
+        return productImageRepository.findReadyByProductIdAndImageCategory(productId, ImageCategory.THUMBNAIL);
     }
     
     /**
@@ -321,7 +459,34 @@ public class ProductImageService {
     @Transactional(readOnly = true)
     public Optional<ProductImage> getFirstThumbnailImageByProductId(Long productId) {
         log.info("상품 첫 번째 썸네일 이미지 조회 - 상품 ID: {}", productId);
-        return productImageRepository.findFirstByProductIdAndImageCategoryOrderByCreatedAtAsc(productId, ImageCategory.THUMBNAIL);
+        return productImageRepository.findFirstReadyByProductIdAndImageCategory(productId, ImageCategory.THUMBNAIL, Limit.of(1)).stream().findFirst();
+    }
+    
+    /**
+     * 실패한 파생 이미지 재생성 요청
+     * 
+     * @param originalImageId 원본 이미지 ID
+     * @return 재시도 대상 파생 이미지 수
+     */
+    public int retryDerivatives(Long originalImageId) {
+        if (!productImageRepository.existsById(originalImageId)) {
+            throw new IllegalArgumentException("이미지를 찾을 수 없습니다: " + originalImageId);
+        }
+        return imageDerivativeService.retryFailed(originalImageId);
+    }
+    
+    /**
+     * 파생 이미지 작업 지표 조회 (대기열 길이, 단계별 처리 시간)
+     */
+    public ImageDerivativeService.DerivativeMetrics getDerivativeMetrics() {
+        return imageDerivativeService.getMetrics();
+    }
+    
+    /**
+     * 썸네일/등록용 이미지 캐시 통계 조회 (적중/미적중/제거 횟수, 사용량)
+     */
+    public ImageDataCache.CacheStats getImageCacheStats() {
+        return imageDataCache.getStats();
     }
     
     /**
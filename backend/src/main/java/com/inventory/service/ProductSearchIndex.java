@@ -0,0 +1,670 @@
+package com.inventory.service;
+
+import com.inventory.dto.ProductSearchItem;
+import com.inventory.entity.PartCrossReference;
+import com.inventory.entity.Product;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색용 메모리 역색인
+ * - 품번(SKU/OEM/애프터마켓/호환 품번): PartCrossReference.normalize 값(영숫자만, 대문자)의 2~3글자 n-gram 포스팅 (하이픈/공백 무시 부분 일치)
+ * - 텍스트(상품명/제조사/설명): 글자·숫자 토큰의 2글자 n-gram 포스팅 (한글 복합어 내부 부분 일치 포함), 1글자 토큰은 토큰 자체로 색인
+ * - 포스팅 항목은 (문서 번호 << 4 | 필드 비트)로 저장하여 교집합 결과에 n-gram이 모두 나타난 필드만 남김
+ * - 후보 문서는 남은 필드에 대해서만 정규화 값으로 실제 포함 여부를 확인하고 점수 계산
+ * - 검색은 읽기 잠금, 증분 갱신은 쓰기 잠금 (갱신은 상품 1건 단위라 짧음)
+ */
+class ProductSearchIndex {
+
+    // 필드/일치 유형별 점수 (완전 일치 > 접두 일치 > 부분 일치)
+    private static final int PART_EXACT = 100;
+    private static final int PART_PREFIX = 60;
+    private static final int PART_CONTAINS = 40;
+    private static final int NAME_EXACT = 30;
+    private static final int NAME_PREFIX = 20;
+    private static final int NAME_CONTAINS = 12;
+    private static final int MANUFACTURER_EXACT = 15;
+    private static final int MANUFACTURER_PREFIX = 10;
+    private static final int MANUFACTURER_CONTAINS = 6;
+    private static final int DESCRIPTION_CONTAINS = 3;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::getScore).reversed()
+            .thenComparing(hit -> hit.getItem().getId());
+
+    // 포스팅 항목의 필드 비트 (하위 FIELD_BITS 비트)
+    private static final int FIELD_NAME = 1;
+    private static final int FIELD_MANUFACTURER = 2;
+    private static final int FIELD_DESCRIPTION = 4;
+    private static final int FIELD_PART = 8;
+    private static final int FIELD_BITS = 4;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private IndexedProduct[] documents = new IndexedProduct[1024];
+    private int nextOrdinal;
+    private int documentCount;
+    private final Map<String, Posting> partGrams = new HashMap<>();
+    private final Map<String, Posting> textGrams = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 상품 추가/교체
+     * - 이미 색인된 문서가 더 최근 수정본이면 무시 (커밋 순서와 이벤트 처리 순서가 어긋나는 경우 대비)
+     */
+    void upsert(Product product) {
+        IndexedProduct document = IndexedProduct.from(product);
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(document.item.getId());
+            if (ordinal != null) {
+                IndexedProduct existing = documents[ordinal];
+                if (isNewer(existing.updatedAt, document.updatedAt)) {
+                    return;
+                }
+                unpost(existing, ordinal);
+            } else {
+                ordinal = nextOrdinal++;
+                if (ordinal == documents.length) {
+                    documents = Arrays.copyOf(documents, documents.length * 2);
+                }
+                ordinals.put(document.item.getId(), ordinal);
+                documentCount++;
+            }
+            documents[ordinal] = document;
+            post(document, ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 제거 (문서 번호는 재사용하지 않고 비워 둠, 재구축 시 정리)
+     */
+    void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(productId);
+            if (ordinal != null) {
+                unpost(documents[ordinal], ordinal);
+                documents[ordinal] = null;
+                documentCount--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 검색 (상품명/제조사/설명/품번)
+     * - 공백으로 나눈 검색어가 모두 어느 한 필드에 포함되는 상품만 결과에 포함 (AND)
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     */
+    Result search(String query, int limit) {
+        List<Term> terms = splitTerms(query);
+        if (terms.isEmpty()) {
+            return new Result(0, List.of());
+        }
+        lock.readLock().lock();
+        try {
+            List<int[]> termCandidates = new ArrayList<>(terms.size());
+            int[] candidates = null;
+            for (Term term : terms) {
+                int[] matched = union(partCandidates(term.partKey), textCandidates(term.tokens));
+                termCandidates.add(matched);
+                candidates = candidates == null ? matched : intersect(candidates, matched, false);
+                if (candidates.length == 0) {
+                    return new Result(0, List.of());
+                }
+            }
+
+            TopHits top = new TopHits(limit);
+            for (int entry : candidates) {
+                int ordinal = entry >>> FIELD_BITS;
+                IndexedProduct document = documents[ordinal];
+                int score = 0;
+                for (int i = 0; i < terms.size(); i++) {
+                    // 검색어가 하나면 후보 항목의 필드 비트를 그대로 사용
+                    int fields = terms.size() == 1 ? entry & FIELD_MASK : fieldsOf(termCandidates.get(i), ordinal);
+                    int termScore = document.score(terms.get(i), fields);
+                    if (termScore == 0) {
+                        score = 0;
+                        break;
+                    }
+                    score += termScore;
+                }
+                top.offer(document, score);
+            }
+            return top.toResult();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 품번 부분 일치 검색 (SKU/OEM/애프터마켓/호환 품번, 하이픈/공백/대소문자 무시)
+     */
+    Result searchPartNumbers(String partNumber, int limit) {
+        String key = PartCrossReference.normalize(partNumber);
+        lock.readLock().lock();
+        try {
+            TopHits top = new TopHits(limit);
+            for (int entry : partCandidates(key)) {
+                IndexedProduct document = documents[entry >>> FIELD_BITS];
+                top.offer(document, document.partScore(key));
+            }
+            return top.toResult();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 제조사명 부분 일치 검색
+     */
+    Result searchManufacturer(String manufacturer, int limit) {
+        Term term = new Term(manufacturer);
+        lock.readLock().lock();
+        try {
+            TopHits top = new TopHits(limit);
+            for (int entry : textCandidates(term.tokens)) {
+                if ((entry & FIELD_MANUFACTURER) == 0) {
+                    continue;
+                }
+                IndexedProduct document = documents[entry >>> FIELD_BITS];
+                top.offer(document, fieldScore(document.manufacturerText, term.phrase,
+                        MANUFACTURER_EXACT, MANUFACTURER_PREFIX, MANUFACTURER_CONTAINS));
+            }
+            return top.toResult();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] partCandidates(String key) {
+        if (key.length() < 2) {
+            return EMPTY;
+        }
+        if (key.length() == 2) {
+            Posting posting = partGrams.get(key);
+            return posting == null ? EMPTY : posting.toArray();
+        }
+        List<Posting> postings = new ArrayList<>();
+        for (int i = 0; i + 3 <= key.length(); i++) {
+            Posting posting = partGrams.get(key.substring(i, i + 3));
+            if (posting == null) {
+                return EMPTY;
+            }
+            postings.add(posting);
+        }
+        return intersectAll(postings);
+    }
+
+    private int[] textCandidates(List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return EMPTY;
+        }
+        List<Posting> postings = new ArrayList<>();
+        for (String token : tokens) {
+            for (String gram : textGramsOf(token)) {
+                Posting posting = textGrams.get(gram);
+                if (posting == null) {
+                    return EMPTY;
+                }
+                postings.add(posting);
+            }
+        }
+        return intersectAll(postings);
+    }
+
+    private void post(IndexedProduct document, int ordinal) {
+        for (String gram : document.partGrams()) {
+            partGrams.computeIfAbsent(gram, key -> new Posting()).add(ordinal, FIELD_PART);
+        }
+        for (Map.Entry<String, Integer> gram : document.textGrams().entrySet()) {
+            textGrams.computeIfAbsent(gram.getKey(), key -> new Posting()).add(ordinal, gram.getValue());
+        }
+    }
+
+    private void unpost(IndexedProduct document, int ordinal) {
+        for (String gram : document.partGrams()) {
+            removePosting(partGrams, gram, ordinal);
+        }
+        for (String gram : document.textGrams().keySet()) {
+            removePosting(textGrams, gram, ordinal);
+        }
+    }
+
+    private static void removePosting(Map<String, Posting> postings, String gram, int ordinal) {
+        Posting posting = postings.get(gram);
+        if (posting != null && posting.remove(ordinal) && posting.size == 0) {
+            postings.remove(gram);
+        }
+    }
+
+    private static int[] intersectAll(List<Posting> postings) {
+        // 가장 작은 포스팅부터 교집합
+        postings.sort(Comparator.comparingInt(posting -> posting.size));
+        int[] result = postings.get(0).toArray();
+        for (int i = 1; i < postings.size() && result.length > 0; i++) {
+            Posting posting = postings.get(i);
+            // 같은 검색어의 n-gram은 한 필드 안에 모두 있어야 하므로 필드 비트도 교집합
+            result = intersect(result, result.length, posting.entries, posting.size, true);
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b, boolean intersectFields) {
+        return a.length <= b.length
+                ? intersect(a, a.length, b, b.length, intersectFields)
+                : intersect(b, b.length, a, a.length, intersectFields);
+    }
+
+    /**
+     * 정렬된 포스팅 항목 배열 교집합 (작은 쪽 기준, 큰 쪽은 이진 탐색으로 건너뜀)
+     *
+     * @param intersectFields true면 필드 비트도 교집합 (공통 필드가 없는 문서는 제외), false면 합집합
+     */
+    private static int[] intersect(int[] small, int smallSize, int[] large, int largeSize, boolean intersectFields) {
+        int[] result = new int[smallSize];
+        int count = 0;
+        int from = 0;
+        for (int i = 0; i < smallSize && from < largeSize; i++) {
+            int ordinal = small[i] >>> FIELD_BITS;
+            int at = find(large, from, largeSize, ordinal);
+            if (at >= 0) {
+                int fields = intersectFields ? small[i] & large[at] & FIELD_MASK : (small[i] | large[at]) & FIELD_MASK;
+                if (fields != 0) {
+                    result[count++] = (ordinal << FIELD_BITS) | fields;
+                }
+                from = at + 1;
+            } else {
+                from = -at - 1;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 포스팅 항목 배열에서 문서 번호 위치 탐색
+     *
+     * @return 위치 (없으면 -(삽입 위치) - 1)
+     */
+    private static int find(int[] entries, int from, int to, int ordinal) {
+        // 필드 비트는 0이 아니므로 (ordinal << FIELD_BITS) 자체는 배열에 없고 삽입 위치가 해당 문서 항목 위치
+        int at = -Arrays.binarySearch(entries, from, to, ordinal << FIELD_BITS) - 1;
+        return at < to && entries[at] >>> FIELD_BITS == ordinal ? at : -at - 1;
+    }
+
+    private static int fieldsOf(int[] entries, int ordinal) {
+        int at = find(entries, 0, entries.length, ordinal);
+        return at >= 0 ? entries[at] & FIELD_MASK : 0;
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        if (a.length == 0) return b;
+        if (b.length == 0) return a;
+        int[] result = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            int ordinalA = a[i] >>> FIELD_BITS;
+            int ordinalB = b[j] >>> FIELD_BITS;
+            if (ordinalA < ordinalB) {
+                result[count++] = a[i++];
+            } else if (ordinalA > ordinalB) {
+                result[count++] = b[j++];
+            } else {
+                result[count++] = a[i++] | b[j++];
+            }
+        }
+        while (i < a.length) result[count++] = a[i++];
+        while (j < b.length) result[count++] = b[j++];
+        return Arrays.copyOf(result, count);
+    }
+
+    private static boolean isNewer(LocalDateTime current, LocalDateTime incoming) {
+        return current != null && incoming != null && current.isAfter(incoming);
+    }
+
+    private static List<Term> splitTerms(String query) {
+        List<Term> terms = new ArrayList<>();
+        if (query == null) {
+            return terms;
+        }
+        for (String value : query.trim().split("\\s+")) {
+            Term term = new Term(value);
+            // 글자/숫자가 없는 검색어(기호만)는 무시
+            if (!term.tokens.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 텍스트 토큰화: 소문자 변환 후 글자/숫자 연속 구간 단위로 분리 ("모빌1 5W-30" → [모빌1, 5w, 30])
+     */
+    static List<String> textTokens(String value) {
+        List<String> tokens = new ArrayList<>();
+        if (value == null) {
+            return tokens;
+        }
+        String lower = value.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> textGramsOf(String token) {
+        if (token.length() < 2) {
+            return List.of(token);
+        }
+        List<String> grams = new ArrayList<>(token.length() - 1);
+        for (int i = 0; i + 2 <= token.length(); i++) {
+            grams.add(token.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 필드 점수 (필드 값은 정규화 토큰을 공백으로 연결한 문자열)
+     * - 토큰 경계에서 시작해 토큰 경계에서 끝나면 완전 일치, 토큰 경계에서 시작하면 접두 일치, 그 외 부분 일치
+     * - 토큰 목록 대신 문자열 하나만 확인하여 후보마다 읽는 객체 수를 줄임
+     */
+    private static int fieldScore(String fieldText, String phrase, int exact, int prefix, int contains) {
+        if (phrase.isEmpty()) {
+            return 0;
+        }
+        int at = fieldText.indexOf(phrase);
+        int best = at >= 0 ? contains : 0;
+        while (at >= 0) {
+            if (at == 0 || fieldText.charAt(at - 1) == ' ') {
+                int end = at + phrase.length();
+                if (end == fieldText.length() || fieldText.charAt(end) == ' ') {
+                    return exact;
+                }
+                best = prefix;
+            }
+            at = fieldText.indexOf(phrase, at + 1);
+        }
+        return best;
+    }
+
+    /**
+     * 색인 문서 (검색 결과 항목 + 정규화 필드)
+     */
+    private static class IndexedProduct {
+        final ProductSearchItem item;
+        final LocalDateTime updatedAt;
+        // 품번 정규화 값 / 텍스트 토큰을 공백으로 연결한 문자열
+        final String partText;
+        final String nameText;
+        final String manufacturerText;
+        final String descriptionText;
+
+        private IndexedProduct(ProductSearchItem item, LocalDateTime updatedAt, Collection<String> partKeys,
+                               List<String> nameTokens, List<String> manufacturerTokens, List<String> descriptionTokens) {
+            this.item = item;
+            this.updatedAt = updatedAt;
+            this.partText = String.join(" ", partKeys);
+            this.nameText = String.join(" ", nameTokens);
+            this.manufacturerText = String.join(" ", manufacturerTokens);
+            this.descriptionText = String.join(" ", descriptionTokens);
+        }
+
+        static IndexedProduct from(Product product) {
+            // 재고 수량은 예약/조정마다 바뀌므로 색인에 두지 않음 (검색 결과 조회 시 DB 값으로 채움)
+            ProductSearchItem item = new ProductSearchItem(product.getId(), product.getSku(), product.getName(),
+                    product.getPrice(), null, product.getIsActive(),
+                    product.getCategory() != null ? product.getCategory().getId() : null,
+                    product.getPartType(), product.getPartCondition(), product.getManufacturerName(),
+                    product.getOemPartNumber(), product.getAftermarketPartNumber(),
+                    product.getIsOeQuality(), product.getIsAftermarket());
+
+            Set<String> partKeys = new LinkedHashSet<>();
+            addPartKey(partKeys, product.getSku());
+            addPartKey(partKeys, product.getOemPartNumber());
+            addPartKey(partKeys, product.getAftermarketPartNumber());
+            for (String number : PartCrossReference.splitNumbers(product.getCrossReferenceNumbers())) {
+                addPartKey(partKeys, number);
+            }
+            return new IndexedProduct(item, product.getUpdatedAt(), partKeys,
+                    textTokens(product.getName()), textTokens(product.getManufacturerName()),
+                    textTokens(product.getDescription()));
+        }
+
+        private static void addPartKey(Collection<String> keys, String value) {
+            String key = PartCrossReference.normalize(value);
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+
+        Set<String> partGrams() {
+            Set<String> grams = new HashSet<>();
+            for (String key : split(partText)) {
+                for (int i = 0; i + 2 <= key.length(); i++) {
+                    grams.add(key.substring(i, i + 2));
+                    if (i + 3 <= key.length()) {
+                        grams.add(key.substring(i, i + 3));
+                    }
+                }
+            }
+            return grams;
+        }
+
+        /**
+         * 텍스트 n-gram → 나타나는 필드 비트
+         */
+        Map<String, Integer> textGrams() {
+            Map<String, Integer> grams = new HashMap<>();
+            addTextGrams(grams, nameText, FIELD_NAME);
+            addTextGrams(grams, manufacturerText, FIELD_MANUFACTURER);
+            addTextGrams(grams, descriptionText, FIELD_DESCRIPTION);
+            return grams;
+        }
+
+        private static void addTextGrams(Map<String, Integer> grams, String text, int field) {
+            for (String token : split(text)) {
+                for (String gram : textGramsOf(token)) {
+                    grams.merge(gram, field, (a, b) -> a | b);
+                }
+            }
+        }
+
+        /**
+         * 검색어 1개 점수 (후보 필드 비트가 있는 필드만 확인)
+         */
+        int score(Term term, int fields) {
+            int score = 0;
+            if ((fields & FIELD_PART) != 0) {
+                score += partScore(term.partKey);
+            }
+            if ((fields & FIELD_NAME) != 0) {
+                score += fieldScore(nameText, term.phrase, NAME_EXACT, NAME_PREFIX, NAME_CONTAINS);
+            }
+            if ((fields & FIELD_MANUFACTURER) != 0) {
+                score += fieldScore(manufacturerText, term.phrase,
+                        MANUFACTURER_EXACT, MANUFACTURER_PREFIX, MANUFACTURER_CONTAINS);
+            }
+            if ((fields & FIELD_DESCRIPTION) != 0 && descriptionText.contains(term.phrase)) {
+                score += DESCRIPTION_CONTAINS;
+            }
+            return score;
+        }
+
+        int partScore(String key) {
+            return key.length() < 2 ? 0 : fieldScore(partText, key, PART_EXACT, PART_PREFIX, PART_CONTAINS);
+        }
+
+        private static String[] split(String text) {
+            return text.isEmpty() ? new String[0] : text.split(" ");
+        }
+    }
+
+    /**
+     * 검색어 1개 (정규화 값을 미리 계산하여 후보마다 재계산하지 않음)
+     */
+    private static class Term {
+        final String partKey;
+        final List<String> tokens;
+        final String phrase;
+
+        Term(String value) {
+            this.partKey = PartCrossReference.normalize(value);
+            this.tokens = textTokens(value);
+            this.phrase = String.join(" ", tokens);
+        }
+    }
+
+    /**
+     * n-gram 포스팅 (문서 번호 오름차순으로 정렬된 (문서 번호 << FIELD_BITS | 필드 비트) 배열)
+     * - 색인 구축 시에는 문서 번호가 증가 순으로 들어오므로 뒤에 추가만 발생
+     */
+    private static class Posting {
+        int[] entries = new int[4];
+        int size;
+
+        void add(int ordinal, int fields) {
+            int at = size == 0 || entries[size - 1] >>> FIELD_BITS < ordinal ? -size - 1 : find(entries, 0, size, ordinal);
+            if (at >= 0) {
+                entries[at] |= fields;
+                return;
+            }
+            int insertAt = -at - 1;
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            System.arraycopy(entries, insertAt, entries, insertAt + 1, size - insertAt);
+            entries[insertAt] = (ordinal << FIELD_BITS) | fields;
+            size++;
+        }
+
+        boolean remove(int ordinal) {
+            int at = find(entries, 0, size, ordinal);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(entries, at + 1, entries, at, size - at - 1);
+            size--;
+            return true;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(entries, size);
+        }
+    }
+
+    /**
+     * 점수 상위 N건 선택 (최소 힙, 전체 일치 건수 집계)
+     */
+    private static class TopHits {
+        private final int limit;
+        private final PriorityQueue<Hit> heap;
+        private int total;
+
+        TopHits(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, RANKING.reversed());
+        }
+
+        void offer(IndexedProduct document, int score) {
+            if (score <= 0) {
+                return;
+            }
+            total++;
+            if (heap.size() == limit) {
+                Hit lowest = heap.peek();
+                if (score < lowest.getScore()
+                        || (score == lowest.getScore() && document.item.getId() > lowest.getItem().getId())) {
+                    return;
+                }
+                heap.poll();
+            }
+            heap.offer(new Hit(document.item, score));
+        }
+
+        Result toResult() {
+            List<Hit> hits = new ArrayList<>(heap);
+            hits.sort(RANKING);
+            return new Result(total, hits);
+        }
+    }
+
+    /**
+     * 검색 결과 1건
+     */
+    static class Hit {
+        private final ProductSearchItem item;
+        private final int score;
+
+        Hit(ProductSearchItem item, int score) {
+            this.item = item;
+            this.score = score;
+        }
+
+        ProductSearchItem getItem() {
+            return item;
+        }
+
+        int getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * 검색 결과 (전체 일치 건수 + 상위 결과)
+     */
+    static class Result {
+        private final int total;
+        private final List<Hit> hits;
+
+        Result(int total, List<Hit> hits) {
+            this.total = total;
+            this.hits = hits;
+        }
+
+        int getTotal() {
+            return total;
+        }
+
+        List<Hit> getHits() {
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.inventory.service;
+
+import com.inventory.dto.ProductSearchHit;
+import com.inventory.dto.ProductSearchItem;
+import com.inventory.entity.Product;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.projection.ProductStockLevelView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 전체 검색 서비스 (메모리 역색인)
+ * - 기동 완료 시 전체 상품으로 색인 구축, 이후 ProductChangedEvent(커밋 후)로 증분 갱신
+ * - 구축 중 발생한 변경은 기존 색인에 반영하면서 함께 보관했다가 새 색인에 재적용한 뒤 교체
+ * - 재고 수량은 색인하지 않고 검색 결과 상품만 IN 조회로 현재 값을 채움 (예약/조정은 상품 변경 이벤트 없이 수량만 바뀜)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndexService {
+
+    private final ProductRepository productRepository;
+
+    @Value("${inventory.catalog.search-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${inventory.catalog.search-index.build-batch-size:1000}")
+    private int buildBatchSize;
+
+    @Value("${inventory.catalog.search-index.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${inventory.catalog.search-index.max-limit:100}")
+    private int maxLimit;
+
+    private final Object changeLock = new Object();
+    private volatile ProductSearchIndex index = new ProductSearchIndex();
+    private volatile boolean ready;
+    // 색인 구축 중 발생한 변경 (구축 중이 아니면 null, changeLock으로 보호)
+    private List<ProductChangedEvent> pendingChanges;
+
+    /**
+     * 기동 완료 시 색인 구축 (초기 데이터 적재 이후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnReady() {
+        if (!enabled) {
+            log.info("상품 검색 색인 비활성화 - 품번/제조사 검색은 DB LIKE 조회 사용");
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * 전체 상품으로 새 색인을 구축하여 교체
+     */
+    public void rebuild() {
+        synchronized (changeLock) {
+            if (pendingChanges != null) {
+                throw new IllegalStateException("상품 검색 색인을 이미 구축 중입니다.");
+            }
+            pendingChanges = new ArrayList<>();
+        }
+        long startedAt = System.currentTimeMillis();
+        ProductSearchIndex rebuilt = new ProductSearchIndex();
+        try {
+            // ID 범위 단위로 나누어 읽어 영속성 컨텍스트가 전체 상품을 붙잡지 않도록 함
+            long lastId = 0L;
+            List<Product> batch;
+            do {
+                batch = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(buildBatchSize));
+                for (Product product : batch) {
+                    rebuilt.upsert(product);
+                    lastId = product.getId();
+                }
+            } while (batch.size() == buildBatchSize);
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+            log.error("상품 검색 색인 구축 실패", e);
+            throw e;
+        }
+        synchronized (changeLock) {
+            for (ProductChangedEvent change : pendingChanges) {
+                apply(rebuilt, change);
+            }
+            pendingChanges = null;
+            index = rebuilt;
+            ready = true;
+        }
+        log.info("✅ 상품 검색 색인 구축 완료 - {}건, {}ms", rebuilt.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 상품 변경 반영 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (changeLock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+            apply(index, event);
+        }
+    }
+
+    /**
+     * 관련도 순 전체 검색 (상품명/설명/제조사/품번/호환 품번)
+     *
+     * @param query 검색어 (공백 구분 AND)
+     * @param limit 최대 결과 수 (미지정 시 기본값, 최대값 초과 시 최대값)
+     */
+    public SearchResult search(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어(q)를 입력해주세요.");
+        }
+        ProductSearchIndex.Result result = index.search(query, resolveLimit(limit));
+        return new SearchResult(query, result.getTotal(), withCurrentQuantities(result));
+    }
+
+    /**
+     * 품번 부분 일치 검색 결과 상품 ID (관련도 순)
+     */
+    public List<Long> searchPartNumberIds(String partNumber) {
+        return ids(index.searchPartNumbers(partNumber, Integer.MAX_VALUE));
+    }
+
+    /**
+     * 제조사명 부분 일치 검색 결과 상품 ID (관련도 순)
+     */
+    public List<Long> searchManufacturerIds(String manufacturer) {
+        return ids(index.searchManufacturer(manufacturer, Integer.MAX_VALUE));
+    }
+
+    /**
+     * 색인 구축 완료 여부 (비활성화 상태면 false)
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public Map<String, Object> getStatus() {
+        return Map.of("enabled", enabled, "ready", ready, "documents", index.size());
+    }
+
+    private static void apply(ProductSearchIndex target, ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            target.remove(event.getProductId());
+        } else {
+            target.upsert(event.getProduct());
+        }
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) return defaultLimit;
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit는 1 이상이어야 합니다: " + limit);
+        }
+        return Math.min(limit, maxLimit);
+    }
+
+    private static List<Long> ids(ProductSearchIndex.Result result) {
+        List<Long> ids = new ArrayList<>(result.getHits().size());
+        for (ProductSearchIndex.Hit hit : result.getHits()) {
+            ids.add(hit.getItem().getId());
+        }
+        return ids;
+    }
+
+    /**
+     * 검색 결과 항목에 현재 재고 수량 반영 (색인 항목은 검색 간 공유되므로 복사본에 설정)
+     */
+    private List<ProductSearchHit> withCurrentQuantities(ProductSearchIndex.Result result) {
+        List<ProductSearchIndex.Hit> found = result.getHits();
+        if (found.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (ProductStockLevelView level : productRepository.findStockLevels(ids(result))) {
+            quantities.put(level.getId(), level.getQuantity());
+        }
+        List<ProductSearchHit> hits = new ArrayList<>(found.size());
+        for (ProductSearchIndex.Hit hit : found) {
+            ProductSearchItem item = hit.getItem();
+            ProductSearchItem current = new ProductSearchItem(item.getId(), item.getSku(), item.getName(),
+                    item.getPrice(), quantities.get(item.getId()), item.getIsActive(), item.getCategoryId(),
+                    item.getPartType(), item.getPartCondition(), item.getManufacturerName(),
+                    item.getOemPartNumber(), item.getAftermarketPartNumber(),
+                    item.getIsOeQuality(), item.getIsAftermarket());
+            hits.add(new ProductSearchHit(hit.getScore(), current));
+        }
+        return hits;
+    }
+
+    /**
+     * 전체 검색 결과
+     */
+    public static class SearchResult {
+        private final String query;
+        private final int total;
+        private final List<ProductSearchHit> items;
+
+        public SearchResult(String query, int total, List<ProductSearchHit> items) {
+            this.query = query;
+            this.total = total;
+            this.items = items;
+        }
+
+        public String getQuery() { return query; }
+        public int getTotal() { return total; }
+        public List<ProductSearchHit> getItems() { return items; }
+    }
+}
@@ -1,15 +1,25 @@
 package com.inventory.service;
 
 import com.inventory.dto.ProductDto;
+import com.inventory.dto.ProductPageResponse;
 import com.inventory.entity.Product;
+import com.inventory.entity.StockMovement;
 import com.inventory.repository.ProductImageRepository;
 import com.inventory.repository.ProductRepository;
+import com.inventory.repository.projection.ProductImageCountView;
+import com.inventory.repository.projection.ProductSummaryView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,12 +30,59 @@ public class ProductService {
     
     private final ProductRepository productRepository;
     private final ProductImageRepository productImageRepository;
+    private final ImageDataCache imageDataCache;
+    private final StockJournalService stockJournalService;
+    private final ApplicationEventPublisher eventPublisher;
     
+    // 이미지 개수 일괄 조회 시 IN 절 최대 크기
+    private static final int IMAGE_COUNT_BATCH_SIZE = 1000;
+    
+    @Value("${inventory.products.page.default-size:50}")
+    private int defaultPageSize;
+    
+    @Value("${inventory.products.page.max-size:200}")
+    private int maxPageSize;
+    
+    @Transactional(readOnly = true)
     public List<ProductDto> getAllProducts() {
         log.info("모든 제품 조회");
-        return productRepository.findAll().stream()
+        return convertToDtos(productRepository.findAllWithCategory());
+    }
+    
+    /**
+     * 키셋(커서) 페이지 조회
+     * - 정렬 컬럼 > cursor 조건으로 다음 페이지를 조회 (OFFSET 미사용)
+     * - 프로젝션으로 DTO 컬럼만 읽으므로 엔티티 그래프를 로딩하지 않음
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (null이면 기본값, 최대값으로 제한)
+     * @param sort 정렬 기준 (id, sku)
+     */
+    @Transactional(readOnly = true)
+    public ProductPageResponse getProductPage(String cursor, Integer size, String sort) {
+        ListingSort listingSort = ListingSort.from(sort);
+        int pageSize = resolvePageSize(size);
+        log.info("제품 페이지 조회 - sort: {}, cursor: {}, size: {}", listingSort, cursor, pageSize);
+        
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        List<ProductSummaryView> rows = switch (listingSort) {
+            case ID -> productRepository.findSummariesAfterId(parseIdCursor(cursor), limit);
+            case SKU -> productRepository.findSummariesAfterSku(cursor == null ? "" : cursor, limit);
+        };
+        
+        boolean hasNext = rows.size() > pageSize;
+        List<ProductSummaryView> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ProductSummaryView last = page.get(page.size() - 1);
+            nextCursor = listingSort == ListingSort.ID ? String.valueOf(last.getId()) : last.getSku();
+        }
+        
+        List<ProductDto> items = page.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
+        return new ProductPageResponse(items, listingSort.name().toLowerCase(), pageSize, hasNext, nextCursor);
     }
     
     public ProductDto getProductById(Long id) {
@@ -39,6 +96,10 @@ public class ProductService {
         log.info("제품 생성: {}", productDto.getName());
         Product product = convertToEntity(productDto);
         Product saved = productRepository.save(product);
+        if (saved.getQuantity() != null) {
+            stockJournalService.record(saved.getId(), null, StockMovement.MovementType.OPENING, saved.getQuantity(), null);
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.saved(saved));
         return convertToDto(saved);
     }
     
@@ -46,8 +107,10 @@ public class ProductService {
         log.info("제품 수정: {}", id);
         return productRepository.findById(id)
                 .map(existing -> {
+                    // 수량 조정은 StockLedgerService.adjustProduct (원자적 UPDATE 후 저널 기록)
                     updateEntity(existing, productDto);
                     Product saved = productRepository.save(existing);
+                    eventPublisher.publishEvent(ProductChangedEvent.saved(saved));
                     return convertToDto(saved);
                 })
                 .orElse(null);
@@ -56,9 +119,42 @@ public class ProductService {
     public void deleteProduct(Long id) {
         log.info("제품 삭제: {}", id);
         productRepository.deleteById(id);
+        imageDataCache.invalidateAfterCommit(id);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
+    }
+    
+    /**
+     * 상품 목록 DTO 일괄 조립
+     * - 카테고리는 호출 측에서 fetch join으로 로딩된 상태를 전제
+     * - 이미지 개수는 IMAGE_COUNT_BATCH_SIZE 단위 GROUP BY 쿼리로 한 번에 조회
+     * - 상품 수와 무관하게 배치당 쿼리 수가 일정함
+     */
+    private List<ProductDto> convertToDtos(List<Product> products) {
+        Map<Long, Long> imageCounts = loadImageCounts(products);
+        List<ProductDto> dtos = new ArrayList<>(products.size());
+        for (Product product : products) {
+            dtos.add(convertToDto(product, imageCounts.getOrDefault(product.getId(), 0L)));
+        }
+        return dtos;
+    }
+    
+    private Map<Long, Long> loadImageCounts(List<Product> products) {
+        Map<Long, Long> imageCounts = new HashMap<>();
+        List<Long> ids = products.stream().map(Product::getId).collect(Collectors.toList());
+        for (int from = 0; from < ids.size(); from += IMAGE_COUNT_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + IMAGE_COUNT_BATCH_SIZE, ids.size()));
+            for (ProductImageCountView row : productImageRepository.countByProductIdIn(batch)) {
+                imageCounts.put(row.getProductId(), row.getImageCount());
+            }
+        }
+        return imageCounts;
     }
     
     private ProductDto convertToDto(Product product) {
+        return convertToDto(product, productImageRepository.countByProductId(product.getId()));
+    }
+    
+    private ProductDto convertToDto(Product product, long imageCount) {
         ProductDto dto = new ProductDto();
         dto.setId(product.getId());
         dto.setSku(product.getSku());
@@ -78,18 +174,60 @@ public class ProductService {
         
         // 이미지 정보 추가
         dto.setImageUrl(product.getImageUrl()); // 레거시 이미지 URL
-        long imageCount = productImageRepository.countByProductId(product.getId());
-        dto.setImageCount((int) imageCount);
-        if (imageCount > 0) {
-            // 최신 등록용 이미지를 대표로 노출 (없으면 기존 대표로 대체하는 것은 추후 확장)
-            dto.setFirstImageUrl("/api/images/" + product.getId() + "/registration/last/data");
-        }
+        applyImageInfo(dto, imageCount);
         
         dto.setCreatedAt(product.getCreatedAt());
         dto.setUpdatedAt(product.getUpdatedAt());
         return dto;
     }
     
+    private ProductDto convertToDto(ProductSummaryView view) {
+        ProductDto dto = new ProductDto();
+        dto.setId(view.getId());
+        dto.setSku(view.getSku());
+        dto.setName(view.getName());
+        dto.setDescription(view.getDescription());
+        dto.setPrice(view.getPrice());
+        dto.setCost(view.getCost());
+        dto.setBarcode(view.getBarcode());
+        dto.setQuantity(view.getQuantity());
+        dto.setMinimumQuantity(view.getMinimumQuantity());
+        dto.setIsActive(view.getIsActive());
+        dto.setIsSerialized(view.getIsSerialized());
+        dto.setCategoryId(view.getCategoryId());
+        dto.setCategoryName(view.getCategoryName());
+        dto.setImageUrl(view.getImageUrl());
+        applyImageInfo(dto, view.getImageCount() != null ? view.getImageCount() : 0L);
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setUpdatedAt(view.getUpdatedAt());
+        return dto;
+    }
+    
+    private void applyImageInfo(ProductDto dto, long imageCount) {
+        dto.setImageCount((int) imageCount);
+        if (imageCount > 0) {
+            // 최신 등록용 이미지를 대표로 노출 (없으면 기존 대표로 대체하는 것은 추후 확장)
+            dto.setFirstImageUrl("/api/images/" + dto.getId() + "/registration/last/data");
+        }
+    }
+    
+    private int resolvePageSize(Integer size) {
+        if (size == null) return defaultPageSize;
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다: " + size);
+        }
+        return Math.min(size, maxPageSize);
+    }
+    
+    private Long parseIdCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return 0L;
+        try {
+            return Long.parseLong(cursor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 cursor 값입니다: " + cursor);
+        }
+    }
+    
     private Product convertToEntity(ProductDto dto) {
         Product product = new Product();
         product.setSku(dto.getSku());
@@ -105,16 +243,31 @@ public class ProductService {
         return product;
     }
     
+    // 재고 수량은 StockLedgerService(예약/조정)로만 변경 (요청의 quantity는 무시)
     private void updateEntity(Product product, ProductDto dto) {
         product.setName(dto.getName());
         product.setDescription(dto.getDescription());
         product.setPrice(dto.getPrice());
         product.setCost(dto.getCost());
         product.setBarcode(dto.getBarcode());
-        product.setQuantity(dto.getQuantity());
         product.setMinimumQuantity(dto.getMinimumQuantity());
         product.setIsActive(dto.getIsActive());
         product.setIsSerialized(dto.getIsSerialized());
     }
-}
-
+    
+    /**
+     * 목록 정렬 기준
+     * - 키셋 페이지네이션이 인덱스를 탈 수 있도록 PK / unique 인덱스 컬럼만 허용
+     */
+    public enum ListingSort {
+        ID, SKU;
+        
+        public static ListingSort from(String value) {
+            if (value == null || value.isBlank()) return ID;
+            for (ListingSort sort : values()) {
+                if (sort.name().equalsIgnoreCase(value.trim())) return sort;
+            }
+            throw new IllegalArgumentException("지원되지 않는 정렬 기준입니다: " + value + " (허용: id, sku)");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.inventory.service;
+
+import java.util.Set;
+
+/**
+ * 재고 수량 변경 이벤트 (재고 이동 저널 기록 시 발행)
+ * - 트랜잭션 안에서 발행하면 커밋 후 리스너가 처리 (재고 부족 감지, 채널 재고 배분 증분 갱신)
+ */
+public class StockChangedEvent {
+
+    private final Set<Long> productIds;
+
+    public StockChangedEvent(Set<Long> productIds) {
+        this.productIds = Set.copyOf(productIds);
+    }
+
+    /**
+     * 수량이 바뀐 상품 ID (상품 수량 또는 창고 재고)
+     */
+    public Set<Long> getProductIds() {
+        return productIds;
+    }
+}
@@ -0,0 +1,332 @@
+package com.inventory.service;
+
+import com.inventory.entity.Inventory;
+import com.inventory.entity.StockMovement;
+import com.inventory.entity.StockSnapshot;
+import com.inventory.repository.InventoryRepository;
+import com.inventory.repository.StockMovementRepository;
+import com.inventory.repository.StockSnapshotRepository;
+import com.inventory.repository.projection.StockDeltaView;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 이동 저널 / 스냅샷 서비스
+ * - 재고 수량 변경과 같은 트랜잭션에서 저널 행을 배치 INSERT로 기록 (추가 전용), 기록 후 StockChangedEvent 발행
+ * - 주기적으로 스냅샷 추가: 기준 시각 수량 = 현재 수량 - 기준 시각 이후 저널 합계 (한 읽기 시점에서 계산)
+ *   저널 created_at은 커밋이 아니라 기록 시각이므로, 직전 스냅샷 수량에 구간 저널을 더하면 스냅샷 이후 커밋된
+ *   (기준 시각 이전에 기록된) 저널이 영구 누락됨 → 매번 현재 수량 기준으로 다시 맞추고, 값이 바뀐 재고만 추가
+ * - 스냅샷 기준 시각은 현재보다 settle-seconds 이전 (커밋이 늦은 저널은 다음 스냅샷에 반영)
+ * - 시점 조회: 시점 이전 마지막 스냅샷 + 그 이후 저널 (재고별 인덱스 범위 조회, 전체 저널을 읽지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockJournalService {
+
+    private static final String INSERT_MOVEMENT_SQL =
+            "INSERT INTO stock_movements (product_id, inventory_id, movement_type, quantity_delta, reference, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SNAPSHOT_SQL =
+            "INSERT INTO stock_snapshots (product_id, inventory_id, quantity, snapshot_at) VALUES (?, ?, ?, ?)";
+    // 스냅샷 이전 시점 조회 시 저널 시작 (저널 도입 이전 이력은 없음)
+    private static final LocalDateTime JOURNAL_START = LocalDateTime.of(2000, 1, 1, 0, 0);
+    // 재고별 현재 수량 (상품 수량 + 창고 재고)
+    private static final String SELECT_PRODUCT_QUANTITIES_SQL = "SELECT id, COALESCE(quantity, 0) FROM products";
+    private static final String SELECT_INVENTORY_QUANTITIES_SQL = "SELECT product_id, id, quantity FROM inventories";
+    // 재고별 마지막 스냅샷 수량 (최초 스냅샷 시 1회)
+    private static final String SELECT_LATEST_SNAPSHOTS_SQL =
+            "SELECT s.product_id, s.inventory_id, s.quantity FROM stock_snapshots s " +
+            "JOIN (SELECT product_id, COALESCE(inventory_id, 0) AS stock_inventory_id, MAX(snapshot_at) AS snapshot_at " +
+            "FROM stock_snapshots GROUP BY product_id, COALESCE(inventory_id, 0)) latest " +
+            "ON latest.product_id = s.product_id AND latest.stock_inventory_id = COALESCE(s.inventory_id, 0) " +
+            "AND latest.snapshot_at = s.snapshot_at";
+
+    private final StockMovementRepository movementRepository;
+    private final StockSnapshotRepository snapshotRepository;
+    private final InventoryRepository inventoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${inventory.stock.journal.snapshot-interval-seconds:300}")
+    private long snapshotIntervalSeconds;
+
+    @Value("${inventory.stock.journal.settle-seconds:60}")
+    private long settleSeconds;
+
+    // 재고별 마지막 스냅샷 수량 (스냅샷 생성 잠금 안에서만 접근, null이면 다음 스냅샷에서 DB에서 읽음)
+    private Map<StockKey, Integer> latestSnapshots;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "stock-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 기동 완료 시 스냅샷이 하나도 없으면 현재 수량으로 기초 스냅샷을 만들고 주기 스냅샷 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (snapshotRepository.findLastSnapshotAt() == null) {
+            createBaseline();
+        }
+        if (snapshotIntervalSeconds > 0) {
+            scheduler.scheduleWithFixedDelay(this::snapshotSafely,
+                    snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 저널 기록 (호출한 트랜잭션에 참여, 여러 건은 한 번의 배치 INSERT)
+     */
+    public void record(List<Movement> movements) {
+        if (movements.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(movements.size());
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (Movement movement : movements) {
+            if (movement.delta != 0) {
+                rows.add(new Object[]{movement.productId, movement.inventoryId, movement.type.name(),
+                        movement.delta, movement.reference, now});
+                productIds.add(movement.productId);
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MOVEMENT_SQL, rows);
+            eventPublisher.publishEvent(new StockChangedEvent(productIds));
+        }
+    }
+
+    public void record(Long productId, Long inventoryId, StockMovement.MovementType type, int delta, String reference) {
+        record(List.of(new Movement(productId, inventoryId, type, delta, reference)));
+    }
+
+    /**
+     * 시점 재고 (inventoryId가 null이면 상품 수량)
+     *
+     * @throws IllegalArgumentException 창고 재고가 없거나 다른 상품의 재고인 경우
+     */
+    public StockAsOf getStockAsOf(Long productId, Long inventoryId, LocalDateTime at) {
+        if (inventoryId != null) {
+            Inventory inventory = inventoryRepository.findById(inventoryId)
+                    .orElseThrow(() -> new IllegalArgumentException("창고 재고를 찾을 수 없습니다: " + inventoryId));
+            Long inventoryProductId = inventory.getProduct().getId();
+            if (productId != null && !productId.equals(inventoryProductId)) {
+                throw new IllegalArgumentException("상품의 창고 재고가 아닙니다: " + inventoryId);
+            }
+            productId = inventoryProductId;
+        } else if (productId == null) {
+            throw new IllegalArgumentException("productId 또는 inventoryId를 입력해주세요.");
+        }
+
+        StockSnapshot snapshot = (inventoryId != null
+                ? snapshotRepository.findFirstByProductIdAndInventoryIdAndSnapshotAtLessThanEqualOrderBySnapshotAtDesc(
+                        productId, inventoryId, at)
+                : snapshotRepository.findFirstByProductIdAndInventoryIsNullAndSnapshotAtLessThanEqualOrderBySnapshotAtDesc(
+                        productId, at))
+                .orElse(null);
+        LocalDateTime from = snapshot != null ? snapshot.getSnapshotAt() : JOURNAL_START;
+        long tail = inventoryId != null
+                ? movementRepository.sumInventoryDelta(productId, inventoryId, from, at)
+                : movementRepository.sumProductDelta(productId, from, at);
+        int base = snapshot != null ? snapshot.getQuantity() : 0;
+        return new StockAsOf(productId, inventoryId, at, base + tail,
+                snapshot != null ? snapshot.getSnapshotAt() : null, base, tail);
+    }
+
+    /**
+     * 최근 이동 내역 (inventoryId가 있으면 해당 창고 재고, 없으면 상품 전체)
+     */
+    public List<StockMovement> getRecentMovements(Long productId, Long inventoryId, int limit) {
+        return inventoryId != null
+                ? movementRepository.findByInventoryIdOrderByCreatedAtDescIdDesc(inventoryId, Limit.of(limit))
+                : movementRepository.findByProductIdOrderByCreatedAtDescIdDesc(productId, Limit.of(limit));
+    }
+
+    /**
+     * 스냅샷 생성 (기준 시각: 현재 - settle-seconds)
+     * - 한 트랜잭션(REPEATABLE READ)에서 현재 수량과 기준 시각 이후 저널을 함께 읽어 기준 시각 수량 계산
+     * - 마지막 스냅샷과 수량이 다른 재고만 추가 (늦게 커밋된 저널이 있던 재고도 여기서 바로잡힘)
+     *
+     * @return 추가한 스냅샷 수
+     */
+    public synchronized int takeSnapshot() {
+        LocalDateTime lastSnapshotAt = snapshotRepository.findLastSnapshotAt();
+        if (lastSnapshotAt == null) {
+            return createBaseline();
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(settleSeconds);
+        if (!cutoff.isAfter(lastSnapshotAt)) {
+            return 0;
+        }
+        long startedAt = System.currentTimeMillis();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        Map<StockKey, Integer> latest = latestSnapshots != null ? latestSnapshots : loadLatestSnapshots();
+        Map<StockKey, Integer> changed = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<StockKey, Integer> quantities = new HashMap<>();
+            jdbcTemplate.query(SELECT_PRODUCT_QUANTITIES_SQL, rs -> {
+                quantities.put(new StockKey(rs.getLong(1), null), rs.getInt(2));
+            });
+            jdbcTemplate.query(SELECT_INVENTORY_QUANTITIES_SQL, rs -> {
+                quantities.put(new StockKey(rs.getLong(1), rs.getLong(2)), rs.getInt(3));
+            });
+            // 현재 수량에는 기준 시각 이후 커밋된 이동도 반영되어 있으므로 빼서 기준 시각 수량으로 되돌림
+            for (StockDeltaView delta : movementRepository.sumDeltasSince(cutoff)) {
+                quantities.computeIfPresent(new StockKey(delta.getProductId(), delta.getInventoryId()),
+                        (key, quantity) -> (int) (quantity - delta.getDelta()));
+            }
+            quantities.forEach((key, quantity) -> {
+                if (!quantity.equals(latest.get(key))) {
+                    changed.put(key, quantity);
+                }
+            });
+
+            Timestamp snapshotAt = Timestamp.valueOf(cutoff);
+            List<Object[]> rows = new ArrayList<>(changed.size());
+            changed.forEach((key, quantity) -> rows.add(new Object[]{key.productId, key.inventoryId, quantity, snapshotAt}));
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, rows);
+            }
+        });
+        latest.putAll(changed);
+        latestSnapshots = latest;
+        log.info("재고 스냅샷 생성 - {}건 (기준 {}), {}ms", changed.size(), cutoff, System.currentTimeMillis() - startedAt);
+        return changed.size();
+    }
+
+    private Map<StockKey, Integer> loadLatestSnapshots() {
+        Map<StockKey, Integer> latest = new HashMap<>();
+        jdbcTemplate.query(SELECT_LATEST_SNAPSHOTS_SQL, rs -> {
+            long inventoryId = rs.getLong(2);
+            latest.put(new StockKey(rs.getLong(1), rs.wasNull() ? null : inventoryId), rs.getInt(3));
+        });
+        return latest;
+    }
+
+    private synchronized int createBaseline() {
+        LocalDateTime at = LocalDateTime.now();
+        Integer created = new TransactionTemplate(transactionManager).execute(status ->
+                snapshotRepository.insertProductBaseline(at) + snapshotRepository.insertInventoryBaseline(at));
+        latestSnapshots = null;
+        log.info("✅ 재고 기초 스냅샷 생성 - {}건", created);
+        return created != null ? created : 0;
+    }
+
+    private void snapshotSafely() {
+        try {
+            takeSnapshot();
+        } catch (RuntimeException e) {
+            log.error("재고 스냅샷 생성 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 저널 기록 항목 (inventoryId가 null이면 상품 수량 이동)
+     */
+    public static class Movement {
+        private final Long productId;
+        private final Long inventoryId;
+        private final StockMovement.MovementType type;
+        private final int delta;
+        private final String reference;
+
+        public Movement(Long productId, Long inventoryId, StockMovement.MovementType type, int delta, String reference) {
+            this.productId = productId;
+            this.inventoryId = inventoryId;
+            this.type = type;
+            this.delta = delta;
+            this.reference = reference;
+        }
+    }
+
+    /**
+     * 시점 재고 조회 결과
+     * - quantity = snapshotQuantity + journalDelta
+     */
+    public static class StockAsOf {
+        private final Long productId;
+        private final Long inventoryId;
+        private final LocalDateTime at;
+        private final int quantity;
+        private final LocalDateTime snapshotAt;
+        private final int snapshotQuantity;
+        private final long journalDelta;
+
+        StockAsOf(Long productId, Long inventoryId, LocalDateTime at, long quantity,
+                  LocalDateTime snapshotAt, int snapshotQuantity, long journalDelta) {
+            this.productId = productId;
+            this.inventoryId = inventoryId;
+            this.at = at;
+            this.quantity = (int) quantity;
+            this.snapshotAt = snapshotAt;
+            this.snapshotQuantity = snapshotQuantity;
+            this.journalDelta = journalDelta;
+        }
+
+        public Long getProductId() { return productId; }
+        public Long getInventoryId() { return inventoryId; }
+        public LocalDateTime getAt() { return at; }
+        public int getQuantity() { return quantity; }
+        public LocalDateTime getSnapshotAt() { return snapshotAt; }
+        public int getSnapshotQuantity() { return snapshotQuantity; }
+        public long getJournalDelta() { return journalDelta; }
+    }
+
+    private static final class StockKey {
+        private final Long productId;
+        private final Long inventoryId;
+
+        StockKey(Long productId, Long inventoryId) {
+            this.productId = productId;
+            this.inventoryId = inventoryId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof StockKey other)) {
+                return false;
+            }
+            return productId.equals(other.productId) && Objects.equals(inventoryId, other.inventoryId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productId, inventoryId);
+        }
+    }
+}
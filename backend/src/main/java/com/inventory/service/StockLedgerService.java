@@ -0,0 +1,352 @@
+package com.inventory.service;
+
+import com.inventory.entity.Inventory;
+import com.inventory.entity.StockMovement;
+import com.inventory.entity.StockReservation;
+import com.inventory.repository.InventoryRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 원장 서비스 (상품 수량 및 창고 재고 수량 변경 전용)
+ * - 모든 수량 변경은 조건부 UPDATE 한 문장으로 처리 ("quantity = quantity - n WHERE quantity >= n")
+ *   조회 후 저장하지 않으므로 동시 판매에도 변경 유실/초과 판매가 없고, 해당 행 잠금만 사용
+ * - 예약(reserve) 시 즉시 차감, 확정(commit)은 상태만 변경, 해제(release)는 차감한 수량 복원
+ *   (주문 예약은 출처 "order:주문번호"로 일괄 확정/해제)
+ * - 창고 재고를 지정하면 상품 → 창고 재고 순으로 차감 (같은 순서로 잠가 교착 방지), 하나라도 부족하면 전체 롤백
+ * - 수량을 바꾼 만큼 같은 트랜잭션에서 재고 이동 저널 기록
+ * - 여러 상품 일괄 예약(reserveAll)은 CASE 조건부 UPDATE 한 문장으로 전체 차감 (전부 성공하거나 전부 롤백)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class StockLedgerService {
+
+    private final ProductRepository productRepository;
+    private final InventoryRepository inventoryRepository;
+    private final StockReservationRepository reservationRepository;
+    private final StockJournalService stockJournalService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_RESERVATION_SQL =
+            "INSERT INTO stock_reservations (product_id, inventory_id, quantity, status, reference, created_at, updated_at) " +
+            "VALUES (?, NULL, ?, 'RESERVED', ?, ?, ?)";
+
+    /**
+     * 재고 예약 (수량 즉시 차감)
+     *
+     * @param inventoryId 함께 차감할 창고 재고 ID (null이면 상품 수량만 차감)
+     * @param reference 예약 출처 (주문 번호 등, 선택)
+     * @throws IllegalArgumentException 수량이 0 이하이거나 상품/창고 재고가 없는 경우
+     * @throws InsufficientStockException 남은 수량이 부족한 경우
+     */
+    public StockReservation reserve(Long productId, Long inventoryId, int quantity, String reference) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("예약 수량은 1 이상이어야 합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (productRepository.decrementQuantity(productId, quantity, now) == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId);
+            }
+            throw new InsufficientStockException(productId, quantity);
+        }
+        if (inventoryId != null && inventoryRepository.decrementQuantity(inventoryId, productId, quantity, now) == 0) {
+            boolean exists = inventoryRepository.findById(inventoryId)
+                    .filter(inventory -> inventory.getProduct().getId().equals(productId))
+                    .isPresent();
+            if (!exists) {
+                throw new IllegalArgumentException("상품의 창고 재고를 찾을 수 없습니다: " + inventoryId);
+            }
+            throw new InsufficientStockException(productId, quantity);
+        }
+
+        StockReservation reservation = new StockReservation();
+        reservation.setProduct(productRepository.getReferenceById(productId));
+        reservation.setInventory(inventoryId != null ? inventoryRepository.getReferenceById(inventoryId) : null);
+        reservation.setQuantity(quantity);
+        reservation.setStatus(StockReservation.Status.RESERVED);
+        reservation.setReference(reference);
+        StockReservation saved = reservationRepository.save(reservation);
+        recordMovements(productId, inventoryId, StockMovement.MovementType.RESERVATION, -quantity,
+                reference(saved.getId(), reference));
+        log.debug("재고 예약: {} - 상품 {}, 수량 {}", saved.getId(), productId, quantity);
+        return saved;
+    }
+
+    /**
+     * 여러 상품 재고 일괄 예약 (상품 수량만 차감, 호출한 트랜잭션에 참여)
+     * - "quantity = quantity - CASE id ... WHERE id IN (...) AND quantity >= CASE id ..." 한 문장으로 차감하고
+     *   변경된 행 수가 상품 수와 다르면 전체 롤백 (PK 순으로 잠기므로 동시 주문 간 교착 없음)
+     * - 예약 행과 저널은 각각 배치 INSERT 한 번
+     *
+     * @param quantities 상품 ID → 수량
+     * @param reference 예약 출처 (주문 번호 등)
+     * @throws IllegalArgumentException 상품이 없거나 수량이 0 이하인 경우
+     * @throws InsufficientStockException 한 상품이라도 남은 수량이 부족하거나 상품이 없는 경우 (productId null)
+     */
+    public void reserveAll(Map<Long, Integer> quantities, String reference) {
+        if (quantities.isEmpty()) {
+            throw new IllegalArgumentException("예약할 상품이 없습니다.");
+        }
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        StringBuilder caseSql = new StringBuilder("CASE id");
+        StringBuilder inSql = new StringBuilder();
+        List<Object> caseArgs = new ArrayList<>(sorted.size() * 2);
+        for (Map.Entry<Long, Integer> entry : sorted.entrySet()) {
+            if (entry.getValue() == null || entry.getValue() <= 0) {
+                throw new IllegalArgumentException("예약 수량은 1 이상이어야 합니다: 상품 " + entry.getKey());
+            }
+            caseSql.append(" WHEN ? THEN ?");
+            inSql.append(inSql.length() == 0 ? "?" : ", ?");
+            caseArgs.add(entry.getKey());
+            caseArgs.add(entry.getValue());
+        }
+        caseSql.append(" END");
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> args = new ArrayList<>(caseArgs.size() * 2 + sorted.size() + 1);
+        args.addAll(caseArgs);
+        args.add(now);
+        args.addAll(sorted.keySet());
+        args.addAll(caseArgs);
+        int updated = jdbcTemplate.update("UPDATE products SET quantity = quantity - " + caseSql + ", updated_at = ? " +
+                "WHERE id IN (" + inSql + ") AND quantity >= " + caseSql, args.toArray());
+        if (updated != sorted.size()) {
+            throw new InsufficientStockException("재고가 부족합니다 - 상품 " + sorted.size() + "개 중 "
+                    + (sorted.size() - updated) + "개");
+        }
+
+        String storedReference = reference != null && reference.length() > 100 ? reference.substring(0, 100) : reference;
+        List<Object[]> reservationRows = new ArrayList<>(sorted.size());
+        List<StockJournalService.Movement> movements = new ArrayList<>(sorted.size());
+        sorted.forEach((productId, quantity) -> {
+            reservationRows.add(new Object[]{productId, quantity, storedReference, now, now});
+            movements.add(new StockJournalService.Movement(productId, null, StockMovement.MovementType.RESERVATION,
+                    -quantity, storedReference));
+        });
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION_SQL, reservationRows);
+        stockJournalService.record(movements);
+        log.debug("재고 일괄 예약: {} - 상품 {}개", reference, sorted.size());
+    }
+
+    /**
+     * 예약 확정 (차감 유지)
+     *
+     * @throws IllegalArgumentException 예약이 없는 경우
+     * @throws IllegalStateException 이미 확정/해제된 경우
+     */
+    public StockReservation commit(Long reservationId) {
+        if (reservationRepository.transition(reservationId, StockReservation.Status.RESERVED,
+                StockReservation.Status.COMMITTED, LocalDateTime.now()) == 0) {
+            throw notReserved(reservationId);
+        }
+        log.debug("재고 예약 확정: {}", reservationId);
+        return findReservation(reservationId);
+    }
+
+    /**
+     * 예약 해제 (차감한 수량 복원)
+     *
+     * @throws IllegalArgumentException 예약이 없는 경우
+     * @throws IllegalStateException 이미 확정/해제된 경우
+     */
+    public StockReservation release(Long reservationId) {
+        LocalDateTime now = LocalDateTime.now();
+        // 상태 변경에 성공한 요청만 수량을 복원 (동시 해제 요청이 있어도 한 번만 복원)
+        if (reservationRepository.transition(reservationId, StockReservation.Status.RESERVED,
+                StockReservation.Status.RELEASED, now) == 0) {
+            throw notReserved(reservationId);
+        }
+        StockReservation reservation = findReservation(reservationId);
+        restore(reservation, now);
+        log.debug("재고 예약 해제: {} - 수량 {} 복원", reservationId, reservation.getQuantity());
+        return reservation;
+    }
+
+    /**
+     * 출처별 예약 일괄 확정 (주문 확정/출고 시, 호출한 트랜잭션에 참여)
+     * - 예약 상태인 행만 UPDATE 한 문장으로 확정, 이미 확정/해제된 예약은 그대로 둠
+     *
+     * @return 확정한 예약 수
+     */
+    public int commitByReference(String reference) {
+        int committed = reservationRepository.transitionByReference(reference, StockReservation.Status.RESERVED,
+                StockReservation.Status.COMMITTED, LocalDateTime.now());
+        log.debug("재고 예약 일괄 확정: {} - {}건", reference, committed);
+        return committed;
+    }
+
+    /**
+     * 출처별 예약 일괄 해제 (주문 취소/삭제 시, 호출한 트랜잭션에 참여)
+     * - 예약 상태인 행만 해제하고 차감한 수량 복원, 이미 확정/해제된 예약은 그대로 둠
+     *
+     * @return 해제한 예약 수
+     */
+    public int releaseByReference(String reference) {
+        LocalDateTime now = LocalDateTime.now();
+        int released = 0;
+        for (Long reservationId : reservationRepository.findIdsByReferenceAndStatus(reference,
+                StockReservation.Status.RESERVED)) {
+            // 그 사이 다른 요청이 확정/해제한 예약은 건너뜀
+            if (reservationRepository.transition(reservationId, StockReservation.Status.RESERVED,
+                    StockReservation.Status.RELEASED, now) == 1) {
+                restore(findReservation(reservationId), now);
+                released++;
+            }
+        }
+        log.debug("재고 예약 일괄 해제: {} - {}건", reference, released);
+        return released;
+    }
+
+    @Transactional(readOnly = true)
+    public StockReservation getReservation(Long reservationId) {
+        return reservationRepository.findById(reservationId).orElse(null);
+    }
+
+    /**
+     * 창고 재고 생성 (초기 수량은 기초 재고로 저널 기록)
+     *
+     * @throws IllegalArgumentException 상품이 없거나 수량이 음수인 경우
+     */
+    public Inventory createInventory(Long productId, int quantity, String warehouseLocation) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("재고 수량은 0 이상이어야 합니다.");
+        }
+        Inventory inventory = new Inventory();
+        inventory.setProduct(productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId)));
+        inventory.setQuantity(quantity);
+        inventory.setWarehouseLocation(warehouseLocation);
+        Inventory saved = inventoryRepository.save(inventory);
+        stockJournalService.record(productId, saved.getId(), StockMovement.MovementType.OPENING, quantity, null);
+        return saved;
+    }
+
+    /**
+     * 창고 재고 증감 (입고/출고/실사 조정)
+     *
+     * @param type 저널 이동 유형
+     * @param reference 이동 출처 (선택)
+     * @throws IllegalArgumentException 창고 재고가 없는 경우
+     * @throws IllegalStateException 차감 후 수량이 음수가 되는 경우
+     */
+    public Inventory adjustInventory(Long inventoryId, int delta, StockMovement.MovementType type, String reference) {
+        if (inventoryRepository.adjustQuantity(inventoryId, delta, LocalDateTime.now()) == 0) {
+            if (!inventoryRepository.existsById(inventoryId)) {
+                throw new IllegalArgumentException("창고 재고를 찾을 수 없습니다: " + inventoryId);
+            }
+            throw new IllegalStateException("재고가 부족합니다 - 창고 재고 ID: " + inventoryId + ", 변경 수량: " + delta);
+        }
+        Inventory inventory = inventoryRepository.findById(inventoryId).orElseThrow();
+        stockJournalService.record(inventory.getProduct().getId(), inventoryId, type, delta, reference);
+        return inventory;
+    }
+
+    /**
+     * 상품 재고 증감 (입고/실사 조정)
+     * - 조건부 UPDATE 한 문장으로 증감하고 같은 delta를 저널에 기록 (조회한 수량과의 차이로 계산하지 않음)
+     *
+     * @param type 저널 이동 유형
+     * @param reference 이동 출처 (선택)
+     * @return 변경 후 상품 수량
+     * @throws IllegalArgumentException 상품이 없는 경우
+     * @throws IllegalStateException 차감 후 수량이 음수가 되는 경우
+     */
+    public int adjustProduct(Long productId, int delta, StockMovement.MovementType type, String reference) {
+        if (productRepository.adjustQuantity(productId, delta, LocalDateTime.now()) == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId);
+            }
+            throw new IllegalStateException("재고가 부족합니다 - 상품 ID: " + productId + ", 변경 수량: " + delta);
+        }
+        stockJournalService.record(productId, null, type, delta, reference);
+        return productRepository.findById(productId).orElseThrow().getQuantity();
+    }
+
+    /**
+     * 창고 재고 수정 (null 항목은 유지)
+     * - 수량은 조회한 값에서 바뀌지 않은 경우만 지정 (그 사이 다른 변경이 있으면 덮어쓰지 않고 실패)
+     * - 위치만 바꾸면 위치 컬럼만 UPDATE (Inventory는 @DynamicUpdate, 수량 컬럼은 쓰지 않음)
+     *
+     * @return 수정된 창고 재고 (없으면 null)
+     * @throws IllegalStateException 조회 이후 다른 요청이 수량을 변경한 경우
+     */
+    public Inventory updateInventory(Long inventoryId, Integer quantity, String warehouseLocation) {
+        Inventory current = inventoryRepository.findById(inventoryId).orElse(null);
+        if (current == null) {
+            return null;
+        }
+        if (quantity != null && !quantity.equals(current.getQuantity())) {
+            if (quantity < 0) {
+                throw new IllegalArgumentException("재고 수량은 0 이상이어야 합니다.");
+            }
+            int delta = quantity - current.getQuantity();
+            if (inventoryRepository.compareAndSetQuantity(inventoryId, current.getQuantity(), quantity,
+                    LocalDateTime.now()) == 0) {
+                throw new IllegalStateException("다른 요청이 재고 수량을 변경했습니다. 다시 조회 후 시도해주세요.");
+            }
+            // 조건부 UPDATE 후 영속성 컨텍스트가 비워지므로 다시 조회
+            current = inventoryRepository.findById(inventoryId).orElseThrow();
+            stockJournalService.record(current.getProduct().getId(), inventoryId,
+                    StockMovement.MovementType.ADJUSTMENT, delta, null);
+        }
+        if (warehouseLocation != null) {
+            current.setWarehouseLocation(warehouseLocation);
+        }
+        return current;
+    }
+
+    // 해제한 예약의 차감 수량 복원 (상품 → 창고 재고) 및 저널 기록
+    private void restore(StockReservation reservation, LocalDateTime now) {
+        productRepository.incrementQuantity(reservation.getProduct().getId(), reservation.getQuantity(), now);
+        Long inventoryId = reservation.getInventory() != null ? reservation.getInventory().getId() : null;
+        if (inventoryId != null) {
+            inventoryRepository.adjustQuantity(inventoryId, reservation.getQuantity(), now);
+        }
+        recordMovements(reservation.getProduct().getId(), inventoryId, StockMovement.MovementType.RELEASE,
+                reservation.getQuantity(), reference(reservation.getId(), reservation.getReference()));
+    }
+
+    // 상품 수량과 (지정한 경우) 창고 재고 이동을 한 번에 기록
+    private void recordMovements(Long productId, Long inventoryId, StockMovement.MovementType type, int delta,
+                                 String reference) {
+        List<StockJournalService.Movement> movements = new ArrayList<>(2);
+        movements.add(new StockJournalService.Movement(productId, null, type, delta, reference));
+        if (inventoryId != null) {
+            movements.add(new StockJournalService.Movement(productId, inventoryId, type, delta, reference));
+        }
+        stockJournalService.record(movements);
+    }
+
+    // 저널 출처: 예약 ID (+ 예약 출처)
+    private static String reference(Long reservationId, String reference) {
+        String value = "reservation:" + reservationId + (reference != null ? " " + reference : "");
+        return value.length() > 100 ? value.substring(0, 100) : value;
+    }
+
+    private StockReservation findReservation(Long reservationId) {
+        return reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new IllegalArgumentException("재고 예약을 찾을 수 없습니다: " + reservationId));
+    }
+
+    private RuntimeException notReserved(Long reservationId) {
+        return reservationRepository.findById(reservationId)
+                .<RuntimeException>map(reservation -> new IllegalStateException(
+                        "이미 처리된 재고 예약입니다: " + reservationId + " (" + reservation.getStatus() + ")"))
+                .orElseGet(() -> new IllegalArgumentException("재고 예약을 찾을 수 없습니다: " + reservationId));
+    }
+}
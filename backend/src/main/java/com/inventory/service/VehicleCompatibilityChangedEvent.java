@@ -0,0 +1,41 @@
+package com.inventory.service;
+
+import com.inventory.entity.VehicleCompatibility;
+
+/**
+ * 차량 호환 정보 생성/수정/삭제 이벤트
+ * - 트랜잭션 안에서 발행하면 커밋 후 리스너가 처리 (적용 차종 색인 증분 갱신)
+ */
+public class VehicleCompatibilityChangedEvent {
+
+    private final Long compatibilityId;
+    private final VehicleCompatibility compatibility;
+
+    private VehicleCompatibilityChangedEvent(Long compatibilityId, VehicleCompatibility compatibility) {
+        this.compatibilityId = compatibilityId;
+        this.compatibility = compatibility;
+    }
+
+    public static VehicleCompatibilityChangedEvent saved(VehicleCompatibility compatibility) {
+        return new VehicleCompatibilityChangedEvent(compatibility.getId(), compatibility);
+    }
+
+    public static VehicleCompatibilityChangedEvent deleted(Long compatibilityId) {
+        return new VehicleCompatibilityChangedEvent(compatibilityId, null);
+    }
+
+    public Long getCompatibilityId() {
+        return compatibilityId;
+    }
+
+    /**
+     * 저장된 호환 정보 (삭제 이벤트면 null)
+     */
+    public VehicleCompatibility getCompatibility() {
+        return compatibility;
+    }
+
+    public boolean isDeleted() {
+        return compatibility == null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.inventory.service;
+
+import com.inventory.entity.VehicleCompatibility;
+import com.inventory.repository.VehicleCompatibilityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 차량 호환 정보 변경 서비스
+ * - 저장/삭제 후 VehicleCompatibilityChangedEvent 발행 (커밋 후 적용 차종 색인 갱신)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class VehicleCompatibilityService {
+
+    private final VehicleCompatibilityRepository vehicleCompatibilityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public VehicleCompatibility createCompatibility(VehicleCompatibility compatibility) {
+        compatibility.setId(null);
+        VehicleCompatibility saved = vehicleCompatibilityRepository.save(compatibility);
+        log.info("차량 호환 정보 생성: {} {} ({})", saved.getManufacturer(), saved.getModel(), saved.getId());
+        eventPublisher.publishEvent(VehicleCompatibilityChangedEvent.saved(saved));
+        return saved;
+    }
+
+    /**
+     * @return 수정된 호환 정보 (없으면 null)
+     */
+    public VehicleCompatibility updateCompatibility(Long id, VehicleCompatibility compatibility) {
+        if (!vehicleCompatibilityRepository.existsById(id)) {
+            return null;
+        }
+        compatibility.setId(id);
+        VehicleCompatibility saved = vehicleCompatibilityRepository.save(compatibility);
+        log.info("차량 호환 정보 수정: {}", id);
+        eventPublisher.publishEvent(VehicleCompatibilityChangedEvent.saved(saved));
+        return saved;
+    }
+
+    /**
+     * @return 삭제 여부 (없으면 false)
+     */
+    public boolean deleteCompatibility(Long id) {
+        if (!vehicleCompatibilityRepository.existsById(id)) {
+            return false;
+        }
+        vehicleCompatibilityRepository.deleteById(id);
+        log.info("차량 호환 정보 삭제: {}", id);
+        eventPublisher.publishEvent(VehicleCompatibilityChangedEvent.deleted(id));
+        return true;
+    }
+}
@@ -0,0 +1,258 @@
+package com.inventory.service;
+
+import com.inventory.entity.VehicleCompatibility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 차량 호환(적용 차종) 메모리 색인
+ * - 정규화한 제조사/모델 키별로 연식 구간 트리 보관 (연식 조회 O(log n + 결과 수))
+ * - 모델별 구간 트리는 불변 객체로, 변경 시 해당 모델만 다시 만들어 교체 (조회는 잠금 없음)
+ * - 시작 연식이 없으면 이전 연식 전체, 종료 연식이 없으면 이후 연식 전체(현행 모델)로 취급
+ */
+final class VehicleFitmentIndex {
+
+    private static final Comparator<VehicleCompatibility> BY_ID = Comparator.comparing(VehicleCompatibility::getId);
+
+    // 제조사+모델 키 → 모델별 구간 트리
+    private final Map<String, ModelFitments> byModel = new ConcurrentHashMap<>();
+    // 제조사 키 → 모델 키 목록
+    private final Map<String, Set<String>> modelsByManufacturer = new ConcurrentHashMap<>();
+    // 호환 정보 ID → 모델 키 (제조사/모델이 바뀐 경우 이전 모델에서 제거하기 위함)
+    private final Map<Long, String> modelKeyById = new ConcurrentHashMap<>();
+
+    int size() {
+        return modelKeyById.size();
+    }
+
+    /**
+     * 추가 또는 교체 (변경은 한 번에 하나씩 반영)
+     */
+    synchronized void upsert(VehicleCompatibility source) {
+        VehicleCompatibility fitment = copyOf(source);
+        String manufacturerKey = normalize(fitment.getManufacturer());
+        String modelKey = modelKey(manufacturerKey, normalize(fitment.getModel()));
+
+        String previousKey = modelKeyById.put(fitment.getId(), modelKey);
+        if (previousKey != null && !previousKey.equals(modelKey)) {
+            removeFromModel(previousKey, fitment.getId());
+        }
+        ModelFitments current = byModel.get(modelKey);
+        List<VehicleCompatibility> items = new ArrayList<>(current != null ? current.items.length + 1 : 1);
+        if (current != null) {
+            for (VehicleCompatibility item : current.items) {
+                if (!item.getId().equals(fitment.getId())) {
+                    items.add(item);
+                }
+            }
+        }
+        items.add(fitment);
+        byModel.put(modelKey, new ModelFitments(items));
+        modelsByManufacturer.computeIfAbsent(manufacturerKey, key -> ConcurrentHashMap.newKeySet()).add(modelKey);
+    }
+
+    synchronized void remove(Long id) {
+        String modelKey = modelKeyById.remove(id);
+        if (modelKey != null) {
+            removeFromModel(modelKey, id);
+        }
+    }
+
+    /**
+     * 제조사/모델/연식(/엔진)에 맞는 호환 정보 (ID 순)
+     *
+     * @param year   연식 (null이면 연식 조건 없음)
+     * @param engine 엔진 (공백 무시 부분 일치, null이면 조건 없음, 엔진 정보가 없는 호환 정보는 모든 엔진에 적용)
+     */
+    List<VehicleCompatibility> find(String manufacturer, String model, Integer year, String engine) {
+        ModelFitments fitments = byModel.get(modelKey(normalize(manufacturer), normalize(model)));
+        if (fitments == null) {
+            return List.of();
+        }
+        List<VehicleCompatibility> result = new ArrayList<>();
+        fitments.collect(year, normalizeEngine(engine), result);
+        result.sort(BY_ID);
+        return result;
+    }
+
+    /**
+     * 제조사의 전체 모델 호환 정보 (연식 조건 선택)
+     */
+    List<VehicleCompatibility> findByManufacturer(String manufacturer, Integer year) {
+        Set<String> modelKeys = modelsByManufacturer.get(normalize(manufacturer));
+        return modelKeys != null ? collect(modelKeys, year) : List.of();
+    }
+
+    /**
+     * 연식에 해당하는 전체 호환 정보
+     */
+    List<VehicleCompatibility> findByYear(int year) {
+        return collect(byModel.keySet(), year);
+    }
+
+    private List<VehicleCompatibility> collect(Collection<String> modelKeys, Integer year) {
+        List<VehicleCompatibility> result = new ArrayList<>();
+        for (String modelKey : modelKeys) {
+            ModelFitments fitments = byModel.get(modelKey);
+            if (fitments != null) {
+                fitments.collect(year, null, result);
+            }
+        }
+        result.sort(BY_ID);
+        return result;
+    }
+
+    private void removeFromModel(String modelKey, Long id) {
+        ModelFitments current = byModel.get(modelKey);
+        if (current == null) {
+            return;
+        }
+        List<VehicleCompatibility> items = new ArrayList<>(current.items.length);
+        for (VehicleCompatibility item : current.items) {
+            if (!item.getId().equals(id)) {
+                items.add(item);
+            }
+        }
+        if (items.isEmpty()) {
+            byModel.remove(modelKey);
+            String manufacturerKey = modelKey.substring(0, modelKey.indexOf('\u0000'));
+            Set<String> models = modelsByManufacturer.get(manufacturerKey);
+            if (models != null) {
+                models.remove(modelKey);
+                if (models.isEmpty()) {
+                    modelsByManufacturer.remove(manufacturerKey);
+                }
+            }
+        } else {
+            byModel.put(modelKey, new ModelFitments(items));
+        }
+    }
+
+    private static String modelKey(String manufacturerKey, String modelKey) {
+        return manufacturerKey + '\u0000' + modelKey;
+    }
+
+    /**
+     * 제조사/모델 정규화: 영문자/숫자/한글만 소문자로 ("Hyundai " → "hyundai", "K-5" → "k5")
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 엔진 정규화: 공백 제거 후 소문자 ("1.6L 터보" → "1.6l터보"), 비어 있으면 null
+     */
+    static String normalizeEngine(String engine) {
+        if (engine == null) {
+            return null;
+        }
+        String normalized = engine.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    // 색인 보관용 사본 (호출자가 엔티티를 이후에 수정해도 색인에 영향 없음)
+    private static VehicleCompatibility copyOf(VehicleCompatibility source) {
+        return new VehicleCompatibility(source.getId(), source.getManufacturer(), source.getModel(),
+                source.getYearStart(), source.getYearEnd(), source.getEngineType(), source.getTransmission(),
+                source.getTrim(), source.getNotes(), source.getCreatedAt(), source.getUpdatedAt());
+    }
+
+    /**
+     * 모델별 연식 구간 트리 (불변)
+     * - 시작 연식 순으로 정렬한 배열을 암묵적 균형 이진 트리로 사용 (구간 [lo, hi)의 루트는 가운데 원소)
+     * - maxEnd[i]: i를 루트로 하는 서브트리의 최대 종료 연식, 조회 연식보다 작으면 서브트리 전체 생략
+     */
+    private static final class ModelFitments {
+        private final VehicleCompatibility[] items;
+        private final int[] starts;
+        private final int[] ends;
+        private final String[] engines;
+        private final int[] maxEnd;
+
+        ModelFitments(List<VehicleCompatibility> fitments) {
+            items = fitments.toArray(new VehicleCompatibility[0]);
+            Arrays.sort(items, Comparator.comparingInt(ModelFitments::startOf));
+            starts = new int[items.length];
+            ends = new int[items.length];
+            engines = new String[items.length];
+            maxEnd = new int[items.length];
+            for (int i = 0; i < items.length; i++) {
+                starts[i] = startOf(items[i]);
+                ends[i] = endOf(items[i]);
+                engines[i] = normalizeEngine(items[i].getEngineType());
+            }
+            buildMaxEnd(0, items.length);
+        }
+
+        private int buildMaxEnd(int lo, int hi) {
+            if (lo >= hi) {
+                return Integer.MIN_VALUE;
+            }
+            int mid = (lo + hi) >>> 1;
+            int max = Math.max(ends[mid], Math.max(buildMaxEnd(lo, mid), buildMaxEnd(mid + 1, hi)));
+            maxEnd[mid] = max;
+            return max;
+        }
+
+        void collect(Integer year, String engine, List<VehicleCompatibility> out) {
+            if (year == null) {
+                for (int i = 0; i < items.length; i++) {
+                    addIfEngineMatches(i, engine, out);
+                }
+                return;
+            }
+            collect(0, items.length, year, engine, out);
+        }
+
+        private void collect(int lo, int hi, int year, String engine, List<VehicleCompatibility> out) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (maxEnd[mid] < year) {
+                return;
+            }
+            collect(lo, mid, year, engine, out);
+            if (starts[mid] > year) {
+                // 오른쪽 서브트리는 시작 연식이 더 늦으므로 생략
+                return;
+            }
+            if (ends[mid] >= year) {
+                addIfEngineMatches(mid, engine, out);
+            }
+            collect(mid + 1, hi, year, engine, out);
+        }
+
+        private void addIfEngineMatches(int i, String engine, List<VehicleCompatibility> out) {
+            if (engine == null || engines[i] == null || engines[i].contains(engine)) {
+                out.add(items[i]);
+            }
+        }
+
+        private static int startOf(VehicleCompatibility fitment) {
+            return fitment.getYearStart() != null ? fitment.getYearStart() : Integer.MIN_VALUE;
+        }
+
+        private static int endOf(VehicleCompatibility fitment) {
+            return fitment.getYearEnd() != null ? fitment.getYearEnd() : Integer.MAX_VALUE;
+        }
+    }
+}
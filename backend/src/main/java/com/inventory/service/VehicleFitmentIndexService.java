@@ -0,0 +1,151 @@
+package com.inventory.service;
+
+import com.inventory.entity.VehicleCompatibility;
+import com.inventory.repository.VehicleCompatibilityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 적용 차종 조회 서비스 (메모리 색인)
+ * - 기동 완료 시 전체 차량 호환 정보로 색인 구축, 이후 VehicleCompatibilityChangedEvent(커밋 후)로 증분 갱신
+ * - 구축 중 발생한 변경은 기존 색인에 반영하면서 함께 보관했다가 새 색인에 재적용한 뒤 교체
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VehicleFitmentIndexService {
+
+    private final VehicleCompatibilityRepository vehicleCompatibilityRepository;
+
+    @Value("${inventory.catalog.fitment-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${inventory.catalog.fitment-index.build-batch-size:1000}")
+    private int buildBatchSize;
+
+    private final Object changeLock = new Object();
+    private volatile VehicleFitmentIndex index = new VehicleFitmentIndex();
+    private volatile boolean ready;
+    // 색인 구축 중 발생한 변경 (구축 중이 아니면 null, changeLock으로 보호)
+    private List<VehicleCompatibilityChangedEvent> pendingChanges;
+
+    /**
+     * 기동 완료 시 색인 구축 (초기 데이터 적재 이후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnReady() {
+        if (!enabled) {
+            log.info("적용 차종 색인 비활성화 - 차량 호환 조회는 DB 조회 사용");
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * 전체 차량 호환 정보로 새 색인을 구축하여 교체
+     */
+    public void rebuild() {
+        synchronized (changeLock) {
+            if (pendingChanges != null) {
+                throw new IllegalStateException("적용 차종 색인을 이미 구축 중입니다.");
+            }
+            pendingChanges = new ArrayList<>();
+        }
+        long startedAt = System.currentTimeMillis();
+        VehicleFitmentIndex rebuilt = new VehicleFitmentIndex();
+        try {
+            long lastId = 0L;
+            List<VehicleCompatibility> batch;
+            do {
+                batch = vehicleCompatibilityRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(buildBatchSize));
+                for (VehicleCompatibility compatibility : batch) {
+                    rebuilt.upsert(compatibility);
+                    lastId = compatibility.getId();
+                }
+            } while (batch.size() == buildBatchSize);
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+            log.error("적용 차종 색인 구축 실패", e);
+            throw e;
+        }
+        synchronized (changeLock) {
+            for (VehicleCompatibilityChangedEvent change : pendingChanges) {
+                apply(rebuilt, change);
+            }
+            pendingChanges = null;
+            index = rebuilt;
+            ready = true;
+        }
+        log.info("✅ 적용 차종 색인 구축 완료 - {}건, {}ms", rebuilt.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 차량 호환 정보 변경 반영 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompatibilityChanged(VehicleCompatibilityChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (changeLock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+            apply(index, event);
+        }
+    }
+
+    /**
+     * 제조사/모델/연식(/엔진)에 맞는 차량 호환 정보
+     *
+     * @param engine 엔진 (공백 무시 부분 일치, 선택)
+     */
+    public List<VehicleCompatibility> findFitments(String manufacturer, String model, Integer year, String engine) {
+        return index.find(manufacturer, model, year, engine);
+    }
+
+    /**
+     * 제조사 전체 모델의 차량 호환 정보 (연식 선택)
+     */
+    public List<VehicleCompatibility> findByManufacturer(String manufacturer, Integer year) {
+        return index.findByManufacturer(manufacturer, year);
+    }
+
+    /**
+     * 연식에 해당하는 전체 차량 호환 정보
+     */
+    public List<VehicleCompatibility> findByYear(int year) {
+        return index.findByYear(year);
+    }
+
+    /**
+     * 색인 구축 완료 여부 (비활성화 상태면 false)
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public Map<String, Object> getStatus() {
+        return Map.of("enabled", enabled, "ready", ready, "fitments", index.size());
+    }
+
+    private static void apply(VehicleFitmentIndex target, VehicleCompatibilityChangedEvent event) {
+        if (event.isDeleted()) {
+            target.remove(event.getCompatibilityId());
+        } else {
+            target.upsert(event.getCompatibility());
+        }
+    }
+}
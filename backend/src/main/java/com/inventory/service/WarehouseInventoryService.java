@@ -0,0 +1,151 @@
+package com.inventory.service;
+
+import com.inventory.dto.InventoryDto;
+import com.inventory.dto.PickListLine;
+import com.inventory.entity.WarehouseLocation;
+import com.inventory.repository.InventoryRepository;
+import com.inventory.repository.OrderItemRepository;
+import com.inventory.repository.projection.LocationStockView;
+import com.inventory.repository.projection.PickLocationView;
+import com.inventory.repository.projection.SkuStockTotalView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 창고 위치 기준 재고 조회 서비스
+ * - 위치 코드(구역-통로-선반)를 파싱한 인덱스 컬럼으로 구역/통로별 합계를 SQL GROUP BY로 계산
+ * - 상품별 합계와 피킹 목록은 결과 전체를 메모리에 올리지 않고 조회 결과를 읽는 대로 전달
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WarehouseInventoryService {
+
+    private static final String UPDATE_LOCATION_SQL =
+            "UPDATE inventories SET location_zone = ?, location_aisle = ?, location_bin = ? WHERE id = ?";
+
+    private final InventoryRepository inventoryRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기동 완료 시 위치 컬럼이 비어 있는 재고(위치 컬럼 도입 전 데이터) 채우기
+     * - 파싱할 수 없는 위치 코드는 비워 둠 (집계에서 zone null 그룹)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillLocationsOnReady() {
+        List<Object[]> rows = new ArrayList<>();
+        for (Object[] unparsed : inventoryRepository.findUnparsedLocations()) {
+            WarehouseLocation location = WarehouseLocation.parse((String) unparsed[1]);
+            if (location != null) {
+                rows.add(new Object[]{location.getZone(), location.getAisle(), location.getBin(), unparsed[0]});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_LOCATION_SQL, rows);
+            log.info("✅ 창고 위치 컬럼 채우기 - 재고 {}건", rows.size());
+        }
+    }
+
+    /**
+     * 구역(/통로)의 재고 목록 (통로 → 선반 순)
+     *
+     * @param aisle 통로 (null이면 구역 전체)
+     */
+    @Transactional(readOnly = true)
+    public List<InventoryDto> getInventoriesAt(String zone, Integer aisle) {
+        return inventoryRepository.findByLocation(normalizeZone(zone), aisle).stream()
+                .map(InventoryDto::fromEntity)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<LocationStockView> getZoneTotals() {
+        return inventoryRepository.sumByZone();
+    }
+
+    /**
+     * @param zone 구역 (null이면 전체 구역)
+     */
+    @Transactional(readOnly = true)
+    public List<LocationStockView> getAisleTotals(String zone) {
+        return inventoryRepository.sumByAisle(normalizeZone(zone));
+    }
+
+    /**
+     * 상품별 전체 창고 재고 합계를 SKU 순으로 전달 (조회가 끝날 때까지 트랜잭션 유지)
+     */
+    @Transactional(readOnly = true)
+    public void forEachSkuTotal(long minQuantity, Consumer<SkuStockTotalView> consumer) {
+        try (Stream<SkuStockTotalView> totals = inventoryRepository.streamSkuTotals(minQuantity)) {
+            totals.forEach(consumer);
+        }
+    }
+
+    /**
+     * 주문 상품별 피킹 수량 (피킹 목록 응답을 시작하기 전에 검증용으로 조회)
+     *
+     * @throws IllegalArgumentException 주문 상품이 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getPickQuantities(Long orderId) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (Object[] row : orderItemRepository.sumQuantityByProduct(orderId)) {
+            quantities.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        if (quantities.isEmpty()) {
+            throw new IllegalArgumentException("주문 상품이 없습니다: " + orderId);
+        }
+        return quantities;
+    }
+
+    /**
+     * 주문 피킹 목록을 위치 경로 순으로 전달
+     * - 상품 재고 위치를 구역 → 통로 → 선반 순으로 읽으면서 상품별 남은 수량만큼 앞쪽 위치부터 배정
+     *
+     * @param quantities 상품별 피킹 수량 (getPickQuantities 결과)
+     * @return 재고가 부족한 상품별 부족 수량 (모두 배정되면 빈 맵)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> forEachPickLine(Map<Long, Integer> quantities, Consumer<PickListLine> consumer) {
+        Map<Long, Integer> remaining = new LinkedHashMap<>(quantities);
+        int sequence = 0;
+        try (Stream<PickLocationView> locations = inventoryRepository.streamPickLocations(remaining.keySet())) {
+            for (PickLocationView location : (Iterable<PickLocationView>) locations::iterator) {
+                int needed = remaining.getOrDefault(location.getProductId(), 0);
+                if (needed <= 0) {
+                    continue;
+                }
+                int pick = Math.min(needed, location.getQuantity());
+                remaining.put(location.getProductId(), needed - pick);
+                consumer.accept(new PickListLine(++sequence, location.getInventoryId(), location.getProductId(),
+                        location.getSku(), location.getName(), location.getWarehouseLocation(),
+                        location.getZone(), location.getAisle(), location.getBin(),
+                        pick, location.getQuantity()));
+            }
+        }
+        remaining.values().removeIf(quantity -> quantity <= 0);
+        return remaining;
+    }
+
+    private static String normalizeZone(String zone) {
+        if (zone == null || zone.isBlank()) {
+            return null;
+        }
+        WarehouseLocation location = WarehouseLocation.parse(zone);
+        return location != null ? location.getZone() : zone.trim();
+    }
+}
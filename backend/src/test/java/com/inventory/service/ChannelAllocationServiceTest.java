@@ -0,0 +1,234 @@
+package com.inventory.service;
+
+import com.inventory.dto.ChannelAllocationDelta;
+import com.inventory.entity.ChannelProduct;
+import com.inventory.entity.Product;
+import com.inventory.repository.ChannelProductRepository;
+import com.inventory.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.inventory.service.ServiceTestSupport.newProduct;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 채널 재고 배분 테스트
+ * - 배분 규칙(weight/floor/cap), 재고 변경 커밋 후 해당 상품만 재계산되는지 확인
+ * - 전체 채널 상품 수가 늘어도 한 상품 재계산 비용(조회 수/시간)이 일정한지 측정
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({StockLedgerService.class, StockJournalService.class, ChannelAllocationService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    "inventory.stock.journal.snapshot-interval-seconds=0",
+    "inventory.channels.allocation.safety-stock=1"
+})
+@Slf4j
+class ChannelAllocationServiceTest {
+
+    @Autowired
+    private ChannelAllocationService channelAllocationService;
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ChannelProductRepository channelProductRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testAllocatorRules() {
+        // 가중치 2:1:1, 나머지 1개는 가중치가 큰 채널부터
+        assertArrayEquals(new int[]{5, 3, 2}, ChannelAllocator.allocate(10,
+                List.of(rule(2, 0, null), rule(1, 0, null), rule(1, 0, null))));
+        // floor 먼저, cap에 닿은 채널은 고정 후 나머지끼리 다시 배분
+        assertArrayEquals(new int[]{6, 2, 2}, ChannelAllocator.allocate(10,
+                List.of(rule(1, 4, null), rule(1, 0, 2), rule(1, 0, null))));
+        // 재고가 floor 합계보다 적으면 가중치가 큰 채널의 floor부터
+        assertArrayEquals(new int[]{1, 2}, ChannelAllocator.allocate(3,
+                List.of(rule(1, 2, null), rule(2, 2, null))));
+        // 모든 채널이 cap에 닿으면 남는 재고는 배분하지 않음, weight 0은 floor만
+        assertArrayEquals(new int[]{1, 2, 1}, ChannelAllocator.allocate(10,
+                List.of(rule(1, 0, 1), rule(3, 0, 2), rule(0, 1, null))));
+        assertArrayEquals(new int[]{0, 0}, ChannelAllocator.allocate(-3,
+                List.of(rule(1, 1, null), rule(1, 0, null))));
+
+        Random random = new Random(42);
+        for (int n = 0; n < 2000; n++) {
+            int available = random.nextInt(200);
+            List<ChannelAllocator.Rule> rules = new ArrayList<>();
+            long capacity = 0;
+            for (int c = 0; c < 1 + random.nextInt(8); c++) {
+                Integer cap = random.nextBoolean() ? random.nextInt(40) : null;
+                ChannelAllocator.Rule rule = rule(1 + random.nextInt(5), random.nextInt(5), cap);
+                rules.add(rule);
+                capacity += rule.cap;
+            }
+            int[] allocated = ChannelAllocator.allocate(available, rules);
+            for (int i = 0; i < allocated.length; i++) {
+                assertTrue(allocated[i] >= 0 && allocated[i] <= rules.get(i).cap);
+            }
+            // 초과 배분 없음, 채널 여유가 있으면 재고를 모두 배분
+            assertEquals(Math.min(available, capacity), Arrays.stream(allocated).sum());
+        }
+    }
+
+    @Test
+    void testStockMovementsReallocateOnlyAffectedProduct() throws Exception {
+        Product product = createProduct("ALLOC-001", 10);
+        Product other = createProduct("ALLOC-002", 50);
+        ChannelProduct naver = createListing(product, "NAVER", 2, null, ChannelProduct.Status.ACTIVE, 3);
+        ChannelProduct bungae = createListing(product, "BUNGAE_MARKET", 1, 2, ChannelProduct.Status.ACTIVE, 0);
+        ChannelProduct paused = createListing(product, "COUPANG", 1, null, ChannelProduct.Status.PAUSED, 0);
+        ChannelProduct untouched = createListing(other, "NAVER", 1, null, ChannelProduct.Status.ACTIVE, 0);
+        jdbcTemplate.update("UPDATE channel_products SET allocated_quantity = 99 WHERE id = ?", untouched.getId());
+
+        // 판매 가능 9 (안전 재고 1): 번개장터 cap 2, 나머지는 네이버, 일시 중지 채널은 0 (변경 없음)
+        List<ChannelAllocationDelta> changes = channelAllocationService.recomputeNow(product.getId());
+        assertEquals(2, changes.size());
+        assertEquals(7, available(naver));
+        assertEquals(10, allocated(naver));
+        assertEquals(2, available(bungae));
+        assertEquals(0, available(paused));
+        assertTrue(channelAllocationService.recomputeNow(product.getId()).isEmpty());
+
+        // 예약으로 수량 4 → 판매 가능 3을 2:1로
+        Long reservationId = stockLedgerService.reserve(product.getId(), null, 6, null).getId();
+        channelAllocationService.awaitIdle();
+        assertEquals(2, available(naver));
+        assertEquals(1, available(bungae));
+
+        // 품절 → OUT_OF_STOCK, 해제 → ACTIVE
+        Long lastId = stockLedgerService.reserve(product.getId(), null, 4, null).getId();
+        channelAllocationService.awaitIdle();
+        assertEquals(0, available(naver));
+        assertEquals(ChannelProduct.Status.OUT_OF_STOCK, status(naver));
+        assertEquals(ChannelProduct.Status.OUT_OF_STOCK, status(bungae));
+        assertEquals(ChannelProduct.Status.PAUSED, status(paused));
+
+        stockLedgerService.release(lastId);
+        stockLedgerService.release(reservationId);
+        channelAllocationService.awaitIdle();
+        assertEquals(7, available(naver));
+        assertEquals(ChannelProduct.Status.ACTIVE, status(naver));
+        assertEquals(ChannelProduct.Status.ACTIVE, status(bungae));
+
+        // 다른 상품의 채널 상품은 재계산하지 않음
+        assertEquals(99, allocated(untouched));
+    }
+
+    @Test
+    void testRecomputeCostStaysFlatAsListingsGrow() throws Exception {
+        Product product = createProduct("ALLOC-BENCH", 1000);
+        String[] channels = {"NAVER", "COUPANG", "BUNGAE_MARKET", "CAFE24"};
+        for (int i = 0; i < channels.length; i++) {
+            createListing(product, channels[i], i + 1, null, ChannelProduct.Status.ACTIVE, 0);
+        }
+        channelAllocationService.recomputeNow(product.getId());
+
+        int listings = 0;
+        long baseline = 0;
+        for (int target : new int[]{0, 2_000, 20_000}) {
+            listings = addOtherListings(listings, target, channels);
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            int iterations = 300;
+            for (int i = 0; i < 200; i++) {
+                channelAllocationService.recomputeNow(product.getId());
+            }
+            statistics.clear();
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                channelAllocationService.recomputeNow(product.getId());
+            }
+            long micros = (System.nanoTime() - startedAt) / 1000 / iterations;
+            // 채널 상품 조회 1회 + 상품 수량 조회 1회 (변경이 없으면 UPDATE 없음)
+            assertEquals(2L * iterations, statistics.getPrepareStatementCount());
+            if (baseline == 0) {
+                baseline = Math.max(micros, 1);
+            }
+            log.info("채널 상품 {}건: 상품 1개 재계산 {}µs (기준 대비 {}배)",
+                    listings + channels.length, micros, String.format("%.2f", micros / (double) baseline));
+        }
+    }
+
+    private int addOtherListings(int from, int to, String[] channels) {
+        List<Object[]> products = new ArrayList<>();
+        for (int i = from; i < to; i += channels.length) {
+            products.add(new Object[]{"ALLOC-BULK-" + i, "배분 테스트 " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (sku, name, quantity, minimum_quantity, is_active, is_serialized) " +
+                "VALUES (?, ?, 10, 0, TRUE, FALSE)", products);
+        List<Object[]> rows = new ArrayList<>();
+        for (Object[] row : products) {
+            Long productId = jdbcTemplate.queryForObject("SELECT id FROM products WHERE sku = ?", Long.class, row[0]);
+            for (String channel : channels) {
+                rows.add(new Object[]{productId, channel});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO channel_products (product_id, channel, allocated_quantity, sold_quantity, " +
+                "status, allocation_weight, allocation_floor) VALUES (?, ?, 0, 0, 'ACTIVE', 1, 0)", rows);
+        return to;
+    }
+
+    private static ChannelAllocator.Rule rule(int weight, int floor, Integer cap) {
+        return new ChannelAllocator.Rule(weight, floor, cap);
+    }
+
+    private Product createProduct(String sku, int quantity) {
+        return productRepository.save(newProduct(sku, "채널 배분 테스트 " + sku, quantity));
+    }
+
+    private ChannelProduct createListing(Product product, String channel, int weight, Integer cap,
+                                         ChannelProduct.Status status, int sold) {
+        ChannelProduct listing = new ChannelProduct();
+        listing.setProduct(product);
+        listing.setChannel(channel);
+        listing.setAllocationWeight(weight);
+        listing.setAllocationCap(cap);
+        listing.setAllocatedQuantity(sold);
+        listing.setSoldQuantity(sold);
+        listing.setStatus(status);
+        return channelProductRepository.save(listing);
+    }
+
+    private int allocated(ChannelProduct listing) {
+        return jdbcTemplate.queryForObject("SELECT allocated_quantity FROM channel_products WHERE id = ?",
+                Integer.class, listing.getId());
+    }
+
+    private int available(ChannelProduct listing) {
+        return jdbcTemplate.queryForObject("SELECT allocated_quantity - sold_quantity FROM channel_products WHERE id = ?",
+                Integer.class, listing.getId());
+    }
+
+    private ChannelProduct.Status status(ChannelProduct listing) {
+        return ChannelProduct.Status.valueOf(jdbcTemplate.queryForObject(
+                "SELECT status FROM channel_products WHERE id = ?", String.class, listing.getId()));
+    }
+}
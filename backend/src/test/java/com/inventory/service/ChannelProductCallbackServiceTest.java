@@ -0,0 +1,188 @@
+package com.inventory.service;
+
+import com.inventory.dto.ChannelProductDto;
+import com.inventory.dto.RegistrationCallbackRequest;
+import com.inventory.entity.ChannelProduct;
+import com.inventory.entity.Product;
+import com.inventory.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 등록 콜백 upsert 테스트
+ * - 같은 상품/채널 콜백이 동시에 들어와도 채널 상품은 한 건만 생성되는지 확인
+ * - 일괄 콜백에서 잘못된 항목만 제외되고 나머지는 반영되는지 확인
+ * - 채널 재고 자동 배분 중에는 콜백의 배분 수량이 반영되지 않는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ChannelProductCallbackService.class, ChannelAllocationService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    "inventory.channels.allocation.enabled=false",
+    "inventory.channels.callback.batch-max-items=5"
+})
+class ChannelProductCallbackServiceTest {
+
+    @Autowired
+    private ChannelProductCallbackService channelProductCallbackService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ChannelAllocationService channelAllocationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testUpsertKeepsOneRowPerProductAndChannel() throws Exception {
+        Product product = createProduct("CALLBACK-001");
+
+        // 구 채널 코드로 들어와도 같은 키로 정규화, 등록 ID가 없으면 SYNC_PENDING
+        ChannelProductDto pending = channelProductCallbackService.upsert(
+                new RegistrationCallbackRequest(product.getId(), " bunjang ", null, null, 15000.0, 3));
+        assertEquals("BUNGAE_MARKET", pending.getChannel());
+        assertEquals(ChannelProduct.Status.SYNC_PENDING, pending.getStatus());
+
+        // 가격/수량이 없으면 기존 값 유지, 등록 ID/URL은 갱신
+        ChannelProductDto active = channelProductCallbackService.upsert(
+                new RegistrationCallbackRequest(product.getId(), "BUNGAE_MARKET", "P-1", "https://m.bunjang.co.kr/products/1", null, null));
+        assertEquals(pending.getId(), active.getId());
+        assertEquals(15000.0, active.getChannelPrice());
+        assertEquals(3, active.getAllocatedQuantity());
+        assertEquals("P-1", active.getPlatformProductId());
+        assertEquals(ChannelProduct.Status.ACTIVE, active.getStatus());
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ChannelProductDto>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads * 4; i++) {
+                String channel = i % 2 == 0 ? "NAVER" : "BUNGAE";
+                String platformId = "P-" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return channelProductCallbackService.upsert(
+                            new RegistrationCallbackRequest(product.getId(), channel, platformId, null, null, null));
+                }));
+            }
+            start.countDown();
+            for (Future<ChannelProductDto> result : results) {
+                assertNotNull(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, countRows(product, null));
+        assertEquals(1, countRows(product, "NAVER"));
+        assertEquals(1, countRows(product, "BUNGAE_MARKET"));
+
+        assertThrows(IllegalArgumentException.class, () -> channelProductCallbackService.upsert(
+                new RegistrationCallbackRequest(-1L, "NAVER", "P-1", null, null, null)));
+    }
+
+    @Test
+    void testBatchRejectsInvalidItemsAndUpsertsTheRest() {
+        Product first = createProduct("CALLBACK-BATCH-1");
+        Product second = createProduct("CALLBACK-BATCH-2");
+        List<RegistrationCallbackRequest> items = new ArrayList<>();
+        items.add(new RegistrationCallbackRequest(second.getId(), "NAVER", "N-2", null, 9000.0, null));
+        items.add(new RegistrationCallbackRequest(-1L, "NAVER", "N-X", null, null, null));
+        items.add(new RegistrationCallbackRequest(first.getId(), "BUNJANG", "B-1", null, null, null));
+        items.add(new RegistrationCallbackRequest(first.getId(), null, "B-1", null, null, null));
+        items.add(new RegistrationCallbackRequest(first.getId(), "BUNGAE_MARKET", "B-1b", null, null, 2));
+
+        ChannelProductCallbackService.BatchResult result = channelProductCallbackService.upsertAll(items);
+        assertEquals(5, result.getReceived());
+        assertEquals(3, result.getUpserted());
+        assertEquals(List.of(1, 3), result.getRejected().stream().map(item -> item.get("index")).toList());
+
+        // 같은 키는 요청 순서대로 반영되어 마지막 항목 값이 남음
+        Map<String, Object> bungae = jdbcTemplate.queryForMap("SELECT platform_product_id, allocated_quantity " +
+                "FROM channel_products WHERE product_id = ? AND channel = 'BUNGAE_MARKET'", first.getId());
+        assertEquals("B-1b", bungae.get("platform_product_id"));
+        assertEquals(2, ((Number) bungae.get("allocated_quantity")).intValue());
+        assertEquals(1, countRows(second, "NAVER"));
+
+        assertThrows(IllegalArgumentException.class, () -> channelProductCallbackService.upsertAll(List.of()));
+        List<RegistrationCallbackRequest> tooMany = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tooMany.add(new RegistrationCallbackRequest(first.getId(), "NAVER", "N-" + i, null, null, null));
+        }
+        assertThrows(IllegalArgumentException.class, () -> channelProductCallbackService.upsertAll(tooMany));
+    }
+
+    @Test
+    void testCallbackQuantityIgnoredWhileAllocationEnabled() throws Exception {
+        Product product = createProduct("CALLBACK-ALLOC-1");
+        ReflectionTestUtils.setField(channelAllocationService, "enabled", true);
+        try {
+            // 신규 행은 전달값과 무관하게 0, 이후 배분 엔진이 재고(10)로 재계산
+            ChannelProductDto created = channelProductCallbackService.upsert(
+                    new RegistrationCallbackRequest(product.getId(), "NAVER", "N-1", null, null, 3));
+            assertEquals(0, created.getAllocatedQuantity());
+            channelAllocationService.awaitIdle();
+            assertEquals(10, allocatedQuantity(product, "NAVER"));
+
+            // 기존 행도 콜백 수량으로 덮어쓰지 않음 (단건/일괄)
+            ChannelProductDto updated = channelProductCallbackService.upsert(
+                    new RegistrationCallbackRequest(product.getId(), "NAVER", "N-1", null, 9000.0, 99));
+            assertEquals(10, updated.getAllocatedQuantity());
+            assertEquals(9000.0, updated.getChannelPrice());
+            channelProductCallbackService.upsertAll(List.of(
+                    new RegistrationCallbackRequest(product.getId(), "NAVER", "N-1", null, null, 42)));
+            assertEquals(10, allocatedQuantity(product, "NAVER"));
+            channelAllocationService.awaitIdle();
+            assertEquals(10, allocatedQuantity(product, "NAVER"));
+        } finally {
+            ReflectionTestUtils.setField(channelAllocationService, "enabled", false);
+        }
+    }
+
+    private Product createProduct(String sku) {
+        Product product = new Product();
+        product.setSku(sku);
+        product.setName("등록 콜백 테스트 " + sku);
+        product.setQuantity(10);
+        product.setMinimumQuantity(0);
+        product.setIsActive(true);
+        return productRepository.save(product);
+    }
+
+    private int allocatedQuantity(Product product, String channel) {
+        return jdbcTemplate.queryForObject("SELECT allocated_quantity FROM channel_products WHERE product_id = ? AND channel = ?",
+                Integer.class, product.getId(), channel);
+    }
+
+    private int countRows(Product product, String channel) {
+        if (channel == null) {
+            return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM channel_products WHERE product_id = ?",
+                    Integer.class, product.getId());
+        }
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM channel_products WHERE product_id = ? AND channel = ?",
+                Integer.class, product.getId(), channel);
+    }
+}
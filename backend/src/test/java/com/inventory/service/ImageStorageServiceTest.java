@@ -0,0 +1,151 @@
+package com.inventory.service;
+
+import com.inventory.entity.ImageCategory;
+import com.inventory.entity.ImageStorageType;
+import com.inventory.entity.Product;
+import com.inventory.entity.ProductImage;
+import com.inventory.repository.ProductImageRepository;
+import com.inventory.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.inventory.service.ServiceTestSupport.newProduct;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 외부 저장소 이미지 파일 정리 테스트
+ * - 같은 내용을 기록 중인(커밋 전) 업로드가 있으면 참조가 사라진 파일이라도 삭제하지 않는지 확인
+ * - 기록한 트랜잭션이 롤백되면 미뤄 둔 삭제가 처리되는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ImageStorageService.class, LocalFileImageBlobStore.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    "inventory.images.store=filesystem",
+    "inventory.images.filesystem.root=target/test-blobs"
+})
+class ImageStorageServiceTest {
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testReleaseKeepsBlobUsedByUncommittedUpload() throws Exception {
+        Product product = productRepository.save(newProduct("BLOB-001", "이미지 정리", 1));
+        byte[] data = "same-image-bytes-1".getBytes(StandardCharsets.UTF_8);
+        String hash = ImageStorageService.sha256Hex(data);
+        Upload existing = upload(product, data);
+
+        // 같은 내용 업로드가 커밋되기 전에 기존 행 삭제 → 파일 유지, 업로드 커밋 후에도 유지
+        Upload pending = uploadInBackground(product, data, true);
+        deleteAndRelease(existing.id, hash);
+        assertTrue(blobExists(hash));
+        pending.commit.countDown();
+        pending.done.get(10, TimeUnit.SECONDS);
+        assertTrue(blobExists(hash));
+        assertEquals(1, productImageRepository.countByContentHashAndStorageType(hash, ImageStorageType.FILESYSTEM));
+
+        // 마지막 참조 삭제 → 파일 삭제
+        deleteAndRelease(pending.done.get(), hash);
+        assertFalse(blobExists(hash));
+    }
+
+    @Test
+    void testDeferredReleaseRunsWhenUploadRollsBack() throws Exception {
+        Product product = productRepository.save(newProduct("BLOB-002", "이미지 정리 롤백", 1));
+        byte[] data = "same-image-bytes-2".getBytes(StandardCharsets.UTF_8);
+        String hash = ImageStorageService.sha256Hex(data);
+        Upload existing = upload(product, data);
+
+        Upload pending = uploadInBackground(product, data, false);
+        deleteAndRelease(existing.id, hash);
+        assertTrue(blobExists(hash));
+        pending.commit.countDown();
+        pending.done.get(10, TimeUnit.SECONDS);
+        assertFalse(blobExists(hash));
+    }
+
+    private Upload upload(Product product, byte[] data) {
+        Upload result = new Upload();
+        result.id = transactionTemplate.execute(status -> save(product, data));
+        return result;
+    }
+
+    /**
+     * 별도 스레드에서 업로드 후 commit 신호까지 트랜잭션 유지 (commit=false면 롤백)
+     */
+    private Upload uploadInBackground(Product product, byte[] data, boolean commit) throws InterruptedException {
+        Upload result = new Upload();
+        CountDownLatch stored = new CountDownLatch(1);
+        result.done = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            Long id = save(product, data);
+            stored.countDown();
+            try {
+                assertTrue(result.commit.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            if (!commit) {
+                status.setRollbackOnly();
+            }
+            return id;
+        }));
+        assertTrue(stored.await(10, TimeUnit.SECONDS));
+        return result;
+    }
+
+    private Long save(Product product, byte[] data) {
+        ProductImage image = new ProductImage();
+        image.setProduct(product);
+        image.setImageName("blob.jpg");
+        image.setImageType("image/jpeg");
+        image.setImageCategory(ImageCategory.ORIGINAL);
+        try {
+            imageStorageService.storeImageData(image, data);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return productImageRepository.saveAndFlush(image).getId();
+    }
+
+    private void deleteAndRelease(Long imageId, String hash) {
+        transactionTemplate.executeWithoutResult(status -> {
+            productImageRepository.deleteById(imageId);
+            imageStorageService.releaseAfterCommit(ImageStorageType.FILESYSTEM, List.of(hash));
+        });
+    }
+
+    private boolean blobExists(String hash) {
+        return imageStorageService.getBlobStore(ImageStorageType.FILESYSTEM).exists(hash);
+    }
+
+    private static class Upload {
+        private Long id;
+        private final CountDownLatch commit = new CountDownLatch(1);
+        private CompletableFuture<Long> done;
+    }
+}
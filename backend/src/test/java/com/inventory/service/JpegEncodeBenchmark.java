@@ -0,0 +1,217 @@
+package com.inventory.service;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.plugins.jpeg.JPEGImageWriteParam;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * JPEG 용량 상한 인코딩 벤치마크
+ * - stepwise: 기존 방식 (0.05 단계 하향, 매번 새 ImageWriter/ByteArrayOutputStream)
+ * - binarySearch: JpegSizeTargetEncoder (bpp 예측 시작 + 이진 탐색 + 버퍼 재사용)
+ * - 코퍼스: bench.images.dir(기본 uploads/images)의 디코딩 가능한 사진 + 부품 사진 형태의 합성 이미지
+ * - capMode=production은 실제 규격 상한, tight는 품질 0.7 결과 크기를 상한으로 하여 탐색이 필요한 경우를 측정
+ *
+ * 실행: mvn -pl backend test-compile exec:java -Dexec.classpathScope=test
+ *       -Dexec.mainClass=com.inventory.service.JpegEncodeBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JpegEncodeBenchmark {
+
+    @Param({"registration", "thumbnail"})
+    public String target;
+
+    @Param({"production", "tight"})
+    public String capMode;
+
+    private final List<BufferedImage> corpus = new ArrayList<>();
+    private final List<Long> caps = new ArrayList<>();
+    private ImageResizeService.ResizeTarget resizeTarget;
+    private JpegSizeTargetEncoder encoder;
+
+    /**
+     * 이미지당 인코딩 횟수 (JMH 보조 카운터)
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class EncodeCounter {
+        public long encodes;
+        public long images;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        resizeTarget = "thumbnail".equals(target)
+            ? ImageResizeService.THUMBNAIL_TARGET : ImageResizeService.REGISTRATION_TARGET;
+        encoder = new JpegSizeTargetEncoder(new ImageCodecPool(4));
+
+        List<BufferedImage> sources = new ArrayList<>(loadPhotos(Paths.get(System.getProperty("bench.images.dir", "uploads/images"))));
+        Random random = new Random(42);
+        for (int i = 0; i < 8; i++) {
+            sources.add(syntheticPartPhoto(random, 3000 + random.nextInt(1000), 2000 + random.nextInt(1000)));
+        }
+        for (BufferedImage source : sources) {
+            BufferedImage scaled = scaleToFit(source, resizeTarget.maxWidth, resizeTarget.maxHeight);
+            corpus.add(scaled);
+            caps.add("tight".equals(capMode) ? encoder.encodeAt(scaled, 0.7f).length : resizeTarget.maxBytes);
+        }
+    }
+
+    @Benchmark
+    public void stepwise(EncodeCounter counter, Blackhole blackhole) throws IOException {
+        for (int i = 0; i < corpus.size(); i++) {
+            BufferedImage image = corpus.get(i);
+            long maxBytes = caps.get(i);
+            float q = resizeTarget.quality;
+            byte[] out = legacyEncode(image, q);
+            counter.encodes++;
+            int steps = 0;
+            while (out.length > maxBytes && q > 0.6f && steps < 5) {
+                q -= 0.05f;
+                out = legacyEncode(image, q);
+                counter.encodes++;
+                steps++;
+            }
+            counter.images++;
+            blackhole.consume(out);
+        }
+    }
+
+    @Benchmark
+    public void binarySearch(EncodeCounter counter, Blackhole blackhole) throws IOException {
+        for (int i = 0; i < corpus.size(); i++) {
+            long before = encoder.getEncodeCount();
+            blackhole.consume(encoder.encode(corpus.get(i), resizeTarget.quality, caps.get(i)));
+            counter.encodes += encoder.getEncodeCount() - before;
+            counter.images++;
+        }
+    }
+
+    private static byte[] legacyEncode(BufferedImage image, float quality) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageOutputStream ios = ImageIO.createImageOutputStream(baos);
+        writer.setOutput(ios);
+        JPEGImageWriteParam jpegParams = new JPEGImageWriteParam(null);
+        jpegParams.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        jpegParams.setCompressionQuality(quality);
+        writer.write(null, new IIOImage(image, null, null), jpegParams);
+        writer.dispose();
+        ios.close();
+        return baos.toByteArray();
+    }
+
+    private static List<BufferedImage> loadPhotos(Path dir) throws IOException {
+        List<BufferedImage> photos = new ArrayList<>();
+        if (!Files.isDirectory(dir)) {
+            return photos;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                BufferedImage image = Files.size(file) > 0 ? ImageIO.read(file.toFile()) : null;
+                // 아이콘/자리표시 파일은 제외
+                if (image != null && image.getWidth() >= 400 && image.getHeight() >= 400) {
+                    photos.add(image);
+                }
+            }
+        }
+        return photos;
+    }
+
+    /**
+     * 부품 사진 형태의 합성 이미지 (배경 그라데이션 + 금속 부품 형상 + 센서 노이즈)
+     */
+    private static BufferedImage syntheticPartPhoto(Random random, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setPaint(new GradientPaint(0, 0, new Color(235, 235, 230), width, height, new Color(180, 185, 190)));
+        g.fillRect(0, 0, width, height);
+        for (int i = 0; i < 12; i++) {
+            int gray = 60 + random.nextInt(120);
+            g.setPaint(new GradientPaint(0, 0, new Color(gray, gray, gray + 10),
+                width / 3f, height / 3f, new Color(gray / 2, gray / 2, gray / 2)));
+            int w = width / 6 + random.nextInt(width / 3);
+            int h = height / 6 + random.nextInt(height / 3);
+            g.fillRoundRect(random.nextInt(width - w), random.nextInt(height - h), w, h, w / 4, h / 4);
+            g.setColor(new Color(30, 30, 30));
+            g.setStroke(new BasicStroke(2 + random.nextInt(6)));
+            g.drawOval(random.nextInt(width), random.nextInt(height), 50 + random.nextInt(300), 50 + random.nextInt(300));
+        }
+        g.dispose();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                int noise = random.nextInt(17) - 8;
+                int r = clamp(((rgb >> 16) & 0xFF) + noise);
+                int gr = clamp(((rgb >> 8) & 0xFF) + noise);
+                int b = clamp((rgb & 0xFF) + noise);
+                image.setRGB(x, y, (r << 16) | (gr << 8) | b);
+            }
+        }
+        return image;
+    }
+
+    private static BufferedImage scaleToFit(BufferedImage source, int maxWidth, int maxHeight) {
+        double ratio = Math.min((double) maxWidth / source.getWidth(), (double) maxHeight / source.getHeight());
+        int width = Math.max(1, (int) (source.getWidth() * ratio));
+        int height = Math.max(1, (int) (source.getHeight() * ratio));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JpegEncodeBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
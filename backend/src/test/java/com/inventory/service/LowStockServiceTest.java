@@ -0,0 +1,131 @@
+package com.inventory.service;
+
+import com.inventory.dto.LowStockItem;
+import com.inventory.entity.Product;
+import com.inventory.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 부족 감지 테스트
+ * - 재고 변경 커밋 후 해당 상품만 다시 판정하여 목록에 반영되는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({StockLedgerService.class, StockJournalService.class, LowStockService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    "inventory.stock.journal.snapshot-interval-seconds=0"
+})
+class LowStockServiceTest {
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Autowired
+    private LowStockService lowStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void testReservationsAndReleasesUpdateLowStockSet() throws Exception {
+        Product product = createProduct("LOW-001", 12, 10);
+        lowStockService.loadOnReady();
+        lowStockService.awaitIdle();
+        assertNull(find(product));
+
+        // 병렬 예약 8건 → 수량 4 (최소 재고 10 미만)
+        List<Long> reservationIds = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> stockLedgerService.reserve(product.getId(), null, 1, null).getId()));
+            }
+            for (Future<Long> future : futures) {
+                reservationIds.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        lowStockService.awaitIdle();
+        LowStockItem low = find(product);
+        assertNotNull(low);
+        assertEquals(4, low.getQuantity());
+        assertEquals(6, low.getShortage());
+
+        // 일부 해제 → 여전히 부족, 부족 수량과 감지 시각 유지 여부 확인
+        for (Long id : reservationIds.subList(0, 5)) {
+            stockLedgerService.release(id);
+        }
+        lowStockService.awaitIdle();
+        LowStockItem updated = find(product);
+        assertNotNull(updated);
+        assertEquals(9, updated.getQuantity());
+        assertEquals(1, updated.getShortage());
+        assertEquals(low.getDetectedAt(), updated.getDetectedAt());
+
+        // 전부 해제 → 해소
+        long version = lowStockService.getSnapshot().getVersion();
+        for (Long id : reservationIds.subList(5, 8)) {
+            stockLedgerService.release(id);
+        }
+        lowStockService.awaitIdle();
+        assertNull(find(product));
+        assertTrue(lowStockService.getSnapshot().getVersion() > version);
+    }
+
+    @Test
+    void testInactiveProductIsNotLow() throws Exception {
+        Product product = createProduct("LOW-002", 3, 10);
+        product.setIsActive(false);
+        productRepository.save(product);
+        lowStockService.onProductChanged(ProductChangedEvent.saved(product));
+        lowStockService.awaitIdle();
+        assertNull(find(product));
+
+        product.setIsActive(true);
+        productRepository.save(product);
+        lowStockService.onProductChanged(ProductChangedEvent.saved(product));
+        lowStockService.awaitIdle();
+        assertNotNull(find(product));
+
+        productRepository.deleteById(product.getId());
+        lowStockService.onProductChanged(ProductChangedEvent.deleted(product.getId()));
+        lowStockService.awaitIdle();
+        assertNull(find(product));
+    }
+
+    private LowStockItem find(Product product) {
+        return lowStockService.getSnapshot().getItems().stream()
+                .filter(item -> item.getProductId().equals(product.getId()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Product createProduct(String sku, int quantity, int minimumQuantity) {
+        Product product = new Product();
+        product.setSku(sku);
+        product.setName("재고 부족 테스트 " + sku);
+        product.setQuantity(quantity);
+        product.setMinimumQuantity(minimumQuantity);
+        product.setIsActive(true);
+        return productRepository.save(product);
+    }
+}
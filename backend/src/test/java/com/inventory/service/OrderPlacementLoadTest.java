@@ -0,0 +1,243 @@
+package com.inventory.service;
+
+import com.inventory.dto.OrderDto;
+import com.inventory.dto.OrderPlacementRequest;
+import com.inventory.entity.Order;
+import com.inventory.entity.Product;
+import com.inventory.entity.StockReservation;
+import com.inventory.repository.OrderRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.StockReservationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.inventory.service.ServiceTestSupport.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문 접수 부하 테스트
+ * - 인기 SKU에 주문이 몰리는 상황에서 초당 주문 수 측정, 초과 판매/중복 접수가 없는지 확인
+ * - 주문 취소/삭제 시 예약 해제(수량 복원), 출고 시 예약 확정 확인
+ * - 스레드마다 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션 없이 실행
+ * - H2 MariaDB 모드는 동시 트랜잭션 중 하나가 롤백되면 IDENTITY 값을 다시 발급하는 문제가 있어
+ *   (MariaDB AUTO_INCREMENT는 재사용하지 않음) 이 테스트만 별도 DB를 기본 모드로 사용
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderPlacementService.class, OrderQueryService.class, StockLedgerService.class, StockJournalService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    "spring.datasource.url=jdbc:h2:mem:order_placement_load_test;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "inventory.stock.journal.snapshot-interval-seconds=0"
+})
+class OrderPlacementLoadTest {
+
+    @Autowired
+    private OrderPlacementService orderPlacementService;
+
+    @Autowired
+    private OrderQueryService orderQueryService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StockReservationRepository reservationRepository;
+
+    @Test
+    void testOrdersOnPopularSkusNeverOversell() throws Exception {
+        int hotStock = 150;
+        int coldStock = 100_000;
+        int orders = 600;
+        List<Product> hot = List.of(createProduct("HOT-001", hotStock, "12000"),
+                createProduct("HOT-002", hotStock, "8500"), createProduct("HOT-003", hotStock, "4300"));
+        List<Product> cold = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            cold.add(createProduct("COLD-" + i, coldStock, "1000"));
+        }
+
+        // 주문마다 인기 SKU 2개(각 1개) + 일반 SKU 1개(2개)
+        AtomicInteger placed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger sequence = new AtomicInteger();
+        AtomicLong placedAmount = new AtomicLong();
+        long elapsedNanos = runConcurrently(orders, () -> {
+            int n = sequence.getAndIncrement();
+            Product first = hot.get(n % 3);
+            Product second = hot.get((n + 1) % 3);
+            Product other = cold.get(n % cold.size());
+            try {
+                OrderDto order = orderPlacementService.placeOrder(request(
+                        new OrderPlacementRequest.Line(first.getSku(), 1),
+                        new OrderPlacementRequest.Line(second.getSku(), 1),
+                        new OrderPlacementRequest.Line(other.getSku(), 2)), null).getOrder();
+                placed.incrementAndGet();
+                placedAmount.addAndGet(order.getTotalAmount().longValue());
+            } catch (IllegalStateException e) {
+                rejected.incrementAndGet();
+            }
+            return null;
+        });
+
+        int hotSold = 0;
+        int soldOut = 0;
+        for (Product product : hot) {
+            int remaining = quantityOf(product);
+            assertTrue(remaining >= 0);
+            hotSold += hotStock - remaining;
+            if (remaining == 0) {
+                soldOut++;
+            }
+        }
+        int coldSold = 0;
+        for (Product product : cold) {
+            coldSold += coldStock - quantityOf(product);
+        }
+        assertEquals(placed.get() * 2, hotSold);
+        assertEquals(placed.get() * 2, coldSold);
+        assertEquals(orders, placed.get() + rejected.get());
+        // 인기 SKU 전체 재고 450개, 주문당 2개 → 최대 225건
+        assertTrue(placed.get() <= 225, "접수 " + placed.get());
+        // SKU 조합마다 요청 200건 > 최대 접수 150건이므로 모든 조합에서 거절 발생,
+        // 거절은 조합 중 한 SKU의 재고가 0일 때만 일어나므로 인기 SKU 중 2개 이상은 품절
+        assertTrue(soldOut >= 2, "품절 " + soldOut);
+        assertTrue(placedAmount.get() > 0);
+        report("주문 " + orders + "건 (인기 SKU 3개, 접수 " + placed.get() + "건)", orders, elapsedNanos);
+    }
+
+    @Test
+    void testSameIdempotencyKeyPlacesOneOrder() throws Exception {
+        Product product = createProduct("IDEM-001", 100, "2500");
+        Set<Long> orderIds = new HashSet<>();
+        AtomicInteger replayed = new AtomicInteger();
+        runConcurrently(THREADS, () -> {
+            OrderPlacementService.Placement placement = orderPlacementService.placeOrder(
+                    request(new OrderPlacementRequest.Line(product.getSku(), 3)), "retry-key-1");
+            synchronized (orderIds) {
+                orderIds.add(placement.getOrder().getId());
+            }
+            if (placement.isReplayed()) {
+                replayed.incrementAndGet();
+            }
+            return null;
+        });
+
+        assertEquals(1, orderIds.size());
+        assertEquals(THREADS - 1, replayed.get());
+        assertEquals(97, quantityOf(product));
+        OrderDto order = orderQueryService.getOrder(orderIds.iterator().next());
+        assertEquals(new BigDecimal("7500.00"), order.getTotalAmount());
+        assertEquals(1, order.getOrderItems().size());
+    }
+
+    @Test
+    void testShortLineRollsBackWholeOrder() {
+        Product plenty = createProduct("ROLL-001", 50, "1000");
+        Product scarce = createProduct("ROLL-002", 1, "1000");
+        long ordersBefore = orderRepository.count();
+
+        InsufficientStockException e = assertThrows(InsufficientStockException.class,
+                () -> orderPlacementService.placeOrder(request(
+                        new OrderPlacementRequest.Line(plenty.getSku(), 5),
+                        new OrderPlacementRequest.Line(scarce.getSku(), 2)), "roll-key"));
+        assertEquals(scarce.getId(), e.getProductId());
+        assertEquals(50, quantityOf(plenty));
+        assertEquals(1, quantityOf(scarce));
+        assertEquals(ordersBefore, orderRepository.count());
+
+        // 실패한 키로 다시 시도하면 새로 접수 (같은 SKU 여러 줄은 합산, 가격은 상품 가격)
+        OrderPlacementService.Placement placement = orderPlacementService.placeOrder(request(
+                new OrderPlacementRequest.Line(plenty.getSku(), 5),
+                new OrderPlacementRequest.Line(plenty.getSku(), 1)), "roll-key");
+        assertFalse(placement.isReplayed());
+        assertEquals(44, quantityOf(plenty));
+        assertEquals(new BigDecimal("6000.00"), placement.getOrder().getTotalAmount());
+        assertEquals(6, placement.getOrder().getOrderItems().get(0).getQuantity());
+
+        assertThrows(IllegalArgumentException.class, () -> orderPlacementService.placeOrder(
+                request(new OrderPlacementRequest.Line("NO-SUCH-SKU", 1)), null));
+    }
+
+    @Test
+    void testOrderStatusChangesCommitOrReleaseReservations() {
+        Product product = createProduct("RSV-001", 20, "1000");
+        Product other = createProduct("RSV-002", 20, "1000");
+        OrderDto shipped = orderPlacementService.placeOrder(request(
+                new OrderPlacementRequest.Line(product.getSku(), 3),
+                new OrderPlacementRequest.Line(other.getSku(), 2)), null).getOrder();
+        OrderDto cancelled = orderPlacementService.placeOrder(request(
+                new OrderPlacementRequest.Line(product.getSku(), 4)), null).getOrder();
+        OrderDto deleted = orderPlacementService.placeOrder(request(
+                new OrderPlacementRequest.Line(product.getSku(), 5)), null).getOrder();
+        assertEquals(8, quantityOf(product));
+        assertEquals(18, quantityOf(other));
+
+        // 출고: 예약 확정 (수량 유지), 이후 취소해도 확정된 예약은 복원하지 않음
+        assertEquals(Order.OrderStatus.SHIPPED, changeStatus(shipped, Order.OrderStatus.SHIPPED).getStatus());
+        assertEquals(List.of(StockReservation.Status.COMMITTED, StockReservation.Status.COMMITTED),
+                reservationStatuses(shipped));
+        changeStatus(shipped, Order.OrderStatus.CANCELLED);
+        assertEquals(8, quantityOf(product));
+        assertEquals(18, quantityOf(other));
+
+        // 취소: 예약 해제 (수량 복원), 다시 취소해도 한 번만 복원
+        changeStatus(cancelled, Order.OrderStatus.CANCELLED);
+        changeStatus(cancelled, Order.OrderStatus.CANCELLED);
+        assertEquals(List.of(StockReservation.Status.RELEASED), reservationStatuses(cancelled));
+        assertEquals(12, quantityOf(product));
+
+        // 삭제: 예약 해제 후 주문 삭제
+        assertTrue(orderPlacementService.deleteOrder(deleted.getId()));
+        assertEquals(List.of(StockReservation.Status.RELEASED), reservationStatuses(deleted));
+        assertEquals(17, quantityOf(product));
+        assertFalse(orderRepository.existsById(deleted.getId()));
+
+        assertFalse(orderPlacementService.deleteOrder(deleted.getId()));
+        assertNull(orderPlacementService.updateOrder(deleted.getId(), new Order()));
+    }
+
+    private Order changeStatus(OrderDto order, Order.OrderStatus status) {
+        Order entity = orderRepository.findWithItemsById(order.getId()).orElseThrow();
+        entity.setStatus(status);
+        return orderPlacementService.updateOrder(order.getId(), entity);
+    }
+
+    private List<StockReservation.Status> reservationStatuses(OrderDto order) {
+        return reservationRepository.findAll().stream()
+                .filter(reservation -> ("order:" + order.getOrderNumber()).equals(reservation.getReference()))
+                .map(StockReservation::getStatus)
+                .toList();
+    }
+
+    private OrderPlacementRequest request(OrderPlacementRequest.Line... lines) {
+        return new OrderPlacementRequest("홍길동", "hong@example.com", "010-0000-0000", "서울시", List.of(lines));
+    }
+
+    private int quantityOf(Product product) {
+        return productRepository.findById(product.getId()).orElseThrow().getQuantity();
+    }
+
+    private Product createProduct(String sku, int quantity, String price) {
+        Product product = newProduct(sku, "주문 테스트 " + sku, quantity);
+        product.setPrice(new BigDecimal(price));
+        return productRepository.save(product);
+    }
+}
@@ -0,0 +1,169 @@
+package com.inventory.service;
+
+import com.inventory.dto.OrderDto;
+import com.inventory.dto.OrderPageResponse;
+import com.inventory.dto.OrderSummaryDto;
+import com.inventory.entity.Order;
+import com.inventory.entity.OrderItem;
+import com.inventory.entity.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OrderQueryService.class)
+@TestPropertySource(properties = {
+    "spring.profiles.active=test"
+})
+class OrderQueryServiceTest {
+
+    private static final Comparator<OrderSummaryDto> NEWEST_FIRST = Comparator
+            .comparing(OrderSummaryDto::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(OrderSummaryDto::getId, Comparator.reverseOrder());
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrderQueryService orderQueryService;
+
+    @Test
+    void testOrderPageCursorWalksAllOrdersNewestFirst() {
+        createOrders(13);
+
+        // 생성 시각이 같은 주문이 여러 건이어도 ID로 구분하여 누락/중복 없음
+        List<OrderSummaryDto> walked = walk(null, 5);
+        assertEquals(13, walked.size());
+        List<OrderSummaryDto> sorted = new ArrayList<>(walked);
+        sorted.sort(NEWEST_FIRST);
+        assertEquals(sorted, walked);
+        assertEquals(13, walked.stream().map(OrderSummaryDto::getId).distinct().count());
+
+        // 항목 수/총 수량은 서브쿼리로 함께 조회
+        OrderSummaryDto first = walked.get(0);
+        OrderDto detail = orderQueryService.getOrder(first.getId());
+        assertEquals(detail.getOrderItems().size(), first.getItemCount());
+        assertEquals(detail.getOrderItems().stream().mapToInt(OrderDto.Item::getQuantity).sum(),
+                first.getTotalQuantity());
+
+        List<OrderSummaryDto> shipped = walk("shipped", 2);
+        assertEquals(6, shipped.size());
+        assertTrue(shipped.stream().allMatch(order -> "SHIPPED".equals(order.getStatus())));
+
+        // 상태별 전체 목록 (배송 라벨 화면): 항목 포함 배열
+        List<OrderDto> shippedAll = orderQueryService.getAllOrders("shipped");
+        assertEquals(6, shippedAll.size());
+        assertTrue(shippedAll.stream().allMatch(order -> "SHIPPED".equals(order.getStatus())
+                && !order.getOrderItems().isEmpty()));
+
+        assertThrows(IllegalArgumentException.class, () -> orderQueryService.getOrderPage("LOST", null, 5));
+        assertThrows(IllegalArgumentException.class, () -> orderQueryService.getAllOrders("LOST"));
+        assertThrows(IllegalArgumentException.class, () -> orderQueryService.getOrderPage(null, "abc", 5));
+    }
+
+    @Test
+    void testOrderQueriesStatementCountIsConstant() {
+        createOrders(4);
+        long smallPage = countStatements(() -> orderQueryService.getOrderPage(null, null, 2));
+        long smallList = countStatements(() -> orderQueryService.getAllOrders().size());
+
+        createOrders(20);
+        long largePage = countStatements(() -> orderQueryService.getOrderPage(null, null, 20));
+        long largeList = countStatements(() -> {
+            List<OrderDto> orders = orderQueryService.getAllOrders();
+            assertEquals(24, orders.size());
+            return orders.stream().mapToLong(order -> order.getOrderItems().size()).sum();
+        });
+
+        // 주문 요약 1회 (항목 수는 서브쿼리), 전체 목록은 주문 + 항목 + 상품 JOIN FETCH 1회
+        assertEquals(1, smallPage);
+        assertEquals(smallPage, largePage);
+        assertEquals(1, smallList);
+        assertEquals(smallList, largeList);
+
+        OrderDto created = orderQueryService.getAllOrders().get(0);
+        entityManager.clear();
+        assertEquals(1, countStatements(() -> orderQueryService.getOrderByNumber(created.getOrderNumber())
+                .getOrderItems().get(0).getProductSku()));
+    }
+
+    private List<OrderSummaryDto> walk(String status, int size) {
+        List<OrderSummaryDto> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            OrderPageResponse page = orderQueryService.getOrderPage(status, cursor, size);
+            assertTrue(page.getItems().size() <= size);
+            walked.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            assertEquals(page.getHasNext(), cursor != null);
+        } while (cursor != null);
+        return walked;
+    }
+
+    private void createOrders(int count) {
+        Product product = new Product();
+        product.setSku("ORDER-SKU-" + System.nanoTime());
+        product.setName("주문 상품");
+        entityManager.persist(product);
+
+        // 생성 시각을 세 가지로만 지정하여 같은 시각의 주문이 여러 건 생기도록 함
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 9, 0);
+        for (int i = 0; i < count; i++) {
+            Order order = new Order();
+            order.setOrderNumber("ORD-TEST-" + System.nanoTime() + "-" + i);
+            order.setCustomerName("고객 " + i);
+            order.setCustomerEmail("customer" + i + "@example.com");
+            order.setCustomerPhone("010-0000-0000");
+            order.setShippingAddress("서울");
+            order.setStatus(i % 2 == 0 ? Order.OrderStatus.PENDING : Order.OrderStatus.SHIPPED);
+            order.setTotalAmount(BigDecimal.valueOf(1000L * (i + 1)));
+            entityManager.persist(order);
+
+            for (int line = 0; line <= i % 3; line++) {
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProduct(product);
+                item.setQuantity(line + 1);
+                item.setUnitPrice(BigDecimal.valueOf(1000));
+                item.setTotalPrice(BigDecimal.valueOf(1000L * (line + 1)));
+                entityManager.persist(item);
+            }
+            entityManager.flush();
+            entityManager.getEntityManager()
+                    .createQuery("UPDATE Order o SET o.createdAt = :createdAt WHERE o.id = :id")
+                    .setParameter("createdAt", base.plusMinutes(i % 3))
+                    .setParameter("id", order.getId())
+                    .executeUpdate();
+        }
+        entityManager.clear();
+    }
+
+    private long countStatements(Supplier<?> action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertNotNull(action.get());
+        // 다음 측정에 1차 캐시가 영향을 주지 않도록 초기화
+        entityManager.clear();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,218 @@
+package com.inventory.service;
+
+import com.inventory.dto.ProductDto;
+import com.inventory.dto.ProductSearchHit;
+import com.inventory.entity.Product;
+import com.inventory.entity.StockMovement;
+import com.inventory.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.inventory.service.ServiceTestSupport.newProduct;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 상품 검색 색인 테스트
+ * - 추가/수정/삭제 증분 반영, 품번 부분 일치와 관련도 순위 확인
+ * - 색인 재구축 중 들어온 상품 변경이 새 색인에 재적용되는지 확인
+ * - 검색 결과 재고 수량이 색인 시점 값이 아니라 현재 값인지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProductSearchIndexService.class, ProductService.class, ImageDataCache.class,
+        StockLedgerService.class, StockJournalService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    "inventory.catalog.search-index.build-batch-size=25",
+    "inventory.stock.journal.snapshot-interval-seconds=0"
+})
+class ProductSearchIndexServiceTest {
+
+    @Autowired
+    private ProductSearchIndexService productSearchIndexService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void testUpsertUpdateAndRemove() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        LocalDateTime now = LocalDateTime.now();
+        index.upsert(product(1L, "HY-BRK-001", "58101-1RA00", "브레이크 패드 앞", now));
+        index.upsert(product(2L, "OIL-FLT-002", "26300-35505", "엔진 오일 필터", now));
+        assertEquals(2, index.size());
+
+        // 하이픈/공백/대소문자 무시 부분 일치
+        assertEquals(List.of(1L), ids(index.searchPartNumbers("brk 00", 10)));
+        assertEquals(List.of(1L), ids(index.searchPartNumbers("581011ra", 10)));
+        assertEquals(List.of(2L), ids(index.search("오일", 10)));
+
+        // 수정: 이전 품번/상품명으로는 더 이상 찾을 수 없음
+        index.upsert(product(1L, "HY-BRK-001", "58302-2SA10", "브레이크 패드 뒤", now.plusSeconds(1)));
+        assertEquals(2, index.size());
+        assertTrue(index.searchPartNumbers("58101", 10).getHits().isEmpty());
+        assertEquals(List.of(1L), ids(index.searchPartNumbers("58302", 10)));
+        assertEquals(List.of(1L), ids(index.search("패드 뒤", 10)));
+        assertTrue(index.search("패드 앞", 10).getHits().isEmpty());
+
+        // 더 오래된 수정본은 무시 (커밋 순서와 이벤트 처리 순서가 어긋나는 경우)
+        index.upsert(product(1L, "HY-BRK-001", "58101-1RA00", "브레이크 패드 앞", now));
+        assertEquals(List.of(1L), ids(index.searchPartNumbers("58302", 10)));
+
+        index.remove(1L);
+        index.remove(99L);
+        assertEquals(1, index.size());
+        assertTrue(index.searchPartNumbers("BRK", 10).getHits().isEmpty());
+        assertTrue(index.search("브레이크", 10).getHits().isEmpty());
+        assertEquals(List.of(2L), ids(index.search("필터", 10)));
+    }
+
+    @Test
+    void testPartialPartNumberMatchRanking() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        LocalDateTime now = LocalDateTime.now();
+        index.upsert(product(4L, "X-AB123", null, "부분 일치", now));
+        index.upsert(product(3L, "AB-1234", null, "접두 일치", now));
+        index.upsert(product(2L, "ab 123", null, "완전 일치", now));
+        Product crossReferenced = product(1L, "ZZ-999", null, "호환 품번 완전 일치", now);
+        crossReferenced.setCrossReferenceNumbers("[\"QQ-1\",\"AB-123\"]");
+        index.upsert(crossReferenced);
+        index.upsert(product(5L, "AC-123", null, "불일치", now));
+
+        // 완전 일치(100) > 접두 일치(60) > 부분 일치(40), 같은 점수는 ID 순
+        ProductSearchIndex.Result result = index.searchPartNumbers("Ab-123", 10);
+        assertEquals(4, result.getTotal());
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(result));
+        assertEquals(List.of(100, 100, 60, 40), result.getHits().stream().map(ProductSearchIndex.Hit::getScore).toList());
+
+        // 상위 N건만 반환해도 전체 일치 건수는 유지
+        ProductSearchIndex.Result top = index.searchPartNumbers("AB123", 2);
+        assertEquals(4, top.getTotal());
+        assertEquals(List.of(1L, 2L), ids(top));
+
+        // 2글자 미만 품번은 검색하지 않음
+        assertTrue(index.searchPartNumbers("A-", 10).getHits().isEmpty());
+
+        // 전체 검색: 검색어마다 어느 한 필드에 포함되어야 함 (AND), 품번 점수 + 상품명 점수
+        ProductSearchIndex.Result combined = index.search("ab123 접두", 10);
+        assertEquals(List.of(3L), ids(combined));
+        assertEquals(60 + 30, combined.getHits().get(0).getScore());
+    }
+
+    @Test
+    void testRebuildReplaysChangesMadeWhileBuilding() throws Exception {
+        int count = 400;
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(newProduct(String.format("REBUILD-%04d", i), "재구축 원본 " + i, 10));
+        }
+        products = productRepository.saveAll(products);
+        productSearchIndexService.rebuild();
+        assertEquals(count, productSearchIndexService.search("원본", null).getTotal());
+
+        // 재구축(25건씩 읽기)과 동시에 상품 절반 이름 변경, 1/8 삭제
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            futures.add(executor.submit(() -> {
+                start.await();
+                productSearchIndexService.rebuild();
+                return null;
+            }));
+            for (int worker = 0; worker < 4; worker++) {
+                List<Product> assigned = new ArrayList<>();
+                for (int i = worker; i < count; i += 4) {
+                    assigned.add(products.get(i));
+                }
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (Product product : assigned) {
+                        int n = Integer.parseInt(product.getSku().substring("REBUILD-".length()));
+                        if (n % 8 == 7) {
+                            productService.deleteProduct(product.getId());
+                        } else if (n % 2 == 0) {
+                            productService.updateProduct(product.getId(), rename(product, "재구축 변경 " + n));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 새 색인이 DB와 일치: 변경 200건, 미변경 150건 (홀수 중 삭제 50건 제외), 삭제 상품 없음
+        assertEquals(count / 2, productSearchIndexService.search("변경", null).getTotal());
+        assertEquals(count / 2 - count / 8, productSearchIndexService.search("원본", null).getTotal());
+        assertEquals(count - count / 8, productSearchIndexService.getStatus().get("documents"));
+        assertTrue(productSearchIndexService.searchPartNumberIds("REBUILD-0007").isEmpty());
+        assertEquals(List.of(products.get(6).getId()), productSearchIndexService.searchPartNumberIds("REBUILD-0006"));
+
+        assertThrows(IllegalArgumentException.class, () -> productSearchIndexService.search(" ", null));
+        assertThrows(IllegalArgumentException.class, () -> productSearchIndexService.search("변경", 0));
+    }
+
+    @Test
+    void testSearchReturnsCurrentQuantity() {
+        Product product = productRepository.save(newProduct("QTY-SEARCH-001", "수량 확인 브레이크 캘리퍼", 10));
+        productSearchIndexService.rebuild();
+
+        // 예약/조정은 상품 변경 이벤트 없이 수량만 바뀜
+        stockLedgerService.adjustProduct(product.getId(), -3, StockMovement.MovementType.ADJUSTMENT, null);
+        stockLedgerService.reserve(product.getId(), null, 2, null);
+
+        List<ProductSearchHit> hits = productSearchIndexService.search("캘리퍼", null).getItems();
+        assertEquals(1, hits.size());
+        assertEquals(5, hits.get(0).getProduct().getQuantity());
+        assertEquals("QTY-SEARCH-001", hits.get(0).getProduct().getSku());
+    }
+
+    private static Product product(Long id, String sku, String oemPartNumber, String name, LocalDateTime updatedAt) {
+        Product product = new Product();
+        product.setId(id);
+        product.setSku(sku);
+        product.setOemPartNumber(oemPartNumber);
+        product.setName(name);
+        product.setUpdatedAt(updatedAt);
+        return product;
+    }
+
+    private static ProductDto rename(Product product, String name) {
+        ProductDto dto = new ProductDto();
+        dto.setName(name);
+        dto.setMinimumQuantity(product.getMinimumQuantity());
+        dto.setIsActive(product.getIsActive());
+        dto.setIsSerialized(product.getIsSerialized());
+        return dto;
+    }
+
+    private static List<Long> ids(ProductSearchIndex.Result result) {
+        return result.getHits().stream().map(hit -> hit.getItem().getId()).toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.inventory.service;
+
+import com.inventory.dto.ProductDto;
+import com.inventory.dto.ProductPageResponse;
+import com.inventory.entity.Category;
+import com.inventory.entity.ImageCategory;
+import com.inventory.entity.Product;
+import com.inventory.entity.ProductImage;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProductService.class, ImageDataCache.class, StockJournalService.class})
+@TestPropertySource(properties = {
+    "spring.profiles.active=test"
+})
+class ProductServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void testGetAllProductsStatementCountIsConstant() {
+        createProducts(0, 5);
+        long smallCatalog = countStatements(() -> assertEquals(5, productService.getAllProducts().size()));
+
+        createProducts(5, 45);
+        long largeCatalog = countStatements(() -> assertEquals(45, productService.getAllProducts().size()));
+
+        // 상품 목록 1회 + 이미지 개수 GROUP BY 1회
+        assertEquals(2, smallCatalog);
+        assertEquals(smallCatalog, largeCatalog);
+    }
+
+    @Test
+    void testGetProductPageStatementCountIsConstant() {
+        createProducts(0, 60);
+
+        long smallPage = countStatements(() -> productService.getProductPage(null, 5, "id"));
+        long largePage = countStatements(() -> productService.getProductPage(null, 50, "id"));
+
+        assertEquals(1, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void testBatchedDtoMatchesSingleDto() {
+        createProducts(0, 3);
+
+        List<ProductDto> products = productService.getAllProducts();
+        for (ProductDto listed : products) {
+            ProductDto single = productService.getProductById(listed.getId());
+            assertEquals(single.getImageCount(), listed.getImageCount());
+            assertEquals(single.getFirstImageUrl(), listed.getFirstImageUrl());
+            assertEquals(single.getCategoryId(), listed.getCategoryId());
+            assertEquals(single.getCategoryName(), listed.getCategoryName());
+        }
+    }
+
+    @Test
+    void testProductPageCursor() {
+        createProducts(0, 7);
+
+        ProductPageResponse first = productService.getProductPage(null, 5, "sku");
+        assertEquals(5, first.getItems().size());
+        assertTrue(first.getHasNext());
+
+        ProductPageResponse second = productService.getProductPage(first.getNextCursor(), 5, "sku");
+        assertEquals(2, second.getItems().size());
+        assertFalse(second.getHasNext());
+        assertNull(second.getNextCursor());
+    }
+
+    private void createProducts(int from, int to) {
+        Category category = new Category();
+        category.setName("카테고리-" + from);
+        entityManager.persist(category);
+
+        for (int i = from; i < to; i++) {
+            Product product = new Product();
+            product.setSku(String.format("SKU-%04d", i));
+            product.setName("상품 " + i);
+            // 절반은 카테고리 없음, 이미지는 홀수 상품에만 등록
+            product.setCategory(i % 2 == 0 ? category : null);
+            entityManager.persist(product);
+
+            if (i % 2 == 1) {
+                ProductImage image = new ProductImage();
+                image.setProduct(product);
+                image.setImageName("image-" + i + ".jpg");
+                image.setImageData(new byte[]{1, 2, 3});
+                image.setImageType("image/jpeg");
+                image.setImageSize(3L);
+                image.setImageCategory(ImageCategory.REGISTRATION);
+                entityManager.persist(image);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        // 다음 측정에 1차 캐시가 영향을 주지 않도록 초기화
+        entityManager.clear();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,76 @@
+package com.inventory.service;
+
+import com.inventory.entity.Product;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 테스트 공통 도우미
+ * - 동시 실행(모든 작업을 같은 시점에 출발), 처리량 로그, 테스트 상품 생성
+ */
+@Slf4j
+final class ServiceTestSupport {
+
+    // 동시성/부하 테스트 스레드 수
+    static final int THREADS = 32;
+
+    private ServiceTestSupport() {
+    }
+
+    /**
+     * 작업을 THREADS개 스레드에서 동시에 출발시켜 모두 끝날 때까지 대기 (작업 예외는 그대로 전파)
+     *
+     * @return 출발부터 마지막 작업 완료까지 걸린 시간 (ns)
+     */
+    static long runConcurrently(int tasks, Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>(tasks);
+        try {
+            for (int i = 0; i < tasks; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            return System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 처리량 로그 (측정값은 환경마다 달라 검증하지 않음)
+     */
+    static void report(String label, int operations, long elapsedNanos) {
+        double millis = elapsedNanos / 1_000_000.0;
+        log.info("{}: {}ms, {} ops/s (스레드 {})", label, String.format("%.1f", millis),
+                Math.round(operations / (millis / 1000.0)), THREADS);
+    }
+
+    /**
+     * 저장 전 테스트 상품 (활성, 최소 재고 0)
+     */
+    static Product newProduct(String sku, String name, int quantity) {
+        Product product = new Product();
+        product.setSku(sku);
+        product.setName(name);
+        product.setQuantity(quantity);
+        product.setMinimumQuantity(0);
+        product.setIsActive(true);
+        return product;
+    }
+}
@@ -0,0 +1,314 @@
+package com.inventory.service;
+
+import com.inventory.dto.ProductDto;
+import com.inventory.entity.Inventory;
+import com.inventory.entity.Product;
+import com.inventory.entity.StockMovement;
+import com.inventory.entity.StockReservation;
+import com.inventory.repository.InventoryRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.StockReservationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.inventory.service.ServiceTestSupport.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 예약 동시성 테스트
+ * - 스레드마다 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션 없이 실행
+ * - 스냅샷 이후 커밋된(스냅샷 기준 시각 이전에 기록된) 저널이 다음 스냅샷에 반영되는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({StockLedgerService.class, StockJournalService.class, ProductService.class, ImageDataCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    "inventory.stock.journal.settle-seconds=0",
+    "inventory.stock.journal.snapshot-interval-seconds=0"
+})
+class StockLedgerServiceConcurrencyTest {
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private StockReservationRepository reservationRepository;
+
+    @Autowired
+    private StockJournalService stockJournalService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testParallelReservationsOnOneSkuNeverOversell() throws Exception {
+        int stock = 150;
+        int attempts = 600;
+        Product product = createProduct("STRESS-001", stock);
+        Inventory inventory = createInventory(product, stock);
+
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        long elapsedNanos = runConcurrently(attempts, () -> {
+            try {
+                stockLedgerService.reserve(product.getId(), inventory.getId(), 1, "stress");
+                reserved.incrementAndGet();
+            } catch (InsufficientStockException e) {
+                rejected.incrementAndGet();
+            }
+            return null;
+        });
+
+        assertEquals(stock, reserved.get());
+        assertEquals(attempts - stock, rejected.get());
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getQuantity());
+        assertEquals(0, inventoryRepository.findById(inventory.getId()).orElseThrow().getQuantity());
+        assertEquals(stock, countReservations(product, StockReservation.Status.RESERVED));
+        report("예약 " + attempts + "건 (재고 " + stock + ")", attempts, elapsedNanos);
+    }
+
+    @Test
+    void testMixedCommitAndReleaseKeepsLedgerBalanced() throws Exception {
+        int stock = 200;
+        int attempts = 400;
+        Product product = createProduct("STRESS-002", stock);
+
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger sequence = new AtomicInteger();
+        long elapsedNanos = runConcurrently(attempts, () -> {
+            int quantity = 1 + sequence.get() % 3;
+            StockReservation reservation;
+            try {
+                reservation = stockLedgerService.reserve(product.getId(), null, quantity, null);
+            } catch (InsufficientStockException e) {
+                return null;
+            }
+            // 짝수 번째는 확정, 홀수 번째는 해제
+            if (sequence.getAndIncrement() % 2 == 0) {
+                stockLedgerService.commit(reservation.getId());
+                committed.addAndGet(quantity);
+            } else {
+                stockLedgerService.release(reservation.getId());
+            }
+            return null;
+        });
+
+        int remaining = productRepository.findById(product.getId()).orElseThrow().getQuantity();
+        assertTrue(remaining >= 0);
+        assertEquals(stock - committed.get(), remaining);
+        assertEquals(0, countReservations(product, StockReservation.Status.RESERVED));
+        report("예약+확정/해제 " + attempts + "건", attempts, elapsedNanos);
+    }
+
+    @Test
+    void testConcurrentReleaseRestoresStockOnce() throws Exception {
+        Product product = createProduct("STRESS-003", 10);
+        Long reservationId = stockLedgerService.reserve(product.getId(), null, 4, null).getId();
+
+        AtomicInteger released = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(THREADS, () -> {
+            try {
+                stockLedgerService.release(reservationId);
+                released.incrementAndGet();
+            } catch (IllegalStateException e) {
+                rejected.incrementAndGet();
+            }
+            return null;
+        });
+
+        assertEquals(1, released.get());
+        assertEquals(THREADS - 1, rejected.get());
+        assertEquals(10, productRepository.findById(product.getId()).orElseThrow().getQuantity());
+        assertThrows(IllegalStateException.class, () -> stockLedgerService.commit(reservationId));
+    }
+
+    @Test
+    void testReserveFromOtherProductsInventoryRollsBack() {
+        Product product = createProduct("STRESS-004", 5);
+        Product other = createProduct("STRESS-005", 5);
+        Inventory otherInventory = createInventory(other, 5);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> stockLedgerService.reserve(product.getId(), otherInventory.getId(), 1, null));
+        assertEquals(5, productRepository.findById(product.getId()).orElseThrow().getQuantity());
+        assertEquals(5, inventoryRepository.findById(otherInventory.getId()).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void testJournalReplaysToCurrentStock() throws Exception {
+        Product product = createProduct("STRESS-006", 50);
+        Inventory inventory = stockLedgerService.createInventory(product.getId(), 50, "B-02-03");
+        Thread.sleep(5);
+        LocalDateTime beforeSales = LocalDateTime.now();
+        Thread.sleep(5);
+
+        List<Long> reservationIds = new ArrayList<>();
+        runConcurrently(100, () -> {
+            try {
+                Long id = stockLedgerService.reserve(product.getId(), inventory.getId(), 1, null).getId();
+                synchronized (reservationIds) {
+                    reservationIds.add(id);
+                }
+            } catch (InsufficientStockException e) {
+                // 재고 소진
+            }
+            return null;
+        });
+        for (Long id : reservationIds.subList(0, 10)) {
+            stockLedgerService.release(id);
+        }
+        assertTrue(stockJournalService.takeSnapshot() >= 2);
+        stockLedgerService.adjustInventory(inventory.getId(), 7, StockMovement.MovementType.RECEIPT, "PO-1");
+
+        LocalDateTime now = LocalDateTime.now();
+        StockJournalService.StockAsOf productNow = stockJournalService.getStockAsOf(product.getId(), null, now);
+        StockJournalService.StockAsOf inventoryNow = stockJournalService.getStockAsOf(null, inventory.getId(), now);
+        assertNotNull(productNow.getSnapshotAt());
+        assertEquals(10, productNow.getQuantity());
+        assertEquals(productRepository.findById(product.getId()).orElseThrow().getQuantity(), productNow.getQuantity());
+        assertEquals(17, inventoryNow.getQuantity());
+        assertEquals(inventoryRepository.findById(inventory.getId()).orElseThrow().getQuantity(), inventoryNow.getQuantity());
+        assertEquals(7, inventoryNow.getJournalDelta());
+
+        assertEquals(50, stockJournalService.getStockAsOf(product.getId(), null, beforeSales).getQuantity());
+        assertEquals(50, stockJournalService.getStockAsOf(product.getId(), inventory.getId(), beforeSales).getQuantity());
+    }
+
+    @Test
+    void testProductAndLocationEditsDoNotOverwriteReservations() throws Exception {
+        int stock = 300;
+        Product product = createProduct("STRESS-007", stock);
+        Inventory inventory = createInventory(product, stock);
+
+        // 예약/입고 조정과 상품 정보 수정/창고 위치 수정이 섞여도 수정 저장이 조회 시점의 수량을 다시 쓰지 않음
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger received = new AtomicInteger();
+        AtomicInteger sequence = new AtomicInteger();
+        runConcurrently(800, () -> {
+            int n = sequence.getAndIncrement();
+            switch (n % 4) {
+                case 0 -> {
+                    ProductDto dto = productService.getProductById(product.getId());
+                    dto.setName("동시성 테스트 수정 " + n);
+                    dto.setQuantity(stock);
+                    productService.updateProduct(product.getId(), dto);
+                }
+                case 1 -> stockLedgerService.updateInventory(inventory.getId(), null, "B-" + (n % 9 + 1) + "-01");
+                case 2 -> {
+                    stockLedgerService.adjustProduct(product.getId(), 1, StockMovement.MovementType.RECEIPT, null);
+                    received.incrementAndGet();
+                }
+                default -> {
+                    stockLedgerService.reserve(product.getId(), inventory.getId(), 1, null);
+                    reserved.incrementAndGet();
+                }
+            }
+            return null;
+        });
+
+        assertEquals(200, reserved.get());
+        int quantity = productRepository.findById(product.getId()).orElseThrow().getQuantity();
+        assertEquals(stock - reserved.get() + received.get(), quantity);
+        // 저널은 원자적 UPDATE와 같은 delta로 기록되므로 재생 결과가 현재 수량과 일치
+        assertEquals(quantity, stockJournalService.getStockAsOf(product.getId(), null, LocalDateTime.now()).getQuantity());
+        Inventory updated = inventoryRepository.findById(inventory.getId()).orElseThrow();
+        assertEquals(stock - reserved.get(), updated.getQuantity());
+        assertTrue(updated.getWarehouseLocation().startsWith("B-"));
+        assertEquals("B", updated.getLocationZone());
+        assertTrue(productRepository.findById(product.getId()).orElseThrow().getName().startsWith("동시성 테스트 수정"));
+
+        assertThrows(IllegalStateException.class, () -> stockLedgerService.adjustProduct(product.getId(),
+                -quantity - 1, StockMovement.MovementType.ADJUSTMENT, null));
+        assertThrows(IllegalArgumentException.class, () -> stockLedgerService.adjustProduct(-1L, 1,
+                StockMovement.MovementType.RECEIPT, null));
+    }
+
+    @Test
+    void testSnapshotPicksUpMovementCommittedAfterIt() throws Exception {
+        Product product = createProduct("STRESS-008", 40);
+        Product other = createProduct("STRESS-009", 40);
+        stockJournalService.takeSnapshot();
+
+        // 저널 기록 후 커밋하지 않은 채 스냅샷 → 스냅샷 이후 커밋 (기록 시각은 스냅샷 기준 시각 이전)
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> late = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            stockLedgerService.adjustProduct(product.getId(), 9, StockMovement.MovementType.RECEIPT, "late");
+            recorded.countDown();
+            try {
+                assertTrue(commit.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        assertTrue(recorded.await(10, TimeUnit.SECONDS));
+        // 다른 재고의 커밋된 이동으로 이번 스냅샷이 실제로 추가되어 마지막 스냅샷 시각이 늦은 저널 이후로 이동
+        stockLedgerService.adjustProduct(other.getId(), -1, StockMovement.MovementType.SALE, null);
+        Thread.sleep(5);
+        assertTrue(stockJournalService.takeSnapshot() >= 1);
+        commit.countDown();
+        late.get(10, TimeUnit.SECONDS);
+        stockLedgerService.adjustProduct(product.getId(), -4, StockMovement.MovementType.SALE, null);
+
+        Thread.sleep(5);
+        assertTrue(stockJournalService.takeSnapshot() >= 1);
+        StockJournalService.StockAsOf now = stockJournalService.getStockAsOf(product.getId(), null, LocalDateTime.now());
+        assertEquals(45, productRepository.findById(product.getId()).orElseThrow().getQuantity());
+        assertEquals(45, now.getQuantity());
+        assertEquals(45, now.getSnapshotQuantity());
+
+        // 변경이 없으면 스냅샷을 추가하지 않음
+        Thread.sleep(5);
+        stockJournalService.takeSnapshot();
+        assertEquals(now.getSnapshotAt(),
+                stockJournalService.getStockAsOf(product.getId(), null, LocalDateTime.now()).getSnapshotAt());
+    }
+
+    private long countReservations(Product product, StockReservation.Status status) {
+        return reservationRepository.findAll().stream()
+                .filter(reservation -> reservation.getProduct().getId().equals(product.getId()))
+                .filter(reservation -> reservation.getStatus() == status)
+                .count();
+    }
+
+    private Product createProduct(String sku, int quantity) {
+        Product saved = productRepository.save(newProduct(sku, "동시성 테스트 " + sku, quantity));
+        stockJournalService.record(saved.getId(), null, StockMovement.MovementType.OPENING, quantity, null);
+        return saved;
+    }
+
+    private Inventory createInventory(Product product, int quantity) {
+        Inventory inventory = new Inventory();
+        inventory.setProduct(product);
+        inventory.setQuantity(quantity);
+        inventory.setWarehouseLocation("A-01-01");
+        return inventoryRepository.save(inventory);
+    }
+}
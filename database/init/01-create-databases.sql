@@ -32,11 +32,14 @@ CREATE TABLE IF NOT EXISTS product_images (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
     product_id BIGINT NOT NULL,
     image_name VARCHAR(255) NOT NULL,
-    image_data LONGBLOB NOT NULL,
+    image_data LONGBLOB NULL,
     image_type VARCHAR(50) NOT NULL,
     image_size BIGINT NOT NULL,
     image_category ENUM('ORIGINAL', 'THUMBNAIL', 'REGISTRATION') NOT NULL,
     original_image_id BIGINT NULL,
+    content_hash CHAR(64) NULL,
+    storage_type ENUM('DATABASE', 'FILESYSTEM') NULL,
+    processing_status ENUM('PENDING', 'READY', 'FAILED') NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE,
@@ -44,5 +47,141 @@ CREATE TABLE IF NOT EXISTS product_images (
     INDEX idx_product_images_product_id (product_id),
     INDEX idx_product_images_created_at (created_at),
     INDEX idx_product_images_category (image_category),
-    INDEX idx_product_images_original_id (original_image_id)
+    INDEX idx_product_images_original_id (original_image_id),
+    INDEX idx_product_images_content_hash (content_hash)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 product_images 테이블 갱신 (외부 이미지 저장소 지원)
+-- image_data는 storage_type=DATABASE인 행에만 존재
+ALTER TABLE product_images MODIFY COLUMN image_data LONGBLOB NULL;
+ALTER TABLE product_images ADD COLUMN IF NOT EXISTS content_hash CHAR(64) NULL;
+ALTER TABLE product_images ADD COLUMN IF NOT EXISTS storage_type ENUM('DATABASE', 'FILESYSTEM') NULL;
+CREATE INDEX IF NOT EXISTS idx_product_images_content_hash ON product_images (content_hash);
+
+-- 파생 이미지(등록용/썸네일) 비동기 생성 상태 (NULL은 기존 데이터로 READY 취급)
+ALTER TABLE product_images ADD COLUMN IF NOT EXISTS processing_status ENUM('PENDING', 'READY', 'FAILED') NULL;
+
+-- 백그라운드 마이그레이션 체크포인트 (청크 커밋과 함께 갱신, 재기동 시 이어서 진행)
+CREATE TABLE IF NOT EXISTS migration_checkpoints (
+    job_name VARCHAR(50) PRIMARY KEY,
+    last_product_id BIGINT NOT NULL DEFAULT 0,
+    status ENUM('RUNNING', 'STOPPED', 'COMPLETED', 'FAILED') NOT NULL,
+    success_count BIGINT NOT NULL DEFAULT 0,
+    skipped_count BIGINT NOT NULL DEFAULT 0,
+    error_count BIGINT NOT NULL DEFAULT 0,
+    last_error VARCHAR(500) NULL,
+    started_at DATETIME NULL,
+    finished_at DATETIME NULL,
+    updated_at DATETIME NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 상품 호환 품번 (products.cross_reference_numbers 정규화, 상품당 품번 1행)
+-- normalized_part_number: 영숫자만 대문자로 ("hy-brk 001" → "HYBRK001"), 호환 상품 재귀 조회의 진입/연결 키
+CREATE TABLE IF NOT EXISTS part_cross_references (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    part_number VARCHAR(100) NOT NULL,
+    normalized_part_number VARCHAR(100) NOT NULL,
+    reference_type ENUM('OEM', 'AFTERMARKET', 'CROSS_REFERENCE') NOT NULL,
+    FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_part_cross_references_product_number (product_id, normalized_part_number),
+    INDEX idx_part_cross_references_normalized (normalized_part_number)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 카테고리 클로저 테이블 (categories.parent_id 계층의 모든 조상-자손 경로, 자기 자신은 depth 0)
+-- 카테고리 생성/이동 시 애플리케이션이 갱신, 기동 시 카테고리 수와 맞지 않으면 다시 구축
+CREATE TABLE IF NOT EXISTS category_closures (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INT NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    FOREIGN KEY (ancestor_id) REFERENCES categories(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES categories(id) ON DELETE CASCADE,
+    INDEX idx_category_closures_descendant (descendant_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 상품-적용 차종 연결 (상품이 장착되는 차량 호환 정보)
+-- 유니크 키 (vehicle_compatibility_id, product_id): 차종 → 부품 일괄 조회, 인덱스 (product_id, vehicle_compatibility_id): 부품 → 차종 조회
+CREATE TABLE IF NOT EXISTS product_fitments (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    vehicle_compatibility_id BIGINT NOT NULL,
+    created_at DATETIME NULL,
+    FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE,
+    FOREIGN KEY (vehicle_compatibility_id) REFERENCES vehicle_compatibilities(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_product_fitments_fitment_product (vehicle_compatibility_id, product_id),
+    INDEX idx_product_fitments_product_fitment (product_id, vehicle_compatibility_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 재고 예약 (예약 시 products.quantity / inventories.quantity를 조건부 UPDATE로 즉시 차감)
+-- RESERVED → COMMITTED(차감 유지) 또는 RELEASED(수량 복원), 상태 변경도 현재 상태 조건부 UPDATE
+CREATE TABLE IF NOT EXISTS stock_reservations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    inventory_id BIGINT NULL,
+    quantity INT NOT NULL,
+    status ENUM('RESERVED', 'COMMITTED', 'RELEASED') NOT NULL,
+    reference VARCHAR(100) NULL,
+    created_at DATETIME NULL,
+    updated_at DATETIME NULL,
+    FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE,
+    FOREIGN KEY (inventory_id) REFERENCES inventories(id) ON DELETE CASCADE,
+    INDEX idx_stock_reservations_product_status (product_id, status),
+    INDEX idx_stock_reservations_reference (reference)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 재고 이동 저널 (추가 전용, 재고 수량 변경과 같은 트랜잭션에서 배치 INSERT)
+-- inventory_id NULL: 상품 수량(products.quantity) 이동, 값이 있으면 해당 창고 재고(inventories.quantity) 이동
+CREATE TABLE IF NOT EXISTS stock_movements (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    inventory_id BIGINT NULL,
+    movement_type ENUM('OPENING', 'RECEIPT', 'SALE', 'ADJUSTMENT', 'ALLOCATION', 'RESERVATION', 'RELEASE') NOT NULL,
+    quantity_delta INT NOT NULL,
+    reference VARCHAR(100) NULL,
+    created_at DATETIME(6) NOT NULL,
+    FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE,
+    FOREIGN KEY (inventory_id) REFERENCES inventories(id) ON DELETE CASCADE,
+    INDEX idx_stock_movements_stock_created (product_id, inventory_id, created_at),
+    INDEX idx_stock_movements_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 재고 스냅샷 (snapshot_at 이전 저널까지 반영한 수량, 시점 T 재고 = T 이전 마지막 스냅샷 + 이후 저널)
+CREATE TABLE IF NOT EXISTS stock_snapshots (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    inventory_id BIGINT NULL,
+    quantity INT NOT NULL,
+    snapshot_at DATETIME(6) NOT NULL,
+    FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE,
+    FOREIGN KEY (inventory_id) REFERENCES inventories(id) ON DELETE CASCADE,
+    INDEX idx_stock_snapshots_stock_at (product_id, inventory_id, snapshot_at),
+    INDEX idx_stock_snapshots_at (snapshot_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 창고 위치 코드(warehouse_location, "A-01-02" 형식)를 구역/통로/선반으로 파싱한 컬럼 (재고 저장 시 애플리케이션이 갱신)
+-- 구역/통로별 집계와 피킹 목록 위치 경로 정렬용, 파싱되지 않은 위치는 NULL
+ALTER TABLE inventories ADD COLUMN IF NOT EXISTS location_zone VARCHAR(20) NULL;
+ALTER TABLE inventories ADD COLUMN IF NOT EXISTS location_aisle INT NULL;
+ALTER TABLE inventories ADD COLUMN IF NOT EXISTS location_bin INT NULL;
+CREATE INDEX IF NOT EXISTS idx_inventories_location_path ON inventories (location_zone, location_aisle, location_bin);
+
+-- 주문 접수 Idempotency-Key (같은 키로 재시도하면 기존 주문 반환, 키 없는 주문은 NULL)
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(100) NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_orders_idempotency_key ON orders (idempotency_key);
+
+-- 주문 목록 (최신순, 상태 필터) 키셋 페이지 조회
+CREATE INDEX IF NOT EXISTS idx_orders_status_created_at ON orders (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_orders_created_at ON orders (created_at, id);
+
+-- 채널 재고 배분 규칙 (floor 먼저 채우고 남은 재고를 weight 비율로, cap은 최대 노출 수량 - NULL이면 제한 없음)
+ALTER TABLE channel_products ADD COLUMN IF NOT EXISTS allocation_weight INT NULL DEFAULT 1;
+ALTER TABLE channel_products ADD COLUMN IF NOT EXISTS allocation_floor INT NULL DEFAULT 0;
+ALTER TABLE channel_products ADD COLUMN IF NOT EXISTS allocation_cap INT NULL;
+
+-- 등록 콜백 upsert 키 (상품 + 채널당 채널 상품 1건, INSERT ... ON DUPLICATE KEY UPDATE 대상)
+-- 구 번개장터 채널 코드를 정규화하고 중복 행은 가장 먼저 생성된 행만 남긴 뒤 유니크 인덱스 생성
+UPDATE channel_products SET channel = 'BUNGAE_MARKET' WHERE UPPER(channel) IN ('BUNJANG', 'BUNGAE', 'BUNGAE-JANGTER');
+DELETE cp FROM channel_products cp
+    JOIN channel_products keep ON keep.product_id = cp.product_id AND keep.channel = cp.channel AND keep.id < cp.id;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_channel_products_product_channel ON channel_products (product_id, channel);
@@ -63,7 +63,7 @@ const Cafe24Integration: React.FC = () => {
 
   const fetchAllProducts = async () => {
     try {
-      const response = await fetch('/api/products');
+      const response = await fetch('/api/products?all=true');
       const data = await response.json();
       setAllProducts(data);
     } catch (error) {
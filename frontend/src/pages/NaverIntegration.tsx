@@ -66,7 +66,7 @@ const NaverIntegration: React.FC = () => {
 
   const fetchAllProducts = async () => {
     try {
-      const response = await fetch('/api/products');
+      const response = await fetch('/api/products?all=true');
       const data = await response.json();
       setAllProducts(data);
     } catch (error) {
@@ -90,7 +90,7 @@ api.interceptors.response.use(
 
 // 상품 API
 export const productApi = {
-  getAll: () => api.get<Product[]>('/products'),
+  getAll: () => api.get<Product[]>('/products', { params: { all: true } }),
   getById: (id: number) => api.get<Product>(`/products/${id}`),
   create: (product: Omit<Product, 'id' | 'createdAt' | 'updatedAt'>) => api.post<Product>('/products', product),
   update: (id: number, product: Partial<Product>) => api.put<Product>(`/products/${id}`, product),
@@ -145,13 +145,13 @@ export const messageApi = {
 
 // 주문 API
 export const orderApi = {
-  getAll: () => api.get<Order[]>('/orders'),
+  getAll: () => api.get<Order[]>('/orders', { params: { all: true } }),
   getById: (id: number) => api.get<Order>(`/orders/${id}`),
   getByOrderNumber: (orderNumber: string) => api.get<Order>(`/orders/number/${orderNumber}`),
   create: (order: Omit<Order, 'id' | 'createdAt' | 'updatedAt'>) => api.post<Order>('/orders', order),
   update: (id: number, order: Partial<Order>) => api.put<Order>(`/orders/${id}`, order),
   delete: (id: number) => api.delete(`/orders/${id}`),
-  getByStatus: (status: OrderStatus) => api.get<Order[]>(`/orders/status/${status}`),
+  getByStatus: (status: OrderStatus) => api.get<Order[]>(`/orders/status/${status}`, { params: { all: true } }),
   searchByCustomerName: (customerName: string) => api.get<Order[]>(`/orders/search?customerName=${customerName}`),
 };
 